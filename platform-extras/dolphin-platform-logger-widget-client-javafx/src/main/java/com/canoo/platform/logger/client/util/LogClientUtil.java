@@ -22,28 +22,22 @@ import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.stream.Collectors;
-
 public class LogClientUtil {
 
     public static BoundLogList<LogMessage> createObservableListFromLocalCache() {
         final ObservableList<LogMessage> list = FXCollections.observableArrayList(DolphinLoggerFactory.getLogCache());
-        final Subscription subscription = DolphinLoggerFactory.addListener(l -> {
-            final List<LogMessage> currentCache = Collections.unmodifiableList(DolphinLoggerFactory.getLogCache());
+        final Subscription subscription = DolphinLoggerFactory.addListener(addedMessages -> {
             Platform.runLater(() -> {
-                final List<LogMessage> toRemove = list.stream().
-                        filter(e -> !currentCache.contains(l)).
-                        collect(Collectors.toList());
-
-                list.removeAll(toRemove);
-
-                final List<LogMessage> toAdd = currentCache.stream().
-                        filter(e -> !list.contains(e)).
-                        collect(Collectors.toList());
-
-                list.addAll(toAdd);
+                if (addedMessages.isEmpty()) {
+                    // the cache was cleared
+                    list.clear();
+                    return;
+                }
+                list.addAll(addedMessages);
+                final int overflow = list.size() - DolphinLoggerFactory.getLogCacheCapacity();
+                if (overflow > 0) {
+                    list.remove(0, overflow);
+                }
             });
         });
         return new BoundLogList(subscription, list);
@@ -20,7 +20,6 @@ import com.canoo.impl.dp.logging.DolphinLoggerFactory;
 import com.canoo.platform.logging.spi.LogMessage;
 import com.canoo.platform.logger.model.LoggerSearchRequest;
 
-import java.util.Comparator;
 import java.util.stream.Stream;
 
 public class LocalLoggerRepository implements LoggerRepository {
@@ -28,11 +27,7 @@ public class LocalLoggerRepository implements LoggerRepository {
     @Override
     public Stream<LogMessage> search(final LoggerSearchRequest searchRequest) {
         Assert.requireNonNull(searchRequest, "searchRequest");
-        return DolphinLoggerFactory.getLogCache().stream().
-                filter(l -> l.getTimestamp().isAfter(searchRequest.getStartDate())).
-                filter(l -> l.getTimestamp().isBefore(searchRequest.getEndDateTime())).
-                filter(l -> searchRequest.getLevel().contains(l.getLevel())).
-                sorted(Comparator.comparing(LogMessage::getTimestamp).reversed()).
-                limit(searchRequest.getMaxResults());
+        return DolphinLoggerFactory.searchLogCache(searchRequest.getStartDate(), searchRequest.getEndDateTime(),
+                searchRequest.getLevel(), searchRequest.getMaxResults()).stream();
     }
 }
@@ -26,27 +26,32 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.event.Level;
 
+import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
 
 public class DolphinLoggerFactory implements ILoggerFactory {
 
     private final CopyOnWriteArrayList<String> markers = new CopyOnWriteArrayList<>();
 
-    private static final List<LogMessage> messageCache = new CopyOnWriteArrayList<>();
+    private static volatile LogMessageCache messageCache = new LogMessageCache(DolphinLoggerConfiguration.DEFAULT_LOG_CACHE_SIZE);
 
-    private static final List<Consumer<List<LogMessage>>> listeners = new CopyOnWriteArrayList<>();
+    // messages are added under the shared lock so that a resize can not miss messages that are added while it copies
+    private static final ReadWriteLock messageCacheLock = new ReentrantReadWriteLock();
 
-    private static final int maxCacheSize = 10_000;
+    private static final List<Consumer<List<LogMessage>>> listeners = new CopyOnWriteArrayList<>();
 
     private final AtomicBoolean configured = new AtomicBoolean(false);
 
@@ -96,6 +101,8 @@ public class DolphinLoggerFactory implements ILoggerFactory {
             logger.setLevel(level);
         }
 
+        resizeCache(configuration.getLogCacheSize());
+
         this.configuration = configuration;
 
         configured.set(true);
@@ -126,19 +133,37 @@ public class DolphinLoggerFactory implements ILoggerFactory {
     }
 
     public void addToCache(final LogMessage logMessage) {
-        //TODO: Must be done in background thread...
-        while(messageCache.size() > maxCacheSize) {
-            messageCache.remove(0);
+        messageCacheLock.readLock().lock();
+        try {
+            messageCache.add(logMessage);
+        } finally {
+            messageCacheLock.readLock().unlock();
         }
-        messageCache.add(logMessage);
 
-        listeners.forEach(l -> {
-            try {
-                l.accept(messageCache);
-            } catch (Exception e) {
-                e.printStackTrace();
+        if (!listeners.isEmpty()) {
+            final List<LogMessage> addedMessages = Collections.singletonList(logMessage);
+            listeners.forEach(l -> {
+                try {
+                    l.accept(addedMessages);
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+            });
+        }
+    }
+
+    private static void resizeCache(final int cacheSize) {
+        messageCacheLock.writeLock().lock();
+        try {
+            final LogMessageCache currentCache = messageCache;
+            if (currentCache.getCapacity() != cacheSize) {
+                final LogMessageCache resizedCache = new LogMessageCache(cacheSize);
+                currentCache.getMessages().forEach(resizedCache::add);
+                messageCache = resizedCache;
             }
-        });
+        } finally {
+            messageCacheLock.writeLock().unlock();
+        }
     }
 
     public static void applyConfiguration(final DolphinLoggerConfiguration configuration) {
@@ -151,21 +176,52 @@ public class DolphinLoggerFactory implements ILoggerFactory {
         }
     }
 
+    /**
+     * Returns a snapshot of all cached log messages. The oldest message is the first element of the list.
+     * @return the cached log messages
+     */
     public static List<LogMessage> getLogCache() {
-        return messageCache;
+        return messageCache.getMessages();
+    }
+
+    /**
+     * Returns the maximum number of cached log messages.
+     * @return the capacity of the cache
+     */
+    public static int getLogCacheCapacity() {
+        return messageCache.getCapacity();
+    }
+
+    /**
+     * Returns the cached log messages that match the given parameters. The newest message is the first element of
+     * the list.
+     * @param startDate the start date (exclusive)
+     * @param endDate the end date (exclusive)
+     * @param levels the levels of the messages
+     * @param maxResults the maximum number of messages
+     * @return the matching log messages
+     */
+    public static List<LogMessage> searchLogCache(final ZonedDateTime startDate, final ZonedDateTime endDate, final Set<Level> levels, final int maxResults) {
+        return messageCache.search(startDate, endDate, levels, maxResults);
     }
 
     public static void clearCache() {
         messageCache.clear();
         listeners.forEach(l -> {
             try {
-                l.accept(messageCache);
+                l.accept(Collections.emptyList());
             } catch (Exception e) {
                 e.printStackTrace();
             }
         });
     }
 
+    /**
+     * Adds a listener that is called with the new log messages whenever a message is added to the cache and with an
+     * empty list when the cache is cleared.
+     * @param listener the listener
+     * @return the subscription of the listener
+     */
     public static Subscription addListener(final Consumer<List<LogMessage>> listener) {
         Assert.requireNonNull(listener, "listener");
         listeners.add(listener);
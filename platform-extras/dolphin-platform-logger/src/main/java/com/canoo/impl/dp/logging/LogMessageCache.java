@@ -0,0 +1,216 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.impl.dp.logging;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.platform.logging.spi.LogMessage;
+import org.slf4j.event.Level;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free cache that holds the last log messages. The messages are stored in a ring of segments. Each
+ * segment holds {@link #SEGMENT_SIZE} messages in the order they were logged, the time range of its messages and a
+ * bit mask per log level that defines the slots of the messages with that level. By doing so a search only needs to
+ * look at the messages of segments that can contain matching messages and no sorting is needed.
+ */
+public class LogMessageCache {
+
+    private static final int SEGMENT_SIZE = Long.SIZE;
+
+    private static final int LEVEL_COUNT = Level.values().length;
+
+    private final int capacity;
+
+    private final AtomicReferenceArray<Segment> segments;
+
+    private final AtomicLong nextSequence = new AtomicLong();
+
+    private volatile long firstSequence = 0;
+
+    public LogMessageCache(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be > 0");
+        }
+        this.capacity = capacity;
+        // one additional segment that is currently filled while the oldest one is still needed
+        this.segments = new AtomicReferenceArray<>((capacity + SEGMENT_SIZE - 1) / SEGMENT_SIZE + 1);
+    }
+
+    public void add(final LogMessage message) {
+        Assert.requireNonNull(message, "message");
+        final long sequence = nextSequence.getAndIncrement();
+        final Segment segment = getOrCreateSegment(sequence / SEGMENT_SIZE);
+        if (segment != null) {
+            segment.add((int) (sequence % SEGMENT_SIZE), message);
+        }
+    }
+
+    private Segment getOrCreateSegment(final long segmentIndex) {
+        final int position = (int) (segmentIndex % segments.length());
+        while (true) {
+            final Segment segment = segments.get(position);
+            if (segment != null && segment.index == segmentIndex) {
+                return segment;
+            }
+            if (segment != null && segment.index > segmentIndex) {
+                // the cache was written around while the message was created
+                return null;
+            }
+            final Segment newSegment = new Segment(segmentIndex);
+            if (segments.compareAndSet(position, segment, newSegment)) {
+                return newSegment;
+            }
+        }
+    }
+
+    /**
+     * Returns all cached messages that were logged after the start date and before the end date with one of the given
+     * levels. The newest message is the first element of the returned list.
+     * @param startDate the start date (exclusive)
+     * @param endDate the end date (exclusive)
+     * @param levels the levels
+     * @param maxResults the maximum number of messages
+     * @return the matching messages
+     */
+    public List<LogMessage> search(final ZonedDateTime startDate, final ZonedDateTime endDate, final Set<Level> levels, final int maxResults) {
+        Assert.requireNonNull(startDate, "startDate");
+        Assert.requireNonNull(endDate, "endDate");
+        Assert.requireNonNull(levels, "levels");
+
+        int levelMask = 0;
+        for (final Level level : levels) {
+            levelMask |= 1 << level.ordinal();
+        }
+        final long startMillis = startDate.toInstant().toEpochMilli();
+        final long endMillis = endDate.toInstant().toEpochMilli();
+
+        final List<LogMessage> result = new ArrayList<>();
+        final long newest = nextSequence.get() - 1;
+        final long oldest = getOldestSequence(newest);
+        for (long segmentIndex = newest / SEGMENT_SIZE; segmentIndex >= 0 && segmentIndex >= oldest / SEGMENT_SIZE && result.size() < maxResults; segmentIndex--) {
+            final Segment segment = segments.get((int) (segmentIndex % segments.length()));
+            if (segment == null || segment.index != segmentIndex || !segment.overlaps(startMillis, endMillis)) {
+                continue;
+            }
+            long slots = segment.getSlots(levelMask) & getSlotRangeMask(segmentIndex, oldest, newest);
+            while (slots != 0 && result.size() < maxResults) {
+                final int slot = Long.SIZE - 1 - Long.numberOfLeadingZeros(slots);
+                slots &= ~(1L << slot);
+                final LogMessage message = segment.messages.get(slot);
+                if (message != null && message.getTimestamp() != null && message.getTimestamp().isAfter(startDate) && message.getTimestamp().isBefore(endDate)) {
+                    result.add(message);
+                }
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Returns all cached messages. The oldest message is the first element of the returned list.
+     * @return the cached messages
+     */
+    public List<LogMessage> getMessages() {
+        final long newest = nextSequence.get() - 1;
+        final long oldest = getOldestSequence(newest);
+        final List<LogMessage> result = new ArrayList<>((int) Math.max(0, newest - oldest + 1));
+        for (long sequence = oldest; sequence <= newest; sequence++) {
+            final long segmentIndex = sequence / SEGMENT_SIZE;
+            final Segment segment = segments.get((int) (segmentIndex % segments.length()));
+            if (segment != null && segment.index == segmentIndex) {
+                final LogMessage message = segment.messages.get((int) (sequence % SEGMENT_SIZE));
+                if (message != null) {
+                    result.add(message);
+                }
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    public void clear() {
+        firstSequence = nextSequence.get();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private long getOldestSequence(final long newest) {
+        return Math.max(firstSequence, newest - capacity + 1);
+    }
+
+    private static long getSlotRangeMask(final long segmentIndex, final long oldest, final long newest) {
+        final long segmentStart = segmentIndex * SEGMENT_SIZE;
+        final int from = (int) Math.max(0, oldest - segmentStart);
+        final int to = (int) Math.min(SEGMENT_SIZE - 1, newest - segmentStart);
+        if (from > to) {
+            return 0;
+        }
+        final long upTo = to == SEGMENT_SIZE - 1 ? -1L : (1L << (to + 1)) - 1;
+        return upTo & (-1L << from);
+    }
+
+    private static class Segment {
+
+        private final long index;
+
+        private final AtomicReferenceArray<LogMessage> messages = new AtomicReferenceArray<>(SEGMENT_SIZE);
+
+        private final AtomicLongArray levelSlots = new AtomicLongArray(LEVEL_COUNT);
+
+        private final AtomicLong minTimestamp = new AtomicLong(Long.MAX_VALUE);
+
+        private final AtomicLong maxTimestamp = new AtomicLong(Long.MIN_VALUE);
+
+        private Segment(final long index) {
+            this.index = index;
+        }
+
+        private void add(final int slot, final LogMessage message) {
+            messages.set(slot, message);
+            if (message.getTimestamp() != null) {
+                final long timestamp = message.getTimestamp().toInstant().toEpochMilli();
+                minTimestamp.accumulateAndGet(timestamp, Math::min);
+                maxTimestamp.accumulateAndGet(timestamp, Math::max);
+            }
+            if (message.getLevel() != null) {
+                final long slotBit = 1L << slot;
+                levelSlots.accumulateAndGet(message.getLevel().ordinal(), slotBit, (a, b) -> a | b);
+            }
+        }
+
+        private boolean overlaps(final long startMillis, final long endMillis) {
+            return maxTimestamp.get() >= startMillis && minTimestamp.get() <= endMillis;
+        }
+
+        private long getSlots(final int levelMask) {
+            long slots = 0;
+            for (int level = 0; level < LEVEL_COUNT; level++) {
+                if ((levelMask & (1 << level)) != 0) {
+                    slots |= levelSlots.get(level);
+                }
+            }
+            return slots;
+        }
+    }
+}
@@ -25,25 +25,43 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.event.Level;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.HttpURLConnection;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
 
 import static com.canoo.dp.impl.platform.core.http.HttpHeaderConstants.CHARSET;
+import static com.canoo.dp.impl.platform.core.http.HttpHeaderConstants.CONTENT_ENCODING_HEADER;
 import static com.canoo.dp.impl.platform.core.http.HttpHeaderConstants.CONTENT_TYPE_HEADER;
+import static com.canoo.dp.impl.platform.core.http.HttpHeaderConstants.GZIP_ENCODING;
 import static com.canoo.dp.impl.platform.core.http.HttpHeaderConstants.JSON_MIME_TYPE;
 import static com.canoo.dp.impl.platform.core.http.HttpStatus.ACCEPTED;
 import static com.canoo.dp.impl.platform.core.http.HttpStatus.HTTP_OK;
 import static com.canoo.platform.core.http.RequestMethod.POST;
 
+/**
+ * Sends log messages as GELF messages to a remote server. The messages are collected in a bounded queue that drops
+ * the oldest message if it is full. By default each request contains a single GELF message. If batching is active
+ * (see {@link DolphinLoggerConfiguration#isRemotingBatchActive()}) each worker takes up to
+ * {@link DolphinLoggerConfiguration#getMaxMessagesPerRequest()} messages from the queue and waits at most
+ * {@link DolphinLoggerConfiguration#getRemotingLingerTime()} for further messages before the batch is sent. A batch
+ * with one message is sent as a single GELF message, larger batches as a JSON array of GELF messages. A request that
+ * fails is retried at most {@link DolphinLoggerConfiguration#getRemotingMaxRetries()} times before its messages are
+ * dropped.
+ */
 public class RemoteLogger implements DolphinLoggerBridge {
 
     private final static Logger LOG = LoggerFactory.getLogger(RemoteLogger.class);
@@ -56,13 +74,31 @@ public class RemoteLogger implements DolphinLoggerBridge {
 
     private final HttpURLConnectionFactory connectionFactory;
 
+    private final int maxMessagesPerRequest;
+
+    private final long lingerTime;
+
+    private final long remotingErrorWaitTime;
+
+    private final boolean gzipActive;
+
+    private final int maxRetries;
+
     private Level level;
 
     private final AtomicBoolean remotingError = new AtomicBoolean(false);
 
     private final AtomicLong remotingErrorTime = new AtomicLong(0);
 
-    private final BlockingQueue<LogMessage> messageBlockingQueue = new LinkedBlockingQueue();
+    private final BlockingQueue<LogMessage> messageBlockingQueue;
+
+    private final AtomicLong sentMessages = new AtomicLong(0);
+
+    private final AtomicLong droppedMessages = new AtomicLong(0);
+
+    private final AtomicLong retriedMessages = new AtomicLong(0);
+
+    private final AtomicLong failedMessages = new AtomicLong(0);
 
     public RemoteLogger(final DolphinLoggerConfiguration configuration) {
         Objects.requireNonNull(configuration);
@@ -70,98 +106,188 @@ public class RemoteLogger implements DolphinLoggerBridge {
         this.executor = Objects.requireNonNull(configuration.getRemoteLoggingExecutor());
         this.level = Objects.requireNonNull(configuration.getGlobalLevel());
         this.connectionFactory = Objects.requireNonNull(configuration.getConnectionFactory());
+        this.maxMessagesPerRequest = configuration.isRemotingBatchActive() ? Math.max(1, configuration.getMaxMessagesPerRequest()) : 1;
+        this.lingerTime = Math.max(0, configuration.getRemotingLingerTime());
+        this.remotingErrorWaitTime = configuration.getRemotingErrorWaitTime();
+        this.gzipActive = configuration.isRemotingGzipActive();
+        this.maxRetries = configuration.getRemotingMaxRetries();
+        this.messageBlockingQueue = new LinkedBlockingQueue<>(Math.max(1, configuration.getMaxRemotingQueueSize()));
 
-        executor.execute(new Runnable() {
-
-            @Override
-            public void run() {
-                while (true) {
-                    try {
-                        LOG.debug("{} messages in remote logging queue", messageBlockingQueue.size());
-                        if (messageBlockingQueue.size() > configuration.getMaxRemotingQueueSize()) {
-                            LOG.error("Overflow in remote logger message queue. Max elements: {} - Current: {}", configuration.getMaxRemotingQueueSize(), messageBlockingQueue.size());
-                            while (messageBlockingQueue.size() > configuration.getMaxRemotingQueueSize() * (3.0 / 4.0)) {
-                                messageBlockingQueue.take();
-                            }
-                        }
-                        Thread.sleep(configuration.getRemotingQueueCheckSleepTime());
-                    } catch (InterruptedException e) {
-                        throw new RuntimeException("END!", e);
-                    }
+        final int workerCount = Math.max(1, configuration.getParallelRequests());
+        for (int i = 0; i < workerCount; i++) {
+            executor.execute(this::sendMessages);
+        }
+    }
+
+    private void sendMessages() {
+        final List<LogMessage> batch = new ArrayList<>(maxMessagesPerRequest);
+        int retries = 0;
+        try {
+            while (true) {
+                if (batch.isEmpty()) {
+                    collectBatch(batch);
+                    retries = 0;
                 }
-            }
-        });
-
-        for (int i = 0; i < configuration.getParallelRequests(); i++) {
-            executor.execute(new Runnable() {
-                @Override
-                public void run() {
-                    while (true) {
-                        try {
-                            final LogMessage message = messageBlockingQueue.take();
-                            try {
-                                final HttpURLConnection conn = connectionFactory.create(remoteUrl);
-                                conn.setDoOutput(true);
-                                conn.setDoInput(true);
-                                conn.setRequestProperty(CONTENT_TYPE_HEADER, JSON_MIME_TYPE);
-                                conn.setRequestMethod(POST.getRawName());
-
-                                GelfMessage gelfMessage = new GelfMessage();
-                                gelfMessage.setMessage(message.getMessage());
-                                gelfMessage.setLoggerName(message.getLoggerName());
-                                gelfMessage.setLogLevel(message.getLevel().toString());
-                                final Date timestamp = Date.from(message.getTimestamp().toInstant());
-                                gelfMessage.setLogTimestamp(timestamp.getTime());
-                                gelfMessage.setTimeZone(message.getTimestamp().getZone().getId());
-                                gelfMessage.setThreadName(message.getThreadName());
-                                gelfMessage.setExceptionClass(message.getExceptionClass());
-                                gelfMessage.setExceptionMessage(message.getExceptionMessage());
-                                gelfMessage.setMarker(message.getMarker());
-                                gelfMessage.setContext(message.getContext());
-
-
-                                final String content = gson.toJson(gelfMessage);
-                                OutputStream w = conn.getOutputStream();
-                                w.write(content.getBytes(CHARSET));
-                                w.close();
-
-                                //RESPONSE
-                                int responseCode = conn.getResponseCode();
-                                if (responseCode != HTTP_OK && responseCode != ACCEPTED) {
-                                    throw new IOException("Bad Request! status code " + responseCode);
-                                }
-                            } catch (Exception e) {
-                                boolean added = messageBlockingQueue.offer(message);
-                                if (!added) {
-                                    LOG.error("Log message can not be added to Queue of RemoteLogger! " + messageBlockingQueue.size() + " waiting messages!", e);
-                                }
-                                if (!remotingError.get()) {
-                                    remotingError.set(true);
-                                    remotingErrorTime.set(System.currentTimeMillis());
-                                    LOG.error("Error in RemoteLogger! " + messageBlockingQueue.size() + " waiting messages!", e);
-                                } else if (remotingErrorTime.get() < System.currentTimeMillis() - configuration.getRemotingErrorWaitTime() * 2) {
-                                    remotingErrorTime.set(System.currentTimeMillis());
-                                    LOG.error("Error in RemoteLogger! " + messageBlockingQueue.size() + " waiting messages!");
-                                }
-                                Thread.sleep(configuration.getRemotingErrorWaitTime());
-                            }
-                        } catch (InterruptedException e) {
-                            throw new RuntimeException("END!", e);
-                        }
+                try {
+                    send(batch);
+                    sentMessages.addAndGet(batch.size());
+                    batch.clear();
+                    remotingError.set(false);
+                } catch (Exception e) {
+                    onRemotingError(e);
+                    if (maxRetries >= 0 && retries >= maxRetries) {
+                        LOG.error("Dropping {} log messages after {} failed retries", batch.size(), retries);
+                        failedMessages.addAndGet(batch.size());
+                        batch.clear();
+                    } else {
+                        retries++;
+                        retriedMessages.addAndGet(batch.size());
                     }
+                    Thread.sleep(remotingErrorWaitTime);
                 }
-            });
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.debug("Remote logging worker stopped. {} messages were not sent", batch.size() + messageBlockingQueue.size());
         }
+    }
 
+    private void collectBatch(final List<LogMessage> batch) throws InterruptedException {
+        batch.add(messageBlockingQueue.take());
+        final long lingerEnd = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerTime);
+        while (batch.size() < maxMessagesPerRequest) {
+            messageBlockingQueue.drainTo(batch, maxMessagesPerRequest - batch.size());
+            final long remaining = lingerEnd - System.nanoTime();
+            if (batch.size() >= maxMessagesPerRequest || remaining <= 0) {
+                return;
+            }
+            final LogMessage message = messageBlockingQueue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (message == null) {
+                return;
+            }
+            batch.add(message);
+        }
+    }
+
+    private void send(final List<LogMessage> batch) throws IOException {
+        final String content;
+        if (batch.size() == 1) {
+            content = gson.toJson(toGelfMessage(batch.get(0)));
+        } else {
+            final List<GelfMessage> gelfMessages = new ArrayList<>(batch.size());
+            for (final LogMessage message : batch) {
+                gelfMessages.add(toGelfMessage(message));
+            }
+            content = gson.toJson(gelfMessages);
+        }
+        final byte[] body = gzipActive ? gzip(content.getBytes(CHARSET)) : content.getBytes(CHARSET);
+
+        final HttpURLConnection conn = connectionFactory.create(remoteUrl);
+        conn.setDoOutput(true);
+        conn.setDoInput(true);
+        conn.setRequestProperty(CONTENT_TYPE_HEADER, JSON_MIME_TYPE);
+        if (gzipActive) {
+            conn.setRequestProperty(CONTENT_ENCODING_HEADER, GZIP_ENCODING);
+        }
+        conn.setRequestMethod(POST.getRawName());
+        conn.setFixedLengthStreamingMode(body.length);
+
+        try (final OutputStream w = conn.getOutputStream()) {
+            w.write(body);
+        }
+
+        //RESPONSE
+        final int responseCode = conn.getResponseCode();
+        if (responseCode != HTTP_OK && responseCode != ACCEPTED) {
+            throw new IOException("Bad Request! status code " + responseCode);
+        }
+        // the response must be read completely to reuse the keep-alive connection for the next request
+        try (final InputStream inputStream = conn.getInputStream()) {
+            final byte[] buffer = new byte[512];
+            while (inputStream.read(buffer) >= 0) {
+                //Nothing to do here
+            }
+        }
+    }
+
+    private byte[] gzip(final byte[] data) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (final GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(data);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private GelfMessage toGelfMessage(final LogMessage message) {
+        final GelfMessage gelfMessage = new GelfMessage();
+        gelfMessage.setMessage(message.getMessage());
+        gelfMessage.setLoggerName(message.getLoggerName());
+        gelfMessage.setLogLevel(message.getLevel().toString());
+        final Date timestamp = Date.from(message.getTimestamp().toInstant());
+        gelfMessage.setLogTimestamp(timestamp.getTime());
+        gelfMessage.setTimeZone(message.getTimestamp().getZone().getId());
+        gelfMessage.setThreadName(message.getThreadName());
+        gelfMessage.setExceptionClass(message.getExceptionClass());
+        gelfMessage.setExceptionMessage(message.getExceptionMessage());
+        gelfMessage.setMarker(message.getMarker());
+        gelfMessage.setContext(message.getContext());
+        return gelfMessage;
+    }
+
+    private void onRemotingError(final Exception e) {
+        if (!remotingError.getAndSet(true)) {
+            remotingErrorTime.set(System.currentTimeMillis());
+            LOG.error("Error in RemoteLogger! " + messageBlockingQueue.size() + " waiting messages!", e);
+        } else if (remotingErrorTime.get() < System.currentTimeMillis() - remotingErrorWaitTime * 2) {
+            remotingErrorTime.set(System.currentTimeMillis());
+            LOG.error("Error in RemoteLogger! " + messageBlockingQueue.size() + " waiting messages!");
+        }
     }
 
     @Override
     public void log(final LogMessage logMessage) {
         if (DolphinLoggerUtils.isLevelEnabled(this.level, logMessage.getLevel())) {
-            boolean added = messageBlockingQueue.offer(logMessage);
-            if (!added) {
-                throw new RuntimeException("Log message can not be added to Queue of RemoteLogger! " + messageBlockingQueue.size() + " waiting messages!");
+            while (!messageBlockingQueue.offer(logMessage)) {
+                if (messageBlockingQueue.poll() != null) {
+                    droppedMessages.incrementAndGet();
+                }
             }
         }
     }
+
+    /**
+     * Returns the number of messages that were sent to the remote server
+     * @return number of sent messages
+     */
+    public long getSentMessageCount() {
+        return sentMessages.get();
+    }
+
+    /**
+     * Returns the number of messages that were removed from the full queue before they were sent
+     * @return number of dropped messages
+     */
+    public long getDroppedMessageCount() {
+        return droppedMessages.get();
+    }
+
+    /**
+     * Returns the number of messages that were sent again after an error
+     * @return number of retried messages
+     */
+    public long getRetriedMessageCount() {
+        return retriedMessages.get();
+    }
+
+    /**
+     * Returns the number of messages that were dropped since all retries to send them failed
+     * @return number of failed messages
+     */
+    public long getFailedMessageCount() {
+        return failedMessages.get();
+    }
+
+    public int getQueueSize() {
+        return messageBlockingQueue.size();
+    }
 }
@@ -32,11 +32,13 @@ import java.util.concurrent.TimeUnit;
 
 public class DolphinLoggerConfiguration {
 
+    public static final int DEFAULT_LOG_CACHE_SIZE = 10_000;
+
     private final ConcurrentMap<String, Level> loggerLevelMap = new ConcurrentHashMap();
 
     private URI remoteUrl;
 
-    private int parallelRequests = Runtime.getRuntime().availableProcessors() / 2 - 1;
+    private int parallelRequests = Math.max(1, Runtime.getRuntime().availableProcessors() / 2 - 1);
 
     private int maxMessagesPerRequest = 100;
 
@@ -46,9 +48,19 @@ public class DolphinLoggerConfiguration {
 
     private int remotingQueueCheckSleepTime = 100;
 
+    private int remotingLingerTime = 200;
+
+    private boolean remotingBatchActive = false;
+
+    private boolean remotingGzipActive = false;
+
+    private int remotingMaxRetries = 3;
+
+    private int logCacheSize = DEFAULT_LOG_CACHE_SIZE;
+
     private Level globalLevel = Level.INFO;
 
-    private Executor remoteLoggingExecutor = new ThreadPoolExecutor(parallelRequests + 1, parallelRequests + 1,
+    private Executor remoteLoggingExecutor = new ThreadPoolExecutor(parallelRequests, parallelRequests,
             Long.MAX_VALUE, TimeUnit.DAYS,
             new LinkedBlockingDeque<>(),
             new DolphinLoggerThreadFactory());
@@ -142,11 +154,80 @@ public class DolphinLoggerConfiguration {
         this.maxRemotingQueueSize = maxRemotingQueueSize;
     }
 
+    /**
+     * @deprecated the remote logger drops the oldest messages once the queue is full and does not check the queue
+     */
+    @Deprecated
     public int getRemotingQueueCheckSleepTime() {
         return remotingQueueCheckSleepTime;
     }
 
+    /**
+     * @deprecated the remote logger drops the oldest messages once the queue is full and does not check the queue
+     */
+    @Deprecated
     public void setRemotingQueueCheckSleepTime(final int remotingQueueCheckSleepTime) {
         this.remotingQueueCheckSleepTime = remotingQueueCheckSleepTime;
     }
+
+    /**
+     * Returns the maximum time in milliseconds the remote logger waits for further messages before a request with
+     * less than {@link #getMaxMessagesPerRequest()} messages is sent.
+     * @return the linger time
+     */
+    public int getRemotingLingerTime() {
+        return remotingLingerTime;
+    }
+
+    public void setRemotingLingerTime(final int remotingLingerTime) {
+        this.remotingLingerTime = remotingLingerTime;
+    }
+
+    /**
+     * Returns true if the remote logger sends up to {@link #getMaxMessagesPerRequest()} messages as a JSON array of
+     * GELF messages in one request. Since a standard GELF http input only accepts a single GELF message per request
+     * this is not active by default.
+     * @return true if batching is active
+     */
+    public boolean isRemotingBatchActive() {
+        return remotingBatchActive;
+    }
+
+    public void setRemotingBatchActive(final boolean remotingBatchActive) {
+        this.remotingBatchActive = remotingBatchActive;
+    }
+
+    /**
+     * Returns true if the remote logger sends gzip encoded requests. Since not all GELF http inputs support encoded
+     * requests this is not active by default.
+     * @return true if gzip is active
+     */
+    public boolean isRemotingGzipActive() {
+        return remotingGzipActive;
+    }
+
+    public void setRemotingGzipActive(final boolean remotingGzipActive) {
+        this.remotingGzipActive = remotingGzipActive;
+    }
+
+    /**
+     * Returns how often the remote logger retries to send a request after an error. Once all retries failed the
+     * messages of the request are dropped. A negative value retries forever.
+     * @return the max number of retries
+     */
+    public int getRemotingMaxRetries() {
+        return remotingMaxRetries;
+    }
+
+    public void setRemotingMaxRetries(final int remotingMaxRetries) {
+        this.remotingMaxRetries = remotingMaxRetries;
+    }
+
+    public int getLogCacheSize() {
+        return logCacheSize;
+    }
+
+    public void setLogCacheSize(final int logCacheSize) {
+        this.logCacheSize = logCacheSize;
+    }
 }
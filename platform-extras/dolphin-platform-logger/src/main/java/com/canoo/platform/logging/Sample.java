@@ -36,7 +36,6 @@ public class Sample {
         DolphinLoggerConfiguration configuration = new DolphinLoggerConfiguration();
         configuration.setRemoteUrl(new URI("http://localhost:12201/gelf"));
         configuration.setMaxMessagesPerRequest(1);
-        configuration.setRemotingQueueCheckSleepTime(1_000);
         configuration.setGlobalLevel(Level.TRACE);
         DolphinLoggerFactory.applyConfiguration(configuration);
 
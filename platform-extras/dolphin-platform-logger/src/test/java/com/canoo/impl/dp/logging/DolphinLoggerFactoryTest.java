@@ -0,0 +1,75 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.impl.dp.logging;
+
+import com.canoo.platform.logging.DolphinLoggerConfiguration;
+import com.canoo.platform.logging.spi.LogMessage;
+import org.slf4j.event.Level;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+public class DolphinLoggerFactoryTest {
+
+    @AfterMethod
+    public void resetCache() {
+        new DolphinLoggerFactory().configure(new DolphinLoggerConfiguration());
+        DolphinLoggerFactory.clearCache();
+    }
+
+    @Test
+    public void testResizeKeepsMessagesThatAreAddedConcurrently() throws Exception {
+        //given:
+        final int messageCount = 5_000;
+        final DolphinLoggerFactory factory = new DolphinLoggerFactory();
+        DolphinLoggerFactory.clearCache();
+        final Thread producer = new Thread(() -> {
+            for (int i = 0; i < messageCount; i++) {
+                factory.addToCache(createMessage(i));
+            }
+        });
+
+        //when:
+        producer.start();
+        int resizes = 0;
+        while (producer.isAlive() || resizes < 2) {
+            final DolphinLoggerConfiguration configuration = new DolphinLoggerConfiguration();
+            configuration.setLogCacheSize(resizes % 2 == 0 ? 20_000 : 10_000);
+            factory.configure(configuration);
+            resizes++;
+        }
+        producer.join();
+
+        //then:
+        final List<LogMessage> messages = DolphinLoggerFactory.getLogCache();
+        Assert.assertEquals(messages.size(), messageCount);
+        for (int i = 0; i < messageCount; i++) {
+            Assert.assertEquals(messages.get(i).getMessage(), Integer.toString(i));
+        }
+    }
+
+    private LogMessage createMessage(final int index) {
+        final LogMessage message = new LogMessage();
+        message.setMessage(Integer.toString(index));
+        message.setLoggerName("test");
+        message.setLevel(Level.INFO);
+        message.setTimestamp(ZonedDateTime.now());
+        return message;
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.impl.dp.logging;
+
+import com.canoo.platform.logging.spi.LogMessage;
+import org.slf4j.event.Level;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class LogMessageCacheTest {
+
+    @Test
+    public void testMessagesAreReturnedInLogOrder() {
+        //given:
+        final LogMessageCache cache = new LogMessageCache(100);
+
+        //when:
+        for (int i = 0; i < 10; i++) {
+            cache.add(createMessage(i, Level.INFO));
+        }
+
+        //then:
+        assertSequence(cache.getMessages(), 0, 10);
+    }
+
+    @Test
+    public void testCapacityEviction() {
+        //given:
+        final LogMessageCache cache = new LogMessageCache(10);
+
+        //when:
+        for (int i = 0; i < 15; i++) {
+            cache.add(createMessage(i, Level.INFO));
+        }
+
+        //then:
+        assertSequence(cache.getMessages(), 5, 10);
+    }
+
+    @Test
+    public void testWraparound() {
+        //given:
+        final LogMessageCache cache = new LogMessageCache(100);
+
+        //when:
+        for (int i = 0; i < 1_000; i++) {
+            cache.add(createMessage(i, Level.INFO));
+        }
+
+        //then:
+        assertSequence(cache.getMessages(), 900, 100);
+    }
+
+    @Test
+    public void testSearchAfterWraparound() {
+        //given:
+        final LogMessageCache cache = new LogMessageCache(100);
+        final ZonedDateTime start = ZonedDateTime.now().minusDays(1);
+        final ZonedDateTime end = ZonedDateTime.now().plusDays(1);
+
+        //when:
+        for (int i = 0; i < 1_000; i++) {
+            cache.add(createMessage(i, i % 2 == 0 ? Level.INFO : Level.ERROR));
+        }
+        final List<LogMessage> errors = cache.search(start, end, EnumSet.of(Level.ERROR), Integer.MAX_VALUE);
+        final List<LogMessage> limited = cache.search(start, end, EnumSet.of(Level.INFO, Level.ERROR), 3);
+
+        //then:
+        Assert.assertEquals(errors.size(), 50);
+        Assert.assertEquals(errors.get(0).getMessage(), "999");
+        Assert.assertEquals(errors.get(49).getMessage(), "901");
+        Assert.assertEquals(limited.size(), 3);
+        Assert.assertEquals(limited.get(0).getMessage(), "999");
+        Assert.assertEquals(limited.get(2).getMessage(), "997");
+    }
+
+    @Test
+    public void testClear() {
+        //given:
+        final LogMessageCache cache = new LogMessageCache(100);
+        for (int i = 0; i < 10; i++) {
+            cache.add(createMessage(i, Level.INFO));
+        }
+
+        //when:
+        cache.clear();
+        cache.add(createMessage(10, Level.INFO));
+
+        //then:
+        assertSequence(cache.getMessages(), 10, 1);
+    }
+
+    @Test
+    public void testConcurrentProducers() throws Exception {
+        //given:
+        final int producerCount = 8;
+        final int messagesPerProducer = 10_000;
+        final LogMessageCache cache = new LogMessageCache(1_000);
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < producerCount; p++) {
+            final int producer = p;
+            final Thread thread = new Thread(() -> {
+                try {
+                    startLatch.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < messagesPerProducer; i++) {
+                    cache.add(createMessage(producer + ":" + i, Level.INFO));
+                }
+            });
+            thread.start();
+            producers.add(thread);
+        }
+
+        //when:
+        startLatch.countDown();
+        for (final Thread thread : producers) {
+            thread.join();
+        }
+
+        //then:
+        final List<LogMessage> messages = cache.getMessages();
+        Assert.assertEquals(messages.size(), 1_000);
+        Assert.assertEquals(new HashSet<>(messages).size(), 1_000);
+        final int[] lastIndex = new int[producerCount];
+        for (int p = 0; p < producerCount; p++) {
+            lastIndex[p] = -1;
+        }
+        for (final LogMessage message : messages) {
+            final String[] parts = message.getMessage().split(":");
+            final int producer = Integer.parseInt(parts[0]);
+            final int index = Integer.parseInt(parts[1]);
+            Assert.assertTrue(index > lastIndex[producer], "Messages of a producer must stay in log order");
+            lastIndex[producer] = index;
+        }
+    }
+
+    @Test
+    public void testSnapshotConsistency() throws Exception {
+        //given:
+        final LogMessageCache cache = new LogMessageCache(100);
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final Thread producer = new Thread(() -> {
+            int i = 0;
+            while (running.get()) {
+                cache.add(createMessage(i++, Level.INFO));
+            }
+        });
+        final AtomicReference<String> error = new AtomicReference<>();
+
+        //when:
+        producer.start();
+        try {
+            for (int run = 0; run < 10_000 && error.get() == null; run++) {
+                final List<LogMessage> snapshot = cache.getMessages();
+                if (snapshot.size() > cache.getCapacity()) {
+                    error.set("Snapshot contains " + snapshot.size() + " messages");
+                }
+                for (int i = 1; i < snapshot.size(); i++) {
+                    final int previous = Integer.parseInt(snapshot.get(i - 1).getMessage());
+                    final int current = Integer.parseInt(snapshot.get(i).getMessage());
+                    if (current != previous + 1) {
+                        error.set("Snapshot contains " + current + " after " + previous);
+                    }
+                }
+            }
+        } finally {
+            running.set(false);
+            producer.join();
+        }
+
+        //then:
+        Assert.assertNull(error.get(), error.get());
+    }
+
+    private void assertSequence(final List<LogMessage> messages, final int first, final int count) {
+        Assert.assertEquals(messages.size(), count);
+        for (int i = 0; i < count; i++) {
+            Assert.assertEquals(messages.get(i).getMessage(), Integer.toString(first + i));
+        }
+    }
+
+    private LogMessage createMessage(final Object text, final Level level) {
+        final LogMessage message = new LogMessage();
+        message.setMessage(text.toString());
+        message.setLoggerName("test");
+        message.setLevel(level);
+        message.setTimestamp(ZonedDateTime.now());
+        return message;
+    }
+}
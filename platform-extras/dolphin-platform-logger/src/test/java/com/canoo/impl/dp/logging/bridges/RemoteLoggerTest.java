@@ -0,0 +1,235 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.impl.dp.logging.bridges;
+
+import com.canoo.platform.logging.DolphinLoggerConfiguration;
+import com.canoo.platform.logging.spi.LogMessage;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import org.slf4j.event.Level;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
+import java.util.zip.GZIPInputStream;
+
+public class RemoteLoggerTest {
+
+    private ExecutorService executor;
+
+    @AfterMethod
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testSingleMessagePerRequestByDefault() throws Exception {
+        //given:
+        final List<Request> requests = new CopyOnWriteArrayList<>();
+        final RemoteLogger logger = new RemoteLogger(createConfiguration(requests, HttpURLConnection.HTTP_OK));
+
+        //when:
+        logger.log(createMessage("A"));
+        logger.log(createMessage("B"));
+        logger.log(createMessage("C"));
+        waitFor(() -> logger.getSentMessageCount() == 3);
+
+        //then:
+        Assert.assertEquals(requests.size(), 3);
+        for (final Request request : requests) {
+            Assert.assertNull(request.contentEncoding);
+            final JsonElement element = new JsonParser().parse(new String(request.body, "UTF-8"));
+            Assert.assertTrue(element.isJsonObject());
+        }
+    }
+
+    @Test
+    public void testBatchedAndGzipEncodedRequests() throws Exception {
+        //given:
+        final List<Request> requests = new CopyOnWriteArrayList<>();
+        final DolphinLoggerConfiguration configuration = createConfiguration(requests, HttpURLConnection.HTTP_OK);
+        configuration.setRemotingBatchActive(true);
+        configuration.setRemotingGzipActive(true);
+        configuration.setMaxMessagesPerRequest(10);
+        configuration.setRemotingLingerTime(1_000);
+        final RemoteLogger logger = new RemoteLogger(configuration);
+
+        //when:
+        for (int i = 0; i < 5; i++) {
+            logger.log(createMessage("message-" + i));
+        }
+        waitFor(() -> logger.getSentMessageCount() == 5);
+
+        //then:
+        Assert.assertEquals(requests.size(), 1);
+        Assert.assertEquals(requests.get(0).contentEncoding, "gzip");
+        final JsonElement element = new JsonParser().parse(new InputStreamReader(new GZIPInputStream(new ByteArrayInputStream(requests.get(0).body)), "UTF-8"));
+        Assert.assertTrue(element.isJsonArray());
+        final JsonArray array = element.getAsJsonArray();
+        Assert.assertEquals(array.size(), 5);
+        Assert.assertEquals(array.get(0).getAsJsonObject().get("message").getAsString(), "message-0");
+    }
+
+    @Test
+    public void testMessagesAreDroppedAfterMaxRetries() throws Exception {
+        //given:
+        final List<Request> requests = new CopyOnWriteArrayList<>();
+        final DolphinLoggerConfiguration configuration = createConfiguration(requests, HttpURLConnection.HTTP_INTERNAL_ERROR);
+        configuration.setRemotingMaxRetries(2);
+        final RemoteLogger logger = new RemoteLogger(configuration);
+
+        //when:
+        logger.log(createMessage("A"));
+        waitFor(() -> logger.getFailedMessageCount() == 1);
+
+        //then:
+        Assert.assertEquals(requests.size(), 3);
+        Assert.assertEquals(logger.getRetriedMessageCount(), 2);
+        Assert.assertEquals(logger.getSentMessageCount(), 0);
+    }
+
+    @Test
+    public void testMessageIsSentAfterRetry() throws Exception {
+        //given:
+        final List<Request> requests = new CopyOnWriteArrayList<>();
+        final AtomicInteger attempts = new AtomicInteger(0);
+        final DolphinLoggerConfiguration configuration = createConfiguration(requests, () -> attempts.getAndIncrement() == 0 ? HttpURLConnection.HTTP_INTERNAL_ERROR : HttpURLConnection.HTTP_OK);
+        configuration.setRemotingMaxRetries(2);
+        final RemoteLogger logger = new RemoteLogger(configuration);
+
+        //when:
+        logger.log(createMessage("A"));
+        waitFor(() -> logger.getSentMessageCount() == 1);
+
+        //then:
+        Assert.assertEquals(requests.size(), 2);
+        Assert.assertEquals(logger.getRetriedMessageCount(), 1);
+        Assert.assertEquals(logger.getFailedMessageCount(), 0);
+    }
+
+    private DolphinLoggerConfiguration createConfiguration(final List<Request> requests, final int responseCode) {
+        return createConfiguration(requests, () -> responseCode);
+    }
+
+    private DolphinLoggerConfiguration createConfiguration(final List<Request> requests, final IntSupplier responseCode) {
+        executor = Executors.newSingleThreadExecutor();
+        final DolphinLoggerConfiguration configuration = new DolphinLoggerConfiguration();
+        configuration.setRemoteUrl(URI.create("http://localhost/gelf"));
+        configuration.setRemoteLoggingExecutor(executor);
+        configuration.setParallelRequests(1);
+        configuration.setRemotingErrorWaitTime(10);
+        configuration.setGlobalLevel(Level.TRACE);
+        configuration.setConnectionFactory(url -> new StubConnection(url.toURL(), requests, responseCode.getAsInt()));
+        return configuration;
+    }
+
+    private LogMessage createMessage(final String text) {
+        final LogMessage message = new LogMessage();
+        message.setMessage(text);
+        message.setLoggerName("test");
+        message.setLevel(Level.INFO);
+        message.setTimestamp(ZonedDateTime.now());
+        message.setThreadName(Thread.currentThread().getName());
+        return message;
+    }
+
+    private void waitFor(final BooleanSupplier condition) throws InterruptedException {
+        final long end = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < end) {
+            Thread.sleep(10);
+        }
+        Assert.assertTrue(condition.getAsBoolean(), "Condition not reached");
+    }
+
+    private static class Request {
+
+        private final String contentEncoding;
+
+        private final byte[] body;
+
+        private Request(final String contentEncoding, final byte[] body) {
+            this.contentEncoding = contentEncoding;
+            this.body = body;
+        }
+    }
+
+    private static class StubConnection extends HttpURLConnection {
+
+        private final List<Request> requests;
+
+        private final int responseCode;
+
+        private StubConnection(final java.net.URL url, final List<Request> requests, final int responseCode) {
+            super(url);
+            this.requests = requests;
+            this.responseCode = responseCode;
+        }
+
+        @Override
+        public OutputStream getOutputStream() {
+            final String contentEncoding = getRequestProperty("Content-Encoding");
+            return new ByteArrayOutputStream() {
+                @Override
+                public void close() throws IOException {
+                    super.close();
+                    requests.add(new Request(contentEncoding, toByteArray()));
+                }
+            };
+        }
+
+        @Override
+        public int getResponseCode() {
+            return responseCode;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(new byte[0]);
+        }
+
+        @Override
+        public void disconnect() {
+        }
+
+        @Override
+        public boolean usingProxy() {
+            return false;
+        }
+
+        @Override
+        public void connect() {
+        }
+    }
+}
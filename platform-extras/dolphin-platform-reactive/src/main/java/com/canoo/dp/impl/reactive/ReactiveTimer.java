@@ -0,0 +1,52 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.reactive;
+
+import rx.Scheduler;
+import rx.schedulers.Schedulers;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Provides the timer that can be shared by time based transformations (like throttleLast or debounce) of a
+ * {@link com.canoo.platform.reactive.TransformedProperty}. All transformations that use the timer share one daemon
+ * thread instead of holding timers of the RxJava computation pool. Transformations use the RxJava computation pool
+ * by default since a slow listener of a transformed property would delay all transformations on the shared thread.
+ */
+public final class ReactiveTimer {
+
+    private static final String THREAD_NAME = "dolphin-platform-reactive-timer";
+
+    private static final ScheduledExecutorService TIMER_EXECUTOR = Executors.newSingleThreadScheduledExecutor(r -> {
+        final Thread thread = new Thread(r, THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final Scheduler SCHEDULER = Schedulers.from(TIMER_EXECUTOR);
+
+    private ReactiveTimer() {
+    }
+
+    /**
+     * Returns the shared scheduler
+     * @return the scheduler
+     */
+    public static Scheduler getScheduler() {
+        return SCHEDULER;
+    }
+}
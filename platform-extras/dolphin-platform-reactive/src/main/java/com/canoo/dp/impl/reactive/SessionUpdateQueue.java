@@ -0,0 +1,109 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.reactive;
+
+import com.canoo.dp.impl.platform.core.Assert;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Collects the pending value updates of all {@link TransformedPropertyImpl} instances that are bound to the same
+ * session executor. Only one task is executed on the session executor for all updates that are pending at that time.
+ * If a property gets several updates before the task runs only the last value is set. Properties are compared by
+ * identity since the equality of a property is based on its value. The updates of a task are applied in the order in
+ * which the properties were first updated after the previous task.
+ */
+public class SessionUpdateQueue {
+
+    private static final Map<Executor, WeakReference<SessionUpdateQueue>> QUEUES = new WeakHashMap<>();
+
+    private final Executor sessionExecutor;
+
+    private final Object lock = new Object();
+
+    private Map<TransformedPropertyImpl<?>, Object> pendingUpdates = new IdentityHashMap<>();
+
+    private List<TransformedPropertyImpl<?>> pendingOrder = new ArrayList<>();
+
+    private boolean flushScheduled = false;
+
+    private SessionUpdateQueue(final Executor sessionExecutor) {
+        this.sessionExecutor = Assert.requireNonNull(sessionExecutor, "sessionExecutor");
+    }
+
+    /**
+     * Returns the queue for the given session executor. All calls with the same executor instance return the same
+     * queue as long as the queue is in use.
+     * @param sessionExecutor the executor that executes tasks in the session
+     * @return the queue
+     */
+    public static SessionUpdateQueue forExecutor(final Executor sessionExecutor) {
+        Assert.requireNonNull(sessionExecutor, "sessionExecutor");
+        synchronized (QUEUES) {
+            final WeakReference<SessionUpdateQueue> reference = QUEUES.get(sessionExecutor);
+            final SessionUpdateQueue existingQueue = reference != null ? reference.get() : null;
+            if (existingQueue != null) {
+                return existingQueue;
+            }
+            final SessionUpdateQueue queue = new SessionUpdateQueue(sessionExecutor);
+            QUEUES.put(sessionExecutor, new WeakReference<>(queue));
+            return queue;
+        }
+    }
+
+    /**
+     * Sets the given value of the property in the next task that is executed on the session executor.
+     * @param property the property
+     * @param value the new value
+     * @param <T> type of the property
+     */
+    public <T> void update(final TransformedPropertyImpl<T> property, final T value) {
+        Assert.requireNonNull(property, "property");
+        synchronized (lock) {
+            if (!pendingUpdates.containsKey(property)) {
+                pendingOrder.add(property);
+            }
+            pendingUpdates.put(property, value);
+            if (flushScheduled) {
+                return;
+            }
+            flushScheduled = true;
+        }
+        sessionExecutor.execute(this::flush);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void flush() {
+        final Map<TransformedPropertyImpl<?>, Object> updates;
+        final List<TransformedPropertyImpl<?>> order;
+        synchronized (lock) {
+            updates = pendingUpdates;
+            order = pendingOrder;
+            pendingUpdates = new IdentityHashMap<>();
+            pendingOrder = new ArrayList<>();
+            flushScheduled = false;
+        }
+        for (final TransformedPropertyImpl<?> property : order) {
+            ((TransformedPropertyImpl<Object>) property).call(updates.get(property));
+        }
+    }
+}
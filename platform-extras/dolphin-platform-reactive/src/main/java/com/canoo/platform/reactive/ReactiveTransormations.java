@@ -15,16 +15,22 @@
  */
 package com.canoo.platform.reactive;
 
+import com.canoo.dp.impl.reactive.ReactiveTimer;
+import com.canoo.dp.impl.reactive.SessionUpdateQueue;
 import com.canoo.dp.impl.reactive.TransformedPropertyImpl;
 import com.canoo.platform.core.functional.Subscription;
 import com.canoo.platform.remoting.ValueChangeEvent;
 import com.canoo.platform.remoting.ValueChangeListener;
 import com.canoo.platform.remoting.Property;
 import com.canoo.dp.impl.platform.core.Assert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import rx.Observable;
+import rx.Scheduler;
 import rx.functions.Func1;
 import rx.subjects.PublishSubject;
 
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -34,6 +40,21 @@ import java.util.concurrent.TimeUnit;
  */
 public class ReactiveTransormations {
 
+    private static final Logger LOG = LoggerFactory.getLogger(ReactiveTransormations.class);
+
+    /**
+     * Returns a scheduler that executes all transformations that use it on one shared daemon thread. By using this
+     * scheduler a big number of time based transformations does not need a timer of the computation pool each. Since
+     * the value of a transformed property and all its listeners are called on that thread a slow listener will delay
+     * all other transformations that use the scheduler.
+     * @return the shared scheduler
+     * @see #throttleLast(Property, long, TimeUnit, Scheduler)
+     * @see #debounce(Property, long, TimeUnit, Scheduler)
+     */
+    public static Scheduler sharedTimer() {
+        return ReactiveTimer.getScheduler();
+    }
+
     /**
      * Provides a {@link TransformedProperty} that is "throttleLast" transformation of the given {@link Property}.
      * @param property the property
@@ -43,39 +64,95 @@ public class ReactiveTransormations {
      * @return the transformed property
      */
     public static <T> TransformedProperty<T> throttleLast(Property<T> property, long timeout, TimeUnit unit) {
-        Assert.requireNonNull(property, "property");
         Assert.requireNonNull(unit, "unit");
+        return timed(property, o -> o.throttleLast(timeout, unit), null);
+    }
 
-        final PublishSubject<T> reactiveObservable = PublishSubject.create();
-
-        Subscription basicSubscription = property.onChanged(new ValueChangeListener<T>() {
-            @Override
-            public void valueChanged(ValueChangeEvent<? extends T> evt) {
-                reactiveObservable.onNext(evt.getNewValue());
-            }
-        });
-
-        TransformedPropertyImpl result = new TransformedPropertyImpl<>(basicSubscription);
+    /**
+     * Provides a {@link TransformedProperty} that is "throttleLast" transformation of the given {@link Property}.
+     * The value of the transformed property is set by the given scheduler (see {@link #sharedTimer()}).
+     * @param property the property
+     * @param timeout timeout for the "throttleLast" transformation
+     * @param unit time unit for the "throttleLast" transformation
+     * @param scheduler the scheduler of the "throttleLast" transformation
+     * @param <T> type of the property
+     * @return the transformed property
+     */
+    public static <T> TransformedProperty<T> throttleLast(Property<T> property, long timeout, TimeUnit unit, Scheduler scheduler) {
+        Assert.requireNonNull(unit, "unit");
+        Assert.requireNonNull(scheduler, "scheduler");
+        return timed(property, o -> o.throttleLast(timeout, unit, scheduler), null);
+    }
 
-        Observable<T> transformedObservable = reactiveObservable.throttleLast(timeout, unit);
-        transformedObservable.subscribe(result);
+    /**
+     * Provides a {@link TransformedProperty} that is "throttleLast" transformation of the given {@link Property}.
+     * The value of the transformed property is set by a task of the given session executor. All pending updates of
+     * transformed properties that use the same executor instance are set in one task. On the server the executor
+     * should be created once per session, for example as {@code clientSessionExecutor::runLaterInClientSession}.
+     * The timing is done by the {@link #sharedTimer()} since the timer thread only queues the updates.
+     * @param property the property
+     * @param timeout timeout for the "throttleLast" transformation
+     * @param unit time unit for the "throttleLast" transformation
+     * @param sessionExecutor executor that executes tasks in the session of the property
+     * @param <T> type of the property
+     * @return the transformed property
+     */
+    public static <T> TransformedProperty<T> throttleLast(Property<T> property, long timeout, TimeUnit unit, Executor sessionExecutor) {
+        Assert.requireNonNull(unit, "unit");
+        Assert.requireNonNull(sessionExecutor, "sessionExecutor");
+        return timed(property, o -> o.throttleLast(timeout, unit, ReactiveTimer.getScheduler()), sessionExecutor);
+    }
 
-        reactiveObservable.onNext(property.get());
+    /**
+     * Provides a {@link TransformedProperty} that is "debounce" transformation of the given {@link Property}.
+     * @param property the property
+     * @param timeout timeout for the "debounce" transformation
+     * @param unit time unit for the "debounce" transformation
+     * @param <T> type of the property
+     * @return the transformed property
+     */
+    public static <T> TransformedProperty<T> debounce(Property<T> property, long timeout, TimeUnit unit) {
+        Assert.requireNonNull(unit, "unit");
+        return timed(property, o -> o.debounce(timeout, unit), null);
+    }
 
-        return result;
+    /**
+     * Provides a {@link TransformedProperty} that is "debounce" transformation of the given {@link Property}.
+     * The value of the transformed property is set by the given scheduler (see {@link #sharedTimer()}).
+     * @param property the property
+     * @param timeout timeout for the "debounce" transformation
+     * @param unit time unit for the "debounce" transformation
+     * @param scheduler the scheduler of the "debounce" transformation
+     * @param <T> type of the property
+     * @return the transformed property
+     */
+    public static <T> TransformedProperty<T> debounce(Property<T> property, long timeout, TimeUnit unit, Scheduler scheduler) {
+        Assert.requireNonNull(unit, "unit");
+        Assert.requireNonNull(scheduler, "scheduler");
+        return timed(property, o -> o.debounce(timeout, unit, scheduler), null);
     }
 
     /**
      * Provides a {@link TransformedProperty} that is "debounce" transformation of the given {@link Property}.
+     * The value of the transformed property is set by a task of the given session executor. All pending updates of
+     * transformed properties that use the same executor instance are set in one task. On the server the executor
+     * should be created once per session, for example as {@code clientSessionExecutor::runLaterInClientSession}.
+     * The timing is done by the {@link #sharedTimer()} since the timer thread only queues the updates.
      * @param property the property
      * @param timeout timeout for the "debounce" transformation
      * @param unit time unit for the "debounce" transformation
+     * @param sessionExecutor executor that executes tasks in the session of the property
      * @param <T> type of the property
      * @return the transformed property
      */
-    public static <T> TransformedProperty<T> debounce(Property<T> property, long timeout, TimeUnit unit) {
-        Assert.requireNonNull(property, "property");
+    public static <T> TransformedProperty<T> debounce(Property<T> property, long timeout, TimeUnit unit, Executor sessionExecutor) {
         Assert.requireNonNull(unit, "unit");
+        Assert.requireNonNull(sessionExecutor, "sessionExecutor");
+        return timed(property, o -> o.debounce(timeout, unit, ReactiveTimer.getScheduler()), sessionExecutor);
+    }
+
+    private static <T> TransformedProperty<T> timed(final Property<T> property, final Func1<Observable<T>, Observable<T>> transformation, final Executor sessionExecutor) {
+        Assert.requireNonNull(property, "property");
 
         final PublishSubject<T> reactiveObservable = PublishSubject.create();
 
@@ -86,10 +163,16 @@ public class ReactiveTransormations {
             }
         });
 
-        TransformedPropertyImpl result = new TransformedPropertyImpl<>(basicSubscription);
+        final TransformedPropertyImpl<T> result = new TransformedPropertyImpl<>(basicSubscription);
 
-        Observable<T> transformedObservable = reactiveObservable.debounce(timeout, unit);
-        transformedObservable.subscribe(result);
+        final Observable<T> transformedObservable = transformation.call(reactiveObservable);
+        if (sessionExecutor == null) {
+            transformedObservable.subscribe(result);
+        } else {
+            final SessionUpdateQueue updateQueue = SessionUpdateQueue.forExecutor(sessionExecutor);
+            transformedObservable.subscribe(value -> updateQueue.update(result, value),
+                    e -> LOG.error("Error in transformation of property " + property, e));
+        }
 
         reactiveObservable.onNext(property.get());
 
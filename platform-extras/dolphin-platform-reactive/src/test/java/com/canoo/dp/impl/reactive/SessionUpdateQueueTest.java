@@ -0,0 +1,122 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.reactive;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+public class SessionUpdateQueueTest {
+
+    @Test
+    public void testPendingUpdatesAreCoalesced() {
+        //given:
+        final List<Runnable> tasks = new ArrayList<>();
+        final SessionUpdateQueue queue = SessionUpdateQueue.forExecutor(tasks::add);
+        final TransformedPropertyImpl<Integer> property1 = new TransformedPropertyImpl<>(() -> {});
+        final TransformedPropertyImpl<String> property2 = new TransformedPropertyImpl<>(() -> {});
+        final List<Integer> values1 = new ArrayList<>();
+        property1.onChanged(e -> values1.add(e.getNewValue()));
+
+        //when:
+        queue.update(property1, 1);
+        queue.update(property2, "A");
+        queue.update(property1, 2);
+
+        //then:
+        Assert.assertEquals(tasks.size(), 1);
+        Assert.assertNull(property1.get());
+
+        //when:
+        tasks.get(0).run();
+
+        //then:
+        Assert.assertEquals(property1.get(), Integer.valueOf(2));
+        Assert.assertEquals(property2.get(), "A");
+        Assert.assertEquals(values1, Arrays.asList(2));
+    }
+
+    @Test
+    public void testUpdatesAreAppliedInOrder() {
+        //given:
+        final List<Runnable> tasks = new ArrayList<>();
+        final SessionUpdateQueue queue = SessionUpdateQueue.forExecutor(tasks::add);
+        final TransformedPropertyImpl<String> property1 = new TransformedPropertyImpl<>(() -> {});
+        final TransformedPropertyImpl<String> property2 = new TransformedPropertyImpl<>(() -> {});
+        final List<String> appliedValues = new ArrayList<>();
+        property1.onChanged(e -> appliedValues.add("1:" + e.getNewValue()));
+        property2.onChanged(e -> appliedValues.add("2:" + e.getNewValue()));
+
+        //when:
+        queue.update(property2, "A");
+        queue.update(property1, "B");
+        queue.update(property2, "C");
+        tasks.get(0).run();
+        queue.update(property1, "D");
+        queue.update(property2, "E");
+
+        //then:
+        Assert.assertEquals(tasks.size(), 2);
+
+        //when:
+        tasks.get(1).run();
+
+        //then:
+        Assert.assertEquals(appliedValues, Arrays.asList("2:C", "1:B", "1:D", "2:E"));
+    }
+
+    @Test
+    public void testQueueIsSharedPerExecutor() {
+        //given:
+        final Executor executor1 = Runnable::run;
+        final Executor executor2 = Runnable::run;
+
+        //then:
+        Assert.assertSame(SessionUpdateQueue.forExecutor(executor1), SessionUpdateQueue.forExecutor(executor1));
+        Assert.assertNotSame(SessionUpdateQueue.forExecutor(executor1), SessionUpdateQueue.forExecutor(executor2));
+    }
+
+    @Test
+    public void testRegistryDoesNotHoldQueuesAndExecutors() throws InterruptedException {
+        //given:
+        Executor executor = new Executor() {
+            @Override
+            public void execute(final Runnable command) {
+                command.run();
+            }
+        };
+        SessionUpdateQueue queue = SessionUpdateQueue.forExecutor(executor);
+        final WeakReference<Executor> executorReference = new WeakReference<>(executor);
+        final WeakReference<SessionUpdateQueue> queueReference = new WeakReference<>(queue);
+
+        //when:
+        executor = null;
+        queue = null;
+        for (int i = 0; i < 100 && (executorReference.get() != null || queueReference.get() != null); i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        //then:
+        Assert.assertNull(queueReference.get());
+        Assert.assertNull(executorReference.get());
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.platform.reactive;
+
+import com.canoo.dp.impl.remoting.MockedProperty;
+import com.canoo.platform.remoting.Property;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class ReactiveTransormationsTest {
+
+    @Test
+    public void testDebounceUsesComputationSchedulerByDefault() throws InterruptedException {
+        //given:
+        final Property<String> property = new MockedProperty<>();
+        final TransformedProperty<String> transformed = ReactiveTransormations.debounce(property, 10, TimeUnit.MILLISECONDS);
+
+        //when:
+        final String threadName = awaitChange(property, transformed);
+
+        //then:
+        Assert.assertTrue(threadName.startsWith("RxComputation"), threadName);
+        Assert.assertEquals(transformed.get(), "value");
+    }
+
+    @Test
+    public void testThrottleLastUsesSharedTimerIfRequested() throws InterruptedException {
+        //given:
+        final Property<String> property = new MockedProperty<>();
+        final TransformedProperty<String> transformed = ReactiveTransormations.throttleLast(property, 10, TimeUnit.MILLISECONDS, ReactiveTransormations.sharedTimer());
+
+        //when:
+        final String threadName = awaitChange(property, transformed);
+
+        //then:
+        Assert.assertEquals(threadName, "dolphin-platform-reactive-timer");
+        Assert.assertEquals(transformed.get(), "value");
+    }
+
+    @Test
+    public void testDebounceSetsValueInSession() throws InterruptedException {
+        //given:
+        final ExecutorService sessionExecutor = Executors.newSingleThreadExecutor(r -> new Thread(r, "session"));
+        try {
+            final Property<String> property = new MockedProperty<>();
+            final TransformedProperty<String> transformed = ReactiveTransormations.debounce(property, 10, TimeUnit.MILLISECONDS, sessionExecutor);
+
+            //when:
+            final String threadName = awaitChange(property, transformed);
+
+            //then:
+            Assert.assertEquals(threadName, "session");
+            Assert.assertEquals(transformed.get(), "value");
+        } finally {
+            sessionExecutor.shutdownNow();
+        }
+    }
+
+    private String awaitChange(final Property<String> property, final TransformedProperty<String> transformed) throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicReference<String> threadName = new AtomicReference<>();
+        transformed.onChanged(e -> {
+            if ("value".equals(e.getNewValue())) {
+                threadName.set(Thread.currentThread().getName());
+                latch.countDown();
+            }
+        });
+        property.set("value");
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        return threadName.get();
+    }
+}
@@ -15,7 +15,7 @@
  */
 package com.canoo.dp.impl.security;
 
-import java.net.URL;
+import java.net.URI;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -29,7 +29,7 @@ public class KeycloakAuthentificationManager {
         this.auth = new AtomicReference<>();
     }
 
-    public Optional<KeycloakAuthentification> getAuthFor(final URL endpoint) {
+    public Optional<KeycloakAuthentification> getAuthFor(final URI endpoint) {
         return Optional.ofNullable(auth.get());
     }
 
@@ -16,13 +16,12 @@
 package com.canoo.dp.impl.security;
 
 import com.canoo.dp.impl.platform.core.Assert;
-import com.canoo.platform.core.http.HttpURLConnectionHandler;
+import com.canoo.platform.core.http.HttpRequestContext;
+import com.canoo.platform.core.http.HttpRequestHandler;
 import org.apiguardian.api.API;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.net.HttpURLConnection;
-
 import static com.canoo.dp.impl.security.SecurityConstants.APPLICATION_NAME_HEADER;
 import static com.canoo.dp.impl.security.SecurityConstants.AUTHORIZATION_HEADER;
 import static com.canoo.dp.impl.security.SecurityConstants.BEARER;
@@ -31,34 +30,34 @@ import static com.canoo.dp.impl.security.SecurityConstants.REALM_NAME_HEADER;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 @API(since = "0.19.0", status = INTERNAL)
-public class KeycloakRequestHandler implements HttpURLConnectionHandler {
+public class KeycloakRequestHandler implements HttpRequestHandler {
 
     private static final Logger LOG = LoggerFactory.getLogger(KeycloakRequestHandler.class);
 
     @Override
-    public void handle(final HttpURLConnection connection) {
-        Assert.requireNonNull(connection, "connection");
-        KeycloakAuthentificationManager.getInstance().getAuthFor(connection.getURL()).ifPresent(auth -> {
+    public void handle(final HttpRequestContext request) {
+        Assert.requireNonNull(request, "request");
+        KeycloakAuthentificationManager.getInstance().getAuthFor(request.getUrl()).ifPresent(auth -> {
 
             //No redirect, can not be handled in Java
-            connection.setRequestProperty(BEARER_ONLY_HEADER, "true");
+            request.setHeader(BEARER_ONLY_HEADER, "true");
 
             final String accessToken = auth.getAccessToken();
             if(accessToken != null && !accessToken.isEmpty()) {
                 LOG.debug("Adding security access token to request");
-                connection.setRequestProperty(AUTHORIZATION_HEADER, BEARER + accessToken);
+                request.setHeader(AUTHORIZATION_HEADER, BEARER + accessToken);
             }
 
             final String realm = auth.getRealm();
             if(realm != null && !realm.isEmpty()) {
                 LOG.debug("Adding realm to request");
-                connection.setRequestProperty(REALM_NAME_HEADER, realm);
+                request.setHeader(REALM_NAME_HEADER, realm);
             }
 
             final String appName = auth.getAppName();
             if(appName != null && !appName.isEmpty()) {
                 LOG.debug("Adding appName to request");
-                connection.setRequestProperty(APPLICATION_NAME_HEADER, appName);
+                request.setHeader(APPLICATION_NAME_HEADER, appName);
             }
         });
 
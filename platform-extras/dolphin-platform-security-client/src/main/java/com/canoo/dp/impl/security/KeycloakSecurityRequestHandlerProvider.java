@@ -16,17 +16,17 @@
 package com.canoo.dp.impl.security;
 
 import com.canoo.platform.core.PlatformConfiguration;
-import com.canoo.platform.core.http.HttpURLConnectionHandler;
-import com.canoo.platform.core.http.spi.RequestHandlerProvider;
+import com.canoo.platform.core.http.HttpRequestHandler;
+import com.canoo.platform.core.http.spi.HttpRequestHandlerProvider;
 import org.apiguardian.api.API;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 @API(since = "0.19.0", status = INTERNAL)
-public class KeycloakSecurityRequestHandlerProvider implements RequestHandlerProvider {
+public class KeycloakSecurityRequestHandlerProvider implements HttpRequestHandlerProvider {
 
     @Override
-    public HttpURLConnectionHandler getHandler(final PlatformConfiguration configuration) {
+    public HttpRequestHandler getHandler(final PlatformConfiguration configuration) {
         return new KeycloakRequestHandler();
     }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.platform.client.http.jdk;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.platform.client.ClientConfiguration;
+import com.canoo.platform.core.functional.Promise;
+import com.canoo.platform.core.http.BadResponseException;
+import com.canoo.platform.core.http.ConnectionException;
+import com.canoo.platform.core.http.HttpException;
+import com.canoo.platform.core.http.HttpResponse;
+import org.apiguardian.api.API;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * {@link Promise} for a call of the {@link JdkHttpClient}. The request handlers are called on the background executor
+ * like for the default client but no thread waits for the response: the call is finished by the JDK client once the
+ * response has been received.
+ */
+@API(since = "1.0.0", status = INTERNAL)
+public class JdkHttpCallExecutor<R> implements Promise<HttpResponse<R>, HttpException> {
+
+    private final Executor executor;
+
+    private final Executor uiExecutor;
+
+    private final Supplier<CompletableFuture<HttpResponse<R>>> call;
+
+    private Consumer<HttpResponse<R>> onDone;
+
+    private Consumer<HttpException> errorHandler;
+
+    public JdkHttpCallExecutor(final ClientConfiguration configuration, final Supplier<CompletableFuture<HttpResponse<R>>> call) {
+        Assert.requireNonNull(configuration, "configuration");
+        this.executor = configuration.getBackgroundExecutor();
+        this.uiExecutor = configuration.getUiExecutor();
+        this.call = Assert.requireNonNull(call, "call");
+    }
+
+    @Override
+    public JdkHttpCallExecutor<R> onDone(final Consumer<HttpResponse<R>> onDone) {
+        this.onDone = onDone;
+        return this;
+    }
+
+    @Override
+    public JdkHttpCallExecutor<R> onError(final Consumer<HttpException> errorHandler) {
+        this.errorHandler = errorHandler;
+        return this;
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse<R>> execute() {
+        final CompletableFuture<HttpResponse<R>> completableFuture = new CompletableFuture<>();
+        CompletableFuture.supplyAsync(call, executor)
+                .thenCompose(f -> f)
+                .whenComplete((result, throwable) -> {
+                    if (throwable != null) {
+                        onError(completableFuture, toHttpException(throwable));
+                    } else {
+                        final int statusCode = result.getStatusCode();
+                        if (statusCode >= 300) {
+                            onError(completableFuture, new BadResponseException(result, "Bad Response: " + statusCode));
+                        } else {
+                            if (onDone != null) {
+                                uiExecutor.execute(() -> onDone.accept(result));
+                            }
+                            completableFuture.complete(result);
+                        }
+                    }
+                });
+        return completableFuture;
+    }
+
+    private void onError(final CompletableFuture<HttpResponse<R>> completableFuture, final HttpException e) {
+        if (errorHandler != null) {
+            uiExecutor.execute(() -> errorHandler.accept(e));
+        }
+        completableFuture.completeExceptionally(e);
+    }
+
+    private HttpException toHttpException(final Throwable throwable) {
+        final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+        if (cause instanceof HttpException) {
+            return (HttpException) cause;
+        }
+        if (cause instanceof IOException) {
+            return new ConnectionException("No response from server", cause);
+        }
+        return new HttpException("Can not handle response", cause);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.platform.client.http.jdk;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.platform.client.ClientConfiguration;
+import com.canoo.platform.core.DolphinRuntimeException;
+import com.canoo.platform.core.http.ByteArrayProvider;
+import com.canoo.platform.core.http.HttpCallRequestBuilder;
+import com.canoo.platform.core.http.HttpCallResponseBuilder;
+import com.canoo.platform.core.http.HttpRequestHandler;
+import com.canoo.platform.core.http.HttpResponseHandler;
+import com.google.gson.Gson;
+import org.apiguardian.api.API;
+
+import java.net.http.HttpClient;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.canoo.dp.impl.platform.core.http.HttpHeaderConstants.CONTENT_TYPE_HEADER;
+import static com.canoo.dp.impl.platform.core.http.HttpHeaderConstants.JSON_MIME_TYPE;
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+@API(since = "1.0.0", status = INTERNAL)
+public class JdkHttpCallRequestBuilder implements HttpCallRequestBuilder {
+
+    private final HttpClient client;
+
+    private final JdkHttpRequestContext context;
+
+    private final Gson gson;
+
+    private final List<HttpRequestHandler> requestHandlers;
+
+    private final List<HttpResponseHandler> responseHandlers;
+
+    private final ClientConfiguration configuration;
+
+    private final AtomicBoolean done = new AtomicBoolean(false);
+
+    public JdkHttpCallRequestBuilder(final HttpClient client, final JdkHttpRequestContext context, final Gson gson, final List<HttpRequestHandler> requestHandlers, final List<HttpResponseHandler> responseHandlers, final ClientConfiguration configuration) {
+        this.client = Assert.requireNonNull(client, "client");
+        this.context = Assert.requireNonNull(context, "context");
+        this.gson = Assert.requireNonNull(gson, "gson");
+        this.configuration = Assert.requireNonNull(configuration, "configuration");
+
+        Assert.requireNonNull(requestHandlers, "requestHandlers");
+        this.requestHandlers = Collections.unmodifiableList(requestHandlers);
+
+        Assert.requireNonNull(responseHandlers, "responseHandlers");
+        this.responseHandlers = Collections.unmodifiableList(responseHandlers);
+    }
+
+    @Override
+    public HttpCallRequestBuilder withHeader(final String name, final String content) {
+        context.setHeader(name, content);
+        return this;
+    }
+
+    @Override
+    public HttpCallResponseBuilder withContent(final byte[] content, final String contentType) {
+        withHeader(CONTENT_TYPE_HEADER, contentType);
+        return continueWithResponseBuilder(() -> content);
+    }
+
+    @Override
+    public <I> HttpCallResponseBuilder withContent(final I content) {
+        return withContent(gson.toJson(content), JSON_MIME_TYPE);
+    }
+
+    @Override
+    public HttpCallResponseBuilder withoutContent() {
+        return continueWithResponseBuilder(() -> new byte[0]);
+    }
+
+    private HttpCallResponseBuilder continueWithResponseBuilder(final ByteArrayProvider dataProvider) {
+        Assert.requireNonNull(dataProvider, "dataProvider");
+        if (done.getAndSet(true)) {
+            throw new DolphinRuntimeException("Request already defined!");
+        }
+        return new JdkHttpCallResponseBuilder(client, context, dataProvider, gson, requestHandlers, responseHandlers, configuration);
+    }
+}
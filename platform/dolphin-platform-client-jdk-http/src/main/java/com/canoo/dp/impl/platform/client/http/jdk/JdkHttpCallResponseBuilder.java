@@ -0,0 +1,161 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.platform.client.http.jdk;
+
+import com.canoo.dp.impl.platform.client.http.HttpResponseImpl;
+import com.canoo.dp.impl.platform.client.http.ResponseContentConverter;
+import com.canoo.dp.impl.platform.client.http.SimpleByteArrayProvider;
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.platform.client.ClientConfiguration;
+import com.canoo.platform.core.DolphinRuntimeException;
+import com.canoo.platform.core.functional.Promise;
+import com.canoo.platform.core.http.ByteArrayProvider;
+import com.canoo.platform.core.http.HttpCallResponseBuilder;
+import com.canoo.platform.core.http.HttpException;
+import com.canoo.platform.core.http.HttpRequestHandler;
+import com.canoo.platform.core.http.HttpResponse;
+import com.canoo.platform.core.http.HttpResponseHandler;
+import com.google.gson.Gson;
+import org.apiguardian.api.API;
+
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.canoo.dp.impl.platform.core.http.HttpHeaderConstants.ACCEPT_CHARSET_HEADER;
+import static com.canoo.dp.impl.platform.core.http.HttpHeaderConstants.ACCEPT_HEADER;
+import static com.canoo.dp.impl.platform.core.http.HttpHeaderConstants.CHARSET;
+import static com.canoo.dp.impl.platform.core.http.HttpHeaderConstants.JSON_MIME_TYPE;
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+@API(since = "1.0.0", status = INTERNAL)
+public class JdkHttpCallResponseBuilder implements HttpCallResponseBuilder {
+
+    private final HttpClient client;
+
+    private final JdkHttpRequestContext context;
+
+    private final Gson gson;
+
+    private final AtomicBoolean handled = new AtomicBoolean(false);
+
+    private final List<HttpRequestHandler> requestHandlers;
+
+    private final List<HttpResponseHandler> responseHandlers;
+
+    private final ByteArrayProvider dataProvider;
+
+    private final ClientConfiguration configuration;
+
+    public JdkHttpCallResponseBuilder(final HttpClient client, final JdkHttpRequestContext context, final ByteArrayProvider dataProvider, final Gson gson, final List<HttpRequestHandler> requestHandlers, final List<HttpResponseHandler> responseHandlers, final ClientConfiguration configuration) {
+        this.client = Assert.requireNonNull(client, "client");
+        this.context = Assert.requireNonNull(context, "context");
+        this.dataProvider = Assert.requireNonNull(dataProvider, "dataProvider");
+        this.gson = Assert.requireNonNull(gson, "gson");
+        this.configuration = Assert.requireNonNull(configuration, "configuration");
+
+        Assert.requireNonNull(requestHandlers, "requestHandlers");
+        this.requestHandlers = Collections.unmodifiableList(requestHandlers);
+
+        Assert.requireNonNull(responseHandlers, "responseHandlers");
+        this.responseHandlers = Collections.unmodifiableList(responseHandlers);
+    }
+
+    @Override
+    public Promise<HttpResponse<InputStream>, HttpException> streamBytes() {
+        return new JdkHttpCallExecutor<>(configuration, () -> send(BodyHandlers.ofInputStream()));
+    }
+
+    @Override
+    public Promise<HttpResponse<ByteArrayProvider>, HttpException> readBytes() {
+        final ResponseContentConverter<ByteArrayProvider> converter = b -> new SimpleByteArrayProvider(b);
+        return createExecutor(converter);
+    }
+
+    @Override
+    public Promise<HttpResponse<String>, HttpException> readString() {
+        context.setHeader(ACCEPT_CHARSET_HEADER, CHARSET);
+
+        final ResponseContentConverter<String> converter = b -> new String(b, CHARSET);
+        return createExecutor(converter);
+    }
+
+    @Override
+    public <R> Promise<HttpResponse<R>, HttpException> readObject(final Class<R> responseType) {
+        Assert.requireNonNull(responseType, "responseType");
+
+        context.setHeader(ACCEPT_CHARSET_HEADER, CHARSET);
+        context.setHeader(ACCEPT_HEADER, JSON_MIME_TYPE);
+
+        final ResponseContentConverter<R> converter = b -> gson.fromJson(new String(b, CHARSET), responseType);
+        return createExecutor(converter);
+    }
+
+    @Override
+    public Promise<HttpResponse<Void>, HttpException> withoutResult() {
+        final ResponseContentConverter<Void> converter = b -> null;
+        return createExecutor(converter);
+    }
+
+    @Override
+    public Promise<HttpResponse<ByteArrayProvider>, HttpException> readBytes(final String contentType) {
+        Assert.requireNonNull(contentType, "contentType");
+
+        context.setHeader(ACCEPT_HEADER, contentType);
+        return readBytes();
+    }
+
+    @Override
+    public Promise<HttpResponse<String>, HttpException> readString(final String contentType) {
+        Assert.requireNonNull(contentType, "contentType");
+
+        context.setHeader(ACCEPT_HEADER, contentType);
+        return readString();
+    }
+
+    private <R> Promise<HttpResponse<R>, HttpException> createExecutor(final ResponseContentConverter<R> converter) {
+        return new JdkHttpCallExecutor<>(configuration, () -> send(BodyHandlers.ofByteArray()).thenApply(response -> {
+            if (response.getStatusCode() >= 300) {
+                return new HttpResponseImpl<R>(response.getHeaders(), response.getStatusCode(), null, response.getContentSize());
+            }
+            try {
+                final R content = converter.convert(response.getContent());
+                return new HttpResponseImpl<>(response.getHeaders(), response.getStatusCode(), content, response.getContentSize());
+            } catch (final Exception e) {
+                throw new CompletionException(new HttpException("Can not handle response", e));
+            }
+        }));
+    }
+
+    private <T> CompletableFuture<HttpResponse<T>> send(final BodyHandler<T> bodyHandler) {
+        if (handled.getAndSet(true)) {
+            throw new DolphinRuntimeException("Http call already handled");
+        }
+
+        requestHandlers.forEach(h -> h.handle(context));
+        return client.sendAsync(context.createRequest(dataProvider.get()), bodyHandler).thenApply(response -> {
+            final JdkHttpResponseContext responseContext = new JdkHttpResponseContext(response);
+            responseHandlers.forEach(h -> h.handle(responseContext));
+            return new HttpResponseImpl<>(responseContext.getHeaders(), responseContext.getStatusCode(), response.body(), responseContext.getContentSize());
+        });
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.platform.client.http.jdk;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.platform.client.ClientConfiguration;
+import com.canoo.platform.core.DolphinRuntimeException;
+import com.canoo.platform.core.http.HttpCallRequestBuilder;
+import com.canoo.platform.core.http.HttpClient;
+import com.canoo.platform.core.http.HttpRequestHandler;
+import com.canoo.platform.core.http.HttpResponseHandler;
+import com.canoo.platform.core.http.HttpURLConnectionHandler;
+import com.canoo.platform.core.http.RequestMethod;
+import com.google.gson.Gson;
+import org.apiguardian.api.API;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * {@link HttpClient} that is based on the asynchronous {@link java.net.http.HttpClient} of the JDK. All calls of the
+ * client share one JDK client and by doing so its connections. The JDK client uses HTTP/2 if the server supports it
+ * and sends all calls to a server over one multiplexed connection in that case. Calls do not block a thread while
+ * they wait for the response. Only {@link HttpRequestHandler} and {@link HttpResponseHandler} instances are supported
+ * since the client does not use a {@link java.net.HttpURLConnection}.
+ */
+@API(since = "1.0.0", status = INTERNAL)
+public class JdkHttpClient implements HttpClient {
+
+    private final java.net.http.HttpClient client;
+
+    private final Gson gson;
+
+    private final List<HttpRequestHandler> requestHandlers = new CopyOnWriteArrayList<>();
+
+    private final List<HttpResponseHandler> responseHandlers = new CopyOnWriteArrayList<>();
+
+    private final ClientConfiguration configuration;
+
+    public JdkHttpClient(final Gson gson, final ClientConfiguration configuration) {
+        this.gson = Assert.requireNonNull(gson, "gson");
+        this.configuration = Assert.requireNonNull(configuration, "configuration");
+        this.client = java.net.http.HttpClient.newBuilder()
+                .version(java.net.http.HttpClient.Version.HTTP_2)
+                .followRedirects(java.net.http.HttpClient.Redirect.NORMAL)
+                .executor(configuration.getBackgroundExecutor())
+                .build();
+    }
+
+    @Override
+    public void addResponseHandler(final HttpURLConnectionHandler handler) {
+        throw new UnsupportedOperationException("A " + HttpURLConnectionHandler.class.getSimpleName() + " can not be used with the java.net.http based client. Use a " + HttpResponseHandler.class.getSimpleName() + " instead.");
+    }
+
+    @Override
+    public void addRequestHandler(final HttpRequestHandler handler) {
+        Assert.requireNonNull(handler, "handler");
+        requestHandlers.add(handler);
+    }
+
+    @Override
+    public void addResponseHandler(final HttpResponseHandler handler) {
+        Assert.requireNonNull(handler, "handler");
+        responseHandlers.add(handler);
+    }
+
+    @Override
+    public HttpCallRequestBuilder request(final String url, final RequestMethod method) {
+        try {
+            return request(new URI(url), method);
+        } catch (final URISyntaxException e) {
+            throw new DolphinRuntimeException("HTTP error", e);
+        }
+    }
+
+    @Override
+    public HttpCallRequestBuilder request(final URI url, final RequestMethod method) {
+        Assert.requireNonNull(url, "url");
+        Assert.requireNonNull(method, "method");
+        return new JdkHttpCallRequestBuilder(client, new JdkHttpRequestContext(url, method), gson, requestHandlers, responseHandlers, configuration);
+    }
+}
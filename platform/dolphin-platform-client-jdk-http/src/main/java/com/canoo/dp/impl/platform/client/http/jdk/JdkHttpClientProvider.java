@@ -0,0 +1,76 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.platform.client.http.jdk;
+
+import com.canoo.dp.impl.platform.client.AbstractServiceProvider;
+import com.canoo.dp.impl.platform.client.http.HttpClientProvider;
+import com.canoo.platform.client.ClientConfiguration;
+import com.canoo.platform.client.PlatformClient;
+import com.canoo.platform.core.http.HttpClient;
+import com.canoo.platform.core.http.spi.HttpRequestHandlerProvider;
+import com.canoo.platform.core.http.spi.HttpResponseHandlerProvider;
+import com.canoo.platform.core.http.spi.RequestHandlerProvider;
+import com.canoo.platform.core.http.spi.ResponseHandlerProvider;
+import com.google.gson.Gson;
+import org.apiguardian.api.API;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.ServiceLoader;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Provides the {@link JdkHttpClient} instead of the default client if {@link HttpClientProvider#JDK_HTTP_CLIENT_ACTIVE}
+ * is set to {@code true}.
+ */
+@API(since = "1.0.0", status = INTERNAL)
+public class JdkHttpClientProvider extends AbstractServiceProvider<HttpClient> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JdkHttpClientProvider.class);
+
+    public JdkHttpClientProvider() {
+        super(HttpClient.class);
+    }
+
+    @Override
+    public boolean isActive(final ClientConfiguration configuration) {
+        return configuration.getBooleanProperty(HttpClientProvider.JDK_HTTP_CLIENT_ACTIVE, HttpClientProvider.JDK_HTTP_CLIENT_ACTIVE_DEFAULT_VALUE);
+    }
+
+    @Override
+    protected HttpClient createService(final ClientConfiguration configuration) {
+        final JdkHttpClient client = new JdkHttpClient(PlatformClient.getService(Gson.class), configuration);
+
+        final ServiceLoader<HttpRequestHandlerProvider> requestLoader = ServiceLoader.load(HttpRequestHandlerProvider.class);
+        final Iterator<HttpRequestHandlerProvider> requestIterator = requestLoader.iterator();
+        while (requestIterator.hasNext()) {
+            client.addRequestHandler(requestIterator.next().getHandler(configuration));
+        }
+
+        final ServiceLoader<HttpResponseHandlerProvider> responseLoader = ServiceLoader.load(HttpResponseHandlerProvider.class);
+        final Iterator<HttpResponseHandlerProvider> responseIterator = responseLoader.iterator();
+        while (responseIterator.hasNext()) {
+            client.addResponseHandler(responseIterator.next().getHandler(configuration));
+        }
+
+        if (ServiceLoader.load(RequestHandlerProvider.class).iterator().hasNext() || ServiceLoader.load(ResponseHandlerProvider.class).iterator().hasNext()) {
+            LOG.warn("Handlers that are based on HttpURLConnection are not supported by the java.net.http based client and will be ignored");
+        }
+        return client;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.platform.client.http.jdk;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.platform.core.http.HttpRequestContext;
+import com.canoo.platform.core.http.RequestMethod;
+import org.apiguardian.api.API;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Collects the headers of a request until the {@link HttpRequest} is created.
+ */
+@API(since = "1.0.0", status = INTERNAL)
+public class JdkHttpRequestContext implements HttpRequestContext {
+
+    private final URI url;
+
+    private final RequestMethod method;
+
+    private final Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    public JdkHttpRequestContext(final URI url, final RequestMethod method) {
+        this.url = Assert.requireNonNull(url, "url");
+        this.method = Assert.requireNonNull(method, "method");
+    }
+
+    @Override
+    public URI getUrl() {
+        return url;
+    }
+
+    @Override
+    public RequestMethod getMethod() {
+        return method;
+    }
+
+    @Override
+    public synchronized void setHeader(final String name, final String content) {
+        Assert.requireNonBlank(name, "name");
+        Assert.requireNonNull(content, "content");
+        headers.put(name, content);
+    }
+
+    public synchronized HttpRequest createRequest(final byte[] content) {
+        Assert.requireNonNull(content, "content");
+        final HttpRequest.BodyPublisher body = content.length > 0 ? HttpRequest.BodyPublishers.ofByteArray(content) : HttpRequest.BodyPublishers.noBody();
+        final HttpRequest.Builder builder = HttpRequest.newBuilder(url).method(method.getRawName(), body);
+        headers.forEach(builder::header);
+        return builder.build();
+    }
+}
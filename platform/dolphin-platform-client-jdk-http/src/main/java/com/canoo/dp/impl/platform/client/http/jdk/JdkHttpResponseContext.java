@@ -0,0 +1,65 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.platform.client.http.jdk;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.platform.core.http.HttpHeaderConstants;
+import com.canoo.dp.impl.platform.core.http.HttpHeaderImpl;
+import com.canoo.platform.core.http.HttpHeader;
+import com.canoo.platform.core.http.HttpResponseContext;
+import org.apiguardian.api.API;
+
+import java.net.URI;
+import java.net.http.HttpResponse;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+@API(since = "1.0.0", status = INTERNAL)
+public class JdkHttpResponseContext implements HttpResponseContext {
+
+    private final HttpResponse<?> response;
+
+    private final List<HttpHeader> headers;
+
+    public JdkHttpResponseContext(final HttpResponse<?> response) {
+        this.response = Assert.requireNonNull(response, "response");
+        this.headers = Collections.unmodifiableList(response.headers().map().entrySet().stream()
+                .flatMap(e -> e.getValue().stream().map(v -> (HttpHeader) new HttpHeaderImpl(e.getKey(), v)))
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public URI getUrl() {
+        return response.uri();
+    }
+
+    @Override
+    public int getStatusCode() {
+        return response.statusCode();
+    }
+
+    @Override
+    public List<HttpHeader> getHeaders() {
+        return headers;
+    }
+
+    public long getContentSize() {
+        return response.headers().firstValueAsLong(HttpHeaderConstants.CONTENT_LENGHT_HEADER).orElse(-1);
+    }
+}
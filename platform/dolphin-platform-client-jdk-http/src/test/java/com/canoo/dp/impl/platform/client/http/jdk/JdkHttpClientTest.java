@@ -0,0 +1,210 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.platform.client.http.jdk;
+
+import com.canoo.dp.impl.platform.client.DefaultClientConfiguration;
+import com.canoo.dp.impl.platform.client.http.HttpClientProvider;
+import com.canoo.platform.client.PlatformClient;
+import com.canoo.platform.core.http.BadResponseException;
+import com.canoo.platform.core.http.HttpClient;
+import com.canoo.platform.core.http.HttpResponse;
+import com.canoo.platform.core.http.HttpResponseHandler;
+import com.google.gson.Gson;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import spark.Spark;
+
+import java.io.InputStream;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class JdkHttpClientTest {
+
+    private static final String STD_GET_RESPONSE = "Spark Server for JDK HTTP client tests";
+
+    private final int freePort;
+
+    public JdkHttpClientTest() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            socket.setReuseAddress(true);
+            freePort = socket.getLocalPort();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @BeforeClass
+    public void startSpark() {
+        Spark.port(freePort);
+        Spark.get("/", (req, res) -> STD_GET_RESPONSE);
+        Spark.post("/", (req, res) -> req.body());
+        Spark.get("/header", (req, res) -> {
+            res.header("X-Test-Response", "response-value");
+            return req.headers("X-Test-Request");
+        });
+        Spark.get("/port", (req, res) -> Integer.toString(req.raw().getRemotePort()));
+        Spark.get("/error", (req, res) -> {
+            res.status(401);
+            return "UPPS";
+        });
+        Spark.awaitInitialization();
+    }
+
+    @AfterClass
+    public void destroySpark() {
+        Spark.stop();
+    }
+
+    @Test
+    public void testGetWithStringContent() throws Exception {
+        //given:
+        final HttpClient client = createClient();
+
+        //when:
+        final HttpResponse<String> response = client.get("http://localhost:" + freePort)
+                .withoutContent()
+                .readString()
+                .execute().get(10, TimeUnit.SECONDS);
+
+        //then:
+        Assert.assertEquals(response.getStatusCode(), 200);
+        Assert.assertEquals(response.getContent(), STD_GET_RESPONSE);
+    }
+
+    @Test
+    public void testPostWithContent() throws Exception {
+        //given:
+        final HttpClient client = createClient();
+
+        //when:
+        final HttpResponse<String> response = client.post("http://localhost:" + freePort)
+                .withContent("CHECK")
+                .readString()
+                .execute().get(10, TimeUnit.SECONDS);
+
+        //then:
+        Assert.assertEquals(response.getStatusCode(), 200);
+        Assert.assertEquals(response.getContent(), "CHECK");
+    }
+
+    @Test
+    public void testStreamBytes() throws Exception {
+        //given:
+        final HttpClient client = createClient();
+
+        //when:
+        final HttpResponse<InputStream> response = client.get("http://localhost:" + freePort)
+                .withoutContent()
+                .streamBytes()
+                .execute().get(10, TimeUnit.SECONDS);
+
+        //then:
+        try (final InputStream inputStream = response.getContent()) {
+            Assert.assertEquals(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8), STD_GET_RESPONSE);
+        }
+    }
+
+    @Test
+    public void testRequestAndResponseHandlers() throws Exception {
+        //given:
+        final HttpClient client = createClient();
+        final AtomicReference<String> responseHeader = new AtomicReference<>();
+        client.addRequestHandler(request -> request.setHeader("X-Test-Request", "request-value"));
+        final HttpResponseHandler responseHandler = response -> responseHeader.set(response.getHeaderContents("x-test-response").get(0));
+        client.addResponseHandler(responseHandler);
+
+        //when:
+        final HttpResponse<String> response = client.get("http://localhost:" + freePort + "/header")
+                .withoutContent()
+                .readString()
+                .execute().get(10, TimeUnit.SECONDS);
+
+        //then:
+        Assert.assertEquals(response.getContent(), "request-value");
+        Assert.assertEquals(responseHeader.get(), "response-value");
+    }
+
+    @Test
+    public void testBadResponse() throws Exception {
+        //given:
+        final HttpClient client = createClient();
+        final AtomicReference<Exception> error = new AtomicReference<>();
+
+        //when:
+        final CompletableFuture<HttpResponse<String>> future = client.get("http://localhost:" + freePort + "/error")
+                .withoutContent()
+                .readString()
+                .onError(error::set)
+                .execute();
+
+        //then:
+        try {
+            future.get(10, TimeUnit.SECONDS);
+            Assert.fail("No exception thrown");
+        } catch (final ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof BadResponseException);
+            Assert.assertEquals(((BadResponseException) e.getCause()).getResponse().getStatusCode(), 401);
+        }
+    }
+
+    @Test
+    public void testConnectionIsReused() throws Exception {
+        //given:
+        final HttpClient client = createClient();
+
+        //when:
+        final String firstPort = client.get("http://localhost:" + freePort + "/port")
+                .withoutContent()
+                .readString()
+                .execute().get(10, TimeUnit.SECONDS).getContent();
+        final String secondPort = client.get("http://localhost:" + freePort + "/port")
+                .withoutContent()
+                .readString()
+                .execute().get(10, TimeUnit.SECONDS).getContent();
+
+        //then:
+        Assert.assertEquals(secondPort, firstPort);
+    }
+
+    @Test
+    public void testProviderIsOnlyActiveIfConfigured() {
+        //given:
+        final JdkHttpClientProvider provider = new JdkHttpClientProvider();
+        final Properties properties = new Properties();
+
+        //then:
+        Assert.assertFalse(provider.isActive(new DefaultClientConfiguration(properties)));
+        Assert.assertTrue(new HttpClientProvider().isActive(new DefaultClientConfiguration(properties)));
+
+        //when:
+        properties.setProperty(HttpClientProvider.JDK_HTTP_CLIENT_ACTIVE, "true");
+
+        //then:
+        Assert.assertTrue(provider.isActive(new DefaultClientConfiguration(properties)));
+        Assert.assertFalse(new HttpClientProvider().isActive(new DefaultClientConfiguration(properties)));
+    }
+
+    private HttpClient createClient() {
+        return new JdkHttpClient(new Gson(), PlatformClient.getClientConfiguration());
+    }
+}
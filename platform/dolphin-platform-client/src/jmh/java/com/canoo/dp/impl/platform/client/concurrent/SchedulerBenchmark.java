@@ -0,0 +1,80 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.platform.client.concurrent;
+
+import com.canoo.platform.core.concurrent.Trigger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static java.time.temporal.ChronoUnit.MILLIS;
+
+/**
+ * Schedules a large number of periodic tasks and measures the time until all of them are executed the given number of
+ * times. The costs should grow with n log n in the number of tasks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SchedulerBenchmark {
+
+    @Param({"10000", "100000"})
+    private int taskCount;
+
+    @Param({"5"})
+    private int executionsPerTask;
+
+    private ExecutorService executor;
+
+    private SchedulerImpl scheduler;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() + 1);
+        scheduler = new SchedulerImpl(executor);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void schedulePeriodicTasks() throws Exception {
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[taskCount];
+        for (int i = 0; i < taskCount; i++) {
+            final int[] executions = new int[1];
+            final long period = 1 + i % 10;
+            final Trigger trigger = t -> ++executions[0] < executionsPerTask ? Optional.of(LocalDateTime.now().plus(period, MILLIS)) : Optional.empty();
+            futures[i] = scheduler.schedule(() -> {}, trigger);
+        }
+        CompletableFuture.allOf(futures).get();
+    }
+}
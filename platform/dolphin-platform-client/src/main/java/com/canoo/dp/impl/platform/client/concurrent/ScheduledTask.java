@@ -31,11 +31,21 @@ public class ScheduledTask {
 
     private final CompletableFuture<Void> completableFuture;
 
+    private final long dueNanos;
+
+    private final long sequence;
+
     public ScheduledTask(final Runnable task, final Trigger trigger, final LocalDateTime scheduledStartDate, final CompletableFuture<Void> completableFuture) {
+        this(task, trigger, scheduledStartDate, completableFuture, System.nanoTime(), 0);
+    }
+
+    public ScheduledTask(final Runnable task, final Trigger trigger, final LocalDateTime scheduledStartDate, final CompletableFuture<Void> completableFuture, final long dueNanos, final long sequence) {
         this.task = Assert.requireNonNull(task, "task");
         this.trigger = Assert.requireNonNull(trigger, "trigger");
         this.scheduledStartDate = Assert.requireNonNull(scheduledStartDate, "scheduledStartDate");
         this.completableFuture = Assert.requireNonNull(completableFuture, "completableFuture");
+        this.dueNanos = dueNanos;
+        this.sequence = sequence;
     }
 
     public CompletableFuture<Void> getCompletableFuture() {
@@ -53,4 +63,20 @@ public class ScheduledTask {
     public LocalDateTime getScheduledStartDate() {
         return scheduledStartDate;
     }
+
+    /**
+     * Returns the {@link System#nanoTime()} based point in time at that the task should be executed
+     * @return the due time in nanos
+     */
+    public long getDueNanos() {
+        return dueNanos;
+    }
+
+    /**
+     * Returns the insertion order of the task. Tasks with the same due time are executed in insertion order.
+     * @return the sequence
+     */
+    public long getSequence() {
+        return sequence;
+    }
 }
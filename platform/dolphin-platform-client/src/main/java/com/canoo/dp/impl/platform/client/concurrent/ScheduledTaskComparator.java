@@ -17,12 +17,17 @@ package com.canoo.dp.impl.platform.client.concurrent;
 
 import java.util.Comparator;
 
+/**
+ * Orders {@link ScheduledTask}s by their due time. Tasks with the same due time are ordered by insertion.
+ */
 public class ScheduledTaskComparator implements Comparator<ScheduledTask> {
 
-
-
     @Override
     public int compare(final ScheduledTask o1, final ScheduledTask o2) {
-        return 0;
+        final int dueComparison = Long.compare(o1.getDueNanos() - o2.getDueNanos(), 0);
+        if (dueComparison != 0) {
+            return dueComparison;
+        }
+        return Long.compare(o1.getSequence(), o2.getSequence());
     }
 }
@@ -21,93 +21,156 @@ import com.canoo.platform.core.concurrent.Trigger;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.PriorityQueue;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * {@link Scheduler} implementation that stores all pending executions in a priority queue ordered by due time. Adding
+ * a task costs O(log n) and the dispatcher thread only wakes up when the next task is due or a task with an earlier
+ * due time was added. A scheduled task can be stopped by cancelling the {@link CompletableFuture} that is returned by
+ * {@link #schedule(Runnable, Trigger)}.
+ */
 public class SchedulerImpl implements Scheduler {
 
+    private static final long MAX_DELAY_NANOS = TimeUnit.DAYS.toNanos(365);
+
     private final Executor executor;
 
-    private final List<ScheduledTask> tasks;
+    private final PriorityQueue<ScheduledTask> tasks;
 
     private final Lock taskLock;
 
     private final Condition taskCondition;
 
-    private final ScheduledTaskComparator comparator;
+    private final AtomicLong sequence;
 
     public SchedulerImpl(final Executor executor) {
         this.executor = Assert.requireNonNull(executor, "executor");
-        this.tasks = new CopyOnWriteArrayList<>();
-        this.comparator = new ScheduledTaskComparator();
+        this.tasks = new PriorityQueue<>(new ScheduledTaskComparator());
         this.taskLock = new ReentrantLock();
         this.taskCondition = taskLock.newCondition();
+        this.sequence = new AtomicLong();
 
-        executor.execute(() -> {
-            while (!Thread.currentThread().isInterrupted()) {
-                taskLock.lock();
-                try {
-                    if(!tasks.isEmpty()) {
-                        tasks.sort(comparator);
-                        final ScheduledTask nextTask = tasks.get(0);
-                        final LocalDateTime now = LocalDateTime.now();
-                        if(nextTask.getScheduledStartDate().isBefore(now) || nextTask.getScheduledStartDate().isEqual(now)) {
-                            tasks.remove(nextTask);
-                            schedule(nextTask);
-                        } else {
-                            try {
-                                taskCondition.awaitNanos(Duration.between(now, nextTask.getScheduledStartDate()).toNanos());
-                            } catch (InterruptedException e) {
-                                e.printStackTrace();
-                            }
-                        }
-                    }
-                } finally {
-                    taskLock.unlock();
-                }
-            }
-        });
+        executor.execute(this::dispatch);
     }
 
-    private CompletableFuture<Void> schedule( final ScheduledTask task) {
-        Assert.requireNonNull(task, "task");
-        return schedule(task.getTask(), task.getTrigger(), task.getScheduledStartDate(), task.getCompletableFuture());
+    private void dispatch() {
+        while (!Thread.currentThread().isInterrupted()) {
+            final ScheduledTask nextTask;
+            taskLock.lock();
+            try {
+                final ScheduledTask head = tasks.peek();
+                if (head == null) {
+                    taskCondition.await();
+                    continue;
+                }
+                if (head.getCompletableFuture().isDone()) {
+                    tasks.poll();
+                    continue;
+                }
+                final long delay = head.getDueNanos() - System.nanoTime();
+                if (delay > 0) {
+                    taskCondition.awaitNanos(delay);
+                    continue;
+                }
+                nextTask = tasks.poll();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                taskLock.unlock();
+            }
+            run(nextTask.getTask(), nextTask.getTrigger(), nextTask.getScheduledStartDate(), nextTask.getCompletableFuture());
+        }
     }
 
-    private CompletableFuture<Void> schedule(final Runnable task, final Trigger trigger, final LocalDateTime scheduledStartTime, final CompletableFuture<Void> completableFuture) {
+    private CompletableFuture<Void> run(final Runnable task, final Trigger trigger, final LocalDateTime scheduledStartTime, final CompletableFuture<Void> completableFuture) {
         Assert.requireNonNull(task, "task");
         Assert.requireNonNull(trigger, "trigger");
-        Assert.requireNonNull(trigger, "completableFuture");
+        Assert.requireNonNull(completableFuture, "completableFuture");
         executor.execute(() -> {
-            final LocalDateTime startTime = LocalDateTime.now();
-            task.run();
-            final LocalDateTime endTime = LocalDateTime.now();
-            final LocalDateTime nextTime = trigger.nextExecutionTime(new TaskResultImpl(scheduledStartTime, startTime, endTime))
-                    .orElse(null);
-            if(nextTime == null) {
-                completableFuture.complete(null);
-            } else {
-                final ScheduledTask scheduledTask = new ScheduledTask(task, trigger, nextTime, completableFuture);
-                taskLock.lock();
-                try {
-                    tasks.add(scheduledTask);
-                    taskCondition.signal();
-                } finally {
-                    taskLock.unlock();
+            if (completableFuture.isDone()) {
+                return;
+            }
+            try {
+                final LocalDateTime startTime = LocalDateTime.now();
+                task.run();
+                final LocalDateTime endTime = LocalDateTime.now();
+                final LocalDateTime nextTime = trigger.nextExecutionTime(new TaskResultImpl(scheduledStartTime, startTime, endTime))
+                        .orElse(null);
+                if (nextTime == null) {
+                    completableFuture.complete(null);
+                } else if (!completableFuture.isDone()) {
+                    add(new ScheduledTask(task, trigger, nextTime, completableFuture, toDueNanos(nextTime), sequence.incrementAndGet()));
                 }
+            } catch (final Exception e) {
+                completableFuture.completeExceptionally(e);
             }
         });
         return completableFuture;
     }
 
+    private void add(final ScheduledTask scheduledTask) {
+        taskLock.lock();
+        try {
+            tasks.add(scheduledTask);
+            if (tasks.peek() == scheduledTask) {
+                taskCondition.signal();
+            }
+        } finally {
+            taskLock.unlock();
+        }
+    }
+
+    private long toDueNanos(final LocalDateTime time) {
+        final long now = System.nanoTime();
+        final Duration delay = Duration.between(LocalDateTime.now(), time);
+        if (delay.isNegative()) {
+            return now;
+        }
+        if (delay.getSeconds() >= TimeUnit.NANOSECONDS.toSeconds(MAX_DELAY_NANOS)) {
+            return now + MAX_DELAY_NANOS;
+        }
+        return now + delay.toNanos();
+    }
+
+    private void remove(final CompletableFuture<Void> completableFuture) {
+        taskLock.lock();
+        try {
+            tasks.removeIf(t -> t.getCompletableFuture() == completableFuture);
+        } finally {
+            taskLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of executions that are currently waiting for their due time.
+     * @return the number of pending executions
+     */
+    public int getPendingTaskCount() {
+        taskLock.lock();
+        try {
+            return tasks.size();
+        } finally {
+            taskLock.unlock();
+        }
+    }
+
     @Override
     public CompletableFuture<Void> schedule(final Runnable task, final Trigger trigger) {
-        return schedule(task, trigger, LocalDateTime.now(), new CompletableFuture<>());
+        final CompletableFuture<Void> completableFuture = new CompletableFuture<>();
+        completableFuture.whenComplete((r, e) -> {
+            if (completableFuture.isCancelled()) {
+                remove(completableFuture);
+            }
+        });
+        return run(task, trigger, LocalDateTime.now(), completableFuture);
     }
 
     @Override
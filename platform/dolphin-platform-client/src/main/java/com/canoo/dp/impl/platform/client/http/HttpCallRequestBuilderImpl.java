@@ -23,7 +23,8 @@ import com.canoo.platform.core.DolphinRuntimeException;
 import com.canoo.platform.core.http.ByteArrayProvider;
 import com.canoo.platform.core.http.HttpCallRequestBuilder;
 import com.canoo.platform.core.http.HttpCallResponseBuilder;
-import com.canoo.platform.core.http.HttpURLConnectionHandler;
+import com.canoo.platform.core.http.HttpRequestHandler;
+import com.canoo.platform.core.http.HttpResponseHandler;
 import com.google.gson.Gson;
 import org.apiguardian.api.API;
 
@@ -42,15 +43,15 @@ public class HttpCallRequestBuilderImpl implements HttpCallRequestBuilder {
 
     private final Gson gson;
 
-    private final List<HttpURLConnectionHandler> requestHandlers;
+    private final List<HttpRequestHandler> requestHandlers;
 
-    private final List<HttpURLConnectionHandler> responseHandlers;
+    private final List<HttpResponseHandler> responseHandlers;
 
     private final ClientConfiguration configuration;
 
     private final AtomicBoolean done = new AtomicBoolean(false);
 
-    public HttpCallRequestBuilderImpl(final HttpClientConnection connection, final Gson gson, final List<HttpURLConnectionHandler> requestHandlers, final List<HttpURLConnectionHandler> responseHandlers, ClientConfiguration configuration) {
+    public HttpCallRequestBuilderImpl(final HttpClientConnection connection, final Gson gson, final List<HttpRequestHandler> requestHandlers, final List<HttpResponseHandler> responseHandlers, ClientConfiguration configuration) {
         this.connection = Assert.requireNonNull(connection, "connection");
         this.gson = Assert.requireNonNull(gson, "gson");
         this.configuration = configuration;
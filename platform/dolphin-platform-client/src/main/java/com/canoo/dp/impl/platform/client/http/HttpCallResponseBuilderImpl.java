@@ -27,8 +27,9 @@ import com.canoo.platform.core.http.ConnectionException;
 import com.canoo.platform.core.http.HttpCallResponseBuilder;
 import com.canoo.platform.core.http.HttpException;
 import com.canoo.platform.core.http.HttpHeader;
+import com.canoo.platform.core.http.HttpRequestHandler;
 import com.canoo.platform.core.http.HttpResponse;
-import com.canoo.platform.core.http.HttpURLConnectionHandler;
+import com.canoo.platform.core.http.HttpResponseHandler;
 import com.google.gson.Gson;
 import org.apiguardian.api.API;
 
@@ -53,15 +54,15 @@ public class HttpCallResponseBuilderImpl implements HttpCallResponseBuilder {
 
     private final AtomicBoolean handled = new AtomicBoolean(false);
 
-    private final List<HttpURLConnectionHandler> requestHandlers;
+    private final List<HttpRequestHandler> requestHandlers;
 
-    private final List<HttpURLConnectionHandler> responseHandlers;
+    private final List<HttpResponseHandler> responseHandlers;
 
     private final ByteArrayProvider dataProvider;
 
     private final ClientConfiguration configuration;
 
-    public HttpCallResponseBuilderImpl(final HttpClientConnection connection, final ByteArrayProvider dataProvider, final Gson gson, final List<HttpURLConnectionHandler> requestHandlers, final List<HttpURLConnectionHandler> responseHandlers, final ClientConfiguration configuration) {
+    public HttpCallResponseBuilderImpl(final HttpClientConnection connection, final ByteArrayProvider dataProvider, final Gson gson, final List<HttpRequestHandler> requestHandlers, final List<HttpResponseHandler> responseHandlers, final ClientConfiguration configuration) {
         this.connection = Assert.requireNonNull(connection, "connection");
         this.dataProvider = Assert.requireNonNull(dataProvider, "dataProvider");
         this.gson = Assert.requireNonNull(gson, "gson");
@@ -153,7 +154,8 @@ public class HttpCallResponseBuilderImpl implements HttpCallResponseBuilder {
         }
         handled.set(true);
 
-        requestHandlers.forEach(h -> h.handle(connection.getConnection()));
+        final HttpURLConnectionContext context = new HttpURLConnectionContext(connection);
+        requestHandlers.forEach(h -> h.handle(context));
         final byte[] rawBytes = dataProvider.get();
         try {
             connection.writeRequestContent(rawBytes);
@@ -163,7 +165,7 @@ public class HttpCallResponseBuilderImpl implements HttpCallResponseBuilder {
 
         try {
             int responseCode = connection.readResponseCode();
-            responseHandlers.forEach(h -> h.handle(connection.getConnection()));
+            responseHandlers.forEach(h -> h.handle(context));
             final List<HttpHeader> headers = connection.getResponseHeaders();
             return new HttpResponseImpl<>(headers, responseCode, connection.getContentStream(), connection.getContentSize());
         } catch (IOException e) {
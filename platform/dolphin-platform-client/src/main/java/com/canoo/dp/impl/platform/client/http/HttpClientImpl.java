@@ -22,6 +22,8 @@ import com.canoo.platform.client.ClientConfiguration;
 import com.canoo.platform.core.http.HttpClient;
 import com.canoo.platform.core.http.HttpCallRequestBuilder;
 import com.canoo.platform.core.http.HttpURLConnectionFactory;
+import com.canoo.platform.core.http.HttpRequestHandler;
+import com.canoo.platform.core.http.HttpResponseHandler;
 import com.canoo.platform.core.http.HttpURLConnectionHandler;
 import com.canoo.platform.core.http.RequestMethod;
 import com.canoo.platform.core.DolphinRuntimeException;
@@ -42,9 +44,9 @@ public class HttpClientImpl implements HttpClient {
 
     private final HttpURLConnectionFactory httpURLConnectionFactory;
 
-    private final List<HttpURLConnectionHandler> requestHandlers = new CopyOnWriteArrayList<>();
+    private final List<HttpRequestHandler> requestHandlers = new CopyOnWriteArrayList<>();
 
-    private final List<HttpURLConnectionHandler> responseHandlers = new CopyOnWriteArrayList<>();
+    private final List<HttpResponseHandler> responseHandlers = new CopyOnWriteArrayList<>();
 
     private final ClientConfiguration configuration;
 
@@ -60,11 +62,23 @@ public class HttpClientImpl implements HttpClient {
 
     public void addRequestHandler(final HttpURLConnectionHandler handler) {
         Assert.requireNonNull(handler, "handler");
-        requestHandlers.add(handler);
+        requestHandlers.add(request -> handler.handle(((HttpURLConnectionContext) request).getConnection()));
     }
 
     @Override
     public void addResponseHandler(final HttpURLConnectionHandler handler) {
+        Assert.requireNonNull(handler, "handler");
+        responseHandlers.add(response -> handler.handle(((HttpURLConnectionContext) response).getConnection()));
+    }
+
+    @Override
+    public void addRequestHandler(final HttpRequestHandler handler) {
+        Assert.requireNonNull(handler, "handler");
+        requestHandlers.add(handler);
+    }
+
+    @Override
+    public void addResponseHandler(final HttpResponseHandler handler) {
         Assert.requireNonNull(handler, "handler");
         responseHandlers.add(handler);
     }
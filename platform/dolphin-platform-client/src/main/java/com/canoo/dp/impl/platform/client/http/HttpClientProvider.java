@@ -20,6 +20,8 @@ import com.canoo.platform.client.ClientConfiguration;
 import com.canoo.platform.client.PlatformClient;
 import com.canoo.platform.core.http.HttpClient;
 import com.canoo.platform.core.http.HttpURLConnectionFactory;
+import com.canoo.platform.core.http.spi.HttpRequestHandlerProvider;
+import com.canoo.platform.core.http.spi.HttpResponseHandlerProvider;
 import com.canoo.platform.core.http.spi.RequestHandlerProvider;
 import com.canoo.platform.core.http.spi.ResponseHandlerProvider;
 import com.google.gson.Gson;
@@ -33,15 +35,40 @@ import static org.apiguardian.api.API.Status.INTERNAL;
 @API(since = "0.x", status = INTERNAL)
 public class HttpClientProvider extends AbstractServiceProvider<HttpClient> {
 
+    public static final String JDK_HTTP_CLIENT_ACTIVE = "platform.http.jdkClientActive";
+
+    public static final boolean JDK_HTTP_CLIENT_ACTIVE_DEFAULT_VALUE = false;
+
     public HttpClientProvider() {
         super(HttpClient.class);
     }
 
+    /**
+     * The client is not used if the {@code java.net.http} based client of the dolphin-platform-client-jdk-http
+     * module is activated by {@link #JDK_HTTP_CLIENT_ACTIVE}.
+     */
+    @Override
+    public boolean isActive(final ClientConfiguration configuration) {
+        return !configuration.getBooleanProperty(JDK_HTTP_CLIENT_ACTIVE, JDK_HTTP_CLIENT_ACTIVE_DEFAULT_VALUE);
+    }
+
     @Override
     protected HttpClient createService(ClientConfiguration configuration) {
         final HttpURLConnectionFactory connectionFactory = configuration.getHttpURLConnectionFactory();
         final HttpClientImpl client = new HttpClientImpl(PlatformClient.getService(Gson.class), connectionFactory, configuration);
 
+        final ServiceLoader<HttpRequestHandlerProvider> httpRequestLoader = ServiceLoader.load(HttpRequestHandlerProvider.class);
+        final Iterator<HttpRequestHandlerProvider> httpRequestIterator = httpRequestLoader.iterator();
+        while (httpRequestIterator.hasNext()) {
+            client.addRequestHandler(httpRequestIterator.next().getHandler(configuration));
+        }
+
+        final ServiceLoader<HttpResponseHandlerProvider> httpResponseLoader = ServiceLoader.load(HttpResponseHandlerProvider.class);
+        final Iterator<HttpResponseHandlerProvider> httpResponseIterator = httpResponseLoader.iterator();
+        while (httpResponseIterator.hasNext()) {
+            client.addResponseHandler(httpResponseIterator.next().getHandler(configuration));
+        }
+
         final ServiceLoader<RequestHandlerProvider> requestLoader = ServiceLoader.load(RequestHandlerProvider.class);
         final Iterator<RequestHandlerProvider> requestIterator = requestLoader.iterator();
         while (requestIterator.hasNext()) {
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.platform.client.http;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.platform.core.http.HttpClientConnection;
+import com.canoo.platform.core.DolphinRuntimeException;
+import com.canoo.platform.core.http.HttpHeader;
+import com.canoo.platform.core.http.HttpRequestContext;
+import com.canoo.platform.core.http.HttpResponseContext;
+import com.canoo.platform.core.http.RequestMethod;
+import org.apiguardian.api.API;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.List;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Provides the request and the response of a {@link HttpClientConnection} to the handlers of the
+ * {@link HttpClientImpl}.
+ */
+@API(since = "1.0.0", status = INTERNAL)
+public class HttpURLConnectionContext implements HttpRequestContext, HttpResponseContext {
+
+    private final HttpClientConnection connection;
+
+    public HttpURLConnectionContext(final HttpClientConnection connection) {
+        this.connection = Assert.requireNonNull(connection, "connection");
+    }
+
+    @Override
+    public URI getUrl() {
+        try {
+            return connection.getConnection().getURL().toURI();
+        } catch (final URISyntaxException e) {
+            throw new DolphinRuntimeException("Can not convert url " + connection.getConnection().getURL(), e);
+        }
+    }
+
+    @Override
+    public RequestMethod getMethod() {
+        return connection.getMethod();
+    }
+
+    @Override
+    public void setHeader(final String name, final String content) {
+        connection.addRequestHeader(name, content);
+    }
+
+    @Override
+    public int getStatusCode() {
+        try {
+            return connection.readResponseCode();
+        } catch (final IOException e) {
+            throw new DolphinRuntimeException("Can not read response code", e);
+        }
+    }
+
+    @Override
+    public List<HttpHeader> getHeaders() {
+        return connection.getResponseHeaders();
+    }
+
+    public HttpURLConnection getConnection() {
+        return connection.getConnection();
+    }
+}
@@ -16,17 +16,14 @@
 package com.canoo.dp.impl.platform.client.http.cookie;
 
 import com.canoo.dp.impl.platform.core.Assert;
-import com.canoo.platform.core.http.HttpURLConnectionHandler;
-import com.canoo.platform.core.DolphinRuntimeException;
+import com.canoo.platform.core.http.HttpRequestContext;
+import com.canoo.platform.core.http.HttpRequestHandler;
 import org.apiguardian.api.API;
 
-import java.net.HttpURLConnection;
-import java.net.URISyntaxException;
-
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 @API(since = "0.x", status = INTERNAL)
-public class CookieRequestHandler implements HttpURLConnectionHandler {
+public class CookieRequestHandler implements HttpRequestHandler {
 
     private final HttpClientCookieHandler clientCookieHandler;
 
@@ -35,12 +32,8 @@ public class CookieRequestHandler implements HttpURLConnectionHandler {
     }
 
     @Override
-    public void handle(final HttpURLConnection connection) {
-        Assert.requireNonNull(connection, "connection");
-        try {
-            clientCookieHandler.setRequestCookies(connection);
-        } catch (URISyntaxException e) {
-            throw new DolphinRuntimeException("Can not set cookies", e);
-        }
+    public void handle(final HttpRequestContext request) {
+        Assert.requireNonNull(request, "request");
+        clientCookieHandler.setRequestCookies(request);
     }
 }
@@ -16,17 +16,14 @@
 package com.canoo.dp.impl.platform.client.http.cookie;
 
 import com.canoo.dp.impl.platform.core.Assert;
-import com.canoo.platform.core.http.HttpURLConnectionHandler;
-import com.canoo.platform.core.DolphinRuntimeException;
+import com.canoo.platform.core.http.HttpResponseContext;
+import com.canoo.platform.core.http.HttpResponseHandler;
 import org.apiguardian.api.API;
 
-import java.net.HttpURLConnection;
-import java.net.URISyntaxException;
-
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 @API(since = "0.x", status = INTERNAL)
-public class CookieResponseHandler implements HttpURLConnectionHandler {
+public class CookieResponseHandler implements HttpResponseHandler {
 
     private final HttpClientCookieHandler clientCookieHandler;
 
@@ -35,12 +32,8 @@ public class CookieResponseHandler implements HttpURLConnectionHandler {
     }
 
     @Override
-    public void handle(final HttpURLConnection connection) {
-        Assert.requireNonNull(connection, "connection");
-        try {
-            clientCookieHandler.updateCookiesFromResponse(connection);
-        } catch (final URISyntaxException e) {
-            throw new DolphinRuntimeException("Can not read cookies from response", e);
-        }
+    public void handle(final HttpResponseContext response) {
+        Assert.requireNonNull(response, "response");
+        clientCookieHandler.updateCookiesFromResponse(response);
     }
 }
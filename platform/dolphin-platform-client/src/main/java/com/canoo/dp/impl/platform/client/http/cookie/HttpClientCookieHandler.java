@@ -17,17 +17,16 @@ package com.canoo.dp.impl.platform.client.http.cookie;
 
 import com.canoo.dp.impl.platform.core.Assert;
 import com.canoo.platform.core.DolphinRuntimeException;
+import com.canoo.platform.core.http.HttpRequestContext;
+import com.canoo.platform.core.http.HttpResponseContext;
 import org.apiguardian.api.API;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.CookieStore;
 import java.net.HttpCookie;
-import java.net.HttpURLConnection;
-import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 import static com.canoo.dp.impl.platform.core.http.HttpHeaderConstants.COOKIE_HEADER;
 import static com.canoo.dp.impl.platform.core.http.HttpHeaderConstants.SET_COOKIE_HEADER;
@@ -44,13 +43,12 @@ public class HttpClientCookieHandler {
         this.cookieStore = Assert.requireNonNull(cookieStore, "cookieStore");
     }
 
-    public void updateCookiesFromResponse(final HttpURLConnection connection) throws URISyntaxException {
-        Assert.requireNonNull(connection, "connection");
+    public void updateCookiesFromResponse(final HttpResponseContext response) {
+        Assert.requireNonNull(response, "response");
         LOG.debug("adding cookies from response to cookie store");
 
-        final Map<String, List<String>> headerFields = connection.getHeaderFields();
-        final List<String> cookiesHeader = headerFields.get(SET_COOKIE_HEADER);
-        if (cookiesHeader != null) {
+        final List<String> cookiesHeader = response.getHeaderContents(SET_COOKIE_HEADER);
+        if (!cookiesHeader.isEmpty()) {
             LOG.debug("found '{}' header field", SET_COOKIE_HEADER);
             for (String cookie : cookiesHeader) {
                 if (cookie == null || cookie.isEmpty()) {
@@ -66,26 +64,26 @@ public class HttpClientCookieHandler {
                 LOG.debug("Found {} http cookies in header", cookies.size());
                 for (final HttpCookie httpCookie : cookies) {
                     LOG.trace("Found Cookie '{}' for Domain '{}' at Ports '{}' with Path '{}", httpCookie.getValue(), httpCookie.getDomain(), httpCookie.getPortlist(), httpCookie.getPath());
-                    cookieStore.add(connection.getURL().toURI(), httpCookie);
+                    cookieStore.add(response.getUrl(), httpCookie);
                 }
 
             }
         }
     }
 
-    public void setRequestCookies(final HttpURLConnection connection) throws URISyntaxException {
-        Assert.requireNonNull(connection, "connection");
+    public void setRequestCookies(final HttpRequestContext request) {
+        Assert.requireNonNull(request, "request");
         LOG.debug("adding cookies from cookie store to request");
         if (cookieStore.getCookies().size() > 0) {
             String cookieValue = "";
-            for (final HttpCookie cookie : cookieStore.get(connection.getURL().toURI())) {
+            for (final HttpCookie cookie : cookieStore.get(request.getUrl())) {
                 LOG.trace("Cookie '{}' is for Domain '{}' at Ports '{}' with Path '{}", cookie.getValue(), cookie.getDomain(), cookie.getPortlist(), cookie.getPath());
                 cookieValue = cookieValue + cookie + ";";
             }
             if (!cookieValue.isEmpty()) {
                 cookieValue = cookieValue.substring(0, cookieValue.length());
                 LOG.debug("Adding '{}' header to request. Content: {}", SET_COOKIE_HEADER, cookieValue);
-                connection.setRequestProperty(COOKIE_HEADER, cookieValue);
+                request.setHeader(COOKIE_HEADER, cookieValue);
             }
         }
     }
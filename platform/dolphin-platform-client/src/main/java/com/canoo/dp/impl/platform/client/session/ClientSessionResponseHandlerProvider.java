@@ -18,17 +18,17 @@ package com.canoo.dp.impl.platform.client.session;
 import com.canoo.platform.client.PlatformClient;
 import com.canoo.platform.client.session.ClientSessionStore;
 import com.canoo.platform.core.PlatformConfiguration;
-import com.canoo.platform.core.http.HttpURLConnectionHandler;
-import com.canoo.platform.core.http.spi.ResponseHandlerProvider;
+import com.canoo.platform.core.http.HttpResponseHandler;
+import com.canoo.platform.core.http.spi.HttpResponseHandlerProvider;
 import org.apiguardian.api.API;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 @API(since = "0.x", status = INTERNAL)
-public class ClientSessionResponseHandlerProvider implements ResponseHandlerProvider {
+public class ClientSessionResponseHandlerProvider implements HttpResponseHandlerProvider {
 
     @Override
-    public HttpURLConnectionHandler getHandler(PlatformConfiguration configuration) {
+    public HttpResponseHandler getHandler(PlatformConfiguration configuration) {
         return new ClientSessionResponseHandler(PlatformClient.getService(ClientSessionStore.class));
     }
 }
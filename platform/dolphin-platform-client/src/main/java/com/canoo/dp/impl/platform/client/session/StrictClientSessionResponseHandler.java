@@ -17,16 +17,16 @@ package com.canoo.dp.impl.platform.client.session;
 
 import com.canoo.dp.impl.platform.core.Assert;
 import com.canoo.dp.impl.platform.core.PlatformConstants;
-import com.canoo.platform.core.http.HttpURLConnectionHandler;
+import com.canoo.platform.core.http.HttpResponseContext;
+import com.canoo.platform.core.http.HttpResponseHandler;
 import org.apiguardian.api.API;
 
-import java.net.HttpURLConnection;
 import java.net.URI;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 @API(since = "0.x", status = INTERNAL)
-public class StrictClientSessionResponseHandler implements HttpURLConnectionHandler {
+public class StrictClientSessionResponseHandler implements HttpResponseHandler {
 
     private final URI url;
 
@@ -34,11 +34,11 @@ public class StrictClientSessionResponseHandler implements HttpURLConnectionHand
         this.url = Assert.requireNonNull(url, "url");
     }
     @Override
-    public void handle(final HttpURLConnection response) {
+    public void handle(final HttpResponseContext response) {
         Assert.requireNonNull(response, "response");
-        if(this.url.equals(response.getURL())) {
-            String clientIdInHeader = response.getHeaderField(PlatformConstants.CLIENT_ID_HTTP_HEADER_NAME);
-            if (clientIdInHeader == null) {
+        // error responses of the server (like a session timeout) do not contain a client id
+        if(this.url.equals(response.getUrl()) && response.getStatusCode() < 300) {
+            if (response.getHeaderContents(PlatformConstants.CLIENT_ID_HTTP_HEADER_NAME).isEmpty()) {
                 throw new RuntimeException("No client id found in response");
             }
         }
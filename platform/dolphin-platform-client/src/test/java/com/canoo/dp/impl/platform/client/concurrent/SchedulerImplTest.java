@@ -0,0 +1,127 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.platform.client.concurrent;
+
+import com.canoo.platform.core.concurrent.Trigger;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.time.temporal.ChronoUnit.MILLIS;
+
+public class SchedulerImplTest {
+
+    private ExecutorService executor;
+
+    private SchedulerImpl scheduler;
+
+    @BeforeMethod
+    public void setUp() {
+        executor = Executors.newCachedThreadPool();
+        scheduler = new SchedulerImpl(executor);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testRepeatedExecution() throws Exception {
+        //given:
+        final AtomicInteger counter = new AtomicInteger();
+        final Trigger trigger = t -> counter.get() < 5 ? Optional.of(LocalDateTime.now().plus(10, MILLIS)) : Optional.empty();
+
+        //when:
+        final CompletableFuture<Void> future = scheduler.schedule(counter::incrementAndGet, trigger);
+        future.get(5, TimeUnit.SECONDS);
+
+        //then:
+        Assert.assertEquals(counter.get(), 5);
+        Assert.assertEquals(scheduler.getPendingTaskCount(), 0);
+    }
+
+    @Test
+    public void testExecutionOrder() throws Exception {
+        //given:
+        final List<Integer> order = new CopyOnWriteArrayList<>();
+        final CountDownLatch latch = new CountDownLatch(3);
+        final LocalDateTime start = LocalDateTime.now();
+
+        //when:
+        for (final int delay : new int[]{300, 100, 200}) {
+            final AtomicInteger runs = new AtomicInteger();
+            scheduler.schedule(() -> {
+                if (runs.getAndIncrement() > 0) {
+                    order.add(delay);
+                    latch.countDown();
+                }
+            }, t -> runs.get() > 1 ? Optional.empty() : Optional.of(start.plus(delay, MILLIS)));
+        }
+
+        //then:
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(order.size(), 3);
+        Assert.assertEquals(order.get(0).intValue(), 100);
+        Assert.assertEquals(order.get(1).intValue(), 200);
+        Assert.assertEquals(order.get(2).intValue(), 300);
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        //given:
+        final AtomicInteger counter = new AtomicInteger();
+        final CompletableFuture<Void> future = scheduler.schedule(counter::incrementAndGet, t -> Optional.of(LocalDateTime.now().plus(200, MILLIS)));
+        Thread.sleep(50);
+        Assert.assertEquals(counter.get(), 1);
+
+        //when:
+        future.cancel(false);
+        Thread.sleep(400);
+
+        //then:
+        Assert.assertEquals(counter.get(), 1);
+        Assert.assertEquals(scheduler.getPendingTaskCount(), 0);
+    }
+
+    @Test
+    public void testExceptionCompletesFuture() throws Exception {
+        //when:
+        final CompletableFuture<Void> future = scheduler.schedule(() -> {
+            throw new IllegalStateException("fail");
+        }, Trigger.IN_100_MS);
+
+        //then:
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            Assert.fail("Exception expected");
+        } catch (final java.util.concurrent.ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+}
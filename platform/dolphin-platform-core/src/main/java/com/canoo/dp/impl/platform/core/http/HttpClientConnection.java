@@ -134,6 +134,10 @@ public class HttpClientConnection {
         return connection;
     }
 
+    public RequestMethod getMethod() {
+        return method;
+    }
+
     public long getContentSize() {
         return connection.getContentLengthLong();
     }
@@ -27,6 +27,14 @@ public interface HttpHeaderConstants {
 
     String CONTENT_LENGHT_HEADER = "Content-Length";
 
+    String CONTENT_ENCODING_HEADER = "Content-Encoding";
+
+    String GZIP_ENCODING = "gzip";
+
+    String ACCEPT_ENCODING_HEADER = "Accept-Encoding";
+
+    String VARY_HEADER = "Vary";
+
     String ACCEPT_HEADER = "Accept";
 
     String COOKIE_HEADER = "Cookie";
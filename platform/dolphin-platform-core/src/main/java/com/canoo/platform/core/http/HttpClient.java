@@ -31,6 +31,18 @@ public interface HttpClient {
     @Deprecated
     void addResponseHandler(HttpURLConnectionHandler handler);
 
+    /**
+     * Adds a handler that is called for each request of the client before the request is sent.
+     * @param handler the handler
+     */
+    void addRequestHandler(HttpRequestHandler handler);
+
+    /**
+     * Adds a handler that is called for each response of the client once the headers of the response were received.
+     * @param handler the handler
+     */
+    void addResponseHandler(HttpResponseHandler handler);
+
     @Deprecated
     default HttpCallRequestBuilder request(final URI url) {
         return get(url);
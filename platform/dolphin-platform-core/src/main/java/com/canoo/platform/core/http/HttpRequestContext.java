@@ -0,0 +1,48 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.platform.core.http;
+
+import org.apiguardian.api.API;
+
+import java.net.URI;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * Defines a HTTP request that is about to be sent. The request can be changed by a {@link HttpRequestHandler}.
+ */
+@API(since = "1.0.0", status = EXPERIMENTAL)
+public interface HttpRequestContext {
+
+    /**
+     * Returns the url of the request
+     * @return the url
+     */
+    URI getUrl();
+
+    /**
+     * Returns the method of the request
+     * @return the method
+     */
+    RequestMethod getMethod();
+
+    /**
+     * Sets a header of the request. A header with the same name that was set before will be replaced.
+     * @param name the name of the header
+     * @param content the content of the header
+     */
+    void setHeader(String name, String content);
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.platform.core.http;
+
+import org.apiguardian.api.API;
+
+import java.net.URI;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * Defines a received HTTP response before its content is read. The response is passed to all
+ * {@link HttpResponseHandler} instances.
+ */
+@API(since = "1.0.0", status = EXPERIMENTAL)
+public interface HttpResponseContext {
+
+    /**
+     * Returns the url of the response. If the request was redirected this is the url of the redirect.
+     * @return the url
+     */
+    URI getUrl();
+
+    /**
+     * Returns the status code of the response
+     * @return the status code
+     */
+    int getStatusCode();
+
+    /**
+     * Returns all headers of the response
+     * @return the headers
+     */
+    List<HttpHeader> getHeaders();
+
+    /**
+     * Returns the contents of all headers with the given name. The name is not case sensitive.
+     * @param name the name of the header
+     * @return the contents
+     */
+    default List<String> getHeaderContents(final String name) {
+        return getHeaders().stream()
+                .filter(h -> name.equalsIgnoreCase(h.getName()))
+                .map(HttpHeader::getContent)
+                .collect(Collectors.toList());
+    }
+}
@@ -21,6 +21,11 @@ import org.apiguardian.api.API;
 
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 
+/**
+ * @deprecated handlers of this type are only supported by the {@link java.net.HttpURLConnection} based client. Use
+ * {@link HttpRequestHandlerProvider} instead.
+ */
+@Deprecated
 @API(since = "0.x", status = EXPERIMENTAL)
 @FunctionalInterface
 public interface RequestHandlerProvider {
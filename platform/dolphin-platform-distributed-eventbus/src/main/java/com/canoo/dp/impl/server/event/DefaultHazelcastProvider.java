@@ -15,6 +15,7 @@
  */
 package com.canoo.dp.impl.server.event;
 
+import com.canoo.platform.core.DolphinRuntimeException;
 import com.hazelcast.client.HazelcastClient;
 import com.hazelcast.client.config.ClientConfig;
 import com.hazelcast.config.SerializerConfig;
@@ -46,6 +47,7 @@ public class DefaultHazelcastProvider implements HazelcastProvider {
             LOG.debug("Hazelcast server name: {}", serverName);
             LOG.debug("Hazelcast server port: {}", serverPort);
             LOG.debug("Hazelcast group name: {}", groupName);
+            LOG.debug("Hazelcast event spec version: {}", configuration.getEventSpecVersion());
 
             final ClientConfig clientConfig = new ClientConfig();
             clientConfig.getNetworkConfig().setConnectionAttemptLimit(configuration.getConnectionAttemptLimit());
@@ -56,7 +58,7 @@ public class DefaultHazelcastProvider implements HazelcastProvider {
             clientConfig.setProperty(LOGGER_PROPERTY_NAME, LOGGER_PROPERTY_SLF4J_TYPE);
 
             final SerializerConfig dolphinEventSerializerConfig = new SerializerConfig().
-                    setImplementation(new EventStreamSerializer()).setTypeClass(DolphinEvent.class);
+                    setImplementation(new EventStreamSerializer(configuration.getEventSpecVersion(), createPayloadSerializer(configuration))).setTypeClass(DolphinEvent.class);
 
             clientConfig.getSerializationConfig().getSerializerConfigs().add(dolphinEventSerializerConfig);
 
@@ -65,4 +67,14 @@ public class DefaultHazelcastProvider implements HazelcastProvider {
         }
         return hazelcastInstance;
     }
+
+    private EventPayloadSerializer createPayloadSerializer(final HazelcastConfig configuration) {
+        final String className = configuration.getEventPayloadSerializer();
+        try {
+            final Class<?> serializerClass = Class.forName(className, true, Thread.currentThread().getContextClassLoader());
+            return (EventPayloadSerializer) serializerClass.newInstance();
+        } catch (final Exception e) {
+            throw new DolphinRuntimeException("Can not create event payload serializer of type " + className, e);
+        }
+    }
 }
@@ -26,6 +26,8 @@ public interface DistributedEventConstants {
 
     String SPEC_1_0 = "1.0";
 
+    String SPEC_2_0 = "2.0";
+
     int TYPE_ID = 4711;
 
     String DATA_PARAM = "data";
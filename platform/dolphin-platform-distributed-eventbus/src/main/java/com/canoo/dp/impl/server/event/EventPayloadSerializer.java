@@ -0,0 +1,50 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.event;
+
+import org.apiguardian.api.API;
+
+import java.io.IOException;
+import java.io.Serializable;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Converts the data and the metadata values of a {@link DolphinEvent} to bytes for the binary event format
+ * (see {@link DistributedEventConstants#SPEC_2_0}). All nodes of a cluster must use the same implementation. An
+ * implementation must provide a public default constructor to be configured by
+ * {@link DistributedEventBusConfigProvider#HAZELCAST_EVENT_PAYLOAD_SERIALIZER}.
+ */
+@API(since = "1.0.0", status = INTERNAL)
+public interface EventPayloadSerializer {
+
+    /**
+     * Serializes the given value
+     * @param value the value, never {@code null}
+     * @return the serialized value
+     * @throws IOException if the value can not be serialized
+     */
+    byte[] serialize(Serializable value) throws IOException;
+
+    /**
+     * Deserializes the given bytes
+     * @param data the bytes, never {@code null}
+     * @return the value
+     * @throws IOException if the value can not be deserialized
+     */
+    Serializable deserialize(byte[] data) throws IOException;
+
+}
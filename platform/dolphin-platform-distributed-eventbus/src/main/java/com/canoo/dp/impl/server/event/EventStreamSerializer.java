@@ -41,28 +41,77 @@ import static com.canoo.dp.impl.server.event.DistributedEventConstants.METADATA_
 import static com.canoo.dp.impl.server.event.DistributedEventConstants.METADATA_PARAM;
 import static com.canoo.dp.impl.server.event.DistributedEventConstants.METADATA_VALUE_PARAM;
 import static com.canoo.dp.impl.server.event.DistributedEventConstants.SPEC_1_0;
+import static com.canoo.dp.impl.server.event.DistributedEventConstants.SPEC_2_0;
 import static com.canoo.dp.impl.server.event.DistributedEventConstants.SPEC_VERSION_PARAM;
 import static com.canoo.dp.impl.server.event.DistributedEventConstants.TIMESTAMP_PARAM;
 import static com.canoo.dp.impl.server.event.DistributedEventConstants.TOPIC_PARAM;
 import static com.canoo.dp.impl.server.event.DistributedEventConstants.TYPE_ID;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+/**
+ * Serializer for {@link DolphinEvent} instances that are shared in a Hazelcast cluster. Events are written in the
+ * configured spec version: {@link DistributedEventConstants#SPEC_1_0} writes a JSON document that contains Base64
+ * encoded Java serialized data while {@link DistributedEventConstants#SPEC_2_0} writes a binary format (topic,
+ * timestamp, metadata and raw payload bytes) that is based on an {@link EventPayloadSerializer}. Both formats can always
+ * be read, so nodes of a cluster can be updated one after another before the spec version is switched to
+ * {@link DistributedEventConstants#SPEC_2_0}.
+ */
 @API(since = "1.0.0.RC1", status = INTERNAL)
 public class EventStreamSerializer implements StreamSerializer<DolphinEvent<?>> {
 
     private final Gson gson;
 
-    private EventStreamSerializer(final Gson gson) {
+    private final String specVersion;
+
+    private final EventPayloadSerializer payloadSerializer;
+
+    private EventStreamSerializer(final Gson gson, final String specVersion, final EventPayloadSerializer payloadSerializer) {
         this.gson = Assert.requireNonNull(gson, "gson");
+        this.specVersion = Assert.requireNonNull(specVersion, "specVersion");
+        this.payloadSerializer = Assert.requireNonNull(payloadSerializer, "payloadSerializer");
+        if (!SPEC_1_0.equals(specVersion) && !SPEC_2_0.equals(specVersion)) {
+            throw new IllegalArgumentException("Unknown spec version: " + specVersion);
+        }
+    }
+
+    public EventStreamSerializer(final String specVersion, final EventPayloadSerializer payloadSerializer) {
+        this(new GsonBuilder().serializeNulls().create(), specVersion, payloadSerializer);
     }
 
     public EventStreamSerializer() {
-        this(new GsonBuilder().serializeNulls().create());
+        this(SPEC_1_0, new JavaEventPayloadSerializer());
     }
 
     @Override
     public void write(final ObjectDataOutput out, final DolphinEvent<?> event) throws IOException {
-        out.writeUTF(gson.toJson(convertToJson(event)));
+        if (SPEC_2_0.equals(specVersion)) {
+            writeBinary(out, event);
+        } else {
+            out.writeUTF(gson.toJson(convertToJson(event)));
+        }
+    }
+
+    private void writeBinary(final ObjectDataOutput out, final DolphinEvent<?> event) throws IOException {
+        final MessageEventContext<?> eventContext = event.getMessageEventContext();
+        out.writeUTF(SPEC_2_0);
+        out.writeUTF(eventContext.getTopic().getName());
+        out.writeLong(eventContext.getTimestamp());
+
+        final Map<String, Serializable> metadata = eventContext.getMetadata();
+        out.writeInt(metadata.size());
+        for (final Map.Entry<String, Serializable> entry : metadata.entrySet()) {
+            out.writeUTF(entry.getKey());
+            writePayload(out, entry.getValue());
+        }
+        writePayload(out, event.getData());
+    }
+
+    private void writePayload(final ObjectDataOutput out, final Serializable value) throws IOException {
+        if (value == null) {
+            out.writeByteArray(null);
+        } else {
+            out.writeByteArray(payloadSerializer.serialize(value));
+        }
     }
 
     private JsonObject convertToJson(final DolphinEvent<?> event) throws IOException {
@@ -106,7 +155,45 @@ public class EventStreamSerializer implements StreamSerializer<DolphinEvent<?>>
 
     @Override
     public DolphinEvent<?> read(final ObjectDataInput in) throws IOException {
-        final JsonElement root = new JsonParser().parse(in.readUTF());
+        final String header = in.readUTF();
+        if (SPEC_2_0.equals(header)) {
+            return readBinary(in);
+        }
+        return readJson(header);
+    }
+
+    private DolphinEvent<?> readBinary(final ObjectDataInput in) throws IOException {
+        final Topic<?> topic = new Topic<>(in.readUTF());
+        final long timestamp = in.readLong();
+
+        final int metadataCount = in.readInt();
+        if (metadataCount < 0) {
+            throw new IllegalArgumentException("Input can not be parsed! metadata can not be parsed");
+        }
+        final String[] metadataKeys = new String[metadataCount];
+        final Serializable[] metadataValues = new Serializable[metadataCount];
+        for (int i = 0; i < metadataCount; i++) {
+            metadataKeys[i] = in.readUTF();
+            metadataValues[i] = readPayload(in);
+        }
+
+        final DolphinEvent event = new DolphinEvent(topic, timestamp, readPayload(in));
+        for (int i = 0; i < metadataCount; i++) {
+            event.addMetadata(metadataKeys[i], metadataValues[i]);
+        }
+        return event;
+    }
+
+    private Serializable readPayload(final ObjectDataInput in) throws IOException {
+        final byte[] bytes = in.readByteArray();
+        if (bytes == null) {
+            return null;
+        }
+        return payloadSerializer.deserialize(bytes);
+    }
+
+    private DolphinEvent<?> readJson(final String input) throws IOException {
+        final JsonElement root = new JsonParser().parse(input);
         if (!root.isJsonObject()) {
             throw new IllegalArgumentException("Input can not be parsed!");
         }
@@ -24,12 +24,16 @@ import java.io.Serializable;
 import static com.canoo.dp.impl.server.event.DistributedEventBusConfigProvider.DEFAULT_HAZELCAST_CONNECTION_ATTEMPT_COUNT;
 import static com.canoo.dp.impl.server.event.DistributedEventBusConfigProvider.DEFAULT_HAZELCAST_CONNECTION_ATTEMPT_PERIOD;
 import static com.canoo.dp.impl.server.event.DistributedEventBusConfigProvider.DEFAULT_HAZELCAST_CONNECTION_TIMEOUT;
+import static com.canoo.dp.impl.server.event.DistributedEventBusConfigProvider.DEFAULT_HAZELCAST_EVENT_PAYLOAD_SERIALIZER;
+import static com.canoo.dp.impl.server.event.DistributedEventBusConfigProvider.DEFAULT_HAZELCAST_EVENT_SPEC_VERSION;
 import static com.canoo.dp.impl.server.event.DistributedEventBusConfigProvider.DEFAULT_HAZELCAST_GROUP_NAME;
 import static com.canoo.dp.impl.server.event.DistributedEventBusConfigProvider.DEFAULT_HAZELCAST_PORT;
 import static com.canoo.dp.impl.server.event.DistributedEventBusConfigProvider.DEFAULT_HAZELCAST_SERVER;
 import static com.canoo.dp.impl.server.event.DistributedEventBusConfigProvider.HAZELCAST_CONNECTION_ATTEMPT_COUNT;
 import static com.canoo.dp.impl.server.event.DistributedEventBusConfigProvider.HAZELCAST_CONNECTION_ATTEMPT_PERIOD;
 import static com.canoo.dp.impl.server.event.DistributedEventBusConfigProvider.HAZELCAST_CONNECTION_TIMEOUT;
+import static com.canoo.dp.impl.server.event.DistributedEventBusConfigProvider.HAZELCAST_EVENT_PAYLOAD_SERIALIZER;
+import static com.canoo.dp.impl.server.event.DistributedEventBusConfigProvider.HAZELCAST_EVENT_SPEC_VERSION;
 import static com.canoo.dp.impl.server.event.DistributedEventBusConfigProvider.HAZELCAST_GROUP_NAME;
 import static com.canoo.dp.impl.server.event.DistributedEventBusConfigProvider.HAZELCAST_SERVER_NAME;
 import static com.canoo.dp.impl.server.event.DistributedEventBusConfigProvider.HAZELCAST_SERVER_PORT;
@@ -68,4 +72,11 @@ public class HazelcastConfig implements Serializable {
         return configuration.getIntProperty(HAZELCAST_CONNECTION_TIMEOUT, DEFAULT_HAZELCAST_CONNECTION_TIMEOUT);
     }
 
+    public String getEventSpecVersion() {
+        return configuration.getProperty(HAZELCAST_EVENT_SPEC_VERSION, DEFAULT_HAZELCAST_EVENT_SPEC_VERSION);
+    }
+
+    public String getEventPayloadSerializer() {
+        return configuration.getProperty(HAZELCAST_EVENT_PAYLOAD_SERIALIZER, DEFAULT_HAZELCAST_EVENT_PAYLOAD_SERIALIZER);
+    }
 }
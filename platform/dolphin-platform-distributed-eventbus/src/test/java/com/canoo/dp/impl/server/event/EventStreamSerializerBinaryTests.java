@@ -0,0 +1,151 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.event;
+
+import com.canoo.platform.remoting.server.event.Topic;
+import com.hazelcast.config.SerializationConfig;
+import com.hazelcast.config.SerializerConfig;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.nio.serialization.Data;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static com.canoo.dp.impl.server.event.DistributedEventConstants.SPEC_1_0;
+import static com.canoo.dp.impl.server.event.DistributedEventConstants.SPEC_2_0;
+
+public class EventStreamSerializerBinaryTests {
+
+    @Test
+    public void testSimpleEventRoundTrip() {
+        //given
+        final InternalSerializationService serializationService = createSerializationService(new EventStreamSerializer(SPEC_2_0, new JavaEventPayloadSerializer()));
+        final Topic<String> topic = Topic.create("test-topic");
+        final long timestamp = System.currentTimeMillis();
+        final DolphinEvent<String> dolphinEvent = new DolphinEvent<>(topic, timestamp, "test-data");
+
+        //when
+        final DolphinEvent<?> result = serializationService.toObject(serializationService.toData(dolphinEvent));
+
+        //then
+        Assert.assertEquals(result.getData(), "test-data");
+        Assert.assertEquals(result.getMessageEventContext().getTopic().getName(), topic.getName());
+        Assert.assertEquals(result.getMessageEventContext().getTimestamp(), timestamp);
+        Assert.assertTrue(result.getMessageEventContext().getMetadata().isEmpty());
+    }
+
+    @Test
+    public void testEventWithNullDataAndMetadataRoundTrip() {
+        //given
+        final InternalSerializationService serializationService = createSerializationService(new EventStreamSerializer(SPEC_2_0, new JavaEventPayloadSerializer()));
+        final DolphinEvent<String> dolphinEvent = new DolphinEvent<>(Topic.<String>create("test-topic"), System.currentTimeMillis(), null);
+        final LocalDateTime time = LocalDateTime.now();
+        dolphinEvent.addMetadata("test-key-1", "test-value-1");
+        dolphinEvent.addMetadata("test-key-2", null);
+        dolphinEvent.addMetadata("test-key-3", time);
+
+        //when
+        final DolphinEvent<?> result = serializationService.toObject(serializationService.toData(dolphinEvent));
+
+        //then
+        Assert.assertNull(result.getData());
+        Assert.assertEquals(result.getMessageEventContext().getMetadata().size(), 3);
+        Assert.assertEquals(result.getMessageEventContext().getMetadata().get("test-key-1"), "test-value-1");
+        Assert.assertTrue(result.getMessageEventContext().getMetadata().containsKey("test-key-2"));
+        Assert.assertNull(result.getMessageEventContext().getMetadata().get("test-key-2"));
+        Assert.assertEquals(result.getMessageEventContext().getMetadata().get("test-key-3"), time);
+    }
+
+    @Test
+    public void testCustomPayloadSerializer() {
+        //given
+        final InternalSerializationService serializationService = createSerializationService(new EventStreamSerializer(SPEC_2_0, new StringPayloadSerializer()));
+        final DolphinEvent<String> dolphinEvent = new DolphinEvent<>(Topic.<String>create("test-topic"), System.currentTimeMillis(), "test-data");
+        dolphinEvent.addMetadata("test-key", "test-value");
+
+        //when
+        final Data serialized = serializationService.toData(dolphinEvent);
+        final DolphinEvent<?> result = serializationService.toObject(serialized);
+
+        //then
+        Assert.assertEquals(result.getData(), "test-data");
+        Assert.assertEquals(result.getMessageEventContext().getMetadata().get("test-key"), "test-value");
+    }
+
+    @Test
+    public void testBinaryFormatIsSmallerThanJson() {
+        //given
+        final InternalSerializationService jsonService = createSerializationService(new EventStreamSerializer(SPEC_1_0, new JavaEventPayloadSerializer()));
+        final InternalSerializationService binaryService = createSerializationService(new EventStreamSerializer(SPEC_2_0, new JavaEventPayloadSerializer()));
+        final DolphinEvent<String> dolphinEvent = new DolphinEvent<>(Topic.<String>create("test-topic"), System.currentTimeMillis(), "test-data");
+        dolphinEvent.addMetadata("test-key", "test-value");
+
+        //when
+        final int jsonSize = jsonService.toData(dolphinEvent).totalSize();
+        final int binarySize = binaryService.toData(dolphinEvent).totalSize();
+
+        //then
+        Assert.assertTrue(binarySize < jsonSize);
+    }
+
+    @Test
+    public void testMixedSpecVersions() {
+        //given
+        final InternalSerializationService jsonService = createSerializationService(new EventStreamSerializer(SPEC_1_0, new JavaEventPayloadSerializer()));
+        final InternalSerializationService binaryService = createSerializationService(new EventStreamSerializer(SPEC_2_0, new JavaEventPayloadSerializer()));
+        final DolphinEvent<String> dolphinEvent = new DolphinEvent<>(Topic.<String>create("test-topic"), System.currentTimeMillis(), "test-data");
+        dolphinEvent.addMetadata("test-key", "test-value");
+
+        //when
+        final DolphinEvent<?> readByBinaryNode = binaryService.toObject(jsonService.toData(dolphinEvent));
+        final DolphinEvent<?> readByJsonNode = jsonService.toObject(binaryService.toData(dolphinEvent));
+
+        //then
+        Assert.assertEquals(readByBinaryNode.getData(), "test-data");
+        Assert.assertEquals(readByBinaryNode.getMessageEventContext().getMetadata().get("test-key"), "test-value");
+        Assert.assertEquals(readByJsonNode.getData(), "test-data");
+        Assert.assertEquals(readByJsonNode.getMessageEventContext().getMetadata().get("test-key"), "test-value");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testUnknownSpecVersion() {
+        new EventStreamSerializer("0.1", new JavaEventPayloadSerializer());
+    }
+
+    private InternalSerializationService createSerializationService(final EventStreamSerializer serializer) {
+        final SerializationConfig serializationConfig = new SerializationConfig();
+        serializationConfig.addSerializerConfig(new SerializerConfig().setImplementation(serializer).setTypeClass(DolphinEvent.class));
+        return new DefaultSerializationServiceBuilder().setConfig(serializationConfig).build();
+    }
+
+    public static class StringPayloadSerializer implements EventPayloadSerializer {
+
+        @Override
+        public byte[] serialize(final Serializable value) throws IOException {
+            return value.toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public Serializable deserialize(final byte[] data) throws IOException {
+            return new String(data, StandardCharsets.UTF_8);
+        }
+    }
+}
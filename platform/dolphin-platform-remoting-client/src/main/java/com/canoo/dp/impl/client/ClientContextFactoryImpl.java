@@ -24,11 +24,13 @@ import com.canoo.platform.client.ClientConfiguration;
 import com.canoo.platform.client.PlatformClient;
 import com.canoo.platform.client.session.ClientSessionStore;
 import com.canoo.platform.core.http.HttpClient;
-import com.canoo.platform.core.http.HttpURLConnectionHandler;
+import com.canoo.platform.core.http.HttpResponseHandler;
 import com.canoo.platform.remoting.client.ClientContext;
 import com.canoo.platform.remoting.client.ClientContextFactory;
 import com.canoo.platform.remoting.client.ClientInitializationException;
 import org.apiguardian.api.API;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.net.URI;
 import java.util.concurrent.CompletableFuture;
@@ -44,6 +46,8 @@ import static org.apiguardian.api.API.Status.INTERNAL;
 @API(since = "0.x", status = INTERNAL)
 public class ClientContextFactoryImpl implements ClientContextFactory {
 
+    private static final Logger LOG = LoggerFactory.getLogger(ClientContextFactoryImpl.class);
+
     public ClientContextFactoryImpl() {
     }
 
@@ -58,14 +62,29 @@ public class ClientContextFactoryImpl implements ClientContextFactory {
     public ClientContext create(final ClientConfiguration clientConfiguration, final URI endpoint) {
         Assert.requireNonNull(clientConfiguration, "clientConfiguration");
         final HttpClient httpClient = PlatformClient.getService(HttpClient.class);
-        final HttpURLConnectionHandler clientSessionCheckResponseHandler = new StrictClientSessionResponseHandler(endpoint);
+        final HttpResponseHandler clientSessionCheckResponseHandler = new StrictClientSessionResponseHandler(endpoint);
         httpClient.addResponseHandler(clientSessionCheckResponseHandler);
+        final ClientSessionStore clientSessionStore = PlatformClient.getService(ClientSessionStore.class);
+        final boolean useWebSocket = clientConfiguration.getBooleanProperty(DolphinPlatformWebSocketClientConnector.WEB_SOCKET_ACTIVE, DolphinPlatformWebSocketClientConnector.WEB_SOCKET_ACTIVE_DEFAULT_VALUE) && isWebSocketApiAvailable();
         final Function<ClientModelStore, AbstractClientConnector> connectionProvider = s -> {
+            if (useWebSocket) {
+                return new DolphinPlatformWebSocketClientConnector(endpoint, clientConfiguration, s, OptimizedJsonCodec.getInstance(), e -> {}, httpClient, clientSessionStore);
+            }
             return new DolphinPlatformHttpClientConnector(endpoint, clientConfiguration, s, OptimizedJsonCodec.getInstance(), e -> {}, httpClient);
         };
 
 
-        return new ClientContextImpl(clientConfiguration, endpoint, connectionProvider, PlatformClient.getService(ClientSessionStore.class));
+        return new ClientContextImpl(clientConfiguration, endpoint, connectionProvider, clientSessionStore);
+    }
+
+    private boolean isWebSocketApiAvailable() {
+        try {
+            Class.forName("javax.websocket.ContainerProvider");
+            return true;
+        } catch (final ClassNotFoundException e) {
+            LOG.warn("WebSocket support is activated but no WebSocket API is on the classpath. Will use http for the remoting.");
+            return false;
+        }
     }
 
 }
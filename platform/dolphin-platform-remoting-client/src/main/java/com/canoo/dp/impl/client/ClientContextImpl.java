@@ -51,6 +51,14 @@ import static org.apiguardian.api.API.Status.INTERNAL;
 @API(since = "0.x", status = INTERNAL)
 public class ClientContextImpl implements ClientContext {
 
+    public static final String LIST_SPLICE_COMMAND_ACTIVE = "remoting.listSpliceCommandActive";
+
+    public static final boolean LIST_SPLICE_COMMAND_ACTIVE_DEFAULT_VALUE = true;
+
+    public static final String COMPACT_IDS_ACTIVE = "remoting.compactIdsActive";
+
+    public static final boolean COMPACT_IDS_ACTIVE_DEFAULT_VALUE = false;
+
     private final ClientConfiguration clientConfiguration;
 
     private final Function<ClientModelStore, AbstractClientConnector> connectorProvider;
@@ -70,6 +78,8 @@ public class ClientContextImpl implements ClientContext {
 
     private final DolphinCommandHandler dolphinCommandHandler;
 
+    private final boolean listSpliceCommandActive;
+
     public ClientContextImpl(final ClientConfiguration clientConfiguration, final URI endpoint, final Function<ClientModelStore, AbstractClientConnector> connectorProvider, final ClientSessionStore clientSessionStore) {
         this.clientConfiguration = Assert.requireNonNull(clientConfiguration, "clientConfiguration");
         this.connectorProvider = Assert.requireNonNull(connectorProvider, "connectorProvider");
@@ -83,7 +93,9 @@ public class ClientContextImpl implements ClientContext {
             }
         });
 
-        this.modelStore = new ClientModelStore(defaultModelSynchronizer);
+        this.listSpliceCommandActive = clientConfiguration.getBooleanProperty(LIST_SPLICE_COMMAND_ACTIVE, LIST_SPLICE_COMMAND_ACTIVE_DEFAULT_VALUE);
+        final boolean compactIdsActive = clientConfiguration.getBooleanProperty(COMPACT_IDS_ACTIVE, COMPACT_IDS_ACTIVE_DEFAULT_VALUE);
+        this.modelStore = new ClientModelStore(defaultModelSynchronizer, listSpliceCommandActive, compactIdsActive);
         this.clientConnector = connectorProvider.apply(modelStore);
 
         final EventDispatcher dispatcher = new ClientEventDispatcher(modelStore);
@@ -149,7 +161,9 @@ public class ClientContextImpl implements ClientContext {
         clientConnector.connect();
 
         clientConfiguration.getBackgroundExecutor().execute(() -> {
-            dolphinCommandHandler.invokeDolphinCommand(new CreateContextCommand()).handle((Void aVoid, Throwable throwable) -> {
+            final CreateContextCommand createContextCommand = new CreateContextCommand();
+            createContextCommand.setListSpliceSupported(listSpliceCommandActive);
+            dolphinCommandHandler.invokeDolphinCommand(createContextCommand).handle((Void aVoid, Throwable throwable) -> {
                 if (throwable != null) {
                     result.completeExceptionally(new ClientInitializationException("Can't call init action!", throwable));
                 } else {
@@ -39,6 +39,14 @@ public class ClientPresentationModelBuilder extends AbstractPresentationModelBui
         attributes.add(new ClientAttribute(RemotingConstants.SOURCE_SYSTEM, RemotingConstants.SOURCE_SYSTEM_CLIENT));
     }
 
+    @Override
+    protected String createId() {
+        if (modelStore.isCompactIds()) {
+            return modelStore.createId(RemotingConstants.CLIENT_ORIGIN);
+        }
+        return super.createId();
+    }
+
     @Override
     public ClientPresentationModelBuilder withAttribute(final String name) {
         attributes.add(new ClientAttribute(name, null));
@@ -59,6 +67,11 @@ public class ClientPresentationModelBuilder extends AbstractPresentationModelBui
 
     @Override
     public ClientPresentationModel create() {
+        if (modelStore.isCompactIds()) {
+            for (final ClientAttribute attribute : attributes) {
+                attribute.setId(modelStore.createId(RemotingConstants.CLIENT_ORIGIN));
+            }
+        }
         return modelStore.createModel(getId(), getType(), attributes.toArray(new ClientAttribute[attributes.size()]));
     }
 
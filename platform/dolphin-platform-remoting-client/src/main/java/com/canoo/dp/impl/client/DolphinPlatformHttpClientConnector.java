@@ -20,11 +20,19 @@ import com.canoo.dp.impl.client.legacy.communication.AbstractClientConnector;
 import com.canoo.dp.impl.client.legacy.communication.BlindCommandBatcher;
 import com.canoo.dp.impl.platform.core.Assert;
 import com.canoo.dp.impl.platform.core.http.HttpHeaderConstants;
+import com.canoo.dp.impl.remoting.PlatformRemotingConstants;
+import com.canoo.dp.impl.remoting.codec.BinaryCodec;
+import com.canoo.dp.impl.remoting.codec.ContentCompression;
 import com.canoo.dp.impl.remoting.commands.DestroyContextCommand;
 import com.canoo.dp.impl.remoting.legacy.communication.Codec;
 import com.canoo.dp.impl.remoting.legacy.communication.Command;
 import com.canoo.platform.client.ClientConfiguration;
+import com.canoo.platform.core.http.ByteArrayProvider;
+import com.canoo.platform.core.http.HttpCallRequestBuilder;
+import com.canoo.platform.core.http.HttpCallResponseBuilder;
 import com.canoo.platform.core.http.HttpClient;
+import com.canoo.platform.core.http.HttpHeader;
+import com.canoo.platform.core.http.HttpResponse;
 import com.canoo.platform.core.http.RequestMethod;
 import com.canoo.platform.remoting.DolphinRemotingException;
 import com.canoo.platform.remoting.client.RemotingExceptionHandler;
@@ -32,10 +40,13 @@ import org.apiguardian.api.API;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.net.URI;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
@@ -47,6 +58,24 @@ public class DolphinPlatformHttpClientConnector extends AbstractClientConnector
 
     private static final Logger LOG = LoggerFactory.getLogger(DolphinPlatformHttpClientConnector.class);
 
+    public static final String BINARY_CODEC_ACTIVE = "remoting.binaryCodecActive";
+
+    public static final boolean BINARY_CODEC_ACTIVE_DEFAULT_VALUE = false;
+
+    public static final String PIPELINE_DEPTH = "remoting.pipelineDepth";
+
+    public static final int PIPELINE_DEPTH_DEFAULT_VALUE = 1;
+
+    public static final String COMPRESSION_ACTIVE = "remoting.compressionActive";
+
+    public static final boolean COMPRESSION_ACTIVE_DEFAULT_VALUE = true;
+
+    public static final String COMPRESSION_THRESHOLD = "remoting.compressionThreshold";
+
+    public static final int COMPRESSION_THRESHOLD_DEFAULT_VALUE = ContentCompression.DEFAULT_THRESHOLD;
+
+    private static final String ACCEPTED_ENCODINGS = HttpHeaderConstants.GZIP_ENCODING + ", " + ContentCompression.DEFLATE_ENCODING;
+
     private final URI servletUrl;
 
     private final Codec codec;
@@ -55,14 +84,34 @@ public class DolphinPlatformHttpClientConnector extends AbstractClientConnector
 
     private final AtomicBoolean disconnecting = new AtomicBoolean(false);
 
+    private final boolean binaryCodecActive;
+
+    private final AtomicBoolean binaryCodecAcceptedByServer = new AtomicBoolean(false);
+
+    private final ContentCompression compression;
+
+    private final AtomicReference<String> encodingAcceptedByServer = new AtomicReference<>();
+
     public DolphinPlatformHttpClientConnector(final URI servletUrl, final ClientConfiguration configuration, final ClientModelStore clientModelStore, final Codec codec, final RemotingExceptionHandler onException, final HttpClient client) {
         super(clientModelStore, Assert.requireNonNull(configuration, "configuration").getUiExecutor(), new BlindCommandBatcher(), onException, configuration.getBackgroundExecutor());
         this.servletUrl = Assert.requireNonNull(servletUrl, "servletUrl");
         this.codec = Assert.requireNonNull(codec, "codec");
         this.client = Assert.requireNonNull(client, "client");
+        this.binaryCodecActive = configuration.getBooleanProperty(BINARY_CODEC_ACTIVE, BINARY_CODEC_ACTIVE_DEFAULT_VALUE);
+        setPipelineDepth(configuration.getIntProperty(PIPELINE_DEPTH, PIPELINE_DEPTH_DEFAULT_VALUE));
+        if (configuration.getBooleanProperty(COMPRESSION_ACTIVE, COMPRESSION_ACTIVE_DEFAULT_VALUE)) {
+            this.compression = new ContentCompression(configuration.getIntProperty(COMPRESSION_THRESHOLD, COMPRESSION_THRESHOLD_DEFAULT_VALUE));
+        } else {
+            this.compression = null;
+        }
     }
 
     public List<Command> transmit(final List<Command> commands) throws DolphinRemotingException {
+        return transmit(commands, NO_SEQUENCE);
+    }
+
+    @Override
+    protected List<Command> transmit(final List<Command> commands, final long sequence) throws DolphinRemotingException {
         Assert.requireNonNull(commands, "commands");
 
         if (disconnecting.get()) {
@@ -78,14 +127,97 @@ public class DolphinPlatformHttpClientConnector extends AbstractClientConnector
         }
 
         try {
-            final String data = codec.encode(commands);
-            final String receivedContent = client.request(servletUrl, RequestMethod.POST).withContent(data, HttpHeaderConstants.JSON_MIME_TYPE).readString().execute().get().getContent();
-            return codec.decode(receivedContent);
+            if (!binaryCodecActive) {
+                final HttpCallRequestBuilder requestBuilder = createRequest(sequence)
+                        .withHeader(HttpHeaderConstants.ACCEPT_CHARSET_HEADER, HttpHeaderConstants.CHARSET);
+                final byte[] data = codec.encode(commands).getBytes(HttpHeaderConstants.CHARSET);
+                final HttpResponse<ByteArrayProvider> response = send(requestBuilder, data, HttpHeaderConstants.JSON_MIME_TYPE);
+                return codec.decode(new String(readContent(response), HttpHeaderConstants.CHARSET));
+            }
+            return transmitWithBinaryNegotiation(commands, sequence);
         } catch (final Exception e) {
             throw new DolphinRemotingException("Error in remoting layer", e);
         }
     }
 
+    /**
+     * The binary format is offered in the accept header of each request. Commands are only send in the binary format
+     * once the server has answered with a binary response, otherwise JSON is used. By doing so an old server that does
+     * not support the binary format will still receive and send JSON.
+     */
+    private List<Command> transmitWithBinaryNegotiation(final List<Command> commands, final long sequence) throws Exception {
+        final HttpCallRequestBuilder requestBuilder = createRequest(sequence)
+                .withHeader(HttpHeaderConstants.ACCEPT_HEADER, BinaryCodec.BINARY_MIME_TYPE + ", " + HttpHeaderConstants.JSON_MIME_TYPE)
+                .withHeader(HttpHeaderConstants.ACCEPT_CHARSET_HEADER, HttpHeaderConstants.CHARSET);
+        final HttpResponse<ByteArrayProvider> response;
+        if (binaryCodecAcceptedByServer.get()) {
+            response = send(requestBuilder, BinaryCodec.getInstance().encode(commands), BinaryCodec.BINARY_MIME_TYPE);
+        } else {
+            response = send(requestBuilder, codec.encode(commands).getBytes(HttpHeaderConstants.CHARSET), HttpHeaderConstants.JSON_MIME_TYPE);
+        }
+        final boolean binaryResponse = getHeader(response, HttpHeaderConstants.CONTENT_TYPE_HEADER)
+                .map(BinaryCodec::isBinaryMimeType)
+                .orElse(false);
+        final byte[] content = readContent(response);
+        if (binaryResponse) {
+            binaryCodecAcceptedByServer.set(true);
+            return BinaryCodec.getInstance().decode(content);
+        }
+        return codec.decode(new String(content, HttpHeaderConstants.CHARSET));
+    }
+
+    /**
+     * Request bodies are only compressed once the server has answered with a compressed response. By doing so an old
+     * server that does not support compressed requests will still receive uncompressed bodies.
+     */
+    private HttpResponse<ByteArrayProvider> send(final HttpCallRequestBuilder requestBuilder, final byte[] content, final String contentType) throws Exception {
+        final String encoding = encodingAcceptedByServer.get();
+        final HttpCallResponseBuilder responseBuilder;
+        if (compression != null && encoding != null && compression.shouldCompress(content.length)) {
+            responseBuilder = requestBuilder.withHeader(HttpHeaderConstants.CONTENT_ENCODING_HEADER, encoding)
+                    .withContent(compression.compress(content, encoding), contentType);
+        } else {
+            responseBuilder = requestBuilder.withContent(content, contentType);
+        }
+        return responseBuilder.readBytes().execute().get();
+    }
+
+    private byte[] readContent(final HttpResponse<ByteArrayProvider> response) throws IOException {
+        final String contentEncoding = getHeader(response, HttpHeaderConstants.CONTENT_ENCODING_HEADER).orElse(null);
+        final String encoding = ContentCompression.selectEncoding(contentEncoding);
+        if (compression != null && encoding != null) {
+            encodingAcceptedByServer.set(encoding);
+        }
+        return ContentCompression.decompress(response.getContent().get(), contentEncoding);
+    }
+
+    private Optional<String> getHeader(final HttpResponse<?> response, final String name) {
+        return response.getHeaders().stream()
+                .filter(h -> name.equalsIgnoreCase(h.getName()))
+                .map(HttpHeader::getContent)
+                .findFirst();
+    }
+
+    /**
+     * Returns the compression that is used for requests or null if compression is not active. The compression
+     * provides metrics about the raw and the compressed size of all compressed requests.
+     * @return the compression
+     */
+    public ContentCompression getCompression() {
+        return compression;
+    }
+
+    private HttpCallRequestBuilder createRequest(final long sequence) {
+        HttpCallRequestBuilder requestBuilder = client.request(servletUrl, RequestMethod.POST);
+        if (compression != null) {
+            requestBuilder = requestBuilder.withHeader(HttpHeaderConstants.ACCEPT_ENCODING_HEADER, ACCEPTED_ENCODINGS);
+        }
+        if (sequence == NO_SEQUENCE) {
+            return requestBuilder;
+        }
+        return requestBuilder.withHeader(PlatformRemotingConstants.REQUEST_SEQUENCE_HEADER, Long.toString(sequence));
+    }
+
     @Override
     public void connect() {
         disconnecting.set(false);
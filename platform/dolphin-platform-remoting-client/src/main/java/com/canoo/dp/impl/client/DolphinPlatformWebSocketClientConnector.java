@@ -0,0 +1,358 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.client;
+
+import com.canoo.dp.impl.client.legacy.ClientModelStore;
+import com.canoo.dp.impl.client.legacy.communication.ResponseSequencer;
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.platform.core.PlatformConstants;
+import com.canoo.dp.impl.platform.core.http.HttpHeaderConstants;
+import com.canoo.dp.impl.remoting.PlatformRemotingConstants;
+import com.canoo.dp.impl.remoting.commands.DestroyContextCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.Codec;
+import com.canoo.dp.impl.remoting.legacy.communication.Command;
+import com.canoo.platform.client.ClientConfiguration;
+import com.canoo.platform.client.session.ClientSessionStore;
+import com.canoo.platform.core.http.HttpClient;
+import com.canoo.platform.remoting.DolphinRemotingException;
+import com.canoo.platform.remoting.client.RemotingExceptionHandler;
+import org.apiguardian.api.API;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.websocket.ClientEndpointConfig;
+import javax.websocket.CloseReason;
+import javax.websocket.ContainerProvider;
+import javax.websocket.DeploymentException;
+import javax.websocket.Endpoint;
+import javax.websocket.EndpointConfig;
+import javax.websocket.MessageHandler;
+import javax.websocket.Session;
+import java.io.IOException;
+import java.net.CookieStore;
+import java.net.HttpCookie;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Connector that uses a WebSocket connection to the server once the client session is created by the first http
+ * request. Commands are send over the WebSocket connection and the server pushes all commands that are created by
+ * server side tasks directly. Based on this no long poll and no interrupt request are needed. If the WebSocket
+ * connection can not be created (no WebSocket implementation on the classpath, no server support) or is closed the
+ * connector falls back to the http based communication of {@link DolphinPlatformHttpClientConnector}.
+ * Responses and pushed commands are processed on the ui executor in the order in that they were received.
+ */
+@API(since = "1.0.0", status = INTERNAL)
+public class DolphinPlatformWebSocketClientConnector extends DolphinPlatformHttpClientConnector {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DolphinPlatformWebSocketClientConnector.class);
+
+    public static final String WEB_SOCKET_ACTIVE = "remoting.webSocketActive";
+
+    public static final String WEB_SOCKET_ENDPOINT = "remoting.webSocketEndpoint";
+
+    public static final boolean WEB_SOCKET_ACTIVE_DEFAULT_VALUE = false;
+
+    public static final String WEB_SOCKET_ENDPOINT_SUFFIX = "-ws";
+
+    private final URI servletUrl;
+
+    private final URI webSocketUrl;
+
+    private final Codec codec;
+
+    private final Executor uiExecutor;
+
+    private final CookieStore cookieStore;
+
+    private final ClientSessionStore clientSessionStore;
+
+    private final AtomicBoolean webSocketFailed = new AtomicBoolean(false);
+
+    private final AtomicBoolean closing = new AtomicBoolean(false);
+
+    private final Object transmitLock = new Object();
+
+    private final ResponseSequencer messageSequencer;
+
+    private final AtomicLong messageSequence = new AtomicLong(0);
+
+    private volatile Session webSocketSession;
+
+    private volatile CompletableFuture<List<Command>> pendingResponse;
+
+    public DolphinPlatformWebSocketClientConnector(final URI servletUrl, final ClientConfiguration configuration, final ClientModelStore clientModelStore, final Codec codec, final RemotingExceptionHandler onException, final HttpClient client, final ClientSessionStore clientSessionStore) {
+        super(servletUrl, configuration, clientModelStore, codec, onException, client);
+        this.servletUrl = Assert.requireNonNull(servletUrl, "servletUrl");
+        this.codec = Assert.requireNonNull(codec, "codec");
+        this.uiExecutor = configuration.getUiExecutor();
+        this.messageSequencer = new ResponseSequencer(uiExecutor);
+        this.cookieStore = configuration.getCookieStore();
+        this.clientSessionStore = Assert.requireNonNull(clientSessionStore, "clientSessionStore");
+        this.webSocketUrl = getWebSocketUrl(servletUrl, configuration.getProperty(WEB_SOCKET_ENDPOINT));
+
+        // all messages are sent one by one over the WebSocket connection
+        setPipelineDepth(1);
+    }
+
+    @Override
+    public List<Command> transmit(final List<Command> commands) throws DolphinRemotingException {
+        Assert.requireNonNull(commands, "commands");
+
+        final Session session = webSocketSession;
+        if (session == null || !session.isOpen()) {
+            final List<Command> result = super.transmit(commands);
+            if (session == null && !webSocketFailed.get() && !containsDestroyCommand(commands)) {
+                openWebSocket();
+            }
+            return result;
+        }
+
+        if (containsDestroyCommand(commands)) {
+            closing.set(true);
+        }
+        synchronized (transmitLock) {
+            final CompletableFuture<List<Command>> response = new CompletableFuture<>();
+            pendingResponse = response;
+            try {
+                session.getBasicRemote().sendText(codec.encode(commands));
+                return response.get();
+            } catch (final IOException | ExecutionException e) {
+                throw new DolphinRemotingException("Error in WebSocket communication", e);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (!response.cancel(false) && !response.isCompletedExceptionally()) {
+                    // the response was received but will not be processed, pushed commands must not wait for it
+                    onResponse(response.join(), () -> {});
+                }
+                throw new DolphinRemotingException("WebSocket communication interrupted", e);
+            } finally {
+                pendingResponse = null;
+            }
+        }
+    }
+
+    @Override
+    protected void onResponse(final List<? extends Command> response, final Runnable responseHandling) {
+        if (response instanceof WebSocketResponse) {
+            messageSequencer.onResponse(((WebSocketResponse) response).getSequence(), responseHandling);
+        } else {
+            super.onResponse(response, responseHandling);
+        }
+    }
+
+    @Override
+    protected void listen() {
+        if (isWebSocketOpen()) {
+            return;
+        }
+        super.listen();
+    }
+
+    @Override
+    protected void release() {
+        if (isWebSocketOpen()) {
+            return;
+        }
+        super.release();
+    }
+
+    @Override
+    public void connect() {
+        closing.set(false);
+        super.connect();
+    }
+
+    @Override
+    public void disconnect() {
+        super.disconnect();
+        closing.set(true);
+        final Session session = webSocketSession;
+        webSocketSession = null;
+        if (session != null && session.isOpen()) {
+            try {
+                session.close();
+            } catch (final IOException e) {
+                LOG.warn("Can not close WebSocket connection", e);
+            }
+        }
+    }
+
+    private boolean isWebSocketOpen() {
+        final Session session = webSocketSession;
+        return session != null && session.isOpen();
+    }
+
+    private boolean containsDestroyCommand(final List<Command> commands) {
+        for (final Command command : commands) {
+            if (command instanceof DestroyContextCommand) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void openWebSocket() {
+        try {
+            final ClientEndpointConfig config = ClientEndpointConfig.Builder.create()
+                    .configurator(new ClientEndpointConfig.Configurator() {
+                        @Override
+                        public void beforeRequest(final Map<String, List<String>> headers) {
+                            final String clientId = clientSessionStore.getClientIdentifierForUrl(servletUrl);
+                            if (clientId != null) {
+                                headers.put(PlatformConstants.CLIENT_ID_HTTP_HEADER_NAME, Collections.singletonList(clientId));
+                            }
+                            final String cookies = cookieStore.get(servletUrl).stream()
+                                    .map(HttpCookie::toString)
+                                    .collect(Collectors.joining(";"));
+                            if (!cookies.isEmpty()) {
+                                headers.put(HttpHeaderConstants.COOKIE_HEADER, Collections.singletonList(cookies));
+                            }
+                        }
+                    }).build();
+            webSocketSession = connectToServer(new RemotingEndpoint(), config, webSocketUrl);
+            LOG.debug("WebSocket connection to {} opened", webSocketUrl);
+        } catch (final Exception | LinkageError e) {
+            webSocketFailed.set(true);
+            LOG.warn("Can not open WebSocket connection to " + webSocketUrl + ". Will use http for the remoting.", e);
+        }
+    }
+
+    /**
+     * Opens the WebSocket connection to the server by using the {@link ContainerProvider}.
+     * @param endpoint the endpoint that handles the messages of the server
+     * @param config the configuration of the connection
+     * @param url the url of the WebSocket endpoint of the server
+     * @return the session of the opened connection
+     */
+    protected Session connectToServer(final Endpoint endpoint, final ClientEndpointConfig config, final URI url) throws DeploymentException, IOException {
+        return ContainerProvider.getWebSocketContainer().connectToServer(endpoint, config, url);
+    }
+
+    private void onMessage(final String message) {
+        if (message.startsWith(PlatformRemotingConstants.WEB_SOCKET_RESPONSE_PREFIX)) {
+            final CompletableFuture<List<Command>> response = pendingResponse;
+            if (response == null) {
+                LOG.error("Received WebSocket response without a request");
+                return;
+            }
+            final List<Command> commands;
+            try {
+                commands = codec.decode(message.substring(PlatformRemotingConstants.WEB_SOCKET_RESPONSE_PREFIX.length()));
+            } catch (final Exception e) {
+                response.completeExceptionally(e);
+                return;
+            }
+            // the sequence is defined here since a push that is received after the response must be processed after it
+            final long sequence = messageSequence.incrementAndGet();
+            if (!response.complete(new WebSocketResponse(sequence, commands))) {
+                messageSequencer.onResponse(sequence, () -> {});
+            }
+        } else if (message.startsWith(PlatformRemotingConstants.WEB_SOCKET_PUSH_PREFIX)) {
+            final List<Command> commands = new ArrayList<>(codec.decode(message.substring(PlatformRemotingConstants.WEB_SOCKET_PUSH_PREFIX.length())));
+            LOG.trace("Received {} commands by WebSocket push", commands.size());
+            messageSequencer.onResponse(messageSequence.incrementAndGet(), () -> {
+                for (final Command command : commands) {
+                    dispatchHandle(command);
+                }
+            });
+        } else {
+            LOG.error("Received WebSocket message of unknown type");
+        }
+    }
+
+    private void onClosed(final Throwable reason) {
+        webSocketSession = null;
+        webSocketFailed.set(true);
+        final CompletableFuture<List<Command>> response = pendingResponse;
+        if (response != null) {
+            response.completeExceptionally(reason);
+        }
+        if (!closing.get()) {
+            LOG.warn("WebSocket connection closed. Will use http for the remoting.", reason);
+            uiExecutor.execute(() -> listen());
+        }
+    }
+
+    private static class WebSocketResponse extends ArrayList<Command> {
+
+        private final long sequence;
+
+        private WebSocketResponse(final long sequence, final List<Command> commands) {
+            super(commands);
+            this.sequence = sequence;
+        }
+
+        private long getSequence() {
+            return sequence;
+        }
+    }
+
+    private class RemotingEndpoint extends Endpoint {
+
+        @Override
+        public void onOpen(final Session session, final EndpointConfig config) {
+            session.addMessageHandler(new MessageHandler.Whole<String>() {
+                @Override
+                public void onMessage(final String message) {
+                    DolphinPlatformWebSocketClientConnector.this.onMessage(message);
+                }
+            });
+        }
+
+        @Override
+        public void onClose(final Session session, final CloseReason closeReason) {
+            onClosed(new IOException("WebSocket connection closed: " + closeReason));
+        }
+
+        @Override
+        public void onError(final Session session, final Throwable throwable) {
+            onClosed(throwable);
+        }
+    }
+
+    public static URI getWebSocketUrl(final URI servletUrl, final String webSocketEndpoint) {
+        Assert.requireNonNull(servletUrl, "servletUrl");
+        if (webSocketEndpoint != null && !webSocketEndpoint.trim().isEmpty()) {
+            return URI.create(webSocketEndpoint.trim());
+        }
+        final String scheme = "https".equalsIgnoreCase(servletUrl.getScheme()) ? "wss" : "ws";
+        String path = servletUrl.getPath() != null ? servletUrl.getPath() : "";
+        if (path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        if (!path.startsWith("/")) {
+            path = "/" + path;
+        }
+        try {
+            return new URI(scheme, servletUrl.getUserInfo(), servletUrl.getHost(), servletUrl.getPort(), path + WEB_SOCKET_ENDPOINT_SUFFIX, servletUrl.getQuery(), null);
+        } catch (final URISyntaxException e) {
+            throw new IllegalArgumentException("Can not create WebSocket url for " + servletUrl, e);
+        }
+    }
+}
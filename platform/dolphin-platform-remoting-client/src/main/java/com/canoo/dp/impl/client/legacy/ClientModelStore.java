@@ -16,6 +16,7 @@
 package com.canoo.dp.impl.client.legacy;
 
 import com.canoo.dp.impl.client.legacy.communication.AttributeChangeListener;
+import com.canoo.dp.impl.remoting.commands.ListSpliceCommand;
 import com.canoo.dp.impl.remoting.legacy.core.ModelStore;
 import com.canoo.dp.impl.remoting.legacy.core.ModelStoreConfig;
 import org.apiguardian.api.API;
@@ -38,17 +39,49 @@ public class ClientModelStore extends ModelStore<ClientAttribute, ClientPresenta
 
     protected final AttributeChangeListener attributeChangeListener;
 
+    private final boolean listSpliceActive;
+
+    private volatile boolean listSpliceSupportedByServer = false;
+
     /**
      * Constructs a client model store with default capacities.
      * @see ModelStoreConfig
      */
     public ClientModelStore(final ModelSynchronizer modelSynchronizer) {
-        super(new ModelStoreConfig());
+        this(modelSynchronizer, false);
+    }
+
+    /**
+     * Constructs a client model store with default capacities.
+     * @param listSpliceActive if true changes of observable lists are send as {@link ListSpliceCommand}s once the
+     *                         server has confirmed the support (see {@link #setListSpliceSupportedByServer(boolean)})
+     * @see ModelStoreConfig
+     */
+    public ClientModelStore(final ModelSynchronizer modelSynchronizer, final boolean listSpliceActive) {
+        this(modelSynchronizer, listSpliceActive, false);
+    }
+
+    /**
+     * Constructs a client model store with default capacities.
+     * @param listSpliceActive if true changes of observable lists are send as {@link ListSpliceCommand}s once the
+     *                         server has confirmed the support (see {@link #setListSpliceSupportedByServer(boolean)})
+     * @param compactIds if true new presentation models and attributes get compact ids (see {@link #createId(String)})
+     * @see ModelStoreConfig
+     */
+    public ClientModelStore(final ModelSynchronizer modelSynchronizer, final boolean listSpliceActive, final boolean compactIds) {
+        super(createConfig(compactIds));
         this.modelSynchronizer = modelSynchronizer;
+        this.listSpliceActive = listSpliceActive;
         attributeChangeListener = new AttributeChangeListener(this, modelSynchronizer);
     }
 
 
+    private static ModelStoreConfig createConfig(final boolean compactIds) {
+        final ModelStoreConfig config = new ModelStoreConfig();
+        config.setCompactIds(compactIds);
+        return config;
+    }
+
     @Override
     public boolean add(final ClientPresentationModel model) {
         boolean success = super.add(model);
@@ -87,6 +120,28 @@ public class ClientModelStore extends ModelStore<ClientAttribute, ClientPresenta
         return success;
     }
 
+    @Override
+    public boolean isListSpliceSupported() {
+        return listSpliceActive && listSpliceSupportedByServer;
+    }
+
+    /**
+     * Defines if the server can handle {@link ListSpliceCommand}s. The server confirms the support in the response
+     * to the context creation. Older servers do not confirm it and receive list changes as presentation models.
+     * @param listSpliceSupportedByServer true if the server supports {@link ListSpliceCommand}s
+     */
+    public void setListSpliceSupportedByServer(final boolean listSpliceSupportedByServer) {
+        this.listSpliceSupportedByServer = listSpliceSupportedByServer;
+    }
+
+    @Override
+    public void spliceList(final ListSpliceCommand command) {
+        if (!isListSpliceSupported()) {
+            throw new UnsupportedOperationException("List splice commands are not activated");
+        }
+        modelSynchronizer.onListSplice(command);
+    }
+
     @Override
     @Deprecated
     public void registerAttribute(final ClientAttribute attribute) {
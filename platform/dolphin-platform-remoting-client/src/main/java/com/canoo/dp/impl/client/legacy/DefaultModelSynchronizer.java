@@ -16,6 +16,7 @@
 package com.canoo.dp.impl.client.legacy;
 
 import com.canoo.dp.impl.client.legacy.communication.AbstractClientConnector;
+import com.canoo.dp.impl.remoting.commands.ListSpliceCommand;
 import com.canoo.dp.impl.remoting.legacy.communication.ChangeAttributeMetadataCommand;
 import com.canoo.dp.impl.remoting.legacy.communication.Command;
 import com.canoo.dp.impl.remoting.legacy.communication.CreatePresentationModelCommand;
@@ -62,6 +63,11 @@ public class DefaultModelSynchronizer implements ModelSynchronizer {
         send(command);
     }
 
+    @Override
+    public void onListSplice(final ListSpliceCommand command) {
+        send(command);
+    }
+
     private void send(final Command command) {
         AbstractClientConnector clientConnector = connectionProvider.get();
         if(clientConnector == null) {
@@ -15,6 +15,7 @@
  */
 package com.canoo.dp.impl.client.legacy;
 
+import com.canoo.dp.impl.remoting.commands.ListSpliceCommand;
 import org.apiguardian.api.API;
 
 import java.beans.PropertyChangeEvent;
@@ -31,4 +32,6 @@ public interface ModelSynchronizer {
     void onPropertyChanged(PropertyChangeEvent evt);
 
     void onMetadataChanged(PropertyChangeEvent evt);
+
+    void onListSplice(ListSpliceCommand command);
 }
@@ -30,6 +30,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.apiguardian.api.API.Status.DEPRECATED;
@@ -39,6 +41,8 @@ public abstract class AbstractClientConnector {
 
     private static final Logger LOG = LoggerFactory.getLogger(AbstractClientConnector.class);
 
+    protected static final long NO_SEQUENCE = -1;
+
     private final Executor uiExecutor;
 
     private final Executor backgroundExecutor;
@@ -64,6 +68,8 @@ public abstract class AbstractClientConnector {
 
     private InterruptLongPollCommand releaseCommand;
 
+    private volatile int pipelineDepth = 1;
+
     protected AbstractClientConnector(final ClientModelStore clientModelStore, final Executor uiExecutor, final ICommandBatcher commandBatcher, final RemotingExceptionHandler remotingExceptionHandler, final Executor backgroundExecutor) {
         this.uiExecutor = Objects.requireNonNull(uiExecutor);
         this.commandBatcher = Objects.requireNonNull(commandBatcher);
@@ -94,55 +100,166 @@ public abstract class AbstractClientConnector {
     }
 
     protected void commandProcessing() {
+        if (pipelineDepth > 1) {
+            pipelinedCommandProcessing();
+            return;
+        }
         boolean longPollingActivated = false;
         while (connectedFlag.get()) {
             try {
                 final List<CommandAndHandler> toProcess = commandBatcher.getWaitingBatches().getVal();
-                List<Command> commands = new ArrayList<>();
-                for (CommandAndHandler c : toProcess) {
-                    commands.add(c.getCommand());
-                }
-
-                if (LOG.isDebugEnabled()) {
-                    StringBuffer buffer = new StringBuffer();
-                    for (Command command : commands) {
-                        buffer.append(command.getClass().getSimpleName());
-                        buffer.append(", ");
-                    }
-                    LOG.trace("Sending {} commands to server: {}", commands.size(), buffer.substring(0, buffer.length() - 2));
-                } else {
-                    LOG.trace("Sending {} commands to server", commands.size());
-                }
+                final List<Command> commands = getCommands(toProcess);
+                final List<? extends Command> answers = transmitAndMeasure(commands, NO_SEQUENCE);
 
-                final List<? extends Command> answers = transmit(commands);
-
-                uiExecutor.execute(new Runnable() {
+                onResponse(answers, new Runnable() {
                     @Override
                     public void run() {
                         processResults(answers, toProcess);
                     }
                 });
             } catch (Exception e) {
-                if (connectedFlag.get()) {
-                    handleError(e);
-                } else {
-                    LOG.warn("Remoting error based on broken connection in parallel request", e);
-                }
+                handleTransmitError(e);
             }
-            if(!longPollingActivated && useLongPolling.get()) {
-                uiExecutor.execute(new Runnable() {
+            longPollingActivated = activateLongPolling(longPollingActivated);
+        }
+    }
+
+    /**
+     * Sends up to {@link #getPipelineDepth()} requests to the server without waiting for the responses. Each request
+     * contains a sequence number that is used by the server to handle the requests in the right order. The responses
+     * are processed in the same order on the ui executor. The first request is always sent alone since the server
+     * defines the client session in its response.
+     */
+    private void pipelinedCommandProcessing() {
+        final Semaphore requestsInFlight = new Semaphore(pipelineDepth);
+        final ResponseSequencer responseSequencer = new ResponseSequencer(uiExecutor);
+        long sequence = 0;
+        boolean longPollingActivated = false;
+        while (connectedFlag.get()) {
+            try {
+                final List<CommandAndHandler> toProcess = commandBatcher.getWaitingBatches().getVal();
+                final List<Command> commands = getCommands(toProcess);
+                requestsInFlight.acquire();
+                final long requestSequence = ++sequence;
+                final Runnable request = new Runnable() {
                     @Override
                     public void run() {
-                        listen();
+                        try {
+                            final List<? extends Command> answers = transmitAndMeasure(commands, requestSequence);
+                            responseSequencer.onResponse(requestSequence, new Runnable() {
+                                @Override
+                                public void run() {
+                                    processResults(answers, toProcess);
+                                }
+                            });
+                        } catch (Exception e) {
+                            handleTransmitError(e);
+                        } finally {
+                            requestsInFlight.release();
+                        }
                     }
-                });
-                longPollingActivated = true;
+                };
+                if (requestSequence == 1) {
+                    request.run();
+                } else {
+                    backgroundExecutor.execute(request);
+                }
+            } catch (Exception e) {
+                handleTransmitError(e);
+            }
+            longPollingActivated = activateLongPolling(longPollingActivated);
+        }
+    }
+
+    private List<Command> getCommands(final List<CommandAndHandler> toProcess) {
+        List<Command> commands = new ArrayList<>();
+        for (CommandAndHandler c : toProcess) {
+            commands.add(c.getCommand());
+        }
+
+        if (LOG.isDebugEnabled()) {
+            StringBuffer buffer = new StringBuffer();
+            for (Command command : commands) {
+                buffer.append(command.getClass().getSimpleName());
+                buffer.append(", ");
             }
+            LOG.trace("Sending {} commands to server: {}", commands.size(), buffer.substring(0, buffer.length() - 2));
+        } else {
+            LOG.trace("Sending {} commands to server", commands.size());
         }
+        return commands;
+    }
+
+    private List<? extends Command> transmitAndMeasure(final List<Command> commands, final long sequence) throws DolphinRemotingException {
+        final long transmitStart = System.nanoTime();
+        final List<? extends Command> answers = sequence == NO_SEQUENCE ? transmit(commands) : transmit(commands, sequence);
+        if (!commands.contains(pushListener)) {
+            commandBatcher.onRoundTrip(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - transmitStart));
+        }
+        return answers;
+    }
+
+    private void handleTransmitError(final Exception e) {
+        if (connectedFlag.get()) {
+            handleError(e);
+        } else {
+            LOG.warn("Remoting error based on broken connection in parallel request", e);
+        }
+    }
+
+    private boolean activateLongPolling(final boolean longPollingActivated) {
+        if(!longPollingActivated && useLongPolling.get()) {
+            uiExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    listen();
+                }
+            });
+            return true;
+        }
+        return longPollingActivated;
     }
 
     protected abstract List<Command> transmit(final List<Command> commands) throws DolphinRemotingException;
 
+    /**
+     * Hands the processing of a response over to the ui executor. Connectors that receive commands pushed by the
+     * server next to the responses can override this to process responses and pushed commands in the order in that
+     * the server has sent them.
+     * @param response the response commands as returned by {@link #transmit(List)}
+     * @param responseHandling the processing of the response
+     */
+    protected void onResponse(final List<? extends Command> response, final Runnable responseHandling) {
+        uiExecutor.execute(responseHandling);
+    }
+
+    /**
+     * Sends the commands of a pipelined request to the server. Connectors that support pipelining must send the
+     * sequence number to the server (see {@link #setPipelineDepth(int)}).
+     * @param commands the commands
+     * @param sequence the sequence number of the request
+     * @return the response commands
+     */
+    protected List<Command> transmit(final List<Command> commands, final long sequence) throws DolphinRemotingException {
+        return transmit(commands);
+    }
+
+    /**
+     * Defines how many requests can be sent to the server before the response of the first request was received. By
+     * default only one request is sent at a time. Must be called before the connector is connected.
+     * @param pipelineDepth the maximum number of requests in flight
+     */
+    protected void setPipelineDepth(final int pipelineDepth) {
+        if (pipelineDepth < 1) {
+            throw new IllegalArgumentException("pipelineDepth must be > 0");
+        }
+        this.pipelineDepth = pipelineDepth;
+    }
+
+    public int getPipelineDepth() {
+        return pipelineDepth;
+    }
+
     public void send(final Command command, final OnFinishedHandler callback, final HandlerType handlerType) {
         LOG.trace("Command of type {} should be withContent to server", command.getClass().getSimpleName());
         if (!connectedFlag.get()) {
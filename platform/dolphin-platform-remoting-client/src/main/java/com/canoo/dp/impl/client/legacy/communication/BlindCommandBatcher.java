@@ -20,12 +20,17 @@ import org.apiguardian.api.API;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Arrays;
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -36,23 +41,46 @@ import static org.apiguardian.api.API.Status.DEPRECATED;
  * have no onFinished handler attached (blind commands), which is the typical case
  * for value change and create presentation model commands
  * when synchronizing back to the server.
+ *
+ * A batch is finished if it reaches the maximum batch size, if a command with a handler (like an action call) is
+ * batched or if the deferral time of its oldest command is over. The deferral time adapts to the measured round trip
+ * time of the requests (see {@link #onRoundTrip(long)}) and is always between {@link #getDeferMillis()} and
+ * {@link #getMaxDeferMillis()}. Consecutive value changes of an attribute are merged into one command. All batches are
+ * created by one dedicated sender thread that stops once the batcher was idle for some time.
  */
 @API(since = "0.x", status = DEPRECATED)
 public class BlindCommandBatcher extends CommandBatcher {
 
     private static final Logger LOG = LoggerFactory.getLogger(BlindCommandBatcher.class);
 
-    private ExecutorService executorService = Executors.newCachedThreadPool();
+    private static final long SENDER_IDLE_TIMEOUT_MILLIS = 60_000;
+
+    private static final AtomicInteger SENDER_THREAD_COUNT = new AtomicInteger();
+
+    private final Deque<PendingCommand> pendingCommands = new ArrayDeque<>();
+
+    /**
+     * Value changes at the end of the pending commands by attribute id. Only those can be merged without changing the
+     * order of other commands.
+     */
+    private final Map<String, ValueChangedCommand> mergeableValueChanges = new HashMap<>();
+
+    private final Lock lock = new ReentrantLock();
 
-    private LinkedList<CommandAndHandler> commandsAndHandlers = new LinkedList<CommandAndHandler>();
+    private final Condition pendingChanged = lock.newCondition();
 
-    private Lock commandsAndHandlersLock = new ReentrantLock();
+    private boolean senderRunning = false;
 
     /**
-     * Time allowed to fill the queue before a batch is assembled
+     * Minimum time allowed to fill the queue before a batch is assembled
      */
     private long deferMillis = 10;
 
+    /**
+     * Maximum time allowed to fill the queue before a batch is assembled
+     */
+    private long maxDeferMillis = 50;
+
     /**
      * Must be > 0
      */
@@ -61,13 +89,7 @@ public class BlindCommandBatcher extends CommandBatcher {
     /**
      * when attribute x changes its value from 0 to 1 and then from 1 to 2, merge this into one change from 0 to 2
      */
-    private boolean mergeValueChanges = false;
-
-    protected final AtomicBoolean inProcess = new AtomicBoolean(false);
-
-    protected final AtomicBoolean deferralNeeded = new AtomicBoolean(false);
-
-    protected boolean shallWeEvenTryToMerge = false;
+    private boolean mergeValueChanges = true;
 
     @Override
     public boolean isEmpty() {
@@ -81,170 +103,184 @@ public class BlindCommandBatcher extends CommandBatcher {
         if (canBeDropped(commandWithHandler)) {
             LOG.trace("dropping duplicate GetPresentationModelCommand");
             return;
-
         }
 
-        commandsAndHandlersLock.lock();
+        lock.lock();
         try {
-            commandsAndHandlers.add(commandWithHandler);
-        } finally {
-            commandsAndHandlersLock.unlock();
-        }
-
-
-        if (commandWithHandler.isBatchable()) {
-            deferralNeeded.set(true);
-            if (inProcess.get()) {
-                return;
-
+            if (!wasMerged(commandWithHandler)) {
+                pendingCommands.add(new PendingCommand(commandWithHandler, System.nanoTime()));
             }
-
-            processDeferred();
-        } else {
-            processBatch();
+            if (!senderRunning) {
+                senderRunning = true;
+                startSender();
+            }
+            pendingChanged.signal();
+        } finally {
+            lock.unlock();
         }
-
     }
 
     protected boolean canBeDropped(final CommandAndHandler commandWithHandler) {
         return false;
     }
 
-    protected void processDeferred() {
-        inProcess.set(true);
-
-        executorService.execute(new Runnable() {
-            @Override
-            public void run() {
-                int count = getMaxBatchSize();// never wait for more than those
-                while (deferralNeeded.get() && count > 0) {
-                    count--;
-                    deferralNeeded.set(false);
-                    try {
-                        Thread.sleep(getDeferMillis());
-                    } catch (InterruptedException e) {
-                        throw new RuntimeException("ERROR", e);
-                    }
-                    // while we sleep, new requests may have arrived that request deferral
-                }
-
-                processBatch();
-                inProcess.set(false);
-            }
+    /**
+     * Merges the given command in a pending value change for the same attribute. Must be called while holding the lock.
+     */
+    private boolean wasMerged(final CommandAndHandler commandWithHandler) {
+        final Object command = commandWithHandler.getCommand();
+        if (!commandWithHandler.isBatchable() || !(command instanceof ValueChangedCommand)) {
+            mergeableValueChanges.clear();
+            return false;
+        }
+        if (!mergeValueChanges) {
+            return false;
+        }
+        final ValueChangedCommand valueChangedCommand = (ValueChangedCommand) command;
+        final ValueChangedCommand pendingCommand = mergeableValueChanges.get(valueChangedCommand.getAttributeId());
+        if (pendingCommand != null) {
+            LOG.trace("merging value changed command for attribute {} with new values {}  -> {}", pendingCommand.getAttributeId(), pendingCommand.getNewValue(), valueChangedCommand.getNewValue());
+            pendingCommand.setNewValue(valueChangedCommand.getNewValue());
+            getStatistics().onMerge();
+            return true;
+        }
+        mergeableValueChanges.put(valueChangedCommand.getAttributeId(), valueChangedCommand);
+        return false;
+    }
 
-        });
+    private void startSender() {
+        final Thread sender = new Thread(this::sendLoop, "Dolphin Platform command batcher " + SENDER_THREAD_COUNT.incrementAndGet());
+        sender.setDaemon(true);
+        sender.start();
     }
 
-    protected void processBatch() {
-        executorService.execute(new Runnable() {
-            @Override
-            public void run() {
-                getCommandsAndHandlersLock().lock();
+    private void sendLoop() {
+        while (true) {
+            final List<List<CommandAndHandler>> batches = new ArrayList<>();
+            lock.lock();
+            try {
                 try {
-                    CommandAndHandler last = batchBlinds(getCommandsAndHandlers());// always withContent leading blinds first
-                    if (last != null) {
-                        // we do have a trailing command with handler and batch it separately
-                        getWaitingBatches().add(Arrays.asList(last));
-                    }
-
-                    if (!getCommandsAndHandlers().isEmpty()) {
-                        processBatch();
-                        // this is not so much like recursion, more like a trampoline
+                    if (!awaitBatches(batches)) {
+                        senderRunning = false;
+                        return;
                     }
-
-                } finally {
-                    getCommandsAndHandlersLock().unlock();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    senderRunning = false;
+                    return;
                 }
-
+            } finally {
+                lock.unlock();
+            }
+            for (final List<CommandAndHandler> batch : batches) {
+                getWaitingBatches().add(batch);
             }
-
-        });
-    }
-
-    protected CommandAndHandler batchBlinds(final List<CommandAndHandler> queue) {
-        if (queue.isEmpty()) {
-            return null;
-        }
-
-        List<CommandAndHandler> blindCommands = new LinkedList();
-        int counter = maxBatchSize;
-        // we have to check again, since new ones may have arrived since last check
-        CommandAndHandler val = take(queue);
-        shallWeEvenTryToMerge = false;
-        while (val != null && val.isBatchable() && counter-- > 0) {// we do have a blind
-            addToBlindsOrMerge(blindCommands, val);
-            val = counter != 0 ? take(queue) : null;
-        }
-
-        LOG.trace("batching {} blinds" , blindCommands.size());
-        if (!blindCommands.isEmpty()) {
-            getWaitingBatches().add(blindCommands);
         }
-        return val;// may be null or a cwh that has a handler
     }
 
-    protected void addToBlindsOrMerge(final List<CommandAndHandler> blindCommands, final CommandAndHandler val) {
-        if (!wasMerged(blindCommands, val)) {
-            blindCommands.add(val);
-            if (val.getCommand() instanceof ValueChangedCommand) {
-                shallWeEvenTryToMerge = true;
+    /**
+     * Waits until at least one batch is finished and adds all finished batches to the given list. Must be called
+     * while holding the lock.
+     * @return false if the batcher was idle and the sender should stop
+     */
+    private boolean awaitBatches(final List<List<CommandAndHandler>> batches) throws InterruptedException {
+        while (true) {
+            if (pendingCommands.isEmpty()) {
+                if (!pendingChanged.await(SENDER_IDLE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS) && pendingCommands.isEmpty()) {
+                    return false;
+                }
+                continue;
             }
-
+            final long remainingNanos = pendingCommands.peek().enqueuedAt + TimeUnit.MILLISECONDS.toNanos(getCurrentDeferMillis()) - System.nanoTime();
+            drainBatches(batches, remainingNanos <= 0);
+            if (!batches.isEmpty()) {
+                return true;
+            }
+            pendingChanged.awaitNanos(remainingNanos);
         }
-
     }
 
-    protected boolean wasMerged(final List<CommandAndHandler> blindCommands, final CommandAndHandler val) {
-        if (!mergeValueChanges) {
-            return false;
-        }
-
-        if (!shallWeEvenTryToMerge) {
-            return false;
-        }
-
-        if (blindCommands.isEmpty()) {
-            return false;
-        }
-
-        if (val.getCommand() == null) {
-            return false;
-        }
-
-        if (!(val.getCommand() instanceof ValueChangedCommand)) {
-            return false;
-        }
-
-        final ValueChangedCommand valCmd = (ValueChangedCommand) val.getCommand();
+    /**
+     * Creates batches from the pending commands. A batch of blind commands that is not full and not followed by a
+     * command with handler is only created if the deferral time is over. Must be called while holding the lock.
+     */
+    private void drainBatches(final List<List<CommandAndHandler>> batches, final boolean deferralOver) {
+        while (!pendingCommands.isEmpty()) {
+            final PendingCommand first = pendingCommands.peek();
+            if (!first.commandAndHandler.isBatchable()) {
+                pendingCommands.poll();
+                addBatch(batches, Collections.singletonList(first.commandAndHandler), FlushReason.ACTION);
+                continue;
+            }
 
-        shallWeEvenTryToMerge = true;
+            int blindCount = 0;
+            boolean followedByAction = false;
+            for (final PendingCommand pendingCommand : pendingCommands) {
+                if (!pendingCommand.commandAndHandler.isBatchable()) {
+                    followedByAction = true;
+                    break;
+                }
+                if (++blindCount >= maxBatchSize) {
+                    break;
+                }
+            }
 
+            final FlushReason reason;
+            if (blindCount >= maxBatchSize) {
+                reason = FlushReason.SIZE;
+            } else if (followedByAction) {
+                reason = FlushReason.ACTION;
+            } else if (deferralOver) {
+                reason = FlushReason.TIME;
+            } else {
+                return;
+            }
 
-        if(blindCommands.get(blindCommands.size() -1).getCommand() instanceof ValueChangedCommand) {
-            ValueChangedCommand valueChangedCommand = (ValueChangedCommand) blindCommands.get(blindCommands.size() -1).getCommand();
-            if(valCmd.getAttributeId().equals(valueChangedCommand.getAttributeId())) {
-                LOG.trace("merging value changed command for attribute {} with new values {}  -> {}", valueChangedCommand.getAttributeId(), valueChangedCommand.getNewValue(), valCmd.getNewValue());
-                valueChangedCommand.setNewValue(valCmd.getNewValue());
-                return true;
+            final List<CommandAndHandler> batch = new ArrayList<>(blindCount);
+            for (int i = 0; i < blindCount; i++) {
+                batch.add(pendingCommands.poll().commandAndHandler);
             }
+            addBatch(batches, batch, reason);
         }
-        return false;
     }
 
-    protected CommandAndHandler take(final List<CommandAndHandler> intern) {
-        if (intern.isEmpty()) {
-            return null;
-        }
-
-        return intern.remove(0);
+    private void addBatch(final List<List<CommandAndHandler>> batches, final List<CommandAndHandler> batch, final FlushReason reason) {
+        LOG.trace("batching {} commands ({})", batch.size(), reason);
+        getStatistics().onBatch(batch.size(), reason);
+        batches.add(batch);
+        updateMergeableValueChanges();
     }
 
-    public List<CommandAndHandler> getCommandsAndHandlers() {
-        return commandsAndHandlers;
+    /**
+     * Removes all value changes that are no longer pending. Must be called while holding the lock.
+     */
+    private void updateMergeableValueChanges() {
+        if (mergeableValueChanges.isEmpty()) {
+            return;
+        }
+        mergeableValueChanges.clear();
+        final Iterator<PendingCommand> iterator = pendingCommands.descendingIterator();
+        while (iterator.hasNext()) {
+            final CommandAndHandler pending = iterator.next().commandAndHandler;
+            if (!pending.isBatchable() || !(pending.getCommand() instanceof ValueChangedCommand)) {
+                return;
+            }
+            final ValueChangedCommand valueChangedCommand = (ValueChangedCommand) pending.getCommand();
+            mergeableValueChanges.putIfAbsent(valueChangedCommand.getAttributeId(), valueChangedCommand);
+        }
     }
 
-    public Lock getCommandsAndHandlersLock() {
-        return commandsAndHandlersLock;
+    /**
+     * Returns the deferral time that is currently used. The time is based on the smoothed round trip time of the last
+     * requests: if requests take long, waiting a little longer for more commands does not hurt.
+     * @return the current deferral time in milliseconds
+     */
+    public long getCurrentDeferMillis() {
+        final long roundTripMillis = getStatistics().getSmoothedRoundTripMillis();
+        if (roundTripMillis < 0) {
+            return deferMillis;
+        }
+        return Math.max(deferMillis, Math.min(maxDeferMillis, roundTripMillis / 4));
     }
 
     public long getDeferMillis() {
@@ -253,6 +289,16 @@ public class BlindCommandBatcher extends CommandBatcher {
 
     public void setDeferMillis(final long deferMillis) {
         this.deferMillis = deferMillis;
+        this.maxDeferMillis = Math.max(maxDeferMillis, deferMillis);
+    }
+
+    public long getMaxDeferMillis() {
+        return maxDeferMillis;
+    }
+
+    public void setMaxDeferMillis(final long maxDeferMillis) {
+        this.maxDeferMillis = maxDeferMillis;
+        this.deferMillis = Math.min(deferMillis, maxDeferMillis);
     }
 
     public int getMaxBatchSize() {
@@ -263,8 +309,23 @@ public class BlindCommandBatcher extends CommandBatcher {
         this.maxBatchSize = maxBatchSize;
     }
 
+    public boolean isMergeValueChanges() {
+        return mergeValueChanges;
+    }
+
     public void setMergeValueChanges(final boolean mergeValueChanges) {
         this.mergeValueChanges = mergeValueChanges;
     }
 
+    private static class PendingCommand {
+
+        private final CommandAndHandler commandAndHandler;
+
+        private final long enqueuedAt;
+
+        private PendingCommand(final CommandAndHandler commandAndHandler, final long enqueuedAt) {
+            this.commandAndHandler = commandAndHandler;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
 }
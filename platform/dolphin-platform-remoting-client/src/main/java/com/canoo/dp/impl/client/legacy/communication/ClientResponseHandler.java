@@ -18,6 +18,8 @@ package com.canoo.dp.impl.client.legacy.communication;
 import com.canoo.dp.impl.client.legacy.ClientAttribute;
 import com.canoo.dp.impl.client.legacy.ClientModelStore;
 import com.canoo.dp.impl.client.legacy.ClientPresentationModel;
+import com.canoo.dp.impl.remoting.commands.CreateContextCommand;
+import com.canoo.dp.impl.remoting.commands.ListSpliceCommand;
 import com.canoo.dp.impl.remoting.legacy.communication.AttributeMetadataChangedCommand;
 import com.canoo.dp.impl.remoting.legacy.communication.Command;
 import com.canoo.dp.impl.remoting.legacy.communication.CreatePresentationModelCommand;
@@ -55,6 +57,10 @@ public class ClientResponseHandler {
             handleValueChangedCommand((ValueChangedCommand) command);
         } else if (command instanceof AttributeMetadataChangedCommand) {
             handleAttributeMetadataChangedCommand((AttributeMetadataChangedCommand) command);
+        } else if (command instanceof ListSpliceCommand) {
+            clientModelStore.onListSplice((ListSpliceCommand) command);
+        } else if (command instanceof CreateContextCommand) {
+            clientModelStore.setListSpliceSupportedByServer(((CreateContextCommand) command).isListSpliceSupported());
         } else {
             LOG.error("C: cannot withoutResult unknown command '{}'", command );
         }
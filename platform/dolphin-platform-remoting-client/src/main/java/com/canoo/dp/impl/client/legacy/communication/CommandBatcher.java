@@ -27,11 +27,14 @@ public class CommandBatcher implements ICommandBatcher {
 
     private final DataflowQueue<List<CommandAndHandler>> waitingBatches;
 
+    private final CommandBatcherStatistics statistics = new CommandBatcherStatistics();
+
     public CommandBatcher() {
         this.waitingBatches = new CommandBatcherQueue();
     }
 
     public void batch(final CommandAndHandler commandAndHandler) {
+        statistics.onBatch(1, FlushReason.IMMEDIATE);
         waitingBatches.add(Collections.singletonList(commandAndHandler));
     }
 
@@ -43,4 +46,12 @@ public class CommandBatcher implements ICommandBatcher {
         return waitingBatches;
     }
 
+    public void onRoundTrip(final long roundTripMillis) {
+        statistics.onRoundTrip(roundTripMillis);
+    }
+
+    public CommandBatcherStatistics getStatistics() {
+        return statistics;
+    }
+
 }
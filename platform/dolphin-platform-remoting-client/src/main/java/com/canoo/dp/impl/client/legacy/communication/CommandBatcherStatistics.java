@@ -0,0 +1,120 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.client.legacy.communication;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import org.apiguardian.api.API;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Thread safe statistics of a {@link ICommandBatcher}: the number and size of the created batches, the reasons why
+ * batches were finished and the measured round trip time of the requests that send the batches to the server.
+ */
+@API(since = "1.0.0", status = INTERNAL)
+public class CommandBatcherStatistics {
+
+    /**
+     * Weight of a new measurement in the smoothed round trip time (like the smoothed RTT of TCP)
+     */
+    private static final double ROUND_TRIP_SMOOTHING_FACTOR = 0.125;
+
+    private final AtomicLong batchCount = new AtomicLong();
+
+    private final AtomicLong commandCount = new AtomicLong();
+
+    private final AtomicLong mergedCommandCount = new AtomicLong();
+
+    private final AtomicLong maxBatchSize = new AtomicLong();
+
+    private final Map<FlushReason, AtomicLong> flushCounts = new EnumMap<>(FlushReason.class);
+
+    private volatile double smoothedRoundTripMillis = -1;
+
+    public CommandBatcherStatistics() {
+        for (final FlushReason reason : FlushReason.values()) {
+            flushCounts.put(reason, new AtomicLong());
+        }
+    }
+
+    public void onBatch(final int size, final FlushReason reason) {
+        Assert.requireNonNull(reason, "reason");
+        batchCount.incrementAndGet();
+        commandCount.addAndGet(size);
+        maxBatchSize.accumulateAndGet(size, Math::max);
+        flushCounts.get(reason).incrementAndGet();
+    }
+
+    public void onMerge() {
+        mergedCommandCount.incrementAndGet();
+    }
+
+    public synchronized void onRoundTrip(final long roundTripMillis) {
+        if (roundTripMillis < 0) {
+            return;
+        }
+        if (smoothedRoundTripMillis < 0) {
+            smoothedRoundTripMillis = roundTripMillis;
+        } else {
+            smoothedRoundTripMillis = smoothedRoundTripMillis + ROUND_TRIP_SMOOTHING_FACTOR * (roundTripMillis - smoothedRoundTripMillis);
+        }
+    }
+
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+
+    public long getCommandCount() {
+        return commandCount.get();
+    }
+
+    /**
+     * Returns the number of commands that were merged into a command of the same batch and therefore never sent
+     * @return number of merged commands
+     */
+    public long getMergedCommandCount() {
+        return mergedCommandCount.get();
+    }
+
+    public long getMaxBatchSize() {
+        return maxBatchSize.get();
+    }
+
+    public double getAverageBatchSize() {
+        final long batches = batchCount.get();
+        if (batches == 0) {
+            return 0;
+        }
+        return (double) commandCount.get() / batches;
+    }
+
+    public long getFlushCount(final FlushReason reason) {
+        Assert.requireNonNull(reason, "reason");
+        return flushCounts.get(reason).get();
+    }
+
+    /**
+     * Returns the smoothed round trip time of the requests that send the batches
+     * @return the smoothed round trip time in milliseconds or -1 if no request was measured
+     */
+    public long getSmoothedRoundTripMillis() {
+        return Math.round(smoothedRoundTripMillis);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.client.legacy.communication;
+
+import org.apiguardian.api.API;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Defines why a {@link ICommandBatcher} finished a batch of commands.
+ */
+@API(since = "1.0.0", status = INTERNAL)
+public enum FlushReason {
+
+    /**
+     * The batch was finished since the maximum batch size was reached
+     */
+    SIZE,
+
+    /**
+     * The batch was finished since the deferral time was over
+     */
+    TIME,
+
+    /**
+     * The batch was finished by a command that has a handler (like an action call) and can not be batched
+     */
+    ACTION,
+
+    /**
+     * The batcher does not batch commands and sends each command directly
+     */
+    IMMEDIATE
+}
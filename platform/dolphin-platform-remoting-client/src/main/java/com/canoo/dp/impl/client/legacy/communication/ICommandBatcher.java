@@ -29,4 +29,12 @@ public interface ICommandBatcher {
 	boolean isEmpty();
 
     DataflowQueue<List<CommandAndHandler>> getWaitingBatches();
+
+    /**
+     * Called once a batch was sent to the server and the response was received
+     * @param roundTripMillis the duration of the request in milliseconds
+     */
+    void onRoundTrip(long roundTripMillis);
+
+    CommandBatcherStatistics getStatistics();
 }
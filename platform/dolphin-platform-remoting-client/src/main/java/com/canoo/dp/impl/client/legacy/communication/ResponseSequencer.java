@@ -0,0 +1,66 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.client.legacy.communication;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import org.apiguardian.api.API;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Hands the responses of pipelined requests to an executor in the order of the request sequence numbers. A response
+ * that arrives before the responses of all previous requests is kept until these responses were handed over.
+ */
+@API(since = "1.0.0", status = INTERNAL)
+public class ResponseSequencer {
+
+    private final Executor executor;
+
+    private final Map<Long, Runnable> pendingResponses = new HashMap<>();
+
+    private long nextSequence = 1;
+
+    public ResponseSequencer(final Executor executor) {
+        this.executor = Assert.requireNonNull(executor, "executor");
+    }
+
+    /**
+     * Adds the handling of the response for the request with the given sequence number. The handling and all pending
+     * handlings of following responses are executed once the responses of all previous requests were handed over.
+     * @param sequence the sequence number of the request
+     * @param responseHandling the handling of the response
+     */
+    public synchronized void onResponse(final long sequence, final Runnable responseHandling) {
+        Assert.requireNonNull(responseHandling, "responseHandling");
+        if (sequence < nextSequence || pendingResponses.containsKey(sequence)) {
+            throw new IllegalStateException("Response for request with sequence number " + sequence + " was already handled");
+        }
+        pendingResponses.put(sequence, responseHandling);
+        Runnable next;
+        while ((next = pendingResponses.remove(nextSequence)) != null) {
+            nextSequence++;
+            executor.execute(next);
+        }
+    }
+
+    public synchronized int getPendingResponseCount() {
+        return pendingResponses.size();
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dolphin.client.impl;
+
+import com.canoo.dp.impl.client.DolphinPlatformWebSocketClientConnector;
+import com.canoo.dp.impl.client.legacy.ClientModelStore;
+import com.canoo.dp.impl.client.legacy.DefaultModelSynchronizer;
+import com.canoo.dp.impl.client.legacy.communication.AbstractClientConnector;
+import com.canoo.dp.impl.client.legacy.communication.SimpleExceptionHandler;
+import com.canoo.dp.impl.platform.core.http.HttpStatus;
+import com.canoo.dp.impl.remoting.PlatformRemotingConstants;
+import com.canoo.dp.impl.remoting.legacy.communication.Command;
+import com.canoo.dp.impl.remoting.legacy.communication.CreatePresentationModelCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.DeletePresentationModelCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.JsonCodec;
+import com.canoo.platform.client.HeadlessToolkit;
+import com.canoo.platform.client.PlatformClient;
+import com.canoo.platform.client.session.ClientSessionStore;
+import com.canoo.platform.core.http.HttpClient;
+import com.canoo.platform.core.http.HttpURLConnectionFactory;
+import com.canoo.platform.remoting.DolphinRemotingException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import javax.websocket.ClientEndpointConfig;
+import javax.websocket.Endpoint;
+import javax.websocket.MessageHandler;
+import javax.websocket.RemoteEndpoint;
+import javax.websocket.Session;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+
+public class TestDolphinPlatformWebSocketClientConnector {
+
+    @Test
+    public void testWebSocketUrl() {
+        Assert.assertEquals(DolphinPlatformWebSocketClientConnector.getWebSocketUrl(URI.create("http://localhost:8080/dolphin"), null), URI.create("ws://localhost:8080/dolphin-ws"));
+        Assert.assertEquals(DolphinPlatformWebSocketClientConnector.getWebSocketUrl(URI.create("https://example.com/app/dolphin/"), null), URI.create("wss://example.com/app/dolphin-ws"));
+        Assert.assertEquals(DolphinPlatformWebSocketClientConnector.getWebSocketUrl(URI.create("http://localhost:8080/dolphin"), "ws://other:9090/push"), URI.create("ws://other:9090/push"));
+    }
+
+    @Test
+    public void testFallbackToHttp() throws DolphinRemotingException {
+        //given:
+        final AtomicInteger requestCounter = new AtomicInteger(0);
+        PlatformClient.init(new HeadlessToolkit());
+        PlatformClient.getClientConfiguration().setHttpURLConnectionFactory(new HttpURLConnectionFactory() {
+            @Override
+            public HttpURLConnection create(URI url) throws IOException {
+                requestCounter.incrementAndGet();
+                return createConnection(url);
+            }
+        });
+        final ClientModelStore clientModelStore = new ClientModelStore(new DefaultModelSynchronizer(() -> null));
+        final DolphinPlatformWebSocketClientConnector connector = new DolphinPlatformWebSocketClientConnector(URI.create("http://dummyURL/dolphin"), PlatformClient.getClientConfiguration(), clientModelStore, new JsonCodec(), new SimpleExceptionHandler(), PlatformClient.getService(HttpClient.class), PlatformClient.getService(ClientSessionStore.class));
+        final CreatePresentationModelCommand command = new CreatePresentationModelCommand();
+        command.setPmId("p1");
+
+        //when:
+        final List<Command> firstResult = connector.transmit(Collections.<Command>singletonList(command));
+        final List<Command> secondResult = connector.transmit(Collections.<Command>singletonList(command));
+
+        //then:
+        Assert.assertEquals(firstResult.size(), 1);
+        Assert.assertEquals(secondResult.size(), 1);
+        Assert.assertEquals(requestCounter.get(), 2);
+    }
+
+    @Test
+    public void testPushIsProcessedAfterPreviousResponse() throws Exception {
+        //given:
+        PlatformClient.init(new HeadlessToolkit());
+        PlatformClient.getClientConfiguration().setHttpURLConnectionFactory(url -> createConnection(url));
+        final JsonCodec codec = new JsonCodec();
+        final CreatePresentationModelCommand createCommand = new CreatePresentationModelCommand();
+        createCommand.setPmId("p2");
+        createCommand.setClientSideOnly(true);
+        final String response = PlatformRemotingConstants.WEB_SOCKET_RESPONSE_PREFIX + codec.encode(Collections.<Command>singletonList(createCommand));
+        final DeletePresentationModelCommand deleteCommand = new DeletePresentationModelCommand();
+        deleteCommand.setPmId("p2");
+        final String push = PlatformRemotingConstants.WEB_SOCKET_PUSH_PREFIX + codec.encode(Collections.<Command>singletonList(deleteCommand));
+        final String emptyResponse = PlatformRemotingConstants.WEB_SOCKET_RESPONSE_PREFIX + codec.encode(Collections.<Command>emptyList());
+        final AtomicBoolean pushSent = new AtomicBoolean(false);
+        final AtomicReference<AbstractClientConnector> connectorReference = new AtomicReference<>();
+        final ClientModelStore clientModelStore = new ClientModelStore(new DefaultModelSynchronizer(() -> connectorReference.get()));
+        final DolphinPlatformWebSocketClientConnector connector = new DolphinPlatformWebSocketClientConnector(URI.create("http://dummyURL/dolphin"), PlatformClient.getClientConfiguration(), clientModelStore, codec, new SimpleExceptionHandler(), PlatformClient.getService(HttpClient.class), PlatformClient.getService(ClientSessionStore.class)) {
+            @Override
+            protected Session connectToServer(final Endpoint endpoint, final ClientEndpointConfig config, final URI url) {
+                final List<MessageHandler.Whole<String>> handlers = new CopyOnWriteArrayList<>();
+                final RemoteEndpoint.Basic remote = createProxy(RemoteEndpoint.Basic.class, (method, args) -> {
+                    if (method.getName().equals("sendText") && !pushSent.getAndSet(true)) {
+                        // the server answers the request and pushes a command directly after the response
+                        handlers.forEach(h -> h.onMessage(response));
+                        handlers.forEach(h -> h.onMessage(push));
+                    } else if (method.getName().equals("sendText")) {
+                        handlers.forEach(h -> h.onMessage(emptyResponse));
+                    }
+                    return null;
+                });
+                final Session session = createProxy(Session.class, (method, args) -> {
+                    if (method.getName().equals("isOpen")) {
+                        return true;
+                    } else if (method.getName().equals("getBasicRemote")) {
+                        return remote;
+                    } else if (method.getName().equals("addMessageHandler")) {
+                        handlers.add((MessageHandler.Whole<String>) args[0]);
+                    }
+                    return null;
+                });
+                endpoint.onOpen(session, config);
+                return session;
+            }
+        };
+        connectorReference.set(connector);
+        final CountDownLatch responseProcessed = new CountDownLatch(1);
+
+        //when:
+        connector.connect(false);
+        connector.send(new CreatePresentationModelCommand());
+        connector.send(new CreatePresentationModelCommand(), () -> responseProcessed.countDown());
+        Assert.assertTrue(responseProcessed.await(10, TimeUnit.SECONDS));
+        final CompletableFuture<Boolean> modelAvailable = new CompletableFuture<>();
+        PlatformClient.getClientConfiguration().getUiExecutor().execute(() -> modelAvailable.complete(clientModelStore.containsPresentationModel("p2")));
+
+        //then:
+        Assert.assertFalse(modelAvailable.get(10, TimeUnit.SECONDS));
+        connector.disconnect();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T createProxy(final Class<T> type, final BiFunction<Method, Object[], Object> handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class[]{type}, (proxy, method, args) -> handler.apply(method, args));
+    }
+
+    private static HttpURLConnection createConnection(final URI url) throws IOException {
+        return new HttpURLConnection(url.toURL()) {
+            @Override
+            public void disconnect() {
+
+            }
+
+            @Override
+            public boolean usingProxy() {
+                return false;
+            }
+
+            @Override
+            public void connect() throws IOException {
+
+            }
+
+            @Override
+            public int getResponseCode() throws IOException {
+                return HttpStatus.HTTP_OK;
+            }
+
+            @Override
+            public OutputStream getOutputStream() throws IOException {
+                return new ByteArrayOutputStream();
+            }
+
+            @Override
+            public InputStream getInputStream() throws IOException {
+                String response = "[{\"pmId\":\"p1\",\"clientSideOnly\":false,\"id\":\"CreatePresentationModel\",\"attributes\":[],\"pmType\":null,\"className\":\"com.canoo.dp.impl.remoting.legacy.communication.CreatePresentationModelCommand\"}]";
+                return new ByteArrayInputStream(response.getBytes("UTF-8"));
+            }
+        };
+    }
+}
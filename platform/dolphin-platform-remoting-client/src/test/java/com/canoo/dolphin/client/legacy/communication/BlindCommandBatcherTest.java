@@ -17,6 +17,8 @@ package com.canoo.dolphin.client.legacy.communication;
 
 import com.canoo.dp.impl.client.legacy.communication.BlindCommandBatcher;
 import com.canoo.dp.impl.client.legacy.communication.CommandAndHandler;
+import com.canoo.dp.impl.client.legacy.communication.CommandBatcherStatistics;
+import com.canoo.dp.impl.client.legacy.communication.FlushReason;
 import com.canoo.dp.impl.client.legacy.communication.OnFinishedHandler;
 import com.canoo.dp.impl.remoting.legacy.communication.CreatePresentationModelCommand;
 import com.canoo.dp.impl.remoting.legacy.communication.ValueChangedCommand;
@@ -39,6 +41,7 @@ public class BlindCommandBatcherTest {
 
     @Test
     public void testMultipleBlindsAreBatchedNonMerging() {
+        batcher.setMergeValueChanges(false);
         doMultipleBlindsAreBatched();
     }
 
@@ -67,6 +70,7 @@ public class BlindCommandBatcherTest {
 
     @Test
     public void testNonBlindForcesBatchNonMerging() {
+        batcher.setMergeValueChanges(false);
         doNonBlindForcesBatch();
     }
 
@@ -113,6 +117,7 @@ public class BlindCommandBatcherTest {
     }
     @Test
     public void testMaxBatchSizeNonMerging() {
+        batcher.setMergeValueChanges(false);
         doMaxBatchSize();
     }
 
@@ -196,6 +201,31 @@ public class BlindCommandBatcherTest {
 
     }
 
+    @Test
+    public void testNoMergeIfDeactivated() throws InterruptedException {
+
+        //given:
+        batcher.setMergeValueChanges(false);
+        ValueChangedCommand command = new ValueChangedCommand();
+        command.setAttributeId("0");
+        command.setNewValue(1);
+        ValueChangedCommand command1 = new ValueChangedCommand();
+        command1.setAttributeId("0");
+        command1.setNewValue(2);
+
+        //when:
+        batcher.batch(new CommandAndHandler(command));
+        batcher.batch(new CommandAndHandler(command1));
+
+        //then:
+        List<CommandAndHandler> nextBatch = batcher.getWaitingBatches().getVal();
+        Assert.assertEquals(2, nextBatch.size());
+        Assert.assertEquals(1, ((ValueChangedCommand) nextBatch.get(0).getCommand()).getNewValue());
+        Assert.assertEquals(2, ((ValueChangedCommand) nextBatch.get(1).getCommand()).getNewValue());
+        Assert.assertEquals(0, batcher.getStatistics().getMergedCommandCount());
+        Assert.assertTrue(batcher.isEmpty());
+    }
+
     @Test
     public void testMergeCreatePmAfterValueChange() {
 
@@ -230,5 +260,116 @@ public class BlindCommandBatcherTest {
 
     }
 
+    @Test
+    public void testMergeIsDefault() {
+        Assert.assertTrue(new BlindCommandBatcher().isMergeValueChanges());
+    }
+
+    @Test
+    public void testMergeInterleavedAttributes() throws InterruptedException {
+
+        //given:
+        List<CommandAndHandler> list = new ArrayList<CommandAndHandler>();
+        for (int i = 0; i < 6; i++) {
+            ValueChangedCommand command = new ValueChangedCommand();
+            command.setAttributeId(Integer.toString(i % 2));
+            command.setNewValue(i);
+            list.add(new CommandAndHandler(command));
+        }
+
+        //when:
+        for (CommandAndHandler commandAndHandler : list) {
+            batcher.batch(commandAndHandler);
+        }
+
+        //then:
+        List<CommandAndHandler> nextBatch = batcher.getWaitingBatches().getVal();
+        Assert.assertEquals(2, nextBatch.size());
+        Assert.assertEquals("0", ((ValueChangedCommand) nextBatch.get(0).getCommand()).getAttributeId());
+        Assert.assertEquals(4, ((ValueChangedCommand) nextBatch.get(0).getCommand()).getNewValue());
+        Assert.assertEquals("1", ((ValueChangedCommand) nextBatch.get(1).getCommand()).getAttributeId());
+        Assert.assertEquals(5, ((ValueChangedCommand) nextBatch.get(1).getCommand()).getNewValue());
+        Assert.assertEquals(4, batcher.getStatistics().getMergedCommandCount());
+        Assert.assertTrue(batcher.isEmpty());
+    }
+
+    @Test
+    public void testNoMergeOverOtherCommand() throws InterruptedException {
+
+        //given:
+        ValueChangedCommand command = new ValueChangedCommand();
+        command.setAttributeId("0");
+        command.setNewValue(1);
+        ValueChangedCommand command1 = new ValueChangedCommand();
+        command1.setAttributeId("0");
+        command1.setNewValue(2);
+
+        //when:
+        batcher.batch(new CommandAndHandler(command));
+        batcher.batch(new CommandAndHandler(new CreatePresentationModelCommand()));
+        batcher.batch(new CommandAndHandler(command1));
+
+        //then:
+        List<CommandAndHandler> nextBatch = batcher.getWaitingBatches().getVal();
+        Assert.assertEquals(3, nextBatch.size());
+        Assert.assertEquals(1, ((ValueChangedCommand) nextBatch.get(0).getCommand()).getNewValue());
+        Assert.assertEquals(2, ((ValueChangedCommand) nextBatch.get(2).getCommand()).getNewValue());
+        Assert.assertEquals(0, batcher.getStatistics().getMergedCommandCount());
+    }
+
+    @Test
+    public void testStatistics() throws InterruptedException {
+
+        //given:
+        batcher.setMaxBatchSize(2);
+
+        //when:
+        batcher.batch(new CommandAndHandler(null));
+        batcher.batch(new CommandAndHandler(null));
+        batcher.batch(new CommandAndHandler(null));
+        batcher.batch(new CommandAndHandler(null, new OnFinishedHandler() {
+            @Override
+            public void onFinished() {
+
+            }
+        }));
+        batcher.batch(new CommandAndHandler(null));
+
+        //then:
+        Assert.assertEquals(2, batcher.getWaitingBatches().getVal().size());
+        Assert.assertEquals(1, batcher.getWaitingBatches().getVal().size());
+        Assert.assertEquals(1, batcher.getWaitingBatches().getVal().size());
+        Assert.assertEquals(1, batcher.getWaitingBatches().getVal().size());
+        CommandBatcherStatistics statistics = batcher.getStatistics();
+        Assert.assertEquals(4, statistics.getBatchCount());
+        Assert.assertEquals(5, statistics.getCommandCount());
+        Assert.assertEquals(2, statistics.getMaxBatchSize());
+        Assert.assertEquals(1, statistics.getFlushCount(FlushReason.SIZE));
+        Assert.assertEquals(2, statistics.getFlushCount(FlushReason.ACTION));
+        Assert.assertEquals(1, statistics.getFlushCount(FlushReason.TIME));
+    }
+
+    @Test
+    public void testDeferralAdaptsToRoundTrip() {
+        batcher.setDeferMillis(10);
+        batcher.setMaxDeferMillis(50);
+        Assert.assertEquals(10, batcher.getCurrentDeferMillis());
+
+        for (int i = 0; i < 100; i++) {
+            batcher.onRoundTrip(120);
+        }
+        Assert.assertEquals(30, batcher.getCurrentDeferMillis());
+
+        for (int i = 0; i < 100; i++) {
+            batcher.onRoundTrip(1000);
+        }
+        Assert.assertEquals(50, batcher.getCurrentDeferMillis());
+
+        for (int i = 0; i < 100; i++) {
+            batcher.onRoundTrip(1);
+        }
+        Assert.assertEquals(10, batcher.getCurrentDeferMillis());
+    }
+
     private BlindCommandBatcher batcher;
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dolphin.client.legacy.communication;
+
+import com.canoo.dp.impl.client.legacy.ClientModelStore;
+import com.canoo.dp.impl.client.legacy.DefaultModelSynchronizer;
+import com.canoo.dp.impl.client.legacy.communication.ClientResponseHandler;
+import com.canoo.dp.impl.remoting.commands.CreateContextCommand;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ClientResponseHandlerTest {
+
+    @Test
+    public void testListSpliceIsInactiveWithoutServerConfirmation() {
+        //given:
+        final ClientModelStore clientModelStore = new ClientModelStore(new DefaultModelSynchronizer(() -> null), true);
+
+        //then:
+        Assert.assertFalse(clientModelStore.isListSpliceSupported());
+    }
+
+    @Test
+    public void testListSpliceIsActivatedByServerConfirmation() {
+        //given:
+        final ClientModelStore clientModelStore = new ClientModelStore(new DefaultModelSynchronizer(() -> null), true);
+        final ClientResponseHandler responseHandler = new ClientResponseHandler(clientModelStore);
+        final CreateContextCommand confirmation = new CreateContextCommand();
+        confirmation.setListSpliceSupported(true);
+
+        //when:
+        responseHandler.dispatchHandle(confirmation);
+
+        //then:
+        Assert.assertTrue(clientModelStore.isListSpliceSupported());
+    }
+
+    @Test
+    public void testListSpliceStaysInactiveIfDeactivatedOnClient() {
+        //given:
+        final ClientModelStore clientModelStore = new ClientModelStore(new DefaultModelSynchronizer(() -> null), false);
+        final ClientResponseHandler responseHandler = new ClientResponseHandler(clientModelStore);
+        final CreateContextCommand confirmation = new CreateContextCommand();
+        confirmation.setListSpliceSupported(true);
+
+        //when:
+        responseHandler.dispatchHandle(confirmation);
+
+        //then:
+        Assert.assertFalse(clientModelStore.isListSpliceSupported());
+    }
+}
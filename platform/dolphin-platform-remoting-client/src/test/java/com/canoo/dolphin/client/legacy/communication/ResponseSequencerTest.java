@@ -0,0 +1,60 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dolphin.client.legacy.communication;
+
+import com.canoo.dp.impl.client.legacy.communication.ResponseSequencer;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class ResponseSequencerTest {
+
+    @Test
+    public void testResponsesAreHandledInRequestOrder() {
+        //given:
+        final List<Integer> handledResponses = new ArrayList<>();
+        final ResponseSequencer sequencer = new ResponseSequencer(Runnable::run);
+
+        //when:
+        sequencer.onResponse(3, () -> handledResponses.add(3));
+        sequencer.onResponse(2, () -> handledResponses.add(2));
+
+        //then:
+        Assert.assertTrue(handledResponses.isEmpty());
+        Assert.assertEquals(sequencer.getPendingResponseCount(), 2);
+
+        //when:
+        sequencer.onResponse(1, () -> handledResponses.add(1));
+        sequencer.onResponse(4, () -> handledResponses.add(4));
+
+        //then:
+        Assert.assertEquals(handledResponses, Arrays.asList(1, 2, 3, 4));
+        Assert.assertEquals(sequencer.getPendingResponseCount(), 0);
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testResponseHandledTwice() {
+        //given:
+        final ResponseSequencer sequencer = new ResponseSequencer(Runnable::run);
+        sequencer.onResponse(1, () -> {});
+
+        //when:
+        sequencer.onResponse(1, () -> {});
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting;
+
+import com.canoo.dp.impl.remoting.info.PropertyInfo;
+import com.canoo.dp.impl.remoting.legacy.core.BaseAttribute;
+import com.canoo.platform.remoting.spi.converter.Converter;
+import com.canoo.platform.remoting.spi.converter.ValueConverterException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading a property value with the cache of {@link PropertyImpl} to converting the Dolphin Platform value on
+ * every read for the default converters.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PropertyGetBenchmark {
+
+    @Param({"String", "Integer", "BigDecimal", "UUID", "Date", "LocalDateTime", "ZonedDateTime", "Duration"})
+    private String type;
+
+    private BenchmarkAttribute attribute;
+
+    private PropertyInfo propertyInfo;
+
+    private PropertyImpl<Object> property;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() throws ValueConverterException {
+        final Converters converters = new Converters(null);
+        final Object value = createValue(type);
+        final Converter converter = converters.getConverter(value.getClass());
+        propertyInfo = new PropertyInfo("value", converter) {
+            @Override
+            public Object getPrivileged(final Object bean) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void setPriviliged(final Object bean, final Object value) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        attribute = new BenchmarkAttribute(converter.convertToDolphin(value));
+        property = new PropertyImpl<>(attribute, propertyInfo);
+    }
+
+    @Benchmark
+    public Object get() {
+        return property.get();
+    }
+
+    @Benchmark
+    public Object convertOnEveryGet() throws ValueConverterException {
+        return propertyInfo.convertFromDolphin(attribute.getValue());
+    }
+
+    private static Object createValue(final String type) {
+        switch (type) {
+            case "String":
+                return "benchmark";
+            case "Integer":
+                return 42;
+            case "BigDecimal":
+                return new BigDecimal("12345.6789");
+            case "UUID":
+                return UUID.randomUUID();
+            case "Date":
+                return new Date();
+            case "LocalDateTime":
+                return LocalDateTime.now();
+            case "ZonedDateTime":
+                return ZonedDateTime.now();
+            case "Duration":
+                return Duration.ofMinutes(42);
+            default:
+                throw new IllegalArgumentException("Unsupported type " + type);
+        }
+    }
+
+    private static class BenchmarkAttribute extends BaseAttribute {
+
+        private BenchmarkAttribute(final Object value) {
+            super("value", value);
+        }
+
+        @Override
+        public String getOrigin() {
+            return "B";
+        }
+    }
+}
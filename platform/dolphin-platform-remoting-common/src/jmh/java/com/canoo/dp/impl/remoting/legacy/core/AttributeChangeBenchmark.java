@@ -0,0 +1,95 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.legacy.core;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the costs of a value change of an attribute that is observed by an {@link AttributeValueListener} to the
+ * same change observed by a {@link java.beans.PropertyChangeListener}. Should be executed with the gc profiler
+ * ({@code -prof gc}) to compare the allocations per change.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AttributeChangeBenchmark {
+
+    private static final String VALUE_A = "A";
+
+    private static final String VALUE_B = "B";
+
+    private BenchmarkAttribute valueListenerAttribute;
+
+    private BenchmarkAttribute propertyChangeListenerAttribute;
+
+    private BenchmarkAttribute unobservedAttribute;
+
+    private boolean toggle;
+
+    private Blackhole blackhole;
+
+    @Setup(Level.Trial)
+    public void setup(final Blackhole blackhole) {
+        this.blackhole = blackhole;
+        valueListenerAttribute = new BenchmarkAttribute();
+        valueListenerAttribute.addValueListener((attribute, oldValue, newValue) -> this.blackhole.consume(newValue));
+        propertyChangeListenerAttribute = new BenchmarkAttribute();
+        propertyChangeListenerAttribute.addPropertyChangeListener(Attribute.VALUE_NAME, evt -> this.blackhole.consume(evt.getNewValue()));
+        unobservedAttribute = new BenchmarkAttribute();
+    }
+
+    @Benchmark
+    public void valueListener() {
+        valueListenerAttribute.setValue(nextValue());
+    }
+
+    @Benchmark
+    public void propertyChangeListener() {
+        propertyChangeListenerAttribute.setValue(nextValue());
+    }
+
+    @Benchmark
+    public void noListener() {
+        unobservedAttribute.setValue(nextValue());
+    }
+
+    private String nextValue() {
+        toggle = !toggle;
+        return toggle ? VALUE_A : VALUE_B;
+    }
+
+    private static class BenchmarkAttribute extends BaseAttribute {
+
+        private BenchmarkAttribute() {
+            super("value", null);
+        }
+
+        @Override
+        public String getOrigin() {
+            return "B";
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.legacy.core;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the costs of adding, removing and finding presentation models depending on the number of models in the
+ * store. All operations should be independent of the model count.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ModelStoreBenchmark {
+
+    private static final String TYPE = "BenchmarkBean";
+
+    @Param({"1000", "10000", "50000"})
+    private int modelCount;
+
+    private ModelStore<TestAttribute, BasePresentationModel<TestAttribute>> modelStore;
+
+    private List<BasePresentationModel<TestAttribute>> models;
+
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        modelStore = new ModelStore<>();
+        models = new ArrayList<>(modelCount);
+        for (int i = 0; i < modelCount; i++) {
+            final BasePresentationModel<TestAttribute> model = createModel(i);
+            modelStore.add(model);
+            models.add(model);
+        }
+    }
+
+    @Benchmark
+    public boolean removeAndAdd() {
+        final BasePresentationModel<TestAttribute> model = nextModel();
+        modelStore.remove(model);
+        return modelStore.add(model);
+    }
+
+    @Benchmark
+    public Object findById() {
+        return modelStore.findPresentationModelById(nextModel().getId());
+    }
+
+    @Benchmark
+    public Object findAttributeById() {
+        return modelStore.findAttributeById(nextModel().getAttributes().get(0).getId());
+    }
+
+    private BasePresentationModel<TestAttribute> nextModel() {
+        index = (index + 7919) % modelCount;
+        return models.get(index);
+    }
+
+    private static BasePresentationModel<TestAttribute> createModel(final int i) {
+        final BasePresentationModel<TestAttribute> model = new BasePresentationModel<>(Integer.toString(i), Arrays.asList(new TestAttribute("name", "q" + i), new TestAttribute("value", null)));
+        model.setPresentationModelType(TYPE);
+        return model;
+    }
+
+    private static class TestAttribute extends BaseAttribute {
+
+        private TestAttribute(final String propertyName, final String qualifier) {
+            super(propertyName, null, qualifier);
+        }
+
+        @Override
+        public String getOrigin() {
+            return "B";
+        }
+    }
+}
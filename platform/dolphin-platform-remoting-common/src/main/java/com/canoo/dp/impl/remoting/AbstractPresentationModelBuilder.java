@@ -29,8 +29,12 @@ public abstract class AbstractPresentationModelBuilder<T extends PresentationMod
 
     private String id;
 
-    public AbstractPresentationModelBuilder() {
-        this.id = UUID.randomUUID().toString();
+    /**
+     * Creates the id of the presentation model if no id was defined by {@link #withId(String)}.
+     * @return a new unique id
+     */
+    protected String createId() {
+        return UUID.randomUUID().toString();
     }
 
     @Override
@@ -54,6 +58,9 @@ public abstract class AbstractPresentationModelBuilder<T extends PresentationMod
     }
 
     public String getId() {
+        if (id == null) {
+            id = createId();
+        }
         return id;
     }
 
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.platform.core.ReflectionHelper;
+import com.canoo.dp.impl.remoting.info.ClassMetadata;
+import com.canoo.dp.impl.remoting.info.FieldMetadata;
+import com.canoo.platform.remoting.ObservableList;
+import com.canoo.platform.remoting.Property;
+import org.apiguardian.api.API;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Field;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * A thread safe registry of {@link ClassMetadata} instances. The reflection based analysis of a remoting bean class is
+ * only done once and the resulting metadata can be shared by all {@link ClassRepositoryImpl} instances (one per
+ * session) that are created with the same registry.
+ */
+@API(since = "1.0.0", status = INTERNAL)
+public class ClassMetadataRegistry {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ClassMetadataRegistry.class);
+
+    private final Map<Class<?>, ClassMetadata> metadataByClass = new ConcurrentHashMap<>();
+
+    private final Map<String, ClassMetadata> metadataByClassName = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the metadata for the given remoting bean class. The metadata will be created if the class was not
+     * registered before.
+     * @param beanClass the bean class
+     * @return the metadata
+     */
+    public ClassMetadata getOrCreateMetadata(final Class<?> beanClass) {
+        Assert.requireNonNull(beanClass, "beanClass");
+        final ClassMetadata existingMetadata = metadataByClass.get(beanClass);
+        if (existingMetadata != null) {
+            return existingMetadata;
+        }
+        final ClassMetadata metadata = metadataByClass.computeIfAbsent(beanClass, this::createMetadata);
+        metadataByClassName.putIfAbsent(beanClass.getName(), metadata);
+        return metadata;
+    }
+
+    /**
+     * Returns the metadata for the bean class with the given name if the class is already registered.
+     * @param className the name of the bean class
+     * @return the metadata or {@code null}
+     */
+    public ClassMetadata getMetadata(final String className) {
+        Assert.requireNonBlank(className, "className");
+        return metadataByClassName.get(className);
+    }
+
+    /**
+     * Registers the given remoting bean class and all remoting bean classes that are reachable by its properties
+     * and observable lists.
+     * @param beanClass the bean class
+     */
+    public void warmUp(final Class<?> beanClass) {
+        Assert.requireNonNull(beanClass, "beanClass");
+        final Deque<Class<?>> classesToRegister = new ArrayDeque<>();
+        classesToRegister.add(beanClass);
+        while (!classesToRegister.isEmpty()) {
+            final Class<?> currentClass = classesToRegister.poll();
+            if (metadataByClass.containsKey(currentClass) || !DolphinUtils.isDolphinBean(currentClass)) {
+                continue;
+            }
+            LOG.trace("Registering metadata for remoting bean class {}", currentClass);
+            for (final FieldMetadata field : getOrCreateMetadata(currentClass).getFields()) {
+                if (field.getParameterType() != null) {
+                    classesToRegister.add(field.getParameterType());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of registered bean classes
+     * @return the number of registered bean classes
+     */
+    public int size() {
+        return metadataByClass.size();
+    }
+
+    private ClassMetadata createMetadata(final Class<?> beanClass) {
+        final List<FieldMetadata> fields = new ArrayList<>();
+        for (final Field field : ReflectionHelper.getInheritedDeclaredFields(beanClass)) {
+            final boolean property = Property.class.isAssignableFrom(field.getType());
+            final boolean observableList = ObservableList.class.isAssignableFrom(field.getType());
+            if (property || observableList) {
+                final String attributeName = DolphinUtils.getDolphinAttributePropertyNameForField(field);
+                fields.add(new FieldMetadata(field, attributeName, ReflectionHelper.getTypeParameter(field), observableList && !property));
+            }
+        }
+        return new ClassMetadata(beanClass, fields);
+    }
+}
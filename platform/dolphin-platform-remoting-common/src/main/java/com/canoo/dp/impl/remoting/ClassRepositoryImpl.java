@@ -15,13 +15,12 @@
  */
 package com.canoo.dp.impl.remoting;
 
-import com.canoo.platform.remoting.ObservableList;
 import com.canoo.platform.remoting.spi.converter.Converter;
 import com.canoo.dp.impl.remoting.info.ClassInfo;
+import com.canoo.dp.impl.remoting.info.ClassMetadata;
+import com.canoo.dp.impl.remoting.info.FieldMetadata;
 import com.canoo.dp.impl.remoting.info.PropertyInfo;
-import com.canoo.platform.remoting.Property;
 import com.canoo.dp.impl.platform.core.Assert;
-import com.canoo.dp.impl.platform.core.ReflectionHelper;
 import com.canoo.dp.impl.remoting.legacy.core.ModelStore;
 import com.canoo.dp.impl.remoting.legacy.core.ModelStoreEvent;
 import com.canoo.dp.impl.remoting.legacy.core.ModelStoreListener;
@@ -29,7 +28,6 @@ import org.apiguardian.api.API;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -39,22 +37,30 @@ import static org.apiguardian.api.API.Status.INTERNAL;
 
 /**
  * A {@code ClassRepository} manages {@link ClassInfo} objects for all registered Dolphin Beans. A {@code ClassInfo}
- * object keeps information on class level about the properties and ObservableLists of a RemotingBean.
+ * object keeps information on class level about the properties and ObservableLists of a RemotingBean. The session
+ * independent information of a bean class is provided by a {@link ClassMetadataRegistry} that can be shared by
+ * several repositories.
  */
 @API(since = "0.x", status = INTERNAL)
 public class ClassRepositoryImpl implements ClassRepository {
 
- private static final Logger LOG = LoggerFactory.getLogger(ClassRepositoryImpl.class);
+    private static final Logger LOG = LoggerFactory.getLogger(ClassRepositoryImpl.class);
 
     private final PresentationModelBuilderFactory builderFactory;
     private final Converters converters;
+    private final ClassMetadataRegistry metadataRegistry;
 
     private final Map<Class<?>, ClassInfo> classToClassInfoMap = new HashMap<>();
     private final Map<String, ClassInfo> modelTypeToClassInfoMap = new HashMap<>();
 
     public ClassRepositoryImpl(final ModelStore modelStore, final Converters converters, final PresentationModelBuilderFactory builderFactory) {
+        this(modelStore, converters, builderFactory, new ClassMetadataRegistry());
+    }
+
+    public ClassRepositoryImpl(final ModelStore modelStore, final Converters converters, final PresentationModelBuilderFactory builderFactory, final ClassMetadataRegistry metadataRegistry) {
         this.converters = Assert.requireNonNull(converters, "converters");
         this.builderFactory = Assert.requireNonNull(builderFactory, "builderFactory");
+        this.metadataRegistry = Assert.requireNonNull(metadataRegistry, "metadataRegistry");
 
         Assert.requireNonNull(modelStore, "modelStore").addModelStoreListener(PlatformRemotingConstants.DOLPHIN_BEAN, new ModelStoreListener() {
             @Override
@@ -62,10 +68,9 @@ public class ClassRepositoryImpl implements ClassRepository {
                 Assert.requireNonNull(event, "event");
                 try {
                     final String className = (String) event.getPresentationModel().getAttribute(PlatformRemotingConstants.JAVA_CLASS).getValue();
-                    final Class<?> beanClass = Class.forName(className);
-                    final ClassInfo classInfo = createClassInfoForClass(beanClass);
+                    final ClassInfo classInfo = createClassInfoForClass(getMetadata(className));
                     Assert.requireNonNull(classInfo, "classInfo");
-                    classToClassInfoMap.put(beanClass, classInfo);
+                    classToClassInfoMap.put(classInfo.getBeanClass(), classInfo);
                     modelTypeToClassInfoMap.put(classInfo.getModelType(), classInfo);
                 } catch (ClassNotFoundException e) {
                     throw new RuntimeException("Error in class info generation!", e);
@@ -86,61 +91,55 @@ public class ClassRepositoryImpl implements ClassRepository {
             return existingClassInfo;
         }
 
-        createPresentationModelForClass(beanClass);
+        createPresentationModelForClass(metadataRegistry.getOrCreateMetadata(beanClass));
 
         return classToClassInfoMap.get(beanClass);
     }
 
-    private void createPresentationModelForClass(final Class<?> beanClass) {
-        Assert.requireNonNull(beanClass, "beanClass");
-        final String id = DolphinUtils.getDolphinPresentationModelTypeForClass(beanClass);
+    private ClassMetadata getMetadata(final String className) throws ClassNotFoundException {
+        final ClassMetadata metadata = metadataRegistry.getMetadata(className);
+        if (metadata != null) {
+            return metadata;
+        }
+        return metadataRegistry.getOrCreateMetadata(Class.forName(className));
+    }
+
+    private void createPresentationModelForClass(final ClassMetadata metadata) {
+        Assert.requireNonNull(metadata, "metadata");
         final PresentationModelBuilder builder = builderFactory.createBuilder()
-                .withId(id)
+                .withId(metadata.getModelType())
                 .withType(PlatformRemotingConstants.DOLPHIN_BEAN)
-                .withAttribute(PlatformRemotingConstants.JAVA_CLASS, beanClass.getName());
-
-        for (final Field field : ReflectionHelper.getInheritedDeclaredFields(beanClass)) {
-            if (Property.class.isAssignableFrom(field.getType()) || ObservableList.class.isAssignableFrom(field.getType())) {
-                final String attributeName = DolphinUtils.getDolphinAttributePropertyNameForField(field);
-                final Class<?> clazz = ReflectionHelper.getTypeParameter(field);
-                if(clazz == null) {
-                    throw new MappingException("Can't define generic type for field " + attributeName + " in bean " + beanClass);
-                }
-                final int type = converters.getFieldType(clazz);
-                builder.withAttribute(attributeName, type);
+                .withAttribute(PlatformRemotingConstants.JAVA_CLASS, metadata.getBeanClass().getName());
+
+        for (final FieldMetadata field : metadata.getFields()) {
+            final Class<?> clazz = field.getParameterType();
+            if(clazz == null) {
+                throw new MappingException("Can't define generic type for field " + field.getAttributeName() + " in bean " + metadata.getBeanClass());
             }
+            final int type = converters.getFieldType(clazz);
+            builder.withAttribute(field.getAttributeName(), type);
         }
 
         builder.create();
     }
 
-    private ClassInfo createClassInfoForClass(final Class<?> beanClass) {
+    private ClassInfo createClassInfoForClass(final ClassMetadata metadata) {
         final List<PropertyInfo> propertyInfos = new ArrayList<>();
         final List<PropertyInfo> observableListInfos = new ArrayList<>();
 
-        for (Field field : ReflectionHelper.getInheritedDeclaredFields(beanClass)) {
-            PropertyType type = null;
-            if (Property.class.isAssignableFrom(field.getType())) {
-                type = PropertyType.PROPERTY;
-            } else if (ObservableList.class.isAssignableFrom(field.getType())) {
-                type = PropertyType.OBSERVABLE_LIST;
-            }
-            final Class<?> parameterType = ReflectionHelper.getTypeParameter(field);
-
-            if (type != null && parameterType != null) {
-                final String attributeName = DolphinUtils.getDolphinAttributePropertyNameForField(field);
+        for (final FieldMetadata field : metadata.getFields()) {
+            final Class<?> parameterType = field.getParameterType();
+            if (parameterType != null) {
                 final Converter converter = converters.getConverter(parameterType);
-                final PropertyInfo propertyInfo = new ClassPropertyInfo(attributeName, converter, field);
-                if (type == PropertyType.PROPERTY) {
-                    propertyInfos.add(propertyInfo);
-                } else {
+                final PropertyInfo propertyInfo = new ClassPropertyInfo(field.getAttributeName(), converter, field.getField());
+                if (field.isObservableList()) {
                     observableListInfos.add(propertyInfo);
+                } else {
+                    propertyInfos.add(propertyInfo);
                 }
             }
         }
 
-        return new ClassInfo(beanClass, propertyInfos, observableListInfos);
+        return new ClassInfo(metadata.getBeanClass(), propertyInfos, observableListInfos);
     }
-
-    private enum PropertyType {PROPERTY, OBSERVABLE_LIST}
 }
@@ -31,4 +31,10 @@ public interface PlatformRemotingConstants {
     String CONTROLLER_ACTION_CALL_BEAN_NAME = "@@@ CONTROLLER_ACTION_CALL_BEAN @@@";
 
     String INTERNAL_ATTRIBUTES_BEAN_NAME = "@@@ HIGHLANDER_BEAN @@@";
+
+    String WEB_SOCKET_RESPONSE_PREFIX = "R";
+
+    String WEB_SOCKET_PUSH_PREFIX = "P";
+
+    String REQUEST_SEQUENCE_HEADER = "X-Remoting-Request-Sequence";
 }
@@ -16,18 +16,13 @@
 package com.canoo.dp.impl.remoting;
 
 import com.canoo.platform.remoting.spi.converter.ValueConverterException;
-import com.canoo.platform.remoting.ValueChangeListener;
 import com.canoo.dp.impl.remoting.info.PropertyInfo;
 import com.canoo.platform.remoting.Property;
 import com.canoo.dp.impl.platform.core.Assert;
 import com.canoo.dp.impl.remoting.legacy.core.Attribute;
+import com.canoo.dp.impl.remoting.legacy.core.AttributeValueListener;
 import org.apiguardian.api.API;
 
-import java.beans.PropertyChangeEvent;
-import java.beans.PropertyChangeListener;
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
-
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 /**
@@ -42,20 +37,27 @@ public class PropertyImpl<T> extends AbstractProperty<T> {
 
     private final PropertyInfo propertyInfo;
 
-    private final List<ValueChangeListener<? super T>> listeners = new CopyOnWriteArrayList<>();
+    private final boolean identityConversion;
+
+    private final boolean convertedValueCacheable;
+
+    /**
+     * The last converted value. Only used if the converter of the property supports caching.
+     */
+    private CachedValue<T> cachedValue;
 
     public PropertyImpl(final Attribute attribute, final PropertyInfo propertyInfo) {
         this.attribute = Assert.requireNonNull(attribute, "attribute");
         this.propertyInfo = Assert.requireNonNull(propertyInfo, "propertyInfo");
+        this.identityConversion = propertyInfo.isIdentityConversion();
+        this.convertedValueCacheable = propertyInfo.isConvertedValueCacheable();
 
-        attribute.addPropertyChangeListener(Attribute.VALUE_NAME, new PropertyChangeListener() {
-            @SuppressWarnings("unchecked")
+        attribute.addValueListener(new AttributeValueListener() {
             @Override
-            public void propertyChange(final PropertyChangeEvent evt) {
-                Assert.requireNonNull(evt, "evt");
+            public void valueChanged(final Attribute source, final Object dolphinOldValue, final Object dolphinNewValue) {
                 try {
-                    final T oldValue = (T) PropertyImpl.this.propertyInfo.convertFromDolphin(evt.getOldValue());
-                    final T newValue = (T) PropertyImpl.this.propertyInfo.convertFromDolphin(evt.getNewValue());
+                    final T oldValue = convertFromDolphin(dolphinOldValue);
+                    final T newValue = convertFromDolphin(dolphinNewValue);
                     if (oldValue == null && newValue != null ||
                             oldValue != null && newValue == null ||
                             (oldValue != null && newValue != null && !oldValue.equals(newValue))) {
@@ -78,12 +80,48 @@ public class PropertyImpl<T> extends AbstractProperty<T> {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public T get() {
         try {
-            return (T) propertyInfo.convertFromDolphin(attribute.getValue());
+            return convertFromDolphin(attribute.getValue());
         } catch (final ValueConverterException e) {
             throw new MappingException("Error in accessing property value!", e);
         }
     }
+
+    @SuppressWarnings("unchecked")
+    private T convertFromDolphin(final Object dolphinValue) throws ValueConverterException {
+        if (identityConversion) {
+            return (T) dolphinValue;
+        }
+        if (!convertedValueCacheable) {
+            return (T) propertyInfo.convertFromDolphin(dolphinValue);
+        }
+        final CachedValue<T> currentCachedValue = cachedValue;
+        if (currentCachedValue != null && currentCachedValue.isValidFor(dolphinValue)) {
+            return currentCachedValue.value;
+        }
+        final T value = (T) propertyInfo.convertFromDolphin(dolphinValue);
+        cachedValue = new CachedValue<>(dolphinValue, value);
+        return value;
+    }
+
+    /**
+     * Immutable holder of a converted value and the Dolphin Platform value that it was created from. Since the holder
+     * is immutable it can be read without synchronization.
+     */
+    private static final class CachedValue<T> {
+
+        private final Object dolphinValue;
+
+        private final T value;
+
+        private CachedValue(final Object dolphinValue, final T value) {
+            this.dolphinValue = dolphinValue;
+            this.value = value;
+        }
+
+        private boolean isValidFor(final Object currentDolphinValue) {
+            return dolphinValue == currentDolphinValue || (currentDolphinValue != null && currentDolphinValue.equals(dolphinValue));
+        }
+    }
 }
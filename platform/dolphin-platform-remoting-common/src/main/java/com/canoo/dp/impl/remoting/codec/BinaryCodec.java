@@ -0,0 +1,190 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.codec;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.remoting.codec.encoders.AbstractCommandTranscoder;
+import com.canoo.dp.impl.remoting.codec.encoders.AttributeMetadataChangedCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.BinaryCommandReader;
+import com.canoo.dp.impl.remoting.codec.encoders.BinaryCommandTranscoder;
+import com.canoo.dp.impl.remoting.codec.encoders.BinaryCommandWriter;
+import com.canoo.dp.impl.remoting.codec.encoders.CallActionCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.ChangeAttributeMetadataCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.CreateContextCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.CreateControllerCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.CreatePresentationModelCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.DeletePresentationModelCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.DestroyContextCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.DestroyControllerCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.InterruptLongPollCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.ListSpliceCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.PresentationModelDeletedCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.StartLongPollCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.ValueChangedCommandEncoder;
+import com.canoo.dp.impl.remoting.legacy.communication.Command;
+import org.apiguardian.api.API;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.*;
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Codec for a compact binary representation of remoting commands. Instead of a JSON object with field names each
+ * command is written as a varint type code followed by its fields in a fixed order. Ids and names are interned per
+ * message and values are written with their Java type.
+ * The binary format is only used if client and server negotiated it by using the {@link #BINARY_MIME_TYPE} in the
+ * {@code Accept} and {@code Content-Type} headers.
+ */
+@API(since = "1.0.0", status = INTERNAL)
+public final class BinaryCodec {
+
+    public static final String BINARY_MIME_TYPE = "application/x-dolphin-remoting-binary";
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static final Logger LOG = LoggerFactory.getLogger(BinaryCodec.class);
+
+    private static final BinaryCodec INSTANCE = new BinaryCodec();
+
+    private final Map<String, Integer> typeCodes = new HashMap<>();
+
+    private final Map<Integer, BinaryCommandTranscoder<?>> transcoders = new HashMap<>();
+
+    private BinaryCodec() {
+        addTranscoder(new StartLongPollCommandEncoder(), START_LONG_POLL_COMMAND_ID, 1);
+        addTranscoder(new InterruptLongPollCommandEncoder(), INTERRUPT_LONG_POLL_COMMAND_ID, 2);
+        addTranscoder(new CreatePresentationModelCommandEncoder(), CREATE_PRESENTATION_MODEL_COMMAND_ID, 3);
+        addTranscoder(new DeletePresentationModelCommandEncoder(), DELETE_PRESENTATION_MODEL_COMMAND_ID, 4);
+        addTranscoder(new PresentationModelDeletedCommandEncoder(), PRESENTATION_MODEL_DELETED_COMMAND_ID, 5);
+        addTranscoder(new ValueChangedCommandEncoder(), VALUE_CHANGED_COMMAND_ID, 6);
+        addTranscoder(new ChangeAttributeMetadataCommandEncoder(), CHANGE_ATTRIBUTE_METADATA_COMMAND_ID, 7);
+        addTranscoder(new AttributeMetadataChangedCommandEncoder(), ATTRIBUTE_METADATA_CHANGED_COMMAND_ID, 8);
+        addTranscoder(new CreateContextCommandEncoder(), CREATE_CONTEXT_COMMAND_ID, 9);
+        addTranscoder(new DestroyContextCommandEncoder(), DESTROY_CONTEXT_COMMAND_ID, 10);
+        addTranscoder(new CreateControllerCommandEncoder(), CREATE_CONTROLLER_COMMAND_ID, 11);
+        addTranscoder(new DestroyControllerCommandEncoder(), DESTROY_CONTROLLER_COMMAND_ID, 12);
+        addTranscoder(new CallActionCommandEncoder(), CALL_ACTION_COMMAND_ID, 13);
+        addTranscoder(new ListSpliceCommandEncoder(), LIST_SPLICE_COMMAND_ID, 14);
+    }
+
+    private <C extends Command> void addTranscoder(final AbstractCommandTranscoder<C> transcoder, final String commandId, final int typeCode) {
+        Assert.requireNonNull(transcoder, "transcoder");
+        Assert.requireNonNull(commandId, "commandId");
+
+        if(typeCodes.containsKey(commandId) || transcoders.containsKey(typeCode)) {
+            throw new IllegalStateException("Transcoder for " + commandId + " already defined!");
+        }
+        typeCodes.put(commandId, typeCode);
+        transcoders.put(typeCode, transcoder);
+    }
+
+    public byte[] encode(final List<? extends Command> commands) {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            encode(commands, outputStream);
+        } catch (final IOException e) {
+            throw new IllegalStateException("Can not encode commands", e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    public void encode(final List<? extends Command> commands, final OutputStream outputStream) throws IOException {
+        Assert.requireNonNull(commands, "commands");
+        Assert.requireNonNull(outputStream, "outputStream");
+        LOG.debug("Encoding command list with {} commands", commands.size());
+
+        final BinaryCommandWriter writer = new BinaryCommandWriter(new BufferedOutputStream(outputStream));
+        writer.writeByte(FORMAT_VERSION);
+        writer.writeVarInt(commands.size());
+        for (final Command command : commands) {
+            if (command == null) {
+                throw new IllegalArgumentException("Command list contains a null command: " + command);
+            }
+            LOG.trace("Encoding command of type {}", command.getClass());
+            final Integer typeCode = typeCodes.get(command.getId());
+            if (typeCode == null) {
+                throw new RuntimeException("No encoder for command type " + command.getClass() + " found");
+            }
+            writer.writeVarInt(typeCode);
+            ((BinaryCommandTranscoder) transcoders.get(typeCode)).encode(command, writer);
+        }
+        writer.flush();
+    }
+
+    public List<Command> decode(final byte[] transmitted) throws IOException {
+        Assert.requireNonNull(transmitted, "transmitted");
+        return decode(new ByteArrayInputStream(transmitted));
+    }
+
+    public List<Command> decode(final InputStream inputStream) throws IOException {
+        Assert.requireNonNull(inputStream, "inputStream");
+
+        final BinaryCommandReader reader = new BinaryCommandReader(new BufferedInputStream(inputStream));
+        final int version = reader.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported binary format version " + version);
+        }
+        final int count = reader.readVarInt();
+        final List<Command> commands = new ArrayList<>(Math.min(count, 1024));
+        for (int i = 0; i < count; i++) {
+            final int typeCode = reader.readVarInt();
+            final BinaryCommandTranscoder<?> transcoder = transcoders.get(typeCode);
+            if (transcoder == null) {
+                throw new IOException("Can not decode command of type " + typeCode + ". No matching decoder found!");
+            }
+            commands.add(Assert.requireNonNull(transcoder.decode(reader), "convertedCommand"));
+        }
+        if (!reader.isFinished()) {
+            throw new IOException("Did not consume the entire message.");
+        }
+        LOG.debug("Decoded command list with {} commands", commands.size());
+        return commands;
+    }
+
+    public static boolean isBinaryMimeType(final String contentType) {
+        return contentType != null && contentType.trim().toLowerCase().startsWith(BINARY_MIME_TYPE);
+    }
+
+    public static boolean acceptsBinaryMimeType(final String acceptHeader) {
+        if (acceptHeader == null) {
+            return false;
+        }
+        for (final String mimeType : acceptHeader.split(",")) {
+            if (isBinaryMimeType(mimeType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static BinaryCodec getInstance() {
+        return INSTANCE;
+    }
+}
@@ -0,0 +1,482 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.codec;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.platform.core.http.HttpHeaderConstants;
+import org.apiguardian.api.API;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntConsumer;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Checksum;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Compression of remoting request and response bodies based on the {@code Accept-Encoding} and
+ * {@code Content-Encoding} headers. The {@code gzip} and {@code deflate} encodings are supported. Only bodies that
+ * are at least as big as the configured threshold are compressed since the header and trailer of the compressed
+ * format would make small bodies bigger. A stream created by
+ * {@link #createOutputStream(OutputStream, String, Runnable, IntConsumer)} only buffers a body up to the threshold and
+ * compresses the rest while it is written.
+ *
+ * {@link Deflater} instances hold native memory and are expensive to create. Therefore all instances of this class
+ * share a bounded pool of deflaters that are reset after each use. Each instance counts the raw and the compressed
+ * size of all bodies that it has compressed.
+ */
+@API(since = "1.0.0", status = INTERNAL)
+public class ContentCompression {
+
+    public static final String DEFLATE_ENCODING = "deflate";
+
+    public static final String IDENTITY_ENCODING = "identity";
+
+    public static final int DEFAULT_THRESHOLD = 1024;
+
+    private static final int MAX_POOLED_DEFLATERS = 16;
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+    private static final byte[] ZLIB_HEADER = {0x78, (byte) 0x9c};
+
+    private static final BlockingQueue<Deflater> DEFLATER_POOL = new ArrayBlockingQueue<>(MAX_POOLED_DEFLATERS);
+
+    private final int threshold;
+
+    private final LongAdder compressedBodies = new LongAdder();
+
+    private final LongAdder rawBytes = new LongAdder();
+
+    private final LongAdder compressedBytes = new LongAdder();
+
+    public ContentCompression() {
+        this(DEFAULT_THRESHOLD);
+    }
+
+    public ContentCompression(final int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("threshold must not be negative");
+        }
+        this.threshold = threshold;
+    }
+
+    /**
+     * Returns the minimum size in bytes of a body that will be compressed
+     * @return the threshold
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Returns true if a body of the given size should be compressed
+     * @param length the size of the body in bytes
+     * @return true if the body should be compressed
+     */
+    public boolean shouldCompress(final int length) {
+        return length >= threshold;
+    }
+
+    /**
+     * Compresses the given data in the given encoding
+     * @param data the raw data
+     * @param encoding the encoding, must be {@code gzip} or {@code deflate}
+     * @return the compressed data
+     */
+    public byte[] compress(final byte[] data, final String encoding) {
+        Assert.requireNonNull(data, "data");
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(data.length / 4 + 32);
+        try (final CompressingOutputStream compressingStream = new CompressingOutputStream(outputStream, encoding, 0, () -> {}, l -> {})) {
+            compressingStream.write(data);
+        } catch (final IOException e) {
+            throw new IllegalStateException("Can not compress data", e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Creates a stream that writes a body to the given stream. The body is buffered until it reaches the threshold.
+     * Once the threshold is reached the body is compressed in the given encoding while it is written, so a big body
+     * is never held in memory completely. A body that stays below the threshold is written uncompressed when the
+     * returned stream is closed. Closing the returned stream does not close the given stream.
+     * @param outputStream the stream for the body
+     * @param encoding the encoding, must be {@code gzip} or {@code deflate}
+     * @param onCompression called before the first compressed byte is written
+     * @param onUncompressed called with the size of the body before an uncompressed body is written
+     * @return the stream for the raw body
+     */
+    public OutputStream createOutputStream(final OutputStream outputStream, final String encoding, final Runnable onCompression, final IntConsumer onUncompressed) {
+        Assert.requireNonNull(outputStream, "outputStream");
+        Assert.requireNonNull(onCompression, "onCompression");
+        Assert.requireNonNull(onUncompressed, "onUncompressed");
+        return new CompressingOutputStream(outputStream, encoding, threshold, onCompression, onUncompressed);
+    }
+
+    /**
+     * Returns the number of bodies that were compressed by this instance
+     * @return the number of compressed bodies
+     */
+    public long getCompressedBodiesCount() {
+        return compressedBodies.sum();
+    }
+
+    /**
+     * Returns the summed size in bytes of all bodies before they were compressed by this instance
+     * @return the raw size
+     */
+    public long getRawBytes() {
+        return rawBytes.sum();
+    }
+
+    /**
+     * Returns the summed size in bytes of all bodies after they were compressed by this instance
+     * @return the compressed size
+     */
+    public long getCompressedBytes() {
+        return compressedBytes.sum();
+    }
+
+    /**
+     * Selects the encoding that should be used for a body based on the given {@code Accept-Encoding} header. gzip is
+     * preferred over deflate, encodings with a quality of 0 are ignored.
+     * @param acceptEncodingHeader the content of the header, can be null
+     * @return the encoding or null if no supported encoding is accepted
+     */
+    public static String selectEncoding(final String acceptEncodingHeader) {
+        if (acceptEncodingHeader == null) {
+            return null;
+        }
+        boolean deflateAccepted = false;
+        for (final String part : acceptEncodingHeader.split(",")) {
+            final String[] tokens = part.split(";");
+            final String encoding = tokens[0].trim();
+            if (tokens.length > 1 && isZeroQuality(tokens[1])) {
+                continue;
+            }
+            if (HttpHeaderConstants.GZIP_ENCODING.equalsIgnoreCase(encoding)) {
+                return HttpHeaderConstants.GZIP_ENCODING;
+            }
+            if (DEFLATE_ENCODING.equalsIgnoreCase(encoding)) {
+                deflateAccepted = true;
+            }
+        }
+        return deflateAccepted ? DEFLATE_ENCODING : null;
+    }
+
+    /**
+     * Wraps the given stream so that the content is decompressed based on the given {@code Content-Encoding} header.
+     * @param inputStream the stream
+     * @param contentEncoding the content of the header, can be null
+     * @return the stream that provides the decompressed content
+     * @throws IOException if the encoding is not supported or the content can not be read
+     */
+    public static InputStream decompress(final InputStream inputStream, final String contentEncoding) throws IOException {
+        return decompress(inputStream, contentEncoding, -1);
+    }
+
+    /**
+     * Wraps the given stream so that the content is decompressed based on the given {@code Content-Encoding} header.
+     * A few kilobytes of compressed content can expand to gigabytes. Therefore the returned stream fails if the
+     * decompressed content exceeds the given limit.
+     * @param inputStream the stream
+     * @param contentEncoding the content of the header, can be null
+     * @param maxDecompressedSize the maximum size in bytes of the decompressed content or a negative value for no limit
+     * @return the stream that provides the decompressed content
+     * @throws IOException if the encoding is not supported or the content can not be read
+     */
+    public static InputStream decompress(final InputStream inputStream, final String contentEncoding, final long maxDecompressedSize) throws IOException {
+        Assert.requireNonNull(inputStream, "inputStream");
+        if (isIdentity(contentEncoding)) {
+            return inputStream;
+        }
+        final InputStream decompressingStream;
+        if (HttpHeaderConstants.GZIP_ENCODING.equalsIgnoreCase(contentEncoding.trim())) {
+            decompressingStream = new GZIPInputStream(inputStream, BUFFER_SIZE);
+        } else if (DEFLATE_ENCODING.equalsIgnoreCase(contentEncoding.trim())) {
+            decompressingStream = new InflaterInputStream(inputStream);
+        } else {
+            throw new IOException("Unsupported content encoding: " + contentEncoding);
+        }
+        if (maxDecompressedSize < 0) {
+            return decompressingStream;
+        }
+        return new LimitedInputStream(decompressingStream, maxDecompressedSize);
+    }
+
+    /**
+     * Decompresses the given data based on the given {@code Content-Encoding} header.
+     * @param data the data
+     * @param contentEncoding the content of the header, can be null
+     * @return the decompressed data
+     * @throws IOException if the encoding is not supported or the content can not be read
+     */
+    public static byte[] decompress(final byte[] data, final String contentEncoding) throws IOException {
+        Assert.requireNonNull(data, "data");
+        if (isIdentity(contentEncoding)) {
+            return data;
+        }
+        try (final InputStream inputStream = decompress(new ByteArrayInputStream(data), contentEncoding)) {
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(data.length * 4);
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            int count;
+            while ((count = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, count);
+            }
+            return outputStream.toByteArray();
+        }
+    }
+
+    private static boolean isIdentity(final String contentEncoding) {
+        return contentEncoding == null || contentEncoding.trim().isEmpty() || IDENTITY_ENCODING.equalsIgnoreCase(contentEncoding.trim());
+    }
+
+    private static boolean isZeroQuality(final String parameter) {
+        final String trimmed = parameter.trim();
+        if (!trimmed.startsWith("q=")) {
+            return false;
+        }
+        try {
+            return Double.parseDouble(trimmed.substring(2)) <= 0.0;
+        } catch (final NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static void writeIntLittleEndian(final OutputStream outputStream, final int value) throws IOException {
+        outputStream.write(value);
+        outputStream.write(value >>> 8);
+        outputStream.write(value >>> 16);
+        outputStream.write(value >>> 24);
+    }
+
+    private static Deflater borrowDeflater() {
+        final Deflater deflater = DEFLATER_POOL.poll();
+        if (deflater != null) {
+            return deflater;
+        }
+        return new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+    }
+
+    private static void releaseDeflater(final Deflater deflater) {
+        deflater.reset();
+        if (!DEFLATER_POOL.offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+    private class CompressingOutputStream extends OutputStream {
+
+        private final OutputStream outputStream;
+
+        private final boolean gzip;
+
+        private final int threshold;
+
+        private final Runnable onCompression;
+
+        private final IntConsumer onUncompressed;
+
+        private final byte[] singleByte = new byte[1];
+
+        private ByteArrayOutputStream buffer;
+
+        private Deflater deflater;
+
+        private Checksum checksum;
+
+        private byte[] deflateBuffer;
+
+        private long rawCount = 0;
+
+        private long compressedCount = 0;
+
+        private boolean closed = false;
+
+        private CompressingOutputStream(final OutputStream outputStream, final String encoding, final int threshold, final Runnable onCompression, final IntConsumer onUncompressed) {
+            if (HttpHeaderConstants.GZIP_ENCODING.equalsIgnoreCase(encoding)) {
+                gzip = true;
+            } else if (DEFLATE_ENCODING.equalsIgnoreCase(encoding)) {
+                gzip = false;
+            } else {
+                throw new IllegalArgumentException("Unsupported content encoding: " + encoding);
+            }
+            this.outputStream = outputStream;
+            this.threshold = threshold;
+            this.onCompression = onCompression;
+            this.onUncompressed = onUncompressed;
+            this.buffer = new ByteArrayOutputStream(Math.min(Math.max(threshold, 32), BUFFER_SIZE));
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            singleByte[0] = (byte) b;
+            write(singleByte, 0, 1);
+        }
+
+        @Override
+        public void write(final byte[] data, final int offset, final int length) throws IOException {
+            if (closed) {
+                throw new IOException("Stream is closed");
+            }
+            if (deflater == null) {
+                buffer.write(data, offset, length);
+                if (buffer.size() >= threshold) {
+                    startCompression();
+                }
+                return;
+            }
+            deflate(data, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            // a buffered body can not be flushed since it is not known yet if it will be compressed
+            if (deflater != null) {
+                outputStream.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (deflater == null) {
+                if (buffer.size() < threshold) {
+                    onUncompressed.accept(buffer.size());
+                    buffer.writeTo(outputStream);
+                    buffer = null;
+                    return;
+                }
+                startCompression();
+            }
+            try {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    writeCompressed(deflateBuffer, deflater.deflate(deflateBuffer));
+                }
+                final int value = (int) checksum.getValue();
+                if (gzip) {
+                    writeIntLittleEndian(outputStream, value);
+                    writeIntLittleEndian(outputStream, (int) rawCount);
+                } else {
+                    outputStream.write(value >>> 24);
+                    outputStream.write(value >>> 16);
+                    outputStream.write(value >>> 8);
+                    outputStream.write(value);
+                }
+                compressedCount += gzip ? 8 : 4;
+                compressedBodies.increment();
+                rawBytes.add(rawCount);
+                compressedBytes.add(compressedCount);
+            } finally {
+                releaseDeflater(deflater);
+            }
+        }
+
+        private void startCompression() throws IOException {
+            onCompression.run();
+            deflater = borrowDeflater();
+            checksum = gzip ? new CRC32() : new Adler32();
+            deflateBuffer = new byte[BUFFER_SIZE];
+            final byte[] header = gzip ? GZIP_HEADER : ZLIB_HEADER;
+            outputStream.write(header);
+            compressedCount += header.length;
+            final byte[] bufferedData = buffer.toByteArray();
+            buffer = null;
+            deflate(bufferedData, 0, bufferedData.length);
+        }
+
+        private void deflate(final byte[] data, final int offset, final int length) throws IOException {
+            if (length == 0) {
+                return;
+            }
+            checksum.update(data, offset, length);
+            rawCount += length;
+            deflater.setInput(data, offset, length);
+            while (!deflater.needsInput()) {
+                writeCompressed(deflateBuffer, deflater.deflate(deflateBuffer));
+            }
+        }
+
+        private void writeCompressed(final byte[] data, final int length) throws IOException {
+            if (length > 0) {
+                outputStream.write(data, 0, length);
+                compressedCount += length;
+            }
+        }
+    }
+
+    private static class LimitedInputStream extends FilterInputStream {
+
+        private final long limit;
+
+        private long count = 0;
+
+        private LimitedInputStream(final InputStream inputStream, final long limit) {
+            super(inputStream);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int value = super.read();
+            if (value != -1) {
+                count(1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(final byte[] data, final int offset, final int length) throws IOException {
+            final int read = super.read(data, offset, length);
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            final long skipped = super.skip(n);
+            count(skipped);
+            return skipped;
+        }
+
+        private void count(final long read) throws IOException {
+            count += read;
+            if (count > limit) {
+                throw new IOException("Decompressed content exceeds the limit of " + limit + " bytes");
+            }
+        }
+    }
+}
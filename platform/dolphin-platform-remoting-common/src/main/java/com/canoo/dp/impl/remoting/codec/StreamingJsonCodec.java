@@ -0,0 +1,227 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.codec;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.remoting.codec.encoders.AbstractCommandTranscoder;
+import com.canoo.dp.impl.remoting.codec.encoders.AttributeMetadataChangedCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.CallActionCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.ChangeAttributeMetadataCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.CreateContextCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.CreateControllerCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.CreatePresentationModelCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.DeletePresentationModelCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.DestroyContextCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.DestroyControllerCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.InterruptLongPollCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.ListSpliceCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.PresentationModelDeletedCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.StartLongPollCommandEncoder;
+import com.canoo.dp.impl.remoting.codec.encoders.StreamingCommandTranscoder;
+import com.canoo.dp.impl.remoting.codec.encoders.ValueChangedCommandEncoder;
+import com.canoo.dp.impl.remoting.legacy.communication.Command;
+import com.google.gson.JsonParseException;
+import com.google.gson.internal.LazilyParsedNumber;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import org.apiguardian.api.API;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.*;
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * A {@link StreamingCodec} that creates the same JSON as the {@link OptimizedJsonCodec} but writes and reads the
+ * commands by using a {@link JsonWriter} / {@link JsonReader} instead of creating a Gson tree for each command.
+ */
+@API(since = "1.0.0", status = INTERNAL)
+public final class StreamingJsonCodec implements StreamingCodec {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StreamingJsonCodec.class);
+
+    private static final StreamingJsonCodec INSTANCE = new StreamingJsonCodec();
+
+    private final Map<String, StreamingCommandTranscoder<?>> transcoders = new HashMap<>();
+
+    private StreamingJsonCodec() {
+        addTranscoder(new StartLongPollCommandEncoder(), START_LONG_POLL_COMMAND_ID);
+        addTranscoder(new InterruptLongPollCommandEncoder(), INTERRUPT_LONG_POLL_COMMAND_ID);
+        addTranscoder(new CreatePresentationModelCommandEncoder(), CREATE_PRESENTATION_MODEL_COMMAND_ID);
+        addTranscoder(new DeletePresentationModelCommandEncoder(), DELETE_PRESENTATION_MODEL_COMMAND_ID);
+        addTranscoder(new PresentationModelDeletedCommandEncoder(), PRESENTATION_MODEL_DELETED_COMMAND_ID);
+        addTranscoder(new ValueChangedCommandEncoder(), VALUE_CHANGED_COMMAND_ID);
+        addTranscoder(new ChangeAttributeMetadataCommandEncoder(), CHANGE_ATTRIBUTE_METADATA_COMMAND_ID);
+        addTranscoder(new AttributeMetadataChangedCommandEncoder(), ATTRIBUTE_METADATA_CHANGED_COMMAND_ID);
+        addTranscoder(new CreateContextCommandEncoder(), CREATE_CONTEXT_COMMAND_ID);
+        addTranscoder(new DestroyContextCommandEncoder(), DESTROY_CONTEXT_COMMAND_ID);
+        addTranscoder(new CreateControllerCommandEncoder(), CREATE_CONTROLLER_COMMAND_ID);
+        addTranscoder(new DestroyControllerCommandEncoder(), DESTROY_CONTROLLER_COMMAND_ID);
+        addTranscoder(new CallActionCommandEncoder(), CALL_ACTION_COMMAND_ID);
+        addTranscoder(new ListSpliceCommandEncoder(), LIST_SPLICE_COMMAND_ID);
+    }
+
+    private <C extends Command> void addTranscoder(final AbstractCommandTranscoder<C> transcoder, final String commandId) {
+        Assert.requireNonNull(transcoder, "transcoder");
+        Assert.requireNonNull(commandId, "commandId");
+
+        if(transcoders.containsKey(commandId)) {
+            throw new IllegalStateException("Transcoder for " + commandId + " already defined!");
+        }
+        transcoders.put(commandId, transcoder);
+    }
+
+    @Override
+    public String encode(final List<? extends Command> commands) {
+        final StringWriter writer = new StringWriter();
+        try {
+            encode(commands, writer);
+        } catch (final IOException e) {
+            throw new IllegalStateException("Can not encode commands", e);
+        }
+        return writer.toString();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void encode(final List<? extends Command> commands, final Writer writer) throws IOException {
+        Assert.requireNonNull(commands, "commands");
+        Assert.requireNonNull(writer, "writer");
+        LOG.debug("Encoding command list with {} commands", commands.size());
+
+        // Same settings that are used by Gson.toJson(JsonElement, JsonWriter) in the OptimizedJsonCodec
+        final JsonWriter jsonWriter = new JsonWriter(writer);
+        jsonWriter.setLenient(true);
+        jsonWriter.setHtmlSafe(true);
+        jsonWriter.setSerializeNulls(true);
+
+        jsonWriter.beginArray();
+        for (final Command command : commands) {
+            if (command == null) {
+                throw new IllegalArgumentException("Command list contains a null command: " + command);
+            }
+            LOG.trace("Encoding command of type {}", command.getClass());
+            final StreamingCommandTranscoder encoder = transcoders.get(command.getId());
+            if (encoder == null) {
+                throw new RuntimeException("No encoder for command type " + command.getClass() + " found");
+            }
+            encoder.encode(command, jsonWriter);
+        }
+        jsonWriter.endArray();
+        jsonWriter.flush();
+    }
+
+    @Override
+    public List<Command> decode(final String transmitted) {
+        Assert.requireNonNull(transmitted, "transmitted");
+        LOG.trace("Decoding message: {}", transmitted);
+        try {
+            return decode(new StringReader(transmitted));
+        } catch (final IOException e) {
+            throw new JsonParseException("Illegal JSON detected", e);
+        }
+    }
+
+    @Override
+    public List<Command> decode(final Reader reader) throws IOException {
+        Assert.requireNonNull(reader, "reader");
+        // Same settings that are used by JsonParser.parse(Reader) in the OptimizedJsonCodec
+        final JsonReader jsonReader = new JsonReader(reader);
+        jsonReader.setLenient(true);
+        try {
+            final List<Command> commands = new ArrayList<>();
+            jsonReader.beginArray();
+            while (jsonReader.hasNext()) {
+                final Map<String, Object> jsonFields = readObject(jsonReader);
+                final Object id = jsonFields.get(ID);
+                if (id == null) {
+                    throw new RuntimeException("Can not encode command without id!");
+                }
+                LOG.trace("Decoding command: {}", id);
+                final StreamingCommandTranscoder<?> encoder = transcoders.get(id.toString());
+                if (encoder == null) {
+                    throw new RuntimeException("Can not encode command of type " + id + ". No matching encoder found!");
+                }
+                final Command convertedCommand = encoder.decode(jsonFields);
+                Assert.requireNonNull(convertedCommand, "convertedCommand");
+                commands.add(convertedCommand);
+            }
+            jsonReader.endArray();
+            if (jsonReader.peek() != JsonToken.END_DOCUMENT) {
+                throw new JsonParseException("Did not consume the entire document.");
+            }
+            LOG.debug("Decoded command list with {} commands", commands.size());
+            return commands;
+        } catch (final IOException e) {
+            throw e;
+        } catch (final Exception ex) {
+            throw new JsonParseException("Illegal JSON detected", ex);
+        }
+    }
+
+    private Map<String, Object> readObject(final JsonReader jsonReader) throws IOException {
+        final Map<String, Object> jsonFields = new HashMap<>();
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            final String name = jsonReader.nextName();
+            jsonFields.put(name, readValue(jsonReader));
+        }
+        jsonReader.endObject();
+        return jsonFields;
+    }
+
+    private Object readValue(final JsonReader jsonReader) throws IOException {
+        final JsonToken token = jsonReader.peek();
+        switch (token) {
+            case STRING:
+                return jsonReader.nextString();
+            case NUMBER:
+                return new LazilyParsedNumber(jsonReader.nextString());
+            case BOOLEAN:
+                return jsonReader.nextBoolean();
+            case NULL:
+                jsonReader.nextNull();
+                return null;
+            case BEGIN_OBJECT:
+                return readObject(jsonReader);
+            case BEGIN_ARRAY:
+                final List<Object> values = new ArrayList<>();
+                jsonReader.beginArray();
+                while (jsonReader.hasNext()) {
+                    values.add(readValue(jsonReader));
+                }
+                jsonReader.endArray();
+                return values;
+            default:
+                throw new JsonParseException("Unexpected JSON token " + token);
+        }
+    }
+
+    public static StreamingJsonCodec getInstance() {
+        return INSTANCE;
+    }
+}
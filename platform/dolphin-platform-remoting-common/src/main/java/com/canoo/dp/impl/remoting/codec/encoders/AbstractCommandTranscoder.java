@@ -21,10 +21,12 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import org.apiguardian.api.API;
 
+import java.util.Map;
+
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 @API(since = "0.x", status = INTERNAL)
-public abstract class AbstractCommandTranscoder<C extends Command> implements CommandTranscoder<C> {
+public abstract class AbstractCommandTranscoder<C extends Command> implements CommandTranscoder<C>, StreamingCommandTranscoder<C>, BinaryCommandTranscoder<C> {
 
     protected boolean isElementJsonNull(final JsonObject jsonObject, final String jsonElementName) {
         return getElement(jsonObject, jsonElementName).isJsonNull();
@@ -41,4 +43,20 @@ public abstract class AbstractCommandTranscoder<C extends Command> implements Co
         Assert.requireNonNull(element, "element");
         return element;
     }
+
+    protected boolean isFieldNull(final Map<String, Object> jsonFields, final String fieldName) {
+        Assert.requireNonNull(jsonFields, "jsonFields");
+        Assert.requireNonNull(fieldName, "fieldName");
+        return jsonFields.get(fieldName) == null;
+    }
+
+    protected String getStringField(final Map<String, Object> jsonFields, final String fieldName) {
+        Assert.requireNonNull(jsonFields, "jsonFields");
+        Assert.requireNonNull(fieldName, "fieldName");
+        final Object value = Assert.requireNonNull(jsonFields.get(fieldName), "value");
+        if (value instanceof String || value instanceof Number || value instanceof Boolean) {
+            return value.toString();
+        }
+        throw new IllegalStateException("Field " + fieldName + " is not a JSON primitive");
+    }
 }
@@ -18,8 +18,12 @@ package com.canoo.dp.impl.remoting.codec.encoders;
 import com.canoo.dp.impl.platform.core.Assert;
 import com.canoo.dp.impl.remoting.legacy.communication.AttributeMetadataChangedCommand;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 import org.apiguardian.api.API;
 
+import java.io.IOException;
+import java.util.Map;
+
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.ATTRIBUTE_ID;
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.ATTRIBUTE_METADATA_CHANGED_COMMAND_ID;
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.ID;
@@ -50,4 +54,45 @@ public class AttributeMetadataChangedCommandEncoder extends AbstractCommandTrans
         command.setValue(ValueEncoder.decodeValue(jsonObject.get(VALUE)));
         return command;
     }
+
+    @Override
+    public void encode(final AttributeMetadataChangedCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.beginObject();
+        writer.name(ID).value(ATTRIBUTE_METADATA_CHANGED_COMMAND_ID);
+        writer.name(ATTRIBUTE_ID).value(command.getAttributeId());
+        writer.name(NAME).value(command.getMetadataName());
+        writer.name(VALUE);
+        ValueEncoder.encodeValue(command.getValue(), writer);
+        writer.endObject();
+    }
+
+    @Override
+    public AttributeMetadataChangedCommand decode(final Map<String, Object> jsonFields) {
+        final AttributeMetadataChangedCommand command = new AttributeMetadataChangedCommand();
+        command.setAttributeId(getStringField(jsonFields, ATTRIBUTE_ID));
+        command.setMetadataName(getStringField(jsonFields, NAME));
+        command.setValue(ValueEncoder.decodeFieldValue(jsonFields.get(VALUE)));
+        return command;
+    }
+
+    @Override
+    public void encode(final AttributeMetadataChangedCommand command, final BinaryCommandWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.writeInternedString(command.getAttributeId());
+        writer.writeInternedString(command.getMetadataName());
+        writer.writeValue(command.getValue());
+    }
+
+    @Override
+    public AttributeMetadataChangedCommand decode(final BinaryCommandReader reader) throws IOException {
+        Assert.requireNonNull(reader, "reader");
+        final AttributeMetadataChangedCommand command = new AttributeMetadataChangedCommand();
+        command.setAttributeId(reader.readInternedString());
+        command.setMetadataName(reader.readInternedString());
+        command.setValue(reader.readValue());
+        return command;
+    }
 }
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.codec.encoders;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import com.google.gson.internal.LazilyParsedNumber;
+import org.apiguardian.api.API;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.canoo.dp.impl.remoting.codec.encoders.BinaryValueType.*;
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Reads the primitives that are written by a {@link BinaryCommandWriter}.
+ */
+@API(since = "1.0.0", status = INTERNAL)
+public class BinaryCommandReader {
+
+    private final DataInputStream inputStream;
+
+    private final List<String> internedStrings = new ArrayList<>();
+
+    public BinaryCommandReader(final InputStream inputStream) {
+        Assert.requireNonNull(inputStream, "inputStream");
+        this.inputStream = new DataInputStream(inputStream);
+    }
+
+    public int readVarInt() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            final int b = inputStream.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    public long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final int b = inputStream.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varlong");
+    }
+
+    public String readString() throws IOException {
+        final int length = readVarInt();
+        if (length == 0) {
+            return null;
+        }
+        final byte[] bytes = new byte[length - 1];
+        inputStream.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public String readInternedString() throws IOException {
+        final int reference = readVarInt();
+        if (reference == 0) {
+            return null;
+        }
+        if (reference == 1) {
+            final String value = Assert.requireNonNull(readString(), "value");
+            internedStrings.add(value);
+            return value;
+        }
+        final int index = reference - 2;
+        if (index >= internedStrings.size()) {
+            throw new IOException("Unknown interned string reference " + index);
+        }
+        return internedStrings.get(index);
+    }
+
+    public Object readValue() throws IOException {
+        final int type = inputStream.readUnsignedByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return readString();
+            case TRUE:
+                return true;
+            case FALSE:
+                return false;
+            case INT:
+                return unZigZag(readVarInt());
+            case LONG:
+                return unZigZag(readVarLong());
+            case DOUBLE:
+                return inputStream.readDouble();
+            case FLOAT:
+                return inputStream.readFloat();
+            case SHORT:
+                return (short) unZigZag(readVarInt());
+            case BYTE:
+                return inputStream.readByte();
+            case NUMBER:
+                return new LazilyParsedNumber(Assert.requireNonNull(readString(), "number"));
+            default:
+                throw new IOException("Unknown value type " + type);
+        }
+    }
+
+    public int readByte() throws IOException {
+        return inputStream.readUnsignedByte();
+    }
+
+    public boolean isFinished() throws IOException {
+        return inputStream.read() < 0;
+    }
+
+    private static int unZigZag(final int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long unZigZag(final long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
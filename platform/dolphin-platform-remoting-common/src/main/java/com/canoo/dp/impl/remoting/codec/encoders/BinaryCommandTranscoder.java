@@ -0,0 +1,39 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.codec.encoders;
+
+import com.canoo.dp.impl.remoting.legacy.communication.Command;
+import org.apiguardian.api.API;
+
+import java.io.IOException;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Transcoder that is used by the {@link com.canoo.dp.impl.remoting.codec.BinaryCodec}. In the binary format the type
+ * of a command is written before the command and therefore all fields of a command are written and read in a fixed
+ * order without any field names.
+ *
+ * @param <C> type of the command
+ */
+@API(since = "1.0.0", status = INTERNAL)
+public interface BinaryCommandTranscoder<C extends Command> {
+
+    void encode(C command, BinaryCommandWriter writer) throws IOException;
+
+    C decode(BinaryCommandReader reader) throws IOException;
+
+}
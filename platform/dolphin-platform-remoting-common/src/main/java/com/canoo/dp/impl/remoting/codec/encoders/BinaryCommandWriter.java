@@ -0,0 +1,148 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.codec.encoders;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import org.apiguardian.api.API;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.canoo.dp.impl.remoting.codec.encoders.BinaryValueType.*;
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Writes the primitives of the binary remoting format. Numbers are written as varints and ids that are used several
+ * times in one message (attribute ids, presentation model ids, names) are only written once and referenced by an
+ * index afterwards. The intern table is only valid for one message so both sides never need to share any state.
+ */
+@API(since = "1.0.0", status = INTERNAL)
+public class BinaryCommandWriter {
+
+    private final DataOutputStream outputStream;
+
+    private final Map<String, Integer> internedStrings = new HashMap<>();
+
+    public BinaryCommandWriter(final OutputStream outputStream) {
+        Assert.requireNonNull(outputStream, "outputStream");
+        this.outputStream = new DataOutputStream(outputStream);
+    }
+
+    public void writeVarInt(final int value) throws IOException {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            outputStream.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        outputStream.writeByte(remaining);
+    }
+
+    public void writeVarLong(final long value) throws IOException {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            outputStream.writeByte((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        outputStream.writeByte((int) remaining);
+    }
+
+    public void writeString(final String value) throws IOException {
+        if (value == null) {
+            writeVarInt(0);
+            return;
+        }
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length + 1);
+        outputStream.write(bytes);
+    }
+
+    /**
+     * Writes a string that will be part of the intern table of the current message. The first occurrence of a
+     * string is written as 1 followed by the string, each additional occurrence is written as index + 2.
+     * {@code null} is written as 0.
+     *
+     * @param value the string
+     * @throws IOException if the string can not be written
+     */
+    public void writeInternedString(final String value) throws IOException {
+        if (value == null) {
+            writeVarInt(0);
+            return;
+        }
+        final Integer index = internedStrings.get(value);
+        if (index != null) {
+            writeVarInt(index + 2);
+            return;
+        }
+        internedStrings.put(value, internedStrings.size());
+        writeVarInt(1);
+        writeString(value);
+    }
+
+    public void writeValue(final Object value) throws IOException {
+        if (value == null) {
+            outputStream.writeByte(NULL);
+        } else if (value instanceof String) {
+            outputStream.writeByte(STRING);
+            writeString((String) value);
+        } else if (value instanceof Boolean) {
+            outputStream.writeByte(((Boolean) value) ? TRUE : FALSE);
+        } else if (value instanceof Integer) {
+            outputStream.writeByte(INT);
+            writeVarInt(zigZag((Integer) value));
+        } else if (value instanceof Long) {
+            outputStream.writeByte(LONG);
+            writeVarLong(zigZag((Long) value));
+        } else if (value instanceof Double) {
+            outputStream.writeByte(DOUBLE);
+            outputStream.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            outputStream.writeByte(FLOAT);
+            outputStream.writeFloat((Float) value);
+        } else if (value instanceof Short) {
+            outputStream.writeByte(SHORT);
+            writeVarInt(zigZag((Short) value));
+        } else if (value instanceof Byte) {
+            outputStream.writeByte(BYTE);
+            outputStream.writeByte((Byte) value);
+        } else if (value instanceof Number) {
+            outputStream.writeByte(NUMBER);
+            writeString(value.toString());
+        } else {
+            throw new IllegalArgumentException("Only String, Number, and Boolean are allowed currently");
+        }
+    }
+
+    public void writeByte(final int value) throws IOException {
+        outputStream.writeByte(value);
+    }
+
+    public void flush() throws IOException {
+        outputStream.flush();
+    }
+
+    private static int zigZag(final int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static long zigZag(final long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+}
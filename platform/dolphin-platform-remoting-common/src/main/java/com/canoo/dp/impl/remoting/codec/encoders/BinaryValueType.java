@@ -0,0 +1,39 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.codec.encoders;
+
+import org.apiguardian.api.API;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Type tags that are written in front of each value in the binary remoting format.
+ */
+@API(since = "1.0.0", status = INTERNAL)
+public interface BinaryValueType {
+
+    int NULL = 0;
+    int STRING = 1;
+    int TRUE = 2;
+    int FALSE = 3;
+    int INT = 4;
+    int LONG = 5;
+    int DOUBLE = 6;
+    int FLOAT = 7;
+    int SHORT = 8;
+    int BYTE = 9;
+    int NUMBER = 10;
+}
@@ -21,8 +21,11 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonWriter;
 import org.apiguardian.api.API;
 
+import java.io.IOException;
+import java.util.List;
 import java.util.Map;
 
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.CALL_ACTION_COMMAND_ID;
@@ -76,4 +79,74 @@ public class CallActionCommandEncoder extends AbstractCommandTranscoder<CallActi
             throw new JsonParseException("Illegal JSON detected", ex);
         }
     }
+
+    @Override
+    public void encode(final CallActionCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.beginObject();
+        writer.name(CONTROLLER_ID).value(command.getControllerId());
+        writer.name(NAME).value(command.getActionName());
+
+        writer.name(PARAMS).beginArray();
+        for(final Map.Entry<String, Object> paramEntry : command.getParams().entrySet()) {
+            writer.beginObject();
+            writer.name(NAME).value(paramEntry.getKey());
+            writer.name(VALUE);
+            ValueEncoder.encodeValue(paramEntry.getValue(), writer);
+            writer.endObject();
+        }
+        writer.endArray();
+
+        writer.name(ID).value(CALL_ACTION_COMMAND_ID);
+        writer.endObject();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public CallActionCommand decode(final Map<String, Object> jsonFields) {
+        Assert.requireNonNull(jsonFields, "jsonFields");
+        try {
+            final CallActionCommand command = new CallActionCommand();
+            command.setControllerId(getStringField(jsonFields, CONTROLLER_ID));
+            command.setActionName(getStringField(jsonFields, NAME));
+
+            final List<Object> params = (List<Object>) jsonFields.get(PARAMS);
+            if(params != null) {
+                for (final Object param : params) {
+                    final Map<String, Object> paramFields = (Map<String, Object>) param;
+                    command.addParam(getStringField(paramFields, NAME), ValueEncoder.decodeFieldValue(paramFields.get(VALUE)));
+                }
+            }
+            return command;
+        } catch (final Exception ex) {
+            throw new JsonParseException("Illegal JSON detected", ex);
+        }
+    }
+
+    @Override
+    public void encode(final CallActionCommand command, final BinaryCommandWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.writeInternedString(command.getControllerId());
+        writer.writeInternedString(command.getActionName());
+        writer.writeVarInt(command.getParams().size());
+        for(final Map.Entry<String, Object> paramEntry : command.getParams().entrySet()) {
+            writer.writeInternedString(paramEntry.getKey());
+            writer.writeValue(paramEntry.getValue());
+        }
+    }
+
+    @Override
+    public CallActionCommand decode(final BinaryCommandReader reader) throws IOException {
+        Assert.requireNonNull(reader, "reader");
+        final CallActionCommand command = new CallActionCommand();
+        command.setControllerId(reader.readInternedString());
+        command.setActionName(reader.readInternedString());
+        final int paramCount = reader.readVarInt();
+        for (int i = 0; i < paramCount; i++) {
+            command.addParam(reader.readInternedString(), reader.readValue());
+        }
+        return command;
+    }
 }
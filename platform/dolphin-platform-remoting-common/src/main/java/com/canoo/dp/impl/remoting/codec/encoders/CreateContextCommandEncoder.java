@@ -18,10 +18,15 @@ package com.canoo.dp.impl.remoting.codec.encoders;
 import com.canoo.dp.impl.platform.core.Assert;
 import com.canoo.dp.impl.remoting.commands.CreateContextCommand;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 import org.apiguardian.api.API;
 
+import java.io.IOException;
+import java.util.Map;
+
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.CREATE_CONTEXT_COMMAND_ID;
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.ID;
+import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.LIST_SPLICE_SUPPORTED;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 @API(since = "0.x", status = INTERNAL)
@@ -30,12 +35,53 @@ public class CreateContextCommandEncoder extends AbstractCommandTranscoder<Creat
     public JsonObject encode(final CreateContextCommand command) {
         Assert.requireNonNull(command, "command");
         final JsonObject jsonCommand = new JsonObject();
+        if (command.isListSpliceSupported()) {
+            jsonCommand.addProperty(LIST_SPLICE_SUPPORTED, true);
+        }
         jsonCommand.addProperty(ID, CREATE_CONTEXT_COMMAND_ID);
         return jsonCommand;
     }
 
     @Override
     public CreateContextCommand decode(final JsonObject jsonObject) {
-        return new CreateContextCommand();
+        Assert.requireNonNull(jsonObject, "jsonObject");
+        final CreateContextCommand command = new CreateContextCommand();
+        command.setListSpliceSupported(jsonObject.has(LIST_SPLICE_SUPPORTED) && jsonObject.get(LIST_SPLICE_SUPPORTED).getAsBoolean());
+        return command;
+    }
+
+    @Override
+    public void encode(final CreateContextCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.beginObject();
+        if (command.isListSpliceSupported()) {
+            writer.name(LIST_SPLICE_SUPPORTED).value(true);
+        }
+        writer.name(ID).value(CREATE_CONTEXT_COMMAND_ID);
+        writer.endObject();
+    }
+
+    @Override
+    public CreateContextCommand decode(final Map<String, Object> jsonFields) {
+        Assert.requireNonNull(jsonFields, "jsonFields");
+        final CreateContextCommand command = new CreateContextCommand();
+        command.setListSpliceSupported(Boolean.TRUE.equals(jsonFields.get(LIST_SPLICE_SUPPORTED)));
+        return command;
+    }
+
+    @Override
+    public void encode(final CreateContextCommand command, final BinaryCommandWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.writeByte(command.isListSpliceSupported() ? 1 : 0);
+    }
+
+    @Override
+    public CreateContextCommand decode(final BinaryCommandReader reader) throws IOException {
+        Assert.requireNonNull(reader, "reader");
+        final CreateContextCommand command = new CreateContextCommand();
+        command.setListSpliceSupported(reader.readByte() == 1);
+        return command;
     }
 }
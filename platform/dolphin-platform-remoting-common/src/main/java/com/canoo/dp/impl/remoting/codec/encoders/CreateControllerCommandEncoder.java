@@ -19,8 +19,12 @@ import com.canoo.dp.impl.platform.core.Assert;
 import com.canoo.dp.impl.remoting.commands.CreateControllerCommand;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonWriter;
 import org.apiguardian.api.API;
 
+import java.io.IOException;
+import java.util.Map;
+
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.CONTROLLER_ID;
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.CREATE_CONTROLLER_COMMAND_ID;
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.ID;
@@ -54,4 +58,47 @@ public class CreateControllerCommandEncoder extends AbstractCommandTranscoder<Cr
             throw new JsonParseException("Illegal JSON detected", ex);
         }
     }
+
+    @Override
+    public void encode(final CreateControllerCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.beginObject();
+        writer.name(CONTROLLER_ID).value(command.getParentControllerId());
+        writer.name(NAME).value(command.getControllerName());
+        writer.name(ID).value(CREATE_CONTROLLER_COMMAND_ID);
+        writer.endObject();
+    }
+
+    @Override
+    public CreateControllerCommand decode(final Map<String, Object> jsonFields) {
+        Assert.requireNonNull(jsonFields, "jsonFields");
+        try {
+            final CreateControllerCommand command = new CreateControllerCommand();
+            if(!isFieldNull(jsonFields, CONTROLLER_ID)) {
+                command.setParentControllerId(getStringField(jsonFields, CONTROLLER_ID));
+            }
+            command.setControllerName(getStringField(jsonFields, NAME));
+            return command;
+        } catch (final Exception ex) {
+            throw new JsonParseException("Illegal JSON detected", ex);
+        }
+    }
+
+    @Override
+    public void encode(final CreateControllerCommand command, final BinaryCommandWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.writeInternedString(command.getParentControllerId());
+        writer.writeInternedString(command.getControllerName());
+    }
+
+    @Override
+    public CreateControllerCommand decode(final BinaryCommandReader reader) throws IOException {
+        Assert.requireNonNull(reader, "reader");
+        final CreateControllerCommand command = new CreateControllerCommand();
+        command.setParentControllerId(reader.readInternedString());
+        command.setControllerName(reader.readInternedString());
+        return command;
+    }
 }
@@ -22,8 +22,10 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonWriter;
 import org.apiguardian.api.API;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -93,4 +95,92 @@ public class CreatePresentationModelCommandEncoder extends AbstractCommandTransc
             throw new JsonParseException("Illegal JSON detected", ex);
         }
     }
+
+    @Override
+    public void encode(final CreatePresentationModelCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+
+        writer.beginObject();
+        writer.name(PM_ID).value(command.getPmId());
+        writer.name(PM_TYPE).value(command.getPmType());
+
+        writer.name(PM_ATTRIBUTES).beginArray();
+        for (final Map<String, Object> attribute : command.getAttributes()) {
+            writer.beginObject();
+            writer.name(NAME).value(String.valueOf(attribute.get(Attribute.PROPERTY_NAME)));
+            writer.name(ATTRIBUTE_ID).value(String.valueOf(attribute.get(Attribute.ID)));
+            writer.name(VALUE);
+            ValueEncoder.encodeValue(attribute.get(Attribute.VALUE_NAME), writer);
+            writer.endObject();
+        }
+        writer.endArray();
+        writer.name(ID).value(CREATE_PRESENTATION_MODEL_COMMAND_ID);
+        writer.endObject();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public CreatePresentationModelCommand decode(final Map<String, Object> jsonFields) {
+        Assert.requireNonNull(jsonFields, "jsonFields");
+
+        try {
+            final CreatePresentationModelCommand command = new CreatePresentationModelCommand();
+
+            command.setPmId(getStringField(jsonFields, PM_ID));
+            command.setPmType(getStringField(jsonFields, PM_TYPE));
+            command.setClientSideOnly(false);
+
+            final List<Object> jsonAttributes = (List<Object>) Assert.requireNonNull(jsonFields.get(PM_ATTRIBUTES), "jsonAttributes");
+            final List<Map<String, Object>> attributes = new ArrayList<>(jsonAttributes.size());
+            for (final Object jsonAttribute : jsonAttributes) {
+                final Map<String, Object> attribute = (Map<String, Object>) jsonAttribute;
+                final HashMap<String, Object> map = new HashMap<>();
+                map.put(Attribute.PROPERTY_NAME, getStringField(attribute, NAME));
+                map.put(Attribute.ID, getStringField(attribute, ATTRIBUTE_ID));
+                map.put(Attribute.VALUE_NAME, ValueEncoder.decodeFieldValue(attribute.get(VALUE)));
+                attributes.add(map);
+            }
+            command.setAttributes(attributes);
+
+            return command;
+        } catch (final IllegalStateException | ClassCastException | NullPointerException ex) {
+            throw new JsonParseException("Illegal JSON detected", ex);
+        }
+    }
+
+    @Override
+    public void encode(final CreatePresentationModelCommand command, final BinaryCommandWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.writeInternedString(command.getPmId());
+        writer.writeInternedString(command.getPmType());
+        writer.writeVarInt(command.getAttributes().size());
+        for (final Map<String, Object> attribute : command.getAttributes()) {
+            writer.writeInternedString(String.valueOf(attribute.get(Attribute.PROPERTY_NAME)));
+            writer.writeInternedString(String.valueOf(attribute.get(Attribute.ID)));
+            writer.writeValue(attribute.get(Attribute.VALUE_NAME));
+        }
+    }
+
+    @Override
+    public CreatePresentationModelCommand decode(final BinaryCommandReader reader) throws IOException {
+        Assert.requireNonNull(reader, "reader");
+        final CreatePresentationModelCommand command = new CreatePresentationModelCommand();
+        command.setPmId(reader.readInternedString());
+        command.setPmType(reader.readInternedString());
+        command.setClientSideOnly(false);
+
+        final int attributeCount = reader.readVarInt();
+        final List<Map<String, Object>> attributes = new ArrayList<>(attributeCount);
+        for (int i = 0; i < attributeCount; i++) {
+            final HashMap<String, Object> map = new HashMap<>();
+            map.put(Attribute.PROPERTY_NAME, reader.readInternedString());
+            map.put(Attribute.ID, reader.readInternedString());
+            map.put(Attribute.VALUE_NAME, reader.readValue());
+            attributes.add(map);
+        }
+        command.setAttributes(attributes);
+        return command;
+    }
 }
@@ -18,8 +18,12 @@ package com.canoo.dp.impl.remoting.codec.encoders;
 import com.canoo.dp.impl.platform.core.Assert;
 import com.canoo.dp.impl.remoting.legacy.communication.DeletePresentationModelCommand;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 import org.apiguardian.api.API;
 
+import java.io.IOException;
+import java.util.Map;
+
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.DELETE_PRESENTATION_MODEL_COMMAND_ID;
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.ID;
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.PM_ID;
@@ -43,4 +47,36 @@ public class DeletePresentationModelCommandEncoder extends AbstractCommandTransc
         command.setPmId(getStringElement(jsonObject, PM_ID));
         return command;
     }
+
+    @Override
+    public void encode(final DeletePresentationModelCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.beginObject();
+        writer.name(ID).value(DELETE_PRESENTATION_MODEL_COMMAND_ID);
+        writer.name(PM_ID).value(command.getPmId());
+        writer.endObject();
+    }
+
+    @Override
+    public DeletePresentationModelCommand decode(final Map<String, Object> jsonFields) {
+        final DeletePresentationModelCommand command = new DeletePresentationModelCommand();
+        command.setPmId(getStringField(jsonFields, PM_ID));
+        return command;
+    }
+
+    @Override
+    public void encode(final DeletePresentationModelCommand command, final BinaryCommandWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.writeInternedString(command.getPmId());
+    }
+
+    @Override
+    public DeletePresentationModelCommand decode(final BinaryCommandReader reader) throws IOException {
+        Assert.requireNonNull(reader, "reader");
+        final DeletePresentationModelCommand command = new DeletePresentationModelCommand();
+        command.setPmId(reader.readInternedString());
+        return command;
+    }
 }
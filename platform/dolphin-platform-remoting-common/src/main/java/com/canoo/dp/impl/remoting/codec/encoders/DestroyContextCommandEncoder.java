@@ -18,8 +18,12 @@ package com.canoo.dp.impl.remoting.codec.encoders;
 import com.canoo.dp.impl.platform.core.Assert;
 import com.canoo.dp.impl.remoting.commands.DestroyContextCommand;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 import org.apiguardian.api.API;
 
+import java.io.IOException;
+import java.util.Map;
+
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.DESTROY_CONTEXT_COMMAND_ID;
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.ID;
 import static org.apiguardian.api.API.Status.INTERNAL;
@@ -38,4 +42,28 @@ public class DestroyContextCommandEncoder extends AbstractCommandTranscoder<Dest
     public DestroyContextCommand decode(final JsonObject jsonObject) {
         return new DestroyContextCommand();
     }
+
+    @Override
+    public void encode(final DestroyContextCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.beginObject();
+        writer.name(ID).value(DESTROY_CONTEXT_COMMAND_ID);
+        writer.endObject();
+    }
+
+    @Override
+    public DestroyContextCommand decode(final Map<String, Object> jsonFields) {
+        return new DestroyContextCommand();
+    }
+
+    @Override
+    public void encode(final DestroyContextCommand command, final BinaryCommandWriter writer) {
+        Assert.requireNonNull(command, "command");
+    }
+
+    @Override
+    public DestroyContextCommand decode(final BinaryCommandReader reader) {
+        return new DestroyContextCommand();
+    }
 }
@@ -19,8 +19,12 @@ import com.canoo.dp.impl.platform.core.Assert;
 import com.canoo.dp.impl.remoting.commands.DestroyControllerCommand;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonWriter;
 import org.apiguardian.api.API;
 
+import java.io.IOException;
+import java.util.Map;
+
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.CONTROLLER_ID;
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.DESTROY_CONTROLLER_COMMAND_ID;
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.ID;
@@ -49,4 +53,41 @@ public class DestroyControllerCommandEncoder extends AbstractCommandTranscoder<D
             throw new JsonParseException("Illegal JSON detected", ex);
         }
     }
+
+    @Override
+    public void encode(final DestroyControllerCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.beginObject();
+        writer.name(CONTROLLER_ID).value(command.getControllerId());
+        writer.name(ID).value(DESTROY_CONTROLLER_COMMAND_ID);
+        writer.endObject();
+    }
+
+    @Override
+    public DestroyControllerCommand decode(final Map<String, Object> jsonFields) {
+        Assert.requireNonNull(jsonFields, "jsonFields");
+        try {
+            final DestroyControllerCommand command = new DestroyControllerCommand();
+            command.setControllerId(getStringField(jsonFields, CONTROLLER_ID));
+            return command;
+        } catch (final Exception ex) {
+            throw new JsonParseException("Illegal JSON detected", ex);
+        }
+    }
+
+    @Override
+    public void encode(final DestroyControllerCommand command, final BinaryCommandWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.writeInternedString(command.getControllerId());
+    }
+
+    @Override
+    public DestroyControllerCommand decode(final BinaryCommandReader reader) throws IOException {
+        Assert.requireNonNull(reader, "reader");
+        final DestroyControllerCommand command = new DestroyControllerCommand();
+        command.setControllerId(reader.readInternedString());
+        return command;
+    }
 }
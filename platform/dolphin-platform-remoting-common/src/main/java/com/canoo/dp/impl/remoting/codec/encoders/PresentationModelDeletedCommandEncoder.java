@@ -18,8 +18,12 @@ package com.canoo.dp.impl.remoting.codec.encoders;
 import com.canoo.dp.impl.platform.core.Assert;
 import com.canoo.dp.impl.remoting.legacy.communication.PresentationModelDeletedCommand;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 import org.apiguardian.api.API;
 
+import java.io.IOException;
+import java.util.Map;
+
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.ID;
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.PM_ID;
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.PRESENTATION_MODEL_DELETED_COMMAND_ID;
@@ -44,4 +48,36 @@ public class PresentationModelDeletedCommandEncoder extends AbstractCommandTrans
         command.setPmId(getStringElement(jsonObject, PM_ID));
         return command;
     }
+
+    @Override
+    public void encode(final PresentationModelDeletedCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.beginObject();
+        writer.name(ID).value(PRESENTATION_MODEL_DELETED_COMMAND_ID);
+        writer.name(PM_ID).value(command.getPmId());
+        writer.endObject();
+    }
+
+    @Override
+    public PresentationModelDeletedCommand decode(final Map<String, Object> jsonFields) {
+        final PresentationModelDeletedCommand command = new PresentationModelDeletedCommand();
+        command.setPmId(getStringField(jsonFields, PM_ID));
+        return command;
+    }
+
+    @Override
+    public void encode(final PresentationModelDeletedCommand command, final BinaryCommandWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.writeInternedString(command.getPmId());
+    }
+
+    @Override
+    public PresentationModelDeletedCommand decode(final BinaryCommandReader reader) throws IOException {
+        Assert.requireNonNull(reader, "reader");
+        final PresentationModelDeletedCommand command = new PresentationModelDeletedCommand();
+        command.setPmId(reader.readInternedString());
+        return command;
+    }
 }
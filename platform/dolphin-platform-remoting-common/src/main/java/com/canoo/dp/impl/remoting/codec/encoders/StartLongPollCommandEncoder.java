@@ -18,8 +18,12 @@ package com.canoo.dp.impl.remoting.codec.encoders;
 import com.canoo.dp.impl.remoting.legacy.commands.StartLongPollCommand;
 import com.canoo.dp.impl.platform.core.Assert;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 import org.apiguardian.api.API;
 
+import java.io.IOException;
+import java.util.Map;
+
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.ID;
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.START_LONG_POLL_COMMAND_ID;
 import static org.apiguardian.api.API.Status.INTERNAL;
@@ -39,4 +43,28 @@ public class StartLongPollCommandEncoder extends AbstractCommandTranscoder<Start
     public StartLongPollCommand decode(final JsonObject jsonObject) {
         return new StartLongPollCommand();
     }
+
+    @Override
+    public void encode(final StartLongPollCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.beginObject();
+        writer.name(ID).value(START_LONG_POLL_COMMAND_ID);
+        writer.endObject();
+    }
+
+    @Override
+    public StartLongPollCommand decode(final Map<String, Object> jsonFields) {
+        return new StartLongPollCommand();
+    }
+
+    @Override
+    public void encode(final StartLongPollCommand command, final BinaryCommandWriter writer) {
+        Assert.requireNonNull(command, "command");
+    }
+
+    @Override
+    public StartLongPollCommand decode(final BinaryCommandReader reader) {
+        return new StartLongPollCommand();
+    }
 }
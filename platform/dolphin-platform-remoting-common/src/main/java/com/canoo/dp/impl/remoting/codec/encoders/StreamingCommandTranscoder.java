@@ -0,0 +1,44 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.codec.encoders;
+
+import com.canoo.dp.impl.remoting.legacy.communication.Command;
+import com.google.gson.stream.JsonWriter;
+import org.apiguardian.api.API;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Counterpart of {@link CommandTranscoder} that is used by the
+ * {@link com.canoo.dp.impl.remoting.codec.StreamingJsonCodec}. A command is written directly to a {@link JsonWriter}
+ * and no JSON tree is created. The JSON that is written must be identical to the JSON that is created by
+ * {@link CommandTranscoder#encode(Command)}.
+ * Since the {@code id} of a command can be defined at any position in the JSON object a command is decoded from
+ * the flat field map of the JSON object. Nested objects are defined as {@link Map} and nested arrays as {@link java.util.List}.
+ *
+ * @param <C> type of the command
+ */
+@API(since = "1.0.0", status = INTERNAL)
+public interface StreamingCommandTranscoder<C extends Command> {
+
+    void encode(C command, JsonWriter writer) throws IOException;
+
+    C decode(Map<String, Object> jsonFields);
+
+}
@@ -19,8 +19,12 @@ import com.canoo.dp.impl.platform.core.Assert;
 import com.canoo.dp.impl.remoting.legacy.communication.ValueChangedCommand;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonWriter;
 import org.apiguardian.api.API;
 
+import java.io.IOException;
+import java.util.Map;
+
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.ATTRIBUTE_ID;
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.ID;
 import static com.canoo.dp.impl.remoting.legacy.communication.CommandConstants.VALUE;
@@ -54,4 +58,48 @@ public class ValueChangedCommandEncoder extends AbstractCommandTranscoder<ValueC
             throw new JsonParseException("Illegal JSON detected", ex);
         }
     }
+
+    @Override
+    public void encode(final ValueChangedCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.beginObject();
+        writer.name(ATTRIBUTE_ID).value(command.getAttributeId());
+        if (command.getNewValue() != null) {
+            writer.name(VALUE);
+            ValueEncoder.encodeValue(command.getNewValue(), writer);
+        }
+        writer.name(ID).value(VALUE_CHANGED_COMMAND_ID);
+        writer.endObject();
+    }
+
+    @Override
+    public ValueChangedCommand decode(final Map<String, Object> jsonFields) {
+        Assert.requireNonNull(jsonFields, "jsonFields");
+        try {
+            final ValueChangedCommand command = new ValueChangedCommand();
+            command.setNewValue(ValueEncoder.decodeFieldValue(jsonFields.get(VALUE)));
+            command.setAttributeId(getStringField(jsonFields, ATTRIBUTE_ID));
+            return command;
+        } catch (IllegalStateException | ClassCastException | NullPointerException ex) {
+            throw new JsonParseException("Illegal JSON detected", ex);
+        }
+    }
+
+    @Override
+    public void encode(final ValueChangedCommand command, final BinaryCommandWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.writeInternedString(command.getAttributeId());
+        writer.writeValue(command.getNewValue());
+    }
+
+    @Override
+    public ValueChangedCommand decode(final BinaryCommandReader reader) throws IOException {
+        Assert.requireNonNull(reader, "reader");
+        final ValueChangedCommand command = new ValueChangedCommand();
+        command.setAttributeId(reader.readInternedString());
+        command.setNewValue(reader.readValue());
+        return command;
+    }
 }
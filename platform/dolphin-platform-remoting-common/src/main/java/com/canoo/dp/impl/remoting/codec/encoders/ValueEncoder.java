@@ -19,8 +19,11 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
 import com.google.gson.JsonParseException;
 import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonWriter;
 import org.apiguardian.api.API;
 
+import java.io.IOException;
+
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 @API(since = "0.x", status = INTERNAL)
@@ -44,6 +47,27 @@ public class ValueEncoder {
         throw new JsonParseException("Only String, Number, and Boolean are allowed currently");
     }
 
+    public static void encodeValue(final Object value, final JsonWriter writer) throws IOException {
+        if(value == null) {
+            writer.nullValue();
+        } else if (value instanceof String) {
+            writer.value((String) value);
+        } else if (value instanceof Number) {
+            writer.value((Number) value);
+        } else if (value instanceof Boolean) {
+            writer.value((Boolean) value);
+        } else {
+            throw new JsonParseException("Only String, Number, and Boolean are allowed currently");
+        }
+    }
+
+    public static Object decodeFieldValue(final Object value) {
+        if (value == null || value instanceof String || value instanceof Boolean || value instanceof Number) {
+            return value;
+        }
+        throw new JsonParseException("Currently only String, Boolean, or Number are allowed as primitives");
+    }
+
     public static Object decodeValue(final JsonElement jsonElement) {
         if (jsonElement == null || jsonElement.isJsonNull()) {
             return null;
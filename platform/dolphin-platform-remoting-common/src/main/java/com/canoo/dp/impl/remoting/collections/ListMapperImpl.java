@@ -21,9 +21,11 @@ import com.canoo.dp.impl.remoting.DolphinEventHandler;
 import com.canoo.dp.impl.remoting.EventDispatcher;
 import com.canoo.dp.impl.remoting.PresentationModelBuilder;
 import com.canoo.platform.remoting.ListChangeEvent;
+import com.canoo.platform.remoting.spi.converter.ValueConverterException;
 import com.canoo.dp.impl.remoting.PlatformRemotingConstants;
 import com.canoo.dp.impl.remoting.PresentationModelBuilderFactory;
 import com.canoo.dp.impl.remoting.ListMapper;
+import com.canoo.dp.impl.remoting.commands.ListSpliceCommand;
 import com.canoo.dp.impl.remoting.info.ClassInfo;
 import com.canoo.dp.impl.remoting.info.PropertyInfo;
 import com.canoo.dp.impl.remoting.MappingException;
@@ -35,6 +37,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
@@ -43,41 +46,34 @@ public class ListMapperImpl implements ListMapper {
 
     private static final Logger LOG = LoggerFactory.getLogger(ListMapperImpl.class);
 
+    private final ModelStore modelStore;
     private final BeanRepository beanRepository;
     private final ClassRepository classRepository;
     protected final PresentationModelBuilderFactory builderFactory;
 
     public ListMapperImpl(final ModelStore modelStore, final ClassRepository classRepository, final BeanRepository beanRepository, final PresentationModelBuilderFactory builderFactory, final EventDispatcher dispatcher) {
+        this.modelStore = modelStore;
         this.beanRepository = beanRepository;
         this.classRepository = classRepository;
         this.builderFactory = builderFactory;
 
         dispatcher.addListSpliceHandler(new DolphinEventHandler() {
             @Override
-            @SuppressWarnings("unchecked")
             public void onEvent(PresentationModel model) {
                 try {
                     final String sourceId = model.getAttribute("source").getValue().toString();
                     final String attributeName = model.getAttribute("attribute").getValue().toString();
 
-                    final Object bean = ListMapperImpl.this.beanRepository.getBean(sourceId);
-                    final ClassInfo classInfo = ListMapperImpl.this.classRepository.getOrCreateClassInfo(bean.getClass());
-                    final PropertyInfo observableListInfo = classInfo.getObservableListInfo(attributeName);
-
-                    final ObservableArrayList list = (ObservableArrayList) observableListInfo.getPrivileged(bean);
-
                     final int from = ((Number) model.getAttribute("from").getValue()).intValue();
                     final int to = ((Number) model.getAttribute("to").getValue()).intValue();
                     final int count = ((Number) model.getAttribute("count").getValue()).intValue();
 
-                    final List<Object> newElements = new ArrayList<Object>(count);
+                    final List<Object> dolphinValues = new ArrayList<Object>(count);
                     for (int i = 0; i < count; i++) {
-                        final Object dolphinValue = model.getAttribute(Integer.toString(i)).getValue();
-                        final Object value = observableListInfo.convertFromDolphin(dolphinValue);
-                        newElements.add(value);
+                        dolphinValues.add(model.getAttribute(Integer.toString(i)).getValue());
                     }
 
-                    list.internalSplice(from, to, newElements);
+                    splice(sourceId, attributeName, from, to, dolphinValues);
                 } catch (Exception ex) {
                     //TODO: This exception must be handled!
                     LOG.error("Invalid LIST_SPLICE command received: " + model, ex);
@@ -89,6 +85,33 @@ public class ListMapperImpl implements ListMapper {
 
             }
         });
+
+        modelStore.addListSpliceHandler(new Consumer<ListSpliceCommand>() {
+            @Override
+            public void accept(final ListSpliceCommand command) {
+                try {
+                    splice(command.getSourceId(), command.getAttributeName(), command.getFrom(), command.getTo(), command.getValues());
+                } catch (Exception ex) {
+                    LOG.error("Invalid list splice command received: " + command, ex);
+                }
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private void splice(final String sourceId, final String attributeName, final int from, final int to, final List<Object> dolphinValues) throws ValueConverterException {
+        final Object bean = beanRepository.getBean(sourceId);
+        final ClassInfo classInfo = classRepository.getOrCreateClassInfo(bean.getClass());
+        final PropertyInfo observableListInfo = classInfo.getObservableListInfo(attributeName);
+
+        final ObservableArrayList list = (ObservableArrayList) observableListInfo.getPrivileged(bean);
+
+        final List<Object> newElements = new ArrayList<Object>(dolphinValues.size());
+        for (final Object dolphinValue : dolphinValues) {
+            newElements.add(observableListInfo.convertFromDolphin(dolphinValue));
+        }
+
+        list.internalSplice(from, to, newElements);
     }
 
     @Override
@@ -100,6 +123,20 @@ public class ListMapperImpl implements ListMapper {
             final int from = change.getFrom();
             final int to = from + change.getRemovedElements().size();
             final List<?> newElements = event.getSource().subList(from, change.getTo());
+
+            if (modelStore.isListSpliceSupported()) {
+                final List<Object> dolphinValues = new ArrayList<>(newElements.size());
+                for (final Object current : newElements) {
+                    try {
+                        dolphinValues.add(observableListInfo.convertToDolphin(current));
+                    } catch (Exception e) {
+                        throw new MappingException("Error in event processing!", e);
+                    }
+                }
+                modelStore.spliceList(new ListSpliceCommand(sourceId, attributeName, from, to, dolphinValues));
+                continue;
+            }
+
             final int count = newElements.size();
 
             final PresentationModelBuilder builder = builderFactory.createBuilder();
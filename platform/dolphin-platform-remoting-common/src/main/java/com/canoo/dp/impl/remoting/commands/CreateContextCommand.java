@@ -24,7 +24,23 @@ import static org.apiguardian.api.API.Status.INTERNAL;
 @API(since = "0.x", status = INTERNAL)
 public final class CreateContextCommand extends Command {
 
+    private boolean listSpliceSupported;
+
     public CreateContextCommand() {
         super(CommandConstants.CREATE_CONTEXT_COMMAND_ID);
     }
+
+    /**
+     * Defines if the client can handle {@link ListSpliceCommand}s. Clients that do not support the command receive
+     * list changes as presentation models. The server answers a command with this flag by sending back a
+     * {@link CreateContextCommand} with the flag set, which allows the client to send {@link ListSpliceCommand}s, too.
+     * @return true if the client supports {@link ListSpliceCommand}s
+     */
+    public boolean isListSpliceSupported() {
+        return listSpliceSupported;
+    }
+
+    public void setListSpliceSupported(final boolean listSpliceSupported) {
+        this.listSpliceSupported = listSpliceSupported;
+    }
 }
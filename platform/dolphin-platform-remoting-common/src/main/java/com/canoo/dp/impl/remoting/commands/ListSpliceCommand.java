@@ -0,0 +1,107 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.commands;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.remoting.legacy.communication.Command;
+import com.canoo.dp.impl.remoting.legacy.communication.CommandConstants;
+import org.apiguardian.api.API;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Command that describes a change of an observable list of a bean. The elements in the range {@code from} (inclusive)
+ * to {@code to} (exclusive) are replaced by the given values. The values are already converted to the
+ * remoting representation.
+ */
+@API(since = "1.0.0", status = INTERNAL)
+public final class ListSpliceCommand extends Command {
+
+    private String sourceId;
+
+    private String attributeName;
+
+    private int from;
+
+    private int to;
+
+    private final List<Object> values = new ArrayList<>();
+
+    public ListSpliceCommand() {
+        super(CommandConstants.LIST_SPLICE_COMMAND_ID);
+    }
+
+    public ListSpliceCommand(final String sourceId, final String attributeName, final int from, final int to, final List<?> values) {
+        this();
+        setSourceId(sourceId);
+        setAttributeName(attributeName);
+        setFrom(from);
+        setTo(to);
+        Assert.requireNonNull(values, "values");
+        this.values.addAll(values);
+    }
+
+    public String getSourceId() {
+        return sourceId;
+    }
+
+    public void setSourceId(final String sourceId) {
+        Assert.requireNonBlank(sourceId, "sourceId");
+        this.sourceId = sourceId;
+    }
+
+    public String getAttributeName() {
+        return attributeName;
+    }
+
+    public void setAttributeName(final String attributeName) {
+        Assert.requireNonBlank(attributeName, "attributeName");
+        this.attributeName = attributeName;
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public void setFrom(final int from) {
+        this.from = from;
+    }
+
+    public int getTo() {
+        return to;
+    }
+
+    public void setTo(final int to) {
+        this.to = to;
+    }
+
+    public List<Object> getValues() {
+        return Collections.unmodifiableList(values);
+    }
+
+    public void addValue(final Object value) {
+        values.add(value);
+    }
+
+    @Override
+    public String toString() {
+        return super.toString() + " source:" + sourceId + " attr:" + attributeName + " [" + from + ", " + to + ") -> " + values.size() + " values";
+    }
+}
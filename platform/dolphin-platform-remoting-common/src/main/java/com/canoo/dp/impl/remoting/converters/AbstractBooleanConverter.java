@@ -15,11 +15,10 @@
  */
 package com.canoo.dp.impl.remoting.converters;
 
-import com.canoo.platform.remoting.spi.converter.Converter;
 import org.apiguardian.api.API;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 @API(since = "0.x", status = INTERNAL)
-public abstract class AbstractBooleanConverter<B> implements Converter<B, Boolean> {
+public abstract class AbstractBooleanConverter<B> implements ImmutableValueConverter<B, Boolean> {
 }
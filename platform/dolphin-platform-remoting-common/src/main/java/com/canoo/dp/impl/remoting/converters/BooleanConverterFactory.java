@@ -28,18 +28,7 @@ public class BooleanConverterFactory extends AbstractConverterFactory {
 
     public final static int FIELD_TYPE_BOOLEAN = 7;
 
-    private final static Converter<Boolean, Boolean> CONVERTER = new AbstractBooleanConverter<Boolean>() {
-
-        @Override
-        public Boolean convertFromDolphin(final Boolean value) {
-            return value;
-        }
-
-        @Override
-        public Boolean convertToDolphin(final Boolean value) {
-            return value;
-        }
-    };
+    private final static Converter<Boolean, Boolean> CONVERTER = new IdentityConverter<>();
 
     @Override
     public boolean supportsType(final Class<?> cls) {
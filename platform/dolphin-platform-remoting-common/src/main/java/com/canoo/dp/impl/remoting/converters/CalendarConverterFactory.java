@@ -18,14 +18,14 @@ package com.canoo.dp.impl.remoting.converters;
 import com.canoo.platform.remoting.spi.converter.Converter;
 import com.canoo.platform.remoting.spi.converter.ValueConverterException;
 import org.apiguardian.api.API;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
-import java.text.DateFormat;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.*;
+import java.time.DateTimeException;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.TimeZone;
 
+import static com.canoo.dp.impl.platform.core.PlatformConstants.TIMEZONE_UTC;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 @API(since = "0.x", status = INTERNAL)
@@ -57,25 +57,16 @@ public class CalendarConverterFactory extends AbstractConverterFactory {
 
     private static class CalendarConverter extends AbstractStringConverter<Calendar> {
 
-        private static final Logger LOG = LoggerFactory.getLogger(CalendarConverter.class);
-
-        private final DateFormat dateFormat;
-
-        public CalendarConverter() {
-            dateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
-            dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
-        }
-
         @Override
         public Calendar convertFromDolphin(final String value) throws ValueConverterException {
             if (value == null) {
                 return null;
             }
             try {
-                final Calendar result = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
-                result.setTime(dateFormat.parse(value));
+                final Calendar result = Calendar.getInstance(TimeZone.getTimeZone(TIMEZONE_UTC));
+                result.setTimeInMillis(RemotingDateTimeFormat.parse(value).toEpochMilli());
                 return result;
-            } catch (ParseException e) {
+            } catch (DateTimeException e) {
                 throw new ValueConverterException("Unable to parse the date: " + value, e);
             }
         }
@@ -86,8 +77,8 @@ public class CalendarConverterFactory extends AbstractConverterFactory {
                 return null;
             }
             try {
-                return dateFormat.format((value).getTime());
-            } catch (IllegalArgumentException e) {
+                return RemotingDateTimeFormat.format(value.toInstant());
+            } catch (DateTimeException e) {
                 throw new ValueConverterException("Unable to format the date: " + value, e);
             }
         }
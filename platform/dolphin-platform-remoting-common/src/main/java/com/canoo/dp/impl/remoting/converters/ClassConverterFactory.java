@@ -50,7 +50,7 @@ public class ClassConverterFactory implements ConverterFactory {
         return CONVERTER;
     }
 
-    private static class ClassConverter extends AbstractStringConverter<Class> {
+    private static class ClassConverter extends AbstractStringConverter<Class> implements ImmutableValueConverter<Class, String> {
 
         @Override
         public Class convertFromDolphin(String value) throws ValueConverterException {
@@ -18,13 +18,11 @@ package com.canoo.dp.impl.remoting.converters;
 import com.canoo.platform.remoting.spi.converter.Converter;
 import com.canoo.platform.remoting.spi.converter.ValueConverterException;
 import org.apiguardian.api.API;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
-import java.text.DateFormat;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.*;
+import java.time.DateTimeException;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
@@ -57,23 +55,14 @@ public class DateConverterFactory extends AbstractConverterFactory {
 
     private static class DateConverter extends AbstractStringConverter<Date> {
 
-        private static final Logger LOG = LoggerFactory.getLogger(DateConverter.class);
-
-        private final DateFormat dateFormat;
-
-        public DateConverter() {
-            dateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
-            dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
-        }
-
         @Override
         public Date convertFromDolphin(final String value) throws ValueConverterException{
             if (value == null) {
                 return null;
             }
             try {
-                return dateFormat.parse(value);
-            } catch (ParseException e) {
+                return Date.from(RemotingDateTimeFormat.parse(value));
+            } catch (DateTimeException e) {
                 throw new ValueConverterException("Unable to parse the date: " + value, e);
             }
         }
@@ -84,8 +73,8 @@ public class DateConverterFactory extends AbstractConverterFactory {
                 return null;
             }
             try {
-                return dateFormat.format(value);
-            } catch (IllegalArgumentException e) {
+                return RemotingDateTimeFormat.format(value.toInstant());
+            } catch (DateTimeException e) {
                 throw new ValueConverterException("Unable to format the date: " + value, e);
             }
         }
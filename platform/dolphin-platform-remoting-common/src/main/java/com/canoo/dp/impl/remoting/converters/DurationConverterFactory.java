@@ -50,7 +50,7 @@ public class DurationConverterFactory extends AbstractConverterFactory {
         return CONVERTER;
     }
 
-    private static class DurationConverter extends AbstractStringConverter<Duration> {
+    private static class DurationConverter extends AbstractStringConverter<Duration> implements ImmutableValueConverter<Duration, String> {
 
         @Override
         public Duration convertFromDolphin(final String value) throws ValueConverterException {
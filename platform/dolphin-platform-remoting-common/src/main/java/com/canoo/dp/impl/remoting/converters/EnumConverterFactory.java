@@ -57,7 +57,7 @@ public class EnumConverterFactory extends AbstractConverterFactory {
         return enumConverter;
     }
 
-    private static class EnumConverter extends AbstractStringConverter<Enum> {
+    private static class EnumConverter extends AbstractStringConverter<Enum> implements ImmutableValueConverter<Enum, String> {
 
         private static final Logger LOG = LoggerFactory.getLogger(EnumConverter.class);
 
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.converters;
+
+import org.apiguardian.api.API;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Converter for types that are directly supported by the Dolphin Platform. The custom data and the Dolphin Platform
+ * data are the same and therefore no conversion is needed.
+ *
+ * @param <T> the type
+ */
+@API(since = "1.0.0", status = INTERNAL)
+public final class IdentityConverter<T> implements ImmutableValueConverter<T, T> {
+
+    @Override
+    public T convertFromDolphin(final T value) {
+        return value;
+    }
+
+    @Override
+    public T convertToDolphin(final T value) {
+        return value;
+    }
+}
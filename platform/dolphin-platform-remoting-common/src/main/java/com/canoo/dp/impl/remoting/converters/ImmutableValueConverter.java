@@ -0,0 +1,32 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.converters;
+
+import com.canoo.platform.remoting.spi.converter.Converter;
+import org.apiguardian.api.API;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Marker for converters whose converted values are immutable and only depend on the given value. A value that was
+ * converted by such a converter can be cached and reused as long as the Dolphin Platform value does not change.
+ *
+ * @param <B> type of the custom data
+ * @param <D> type of the internal Dolphin Platform supported data type
+ */
+@API(since = "1.0.0", status = INTERNAL)
+public interface ImmutableValueConverter<B, D> extends Converter<B, D> {
+}
@@ -19,15 +19,12 @@ import com.canoo.platform.remoting.spi.converter.Converter;
 import com.canoo.platform.remoting.spi.converter.ValueConverterException;
 import org.apiguardian.api.API;
 
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
-import java.util.*;
+import java.util.Collections;
+import java.util.List;
 
-import static com.canoo.dp.impl.platform.core.PlatformConstants.REMOTING_DATE_FORMAT_PATTERN;
-import static com.canoo.dp.impl.platform.core.PlatformConstants.TIMEZONE_UTC;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 @API(since = "0.x", status = INTERNAL)
@@ -56,13 +53,8 @@ public class LocalDateConverterFactory extends AbstractConverterFactory {
     }
 
     private static class LocalDateConverter
-            extends AbstractStringConverter<LocalDate> {
-        private final DateFormat dateFormat;
+            extends AbstractStringConverter<LocalDate> implements ImmutableValueConverter<LocalDate, String> {
 
-        public LocalDateConverter(){
-            dateFormat = new SimpleDateFormat(REMOTING_DATE_FORMAT_PATTERN);
-            dateFormat.setTimeZone(TimeZone.getTimeZone(TIMEZONE_UTC));
-        }
         @Override
         public LocalDate convertFromDolphin(final String value)
                 throws ValueConverterException {
@@ -70,9 +62,7 @@ public class LocalDateConverterFactory extends AbstractConverterFactory {
                 return null;
             }
             try {
-                final Calendar result = Calendar.getInstance(TimeZone.getDefault());
-                result.setTime(dateFormat.parse(value));
-                return result.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+                return RemotingDateTimeFormat.parse(value).atZone(ZoneId.systemDefault()).toLocalDate();
             } catch (Exception e) {
                 throw new ValueConverterException(
                         "Can not convert to LocalDate", e);
@@ -86,13 +76,11 @@ public class LocalDateConverterFactory extends AbstractConverterFactory {
                 return null;
             }
             try {
-                final Date date = Date.from(value.atStartOfDay().toInstant(ZoneOffset.ofHours(0)));
-                return dateFormat.format(date);
+                return RemotingDateTimeFormat.format(value.atStartOfDay().toInstant(ZoneOffset.UTC));
             } catch (Exception e) {
                 throw new ValueConverterException(
                         "Can not convert from LocalDate", e);
             }
         }
     }
-
 }
@@ -19,15 +19,11 @@ import com.canoo.platform.remoting.spi.converter.Converter;
 import com.canoo.platform.remoting.spi.converter.ValueConverterException;
 import org.apiguardian.api.API;
 
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
 import java.time.LocalDateTime;
-import java.time.OffsetDateTime;
 import java.time.ZoneId;
-import java.util.*;
+import java.util.Collections;
+import java.util.List;
 
-import static com.canoo.dp.impl.platform.core.PlatformConstants.REMOTING_DATE_FORMAT_PATTERN;
-import static com.canoo.dp.impl.platform.core.PlatformConstants.TIMEZONE_UTC;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 @API(since = "0.x", status = INTERNAL)
@@ -55,22 +51,15 @@ public class LocalDateTimeConverterFactory extends AbstractConverterFactory {
         return CONVERTER;
     }
 
-    private static class LocalDateTimeConverter extends AbstractStringConverter<LocalDateTime> {
+    private static class LocalDateTimeConverter extends AbstractStringConverter<LocalDateTime> implements ImmutableValueConverter<LocalDateTime, String> {
 
-        private final DateFormat dateFormat;
-        public LocalDateTimeConverter(){
-            dateFormat = new SimpleDateFormat(REMOTING_DATE_FORMAT_PATTERN);
-            dateFormat.setTimeZone(TimeZone.getTimeZone(TIMEZONE_UTC));
-        }
         @Override
         public LocalDateTime convertFromDolphin(final String value) throws ValueConverterException {
             if (value == null) {
                 return null;
             }
             try {
-                final Calendar result = Calendar.getInstance(TimeZone.getTimeZone(TIMEZONE_UTC));
-                result.setTime(dateFormat.parse(value));
-                return result.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
+                return RemotingDateTimeFormat.parse(value).atZone(ZoneId.systemDefault()).toLocalDateTime();
             } catch (Exception e) {
                 throw new ValueConverterException("Can not convert to LocalDateTime", e);
             }
@@ -82,12 +71,10 @@ public class LocalDateTimeConverterFactory extends AbstractConverterFactory {
                 return null;
             }
             try {
-                final Date date = Date.from(value.toInstant(OffsetDateTime.now().getOffset()));
-                return dateFormat.format(date);
+                return RemotingDateTimeFormat.format(value.atZone(ZoneId.systemDefault()).toInstant());
             } catch (Exception e) {
                 throw new ValueConverterException("Can not convert from LocalDateTime", e);
             }
         }
     }
-
 }
@@ -50,7 +50,7 @@ public class PeriodConverterFactory extends AbstractConverterFactory {
         return CONVERTER;
     }
 
-    private static class PeriodConverter extends AbstractStringConverter<Period> {
+    private static class PeriodConverter extends AbstractStringConverter<Period> implements ImmutableValueConverter<Period, String> {
 
         @Override
         public Period convertFromDolphin(final String value) throws ValueConverterException {
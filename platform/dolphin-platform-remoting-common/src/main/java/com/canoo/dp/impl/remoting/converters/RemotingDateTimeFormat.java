@@ -0,0 +1,63 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.converters;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import org.apiguardian.api.API;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import static com.canoo.dp.impl.platform.core.PlatformConstants.REMOTING_DATE_FORMAT_PATTERN;
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Formats and parses the string representation that is used to transfer temporal values between client and server
+ * (see {@link com.canoo.dp.impl.platform.core.PlatformConstants#REMOTING_DATE_FORMAT_PATTERN}). The format is always
+ * based on UTC and has a precision of milliseconds. Since the class is based on an immutable
+ * {@link DateTimeFormatter} it can be used concurrently by all converters.
+ */
+@API(since = "1.0.0", status = INTERNAL)
+public final class RemotingDateTimeFormat {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern(REMOTING_DATE_FORMAT_PATTERN).withZone(ZoneOffset.UTC);
+
+    private RemotingDateTimeFormat() {
+    }
+
+    /**
+     * Formats the given instant
+     * @param instant the instant
+     * @return the string representation of the instant
+     */
+    public static String format(final Instant instant) {
+        Assert.requireNonNull(instant, "instant");
+        return FORMATTER.format(instant);
+    }
+
+    /**
+     * Parses the given string representation
+     * @param value the string representation
+     * @return the instant
+     * @throws DateTimeParseException if the value can not be parsed
+     */
+    public static Instant parse(final String value) {
+        Assert.requireNonNull(value, "value");
+        return FORMATTER.parse(value, Instant::from);
+    }
+}
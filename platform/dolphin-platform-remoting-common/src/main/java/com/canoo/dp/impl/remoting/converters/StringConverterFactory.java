@@ -28,17 +28,7 @@ public class StringConverterFactory extends AbstractConverterFactory {
 
     public final static int FIELD_TYPE_STRING = 8;
 
-    private final static Converter<String, String> CONVERTER = new AbstractStringConverter<String>() {
-        @Override
-        public String convertFromDolphin(final String value) {
-            return value;
-        }
-
-        @Override
-        public String convertToDolphin(final String value) {
-            return value;
-        }
-    };
+    private final static Converter<String, String> CONVERTER = new IdentityConverter<>();
 
     @Override
     public boolean supportsType(final Class<?> cls) {
@@ -33,24 +33,7 @@ public class UuidConverterFactory extends AbstractConverterFactory {
 
     public final static int FIELD_TYPE_UUID = 14;
 
-    private final static Converter CONVERTER = new AbstractStringConverter<UUID>() {
-        @Override
-        public UUID convertFromDolphin(final String value) throws ValueConverterException {
-            try {
-                return value == null ? null : UUID.fromString(value);
-            } catch (Exception ex) {
-                throw new ValueConverterException("Unable to parse UUID: " + value, ex);
-            }
-        }
-
-        @Override
-        public String convertToDolphin(final UUID value) throws ValueConverterException {
-            if (value == null)
-                return null;
-            
-            return value.toString();
-        }
-    };
+    private final static Converter CONVERTER = new UuidConverter();
 
     @Override
     public boolean supportsType(final Class<?> cls) {
@@ -72,4 +55,23 @@ public class UuidConverterFactory extends AbstractConverterFactory {
         return CONVERTER;
     }
 
+    private static class UuidConverter extends AbstractStringConverter<UUID> implements ImmutableValueConverter<UUID, String> {
+
+        @Override
+        public UUID convertFromDolphin(final String value) throws ValueConverterException {
+            try {
+                return value == null ? null : UUID.fromString(value);
+            } catch (Exception ex) {
+                throw new ValueConverterException("Unable to parse UUID: " + value, ex);
+            }
+        }
+
+        @Override
+        public String convertToDolphin(final UUID value) throws ValueConverterException {
+            if (value == null)
+                return null;
+            
+            return value.toString();
+        }
+    }
 }
@@ -19,14 +19,11 @@ import com.canoo.platform.remoting.spi.converter.Converter;
 import com.canoo.platform.remoting.spi.converter.ValueConverterException;
 import org.apiguardian.api.API;
 
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
-import java.util.*;
+import java.util.Collections;
+import java.util.List;
 
-import static com.canoo.dp.impl.platform.core.PlatformConstants.REMOTING_DATE_FORMAT_PATTERN;
-import static com.canoo.dp.impl.platform.core.PlatformConstants.TIMEZONE_UTC;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 @API(since = "0.x", status = INTERNAL)
@@ -54,23 +51,15 @@ public class ZonedDateTimeConverterFactory extends AbstractConverterFactory {
         return CONVERTER;
     }
 
-    private static class ZonedDateTimeConverter extends AbstractStringConverter<ZonedDateTime> {
+    private static class ZonedDateTimeConverter extends AbstractStringConverter<ZonedDateTime> implements ImmutableValueConverter<ZonedDateTime, String> {
 
-        private final DateFormat dateFormat;
-
-        public ZonedDateTimeConverter(){
-            dateFormat = new SimpleDateFormat(REMOTING_DATE_FORMAT_PATTERN);
-            dateFormat.setTimeZone(TimeZone.getTimeZone(TIMEZONE_UTC));
-        }
         @Override
         public ZonedDateTime convertFromDolphin(final String value) throws ValueConverterException {
             if (value == null) {
                 return null;
             }
             try {
-                final Calendar result = Calendar.getInstance();
-                result.setTime(dateFormat.parse(value));
-                return result.toInstant().atZone(ZoneId.systemDefault());
+                return RemotingDateTimeFormat.parse(value).atZone(ZoneId.systemDefault());
             } catch (Exception e) {
                 throw new ValueConverterException("Can not convert to ZonedDateTime", e);
             }
@@ -82,12 +71,10 @@ public class ZonedDateTimeConverterFactory extends AbstractConverterFactory {
                 return null;
             }
             try {
-                final Calendar calendar = GregorianCalendar.from(value);
-                return dateFormat.format(calendar.getTime());
+                return RemotingDateTimeFormat.format(value.toInstant());
             } catch (Exception e) {
                 throw new ValueConverterException("Can not convert from ZonedDateTime", e);
             }
         }
     }
-
 }
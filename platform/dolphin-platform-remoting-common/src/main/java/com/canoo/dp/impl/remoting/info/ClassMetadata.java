@@ -0,0 +1,63 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.info;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.remoting.DolphinUtils;
+import org.apiguardian.api.API;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Immutable and session independent information about a remoting bean class. Other than {@link ClassInfo} a
+ * {@code ClassMetadata} instance does not depend on the converters of a session and can therefore be shared by all
+ * sessions.
+ */
+@API(since = "1.0.0", status = INTERNAL)
+public final class ClassMetadata {
+
+    private final Class<?> beanClass;
+
+    private final String modelType;
+
+    private final List<FieldMetadata> fields;
+
+    public ClassMetadata(final Class<?> beanClass, final List<FieldMetadata> fields) {
+        this.beanClass = Assert.requireNonNull(beanClass, "beanClass");
+        this.modelType = DolphinUtils.getDolphinPresentationModelTypeForClass(beanClass);
+        this.fields = Collections.unmodifiableList(new ArrayList<>(Assert.requireNonNull(fields, "fields")));
+    }
+
+    public Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    public String getModelType() {
+        return modelType;
+    }
+
+    /**
+     * Returns the metadata of all property and observable list fields of the bean class (including inherited fields)
+     * @return the field metadata
+     */
+    public List<FieldMetadata> getFields() {
+        return fields;
+    }
+}
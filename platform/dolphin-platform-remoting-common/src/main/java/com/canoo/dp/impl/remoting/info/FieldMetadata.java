@@ -0,0 +1,65 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.info;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import org.apiguardian.api.API;
+
+import java.lang.reflect.Field;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Session independent information about a property or an observable list field of a remoting bean class.
+ */
+@API(since = "1.0.0", status = INTERNAL)
+public final class FieldMetadata {
+
+    private final Field field;
+
+    private final String attributeName;
+
+    private final Class<?> parameterType;
+
+    private final boolean observableList;
+
+    public FieldMetadata(final Field field, final String attributeName, final Class<?> parameterType, final boolean observableList) {
+        this.field = Assert.requireNonNull(field, "field");
+        this.attributeName = Assert.requireNonBlank(attributeName, "attributeName");
+        this.parameterType = parameterType;
+        this.observableList = observableList;
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    public String getAttributeName() {
+        return attributeName;
+    }
+
+    /**
+     * Returns the generic type of the property or observable list
+     * @return the generic type or {@code null} if the type can not be defined
+     */
+    public Class<?> getParameterType() {
+        return parameterType;
+    }
+
+    public boolean isObservableList() {
+        return observableList;
+    }
+}
@@ -16,6 +16,8 @@
 package com.canoo.dp.impl.remoting.info;
 
 import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.remoting.converters.IdentityConverter;
+import com.canoo.dp.impl.remoting.converters.ImmutableValueConverter;
 import com.canoo.platform.remoting.spi.converter.Converter;
 import com.canoo.platform.remoting.spi.converter.ValueConverterException;
 import org.apiguardian.api.API;
@@ -37,6 +39,23 @@ public abstract class PropertyInfo {
         return attributeName;
     }
 
+    /**
+     * Returns {@code true} if the Dolphin Platform value and the custom value are always the same
+     * @return true if no conversion is needed
+     */
+    public boolean isIdentityConversion() {
+        return converter instanceof IdentityConverter;
+    }
+
+    /**
+     * Returns {@code true} if a value that was converted from a Dolphin Platform value can be cached and reused as
+     * long as the Dolphin Platform value does not change
+     * @return true if converted values can be cached
+     */
+    public boolean isConvertedValueCacheable() {
+        return converter instanceof ImmutableValueConverter;
+    }
+
     public abstract Object getPrivileged(final Object bean);
 
     public abstract void setPriviliged(final Object bean, final Object value);
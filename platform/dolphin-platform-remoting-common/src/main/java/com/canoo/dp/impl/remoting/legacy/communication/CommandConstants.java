@@ -35,6 +35,7 @@ public interface CommandConstants {
     String ATTRIBUTE_METADATA_CHANGED_COMMAND_ID = "AttributeMetadataChanged";
     String PRESENTATION_MODEL_DELETED_COMMAND_ID = "PresentationModelDeleted";
     String DELETE_PRESENTATION_MODEL_COMMAND_ID = "DeletePresentationModel";
+    String LIST_SPLICE_COMMAND_ID = "ListSplice";
 
     String ID = "id";
     String ATTRIBUTE_ID = "a_id";
@@ -45,4 +46,8 @@ public interface CommandConstants {
     String VALUE = "v";
     String PARAMS = "p";
     String PM_ATTRIBUTES = "a";
+    String SOURCE_ID = "s_id";
+    String FROM = "f";
+    String TO = "to";
+    String LIST_SPLICE_SUPPORTED = "ls";
 }
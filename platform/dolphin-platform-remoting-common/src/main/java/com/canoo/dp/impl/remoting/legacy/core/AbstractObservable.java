@@ -25,47 +25,73 @@ import static org.apiguardian.api.API.Status.DEPRECATED;
 @API(since = "0.x", status = DEPRECATED)
 public class AbstractObservable implements Observable {
 
-    private final PropertyChangeSupport pcs;
+    private static final PropertyChangeListener[] NO_LISTENERS = new PropertyChangeListener[0];
 
-    public AbstractObservable() {
-        pcs = new PropertyChangeSupport(this);
-    }
+    /**
+     * Created with the first listener since most observables never get a {@link PropertyChangeListener}. Without
+     * listeners no {@link java.beans.PropertyChangeEvent} is created for a change.
+     */
+    private volatile PropertyChangeSupport pcs;
 
     @Override
     public void addPropertyChangeListener(PropertyChangeListener listener) {
         if (listener == null || containsListener(listener, getPropertyChangeListeners())) return;
-        pcs.addPropertyChangeListener(listener);
+        getOrCreatePcs().addPropertyChangeListener(listener);
     }
 
     @Override
     public void addPropertyChangeListener(String propertyName, PropertyChangeListener listener) {
         if (listener == null || containsListener(listener, getPropertyChangeListeners(propertyName))) return;
-        pcs.addPropertyChangeListener(propertyName, listener);
+        getOrCreatePcs().addPropertyChangeListener(propertyName, listener);
     }
 
     @Override
     public void removePropertyChangeListener(PropertyChangeListener listener) {
-        pcs.removePropertyChangeListener(listener);
+        final PropertyChangeSupport currentPcs = pcs;
+        if (currentPcs != null) {
+            currentPcs.removePropertyChangeListener(listener);
+        }
     }
 
     @Override
     public void removePropertyChangeListener(String propertyName, PropertyChangeListener listener) {
-        pcs.removePropertyChangeListener(propertyName, listener);
+        final PropertyChangeSupport currentPcs = pcs;
+        if (currentPcs != null) {
+            currentPcs.removePropertyChangeListener(propertyName, listener);
+        }
     }
 
     @Override
     public PropertyChangeListener[] getPropertyChangeListeners() {
-        return pcs.getPropertyChangeListeners();
+        final PropertyChangeSupport currentPcs = pcs;
+        return currentPcs == null ? NO_LISTENERS : currentPcs.getPropertyChangeListeners();
     }
 
     @Override
     public PropertyChangeListener[] getPropertyChangeListeners(String propertyName) {
-        return pcs.getPropertyChangeListeners(propertyName);
+        final PropertyChangeSupport currentPcs = pcs;
+        return currentPcs == null ? NO_LISTENERS : currentPcs.getPropertyChangeListeners(propertyName);
     }
 
     protected void firePropertyChange(String propertyName, Object oldValue, Object newValue) {
         if (oldValue == newValue) return;
-        pcs.firePropertyChange(propertyName, oldValue, newValue);
+        final PropertyChangeSupport currentPcs = pcs;
+        if (currentPcs == null) return;
+        currentPcs.firePropertyChange(propertyName, oldValue, newValue);
+    }
+
+    private PropertyChangeSupport getOrCreatePcs() {
+        PropertyChangeSupport currentPcs = pcs;
+        if (currentPcs == null) {
+            synchronized (this) {
+                currentPcs = pcs;
+                if (currentPcs == null) {
+                    currentPcs = new PropertyChangeSupport(this);
+                    pcs = currentPcs;
+                }
+            }
+        }
+        return currentPcs;
     }
 
     private boolean containsListener(PropertyChangeListener listener, PropertyChangeListener[] listeners) {
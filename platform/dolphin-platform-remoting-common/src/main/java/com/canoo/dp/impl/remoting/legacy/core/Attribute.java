@@ -65,4 +65,17 @@ public interface Attribute extends Observable {
      * @return the presentation model to which this attribute belongs.
      */
     PresentationModel getPresentationModel();
+
+    /**
+     * Adds a listener that is called after each change of the value. Value listeners are called after all
+     * {@link java.beans.PropertyChangeListener}s of the attribute and do not need a {@link java.beans.PropertyChangeEvent}.
+     * @param listener the listener
+     */
+    void addValueListener(AttributeValueListener listener);
+
+    /**
+     * Removes a listener that was added by {@link #addValueListener(AttributeValueListener)}
+     * @param listener the listener
+     */
+    void removeValueListener(AttributeValueListener listener);
 }
\ No newline at end of file
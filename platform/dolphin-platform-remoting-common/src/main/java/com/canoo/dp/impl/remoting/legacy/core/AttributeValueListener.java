@@ -0,0 +1,37 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.remoting.legacy.core;
+
+import org.apiguardian.api.API;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Listener for value changes of an {@link Attribute}. In contrast to a {@link java.beans.PropertyChangeListener} no
+ * event object is created for a change.
+ */
+@API(since = "1.0.0", status = INTERNAL)
+@FunctionalInterface
+public interface AttributeValueListener {
+
+    /**
+     * Called after the value of the attribute has been changed
+     * @param attribute the attribute
+     * @param oldValue the old value
+     * @param newValue the new value
+     */
+    void valueChanged(Attribute attribute, Object oldValue, Object newValue);
+}
@@ -17,6 +17,8 @@ package com.canoo.dp.impl.remoting.legacy.core;
 
 import org.apiguardian.api.API;
 
+import java.util.Arrays;
+
 import static org.apiguardian.api.API.Status.DEPRECATED;
 
 /**
@@ -25,6 +27,8 @@ import static org.apiguardian.api.API.Status.DEPRECATED;
 @API(since = "0.x", status = DEPRECATED)
 public abstract class BaseAttribute extends AbstractObservable implements Attribute {
 
+    private static final AttributeValueListener[] NO_VALUE_LISTENERS = new AttributeValueListener[0];
+
     private static long instanceCount = 0;
 
     private final String propertyName;
@@ -37,6 +41,8 @@ public abstract class BaseAttribute extends AbstractObservable implements Attrib
 
     private String qualifier; // application specific semantics apply
 
+    private volatile AttributeValueListener[] valueListeners = NO_VALUE_LISTENERS;
+
     public BaseAttribute(String propertyName, Object value) {
         this(propertyName, value, null);
     }
@@ -71,7 +77,51 @@ public abstract class BaseAttribute extends AbstractObservable implements Attrib
 
     public void setValue(Object newValue) {
         if (isDifferent(value, newValue)) {
-            firePropertyChange(VALUE_NAME, value, value = newValue);
+            final Object oldValue = value;
+            value = newValue;
+            fireValueChanged(oldValue, newValue);
+        }
+    }
+
+    /**
+     * Notifies all {@link java.beans.PropertyChangeListener}s and {@link AttributeValueListener}s about a value change
+     * @param oldValue the old value
+     * @param newValue the new value
+     */
+    protected void fireValueChanged(final Object oldValue, final Object newValue) {
+        firePropertyChange(VALUE_NAME, oldValue, newValue);
+        final AttributeValueListener[] currentListeners = valueListeners;
+        if (currentListeners.length == 1) {
+            currentListeners[0].valueChanged(this, oldValue, newValue);
+            return;
+        }
+        for (final AttributeValueListener listener : currentListeners) {
+            listener.valueChanged(this, oldValue, newValue);
+        }
+    }
+
+    @Override
+    public synchronized void addValueListener(final AttributeValueListener listener) {
+        if (listener == null) {
+            return;
+        }
+        final AttributeValueListener[] currentListeners = valueListeners;
+        final AttributeValueListener[] newListeners = Arrays.copyOf(currentListeners, currentListeners.length + 1);
+        newListeners[currentListeners.length] = listener;
+        valueListeners = newListeners;
+    }
+
+    @Override
+    public synchronized void removeValueListener(final AttributeValueListener listener) {
+        final AttributeValueListener[] currentListeners = valueListeners;
+        for (int i = 0; i < currentListeners.length; i++) {
+            if (currentListeners[i] == listener) {
+                final AttributeValueListener[] newListeners = new AttributeValueListener[currentListeners.length - 1];
+                System.arraycopy(currentListeners, 0, newListeners, 0, i);
+                System.arraycopy(currentListeners, i + 1, newListeners, i, currentListeners.length - i - 1);
+                valueListeners = newListeners;
+                return;
+            }
         }
     }
 
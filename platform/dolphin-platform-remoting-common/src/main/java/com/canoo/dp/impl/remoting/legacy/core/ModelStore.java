@@ -16,6 +16,7 @@
 package com.canoo.dp.impl.remoting.legacy.core;
 
 import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.remoting.commands.ListSpliceCommand;
 import org.apiguardian.api.API;
 
 import java.beans.PropertyChangeEvent;
@@ -28,6 +29,8 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 import static org.apiguardian.api.API.Status.DEPRECATED;
 
@@ -54,14 +57,22 @@ public class ModelStore<A extends Attribute, P extends PresentationModel<A>> {
     // We maintain four indexes in this data structure in order to efficiently access
     // - presentation models: by id; by type
     // - attributes: by id; by qualifier
+    // Models and attributes do not override equals, so the hashed buckets of the type and qualifier
+    // indexes are identity based and keep the insertion order.
 
     private final Map<String, P>        presentationModels;
-    private final Map<String, List<P>>  modelsPerType;
+    private final Map<String, Set<P>>   modelsPerType;
     private final Map<String, A>        attributesPerId;
-    private final Map<String, List<A>>  attributesPerQualifier;
+    private final Map<String, Set<A>>   attributesPerQualifier;
+
+    private final boolean compactIds;
+
+    private final AtomicLong idCount = new AtomicLong();
 
     private final Set<ModelStoreListenerWrapper<A, P>> modelStoreListeners = new LinkedHashSet<ModelStoreListenerWrapper<A, P>>();
 
+    private final List<Consumer<ListSpliceCommand>> listSpliceHandlers = new ArrayList<>();
+
     private final PropertyChangeListener ATTRIBUTE_WORKER = new PropertyChangeListener() {
         @Override
         public void propertyChange(PropertyChangeEvent event) {
@@ -89,9 +100,34 @@ public class ModelStore<A extends Attribute, P extends PresentationModel<A>> {
      */
     public ModelStore(ModelStoreConfig config) {
         presentationModels      = new HashMap<String, P>        (config.getPmCapacity());
-        modelsPerType           = new HashMap<String, List<P>>  (config.getTypeCapacity());
+        modelsPerType           = new HashMap<String, Set<P>>   (config.getTypeCapacity());
         attributesPerId         = new HashMap<String, A>        (config.getAttributeCapacity());
-        attributesPerQualifier  = new HashMap<String, List<A>>  (config.getQualifierCapacity());
+        attributesPerQualifier  = new HashMap<String, Set<A>>   (config.getQualifierCapacity());
+        compactIds              = config.isCompactIds();
+    }
+
+    /**
+     * Returns true if new presentation models and attributes of this store should use ids that are created by
+     * {@link #createId(String)}.
+     * @return true if compact ids are used
+     * @see ModelStoreConfig#isCompactIds()
+     */
+    public boolean isCompactIds() {
+        return compactIds;
+    }
+
+    /**
+     * Creates an id that is unique in this store. The id is a counter in base 36 followed by the given origin
+     * (e.g. "1zS"). Such ids are much shorter than UUIDs and, like all attribute ids, end with the origin so that they
+     * can not collide with ids that are created on the other side of the connection. The counter is scoped to this
+     * store, so all models and attributes that are added while compact ids are active should get their id by this
+     * method.
+     * @param origin the origin of the new model or attribute
+     * @return the new id
+     */
+    public String createId(final String origin) {
+        Assert.requireNonBlank(origin, "origin");
+        return Long.toString(idCount.getAndIncrement(), Character.MAX_RADIX) + origin;
     }
 
     /**
@@ -129,19 +165,15 @@ public class ModelStore<A extends Attribute, P extends PresentationModel<A>> {
         if (presentationModels.containsKey(model.getId())) {
             throw new IllegalArgumentException("There already is a PM with id " + model.getId());
         }
-        boolean added = false;
-        if (!presentationModels.containsValue(model)) {
-            presentationModels.put(model.getId(), model);
-            addPresentationModelByType(model);
-            for (A attribute : model.getAttributes()) {
-                addAttributeById(attribute);
-                attribute.addPropertyChangeListener(Attribute.QUALIFIER_NAME, ATTRIBUTE_WORKER);
-                if (!Assert.isBlank(attribute.getQualifier())) addAttributeByQualifier(attribute);
-            }
-            fireModelStoreChangedEvent(model, ModelStoreEvent.Type.ADDED);
-            added = true;
+        presentationModels.put(model.getId(), model);
+        addPresentationModelByType(model);
+        for (A attribute : model.getAttributes()) {
+            addAttributeById(attribute);
+            attribute.addPropertyChangeListener(Attribute.QUALIFIER_NAME, ATTRIBUTE_WORKER);
+            if (!Assert.isBlank(attribute.getQualifier())) addAttributeByQualifier(attribute);
         }
-        return added;
+        fireModelStoreChangedEvent(model, ModelStoreEvent.Type.ADDED);
+        return true;
     }
 
     /**
@@ -153,7 +185,7 @@ public class ModelStore<A extends Attribute, P extends PresentationModel<A>> {
     public boolean remove(P model) {
         if (null == model) return false;
         boolean removed = false;
-        if (presentationModels.containsValue(model)) {
+        if (presentationModels.get(model.getId()) == model) {
             removePresentationModelByType(model);
             presentationModels.remove(model.getId());
             for (A attribute : model.getAttributes()) {
@@ -181,54 +213,49 @@ public class ModelStore<A extends Attribute, P extends PresentationModel<A>> {
         if (null == attribute) return;
         String qualifier = attribute.getQualifier();
         if (Assert.isBlank(qualifier)) return;
-        List<A> list = attributesPerQualifier.get(qualifier);
-        if (null == list) {
-            list = new ArrayList<A>();
-            attributesPerQualifier.put(qualifier, list);
+        Set<A> bucket = attributesPerQualifier.get(qualifier);
+        if (null == bucket) {
+            bucket = new LinkedHashSet<A>();
+            attributesPerQualifier.put(qualifier, bucket);
         }
-        if (!list.contains(attribute)) list.add(attribute);
+        bucket.add(attribute);
     }
 
     protected void removeAttributeByQualifier(A attribute) {
         if (null == attribute) return;
-        String qualifier = attribute.getQualifier();
-        if (Assert.isBlank(qualifier)) return;
-        List<A> list = attributesPerQualifier.get(qualifier);
-        if (null != list) {
-            list.remove(attribute);
-        }
+        removeAttributeByQualifier(attribute, attribute.getQualifier());
     }
 
     protected void addPresentationModelByType(P model) {
         if (null == model) return;
         String type = model.getPresentationModelType();
         if (Assert.isBlank(type)) return;
-        List<P> list = modelsPerType.get(type);
-        if (null == list) {
-            list = new ArrayList<P>();
-            modelsPerType.put(type, list);
+        Set<P> bucket = modelsPerType.get(type);
+        if (null == bucket) {
+            bucket = new LinkedHashSet<P>();
+            modelsPerType.put(type, bucket);
         }
-        if (!list.contains(model)) list.add(model);
+        bucket.add(model);
     }
 
     protected void removePresentationModelByType(P model) {
         if (null == model) return;
         String type = model.getPresentationModelType();
         if (Assert.isBlank(type)) return;
-        List<P> list = modelsPerType.get(type);
-        if (null == list) return;
-        list.remove(model);
-        if (list.isEmpty()) {
+        Set<P> bucket = modelsPerType.get(type);
+        if (null == bucket) return;
+        bucket.remove(model);
+        if (bucket.isEmpty()) {
             modelsPerType.remove(type);
         }
     }
 
     protected void removeAttributeByQualifier(A attribute, String qualifier) {
         if (Assert.isBlank(qualifier)) return;
-        List<A> list = attributesPerQualifier.get(qualifier);
-        if (null == list) return;
-        list.remove(attribute);
-        if (list.isEmpty()) {
+        Set<A> bucket = attributesPerQualifier.get(qualifier);
+        if (null == bucket) return;
+        bucket.remove(attribute);
+        if (bucket.isEmpty()) {
             attributesPerQualifier.remove(qualifier);
         }
     }
@@ -246,14 +273,14 @@ public class ModelStore<A extends Attribute, P extends PresentationModel<A>> {
 
     /**
      * Finds all presentation models that share the same type.<br/>
-     * The returned {@code List} is never null (though it may be empty), and is immutable.
+     * The returned {@code List} is never null (though it may be empty), is immutable and not updated by later changes of the store.
      *
      * @param type the type to search for
      * @return a {@code List} of all presentation models with the specified type.
      */
     public List<P> findAllPresentationModelsByType(String type) {
         if (Assert.isBlank(type) || !modelsPerType.containsKey(type)) return Collections.emptyList();
-        return Collections.unmodifiableList(modelsPerType.get(type));
+        return Collections.unmodifiableList(new ArrayList<P>(modelsPerType.get(type)));
     }
 
     /**
@@ -279,13 +306,13 @@ public class ModelStore<A extends Attribute, P extends PresentationModel<A>> {
 
     /**
      * Returns a {@code List} of all attributes that share the same qualifier.<br/>
-     * Never returns null, but may return an empty list. The returned {@code List} is immutable.
+     * Never returns null, but may return an empty list. The returned {@code List} is immutable and not updated by later changes of the store.
      *
      * @return a {@code List} of all attributes with the specified qualifier.
      */
     public List<A> findAllAttributesByQualifier(String qualifier) {
         if (Assert.isBlank(qualifier) || !attributesPerQualifier.containsKey(qualifier)) return Collections.emptyList();
-        return Collections.unmodifiableList(attributesPerQualifier.get(qualifier));
+        return Collections.unmodifiableList(new ArrayList<A>(attributesPerQualifier.get(qualifier)));
     }
 
     /**
@@ -314,6 +341,48 @@ public class ModelStore<A extends Attribute, P extends PresentationModel<A>> {
         addAttributeById(attribute);
     }
 
+    /**
+     * Defines if changes of observable lists can be send to the other side by {@link #spliceList(ListSpliceCommand)}.
+     * If not, list changes must be send as presentation models.
+     *
+     * @return true if {@link ListSpliceCommand}s are supported
+     */
+    public boolean isListSpliceSupported() {
+        return false;
+    }
+
+    /**
+     * Sends a change of an observable list to the other side without creating a presentation model.
+     *
+     * @param command the command that describes the list change
+     * @throws UnsupportedOperationException if {@link #isListSpliceSupported()} returns false
+     */
+    public void spliceList(ListSpliceCommand command) {
+        throw new UnsupportedOperationException("List splice commands are not supported by this model store");
+    }
+
+    /**
+     * Adds a handler that is called for each change of an observable list that was received from the other side.
+     *
+     * @param handler the handler
+     */
+    public void addListSpliceHandler(Consumer<ListSpliceCommand> handler) {
+        Assert.requireNonNull(handler, "handler");
+        listSpliceHandlers.add(handler);
+    }
+
+    /**
+     * Handles a change of an observable list that was received from the other side.
+     *
+     * @param command the command that describes the list change
+     */
+    public void onListSplice(ListSpliceCommand command) {
+        Assert.requireNonNull(command, "command");
+        for (Consumer<ListSpliceCommand> handler : listSpliceHandlers) {
+            handler.accept(command);
+        }
+    }
+
     public void addModelStoreListener(ModelStoreListener<A, P> listener) {
         addModelStoreListener(null, listener);
     }
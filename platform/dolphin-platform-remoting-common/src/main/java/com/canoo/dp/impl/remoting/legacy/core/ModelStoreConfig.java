@@ -29,6 +29,8 @@ import static org.apiguardian.api.API.Status.DEPRECATED;
  * <li>typeCapacity: map of presentation model types(key: PM type, returns a list of all PM's with that type); default 64</li>
  * <li>attributeCapacity: map of attributes (key: unique attribute ID); default is 4096</li>
  * <li>qualifierCapacity: map of attributes (key: qualifier, returns a list of all attributes with that qualifier); default 1024</li></ol>
+ * In addition the config defines if the store creates compact ids for new presentation models and attributes (see
+ * {@link ModelStore#createId(String)}); default is false.
  */
 @API(since = "0.x", status = DEPRECATED)
 public class ModelStoreConfig {
@@ -39,6 +41,7 @@ public class ModelStoreConfig {
     private int typeCapacity;
     private int attributeCapacity;
     private int qualifierCapacity;
+    private boolean compactIds;
 
     public ModelStoreConfig() {
         setPmCapacity(1024);
@@ -83,6 +86,14 @@ public class ModelStoreConfig {
         this.qualifierCapacity = qualifierCapacity;
     }
 
+    public boolean isCompactIds() {
+        return compactIds;
+    }
+
+    public void setCompactIds(boolean compactIds) {
+        this.compactIds = compactIds;
+    }
+
     // all the capacities will be used to initialize HashMaps so they should be powers of two
     private void ensurePowerOfTwo(String parameter, int number) {
         if (Integer.bitCount(number) > 1) {
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dolphin.impl;
+
+import com.canoo.dp.impl.remoting.ClassMetadataRegistry;
+import com.canoo.dp.impl.remoting.info.ClassMetadata;
+import com.canoo.dp.impl.remoting.info.FieldMetadata;
+import com.canoo.platform.remoting.ObservableList;
+import com.canoo.platform.remoting.Property;
+import com.canoo.platform.remoting.RemotingBean;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class ClassMetadataRegistryTest {
+
+    @Test
+    public void testMetadataContainsInheritedFields() {
+        //given
+        final ClassMetadataRegistry registry = new ClassMetadataRegistry();
+
+        //when
+        final ClassMetadata metadata = registry.getOrCreateMetadata(ChildBean.class);
+
+        //then
+        assertEquals(metadata.getBeanClass(), ChildBean.class);
+        assertEquals(metadata.getModelType(), ChildBean.class.getName());
+        assertEquals(metadata.getFields().size(), 3);
+
+        final Map<String, FieldMetadata> fields = new HashMap<>();
+        for (final FieldMetadata field : metadata.getFields()) {
+            fields.put(field.getAttributeName(), field);
+        }
+        assertEquals(fields.get("name").getParameterType(), String.class);
+        assertFalse(fields.get("name").isObservableList());
+        assertEquals(fields.get("values").getParameterType(), Integer.class);
+        assertTrue(fields.get("values").isObservableList());
+        assertEquals(fields.get("child").getParameterType(), ReferencedBean.class);
+    }
+
+    @Test
+    public void testMetadataIsShared() {
+        //given
+        final ClassMetadataRegistry registry = new ClassMetadataRegistry();
+
+        //when
+        final ClassMetadata metadata = registry.getOrCreateMetadata(ChildBean.class);
+
+        //then
+        assertSame(registry.getOrCreateMetadata(ChildBean.class), metadata);
+        assertSame(registry.getMetadata(ChildBean.class.getName()), metadata);
+        assertNull(registry.getMetadata(ReferencedBean.class.getName()));
+        assertEquals(registry.size(), 1);
+    }
+
+    @Test
+    public void testWarmUpRegistersReferencedBeans() {
+        //given
+        final ClassMetadataRegistry registry = new ClassMetadataRegistry();
+
+        //when
+        registry.warmUp(ChildBean.class);
+
+        //then
+        assertEquals(registry.size(), 2);
+        assertEquals(registry.getMetadata(ChildBean.class.getName()).getBeanClass(), ChildBean.class);
+        assertEquals(registry.getMetadata(ReferencedBean.class.getName()).getBeanClass(), ReferencedBean.class);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void testNullClass() {
+        new ClassMetadataRegistry().getOrCreateMetadata(null);
+    }
+
+    @RemotingBean
+    public static class ParentBean {
+
+        private Property<String> name;
+
+        private String ignored;
+    }
+
+    @RemotingBean
+    public static class ChildBean extends ParentBean {
+
+        private ObservableList<Integer> values;
+
+        private Property<ReferencedBean> child;
+    }
+
+    @RemotingBean
+    public static class ReferencedBean {
+
+        private Property<String> description;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dolphin.impl;
+
+import com.canoo.dp.impl.remoting.PropertyImpl;
+import com.canoo.dp.impl.remoting.converters.AbstractStringConverter;
+import com.canoo.dp.impl.remoting.converters.IdentityConverter;
+import com.canoo.dp.impl.remoting.converters.ImmutableValueConverter;
+import com.canoo.dp.impl.remoting.info.PropertyInfo;
+import com.canoo.dp.impl.remoting.legacy.core.BaseAttribute;
+import com.canoo.platform.remoting.spi.converter.Converter;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+public class PropertyImplTest {
+
+    @Test
+    public void testConvertedValueIsCached() {
+        //given
+        final CountingUuidConverter converter = new CountingUuidConverter();
+        final UUID uuid = UUID.randomUUID();
+        final TestAttribute attribute = new TestAttribute(uuid.toString());
+        final PropertyImpl<UUID> property = new PropertyImpl<>(attribute, new TestPropertyInfo(converter));
+
+        //when
+        final UUID firstValue = property.get();
+        final UUID secondValue = property.get();
+
+        //then
+        assertEquals(firstValue, uuid);
+        assertSame(secondValue, firstValue);
+        assertEquals(converter.conversionCount, 1);
+    }
+
+    @Test
+    public void testCacheIsUpdatedOnAttributeChange() {
+        //given
+        final CountingUuidConverter converter = new CountingUuidConverter();
+        final TestAttribute attribute = new TestAttribute(UUID.randomUUID().toString());
+        final PropertyImpl<UUID> property = new PropertyImpl<>(attribute, new TestPropertyInfo(converter));
+        final List<UUID> newValues = new ArrayList<>();
+        property.onChanged(e -> newValues.add(e.getNewValue()));
+        property.get();
+
+        //when
+        final UUID newUuid = UUID.randomUUID();
+        attribute.setValue(newUuid.toString());
+
+        //then
+        assertEquals(newValues.size(), 1);
+        assertEquals(newValues.get(0), newUuid);
+        assertSame(property.get(), newValues.get(0));
+        assertEquals(converter.conversionCount, 2);
+    }
+
+    @Test
+    public void testSetUpdatesValue() {
+        //given
+        final TestAttribute attribute = new TestAttribute(null);
+        final PropertyImpl<UUID> property = new PropertyImpl<>(attribute, new TestPropertyInfo(new CountingUuidConverter()));
+
+        //when
+        final UUID uuid = UUID.randomUUID();
+        property.set(uuid);
+
+        //then
+        assertEquals(attribute.getValue(), uuid.toString());
+        assertEquals(property.get(), uuid);
+        property.set(null);
+        assertEquals(property.get(), null);
+    }
+
+    @Test
+    public void testMutableValuesAreNotCached() {
+        //given
+        final Converter<Date, String> converter = new AbstractStringConverter<Date>() {
+            @Override
+            public Date convertFromDolphin(final String value) {
+                return value == null ? null : new Date(Long.parseLong(value));
+            }
+
+            @Override
+            public String convertToDolphin(final Date value) {
+                return value == null ? null : Long.toString(value.getTime());
+            }
+        };
+        final PropertyImpl<Date> property = new PropertyImpl<>(new TestAttribute("1000"), new TestPropertyInfo(converter));
+
+        //when
+        final Date firstValue = property.get();
+        final Date secondValue = property.get();
+
+        //then
+        assertEquals(secondValue, firstValue);
+        assertNotSame(secondValue, firstValue);
+    }
+
+    @Test
+    public void testIdentityConversion() {
+        //given
+        final String value = "test";
+        final PropertyImpl<String> property = new PropertyImpl<>(new TestAttribute(value), new TestPropertyInfo(new IdentityConverter<String>()));
+
+        //then
+        assertSame(property.get(), value);
+    }
+
+    private static class CountingUuidConverter extends AbstractStringConverter<UUID> implements ImmutableValueConverter<UUID, String> {
+
+        private int conversionCount;
+
+        @Override
+        public UUID convertFromDolphin(final String value) {
+            if (value == null) {
+                return null;
+            }
+            conversionCount++;
+            return UUID.fromString(value);
+        }
+
+        @Override
+        public String convertToDolphin(final UUID value) {
+            return value == null ? null : value.toString();
+        }
+    }
+
+    private static class TestPropertyInfo extends PropertyInfo {
+
+        private TestPropertyInfo(final Converter converter) {
+            super("value", converter);
+        }
+
+        @Override
+        public Object getPrivileged(final Object bean) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setPriviliged(final Object bean, final Object value) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class TestAttribute extends BaseAttribute {
+
+        private TestAttribute(final Object value) {
+            super("value", value);
+        }
+
+        @Override
+        public String getOrigin() {
+            return "T";
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dolphin.impl.codec;
+
+import com.canoo.dp.impl.remoting.codec.BinaryCodec;
+import com.canoo.dp.impl.remoting.codec.OptimizedJsonCodec;
+import com.canoo.dp.impl.remoting.commands.CallActionCommand;
+import com.canoo.dp.impl.remoting.commands.CreateContextCommand;
+import com.canoo.dp.impl.remoting.commands.CreateControllerCommand;
+import com.canoo.dp.impl.remoting.commands.DestroyContextCommand;
+import com.canoo.dp.impl.remoting.commands.DestroyControllerCommand;
+import com.canoo.dp.impl.remoting.commands.ListSpliceCommand;
+import com.canoo.dp.impl.remoting.legacy.commands.InterruptLongPollCommand;
+import com.canoo.dp.impl.remoting.legacy.commands.StartLongPollCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.AttributeMetadataChangedCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.ChangeAttributeMetadataCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.Command;
+import com.canoo.dp.impl.remoting.legacy.communication.CreatePresentationModelCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.DeletePresentationModelCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.PresentationModelDeletedCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.ValueChangedCommand;
+import com.canoo.dp.impl.remoting.legacy.core.Attribute;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TestBinaryCodec {
+
+    @Test
+    public void shouldEncodeAndDecodeEmptyList() throws IOException {
+        //when:
+        final byte[] encoded = BinaryCodec.getInstance().encode(Collections.<Command>emptyList());
+
+        //then:
+        Assert.assertTrue(BinaryCodec.getInstance().decode(encoded).isEmpty());
+    }
+
+    @Test
+    public void shouldDecodeToSameCommands() throws IOException {
+        //given:
+        final List<Command> commands = createAllCommands();
+
+        //when:
+        final List<Command> decoded = BinaryCodec.getInstance().decode(BinaryCodec.getInstance().encode(commands));
+
+        //then:
+        Assert.assertEquals(decoded.size(), commands.size());
+        for (int i = 0; i < commands.size(); i++) {
+            Assert.assertEquals(decoded.get(i).getClass(), commands.get(i).getClass());
+        }
+        Assert.assertEquals(OptimizedJsonCodec.getInstance().encode(decoded), OptimizedJsonCodec.getInstance().encode(commands));
+    }
+
+    @Test
+    public void shouldEncodeToStream() throws IOException {
+        //given:
+        final List<Command> commands = createAllCommands();
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //when:
+        BinaryCodec.getInstance().encode(commands, outputStream);
+        final List<Command> decoded = BinaryCodec.getInstance().decode(new ByteArrayInputStream(outputStream.toByteArray()));
+
+        //then:
+        Assert.assertEquals(outputStream.toByteArray(), BinaryCodec.getInstance().encode(commands));
+        Assert.assertEquals(OptimizedJsonCodec.getInstance().encode(decoded), OptimizedJsonCodec.getInstance().encode(commands));
+    }
+
+    @Test
+    public void shouldKeepValueTypes() throws IOException {
+        //given:
+        final List<Command> commands = Arrays.<Command>asList(
+                new ValueChangedCommand("1S", 42),
+                new ValueChangedCommand("2S", Long.MAX_VALUE),
+                new ValueChangedCommand("3S", -2.7182),
+                new ValueChangedCommand("4S", 1.5f),
+                new ValueChangedCommand("5S", (short) -7),
+                new ValueChangedCommand("6S", (byte) 3),
+                new ValueChangedCommand("7S", true),
+                new ValueChangedCommand("8S", null),
+                new ValueChangedCommand("9S", "\"quoted\"\n\täöü€ "));
+
+        //when:
+        final List<Command> decoded = BinaryCodec.getInstance().decode(BinaryCodec.getInstance().encode(commands));
+
+        //then:
+        Assert.assertEquals(decoded.size(), commands.size());
+        for (int i = 0; i < commands.size(); i++) {
+            final ValueChangedCommand expected = (ValueChangedCommand) commands.get(i);
+            final ValueChangedCommand actual = (ValueChangedCommand) decoded.get(i);
+            Assert.assertEquals(actual.getAttributeId(), expected.getAttributeId());
+            Assert.assertEquals(actual.getNewValue(), expected.getNewValue());
+        }
+    }
+
+    @Test
+    public void shouldBeSmallerThanJson() {
+        //given:
+        final List<Command> commands = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            commands.add(new ValueChangedCommand("3204S", i));
+        }
+
+        //when:
+        final byte[] binary = BinaryCodec.getInstance().encode(commands);
+        final byte[] json = OptimizedJsonCodec.getInstance().encode(commands).getBytes(StandardCharsets.UTF_8);
+
+        //then:
+        Assert.assertTrue(binary.length * 3 < json.length);
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void shouldFailOnUnsupportedVersion() throws IOException {
+        BinaryCodec.getInstance().decode(new byte[]{42, 0});
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void shouldFailOnUnknownCommand() throws IOException {
+        final byte[] encoded = BinaryCodec.getInstance().encode(Collections.<Command>singletonList(new StartLongPollCommand()));
+        encoded[encoded.length - 1] = 100;
+        BinaryCodec.getInstance().decode(encoded);
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void shouldFailOnTrailingBytes() throws IOException {
+        final byte[] encoded = BinaryCodec.getInstance().encode(Collections.<Command>singletonList(new StartLongPollCommand()));
+        final byte[] withTrailingByte = Arrays.copyOf(encoded, encoded.length + 1);
+        withTrailingByte[encoded.length] = 1;
+        BinaryCodec.getInstance().decode(withTrailingByte);
+    }
+
+    @Test
+    public void shouldCheckMimeTypes() {
+        Assert.assertTrue(BinaryCodec.isBinaryMimeType(BinaryCodec.BINARY_MIME_TYPE));
+        Assert.assertTrue(BinaryCodec.isBinaryMimeType(BinaryCodec.BINARY_MIME_TYPE + "; charset=UTF-8"));
+        Assert.assertFalse(BinaryCodec.isBinaryMimeType("application/json"));
+        Assert.assertFalse(BinaryCodec.isBinaryMimeType(null));
+        Assert.assertTrue(BinaryCodec.acceptsBinaryMimeType(BinaryCodec.BINARY_MIME_TYPE + ", application/json"));
+        Assert.assertFalse(BinaryCodec.acceptsBinaryMimeType("application/json"));
+        Assert.assertFalse(BinaryCodec.acceptsBinaryMimeType(null));
+    }
+
+    private static List<Command> createAllCommands() {
+        final List<Command> commands = new ArrayList<>();
+        commands.add(new CreateContextCommand());
+        commands.add(new DestroyContextCommand());
+        commands.add(new StartLongPollCommand());
+        commands.add(new InterruptLongPollCommand());
+
+        final Map<String, Object> attribute = new HashMap<>();
+        attribute.put(Attribute.PROPERTY_NAME, "name");
+        attribute.put(Attribute.ID, "3204S");
+        attribute.put(Attribute.VALUE_NAME, "server");
+        final Map<String, Object> nullAttribute = new HashMap<>();
+        nullAttribute.put(Attribute.PROPERTY_NAME, "label");
+        nullAttribute.put(Attribute.ID, "3205S");
+        nullAttribute.put(Attribute.VALUE_NAME, null);
+        commands.add(new CreatePresentationModelCommand("05ee43b7-a884-4d42-9fc5-00b083664eed", "com.canoo.Bean", Arrays.asList(attribute, nullAttribute)));
+
+        commands.add(new DeletePresentationModelCommand("05ee43b7-a884-4d42-9fc5-00b083664eed"));
+        commands.add(new PresentationModelDeletedCommand("05ee43b7-a884-4d42-9fc5-00b083664eed"));
+        commands.add(new ValueChangedCommand("3204S", "client"));
+        commands.add(new ValueChangedCommand("3205S", null));
+        commands.add(new ValueChangedCommand("3206S", 42));
+        commands.add(new ValueChangedCommand("3207S", 2.7182));
+        commands.add(new ValueChangedCommand("3208S", false));
+        commands.add(new ChangeAttributeMetadataCommand("3204S", "qualifier", "237fb6b9-32d5-4feb-9679-57f1dd7cc7a2"));
+        commands.add(new AttributeMetadataChangedCommand("3204S", "qualifier", null));
+
+        final CreateControllerCommand createControllerCommand = new CreateControllerCommand();
+        createControllerCommand.setControllerName("MyController");
+        commands.add(createControllerCommand);
+        final CreateControllerCommand createChildControllerCommand = new CreateControllerCommand();
+        createChildControllerCommand.setControllerName("ChildController");
+        createChildControllerCommand.setParentControllerId("4710");
+        commands.add(createChildControllerCommand);
+
+        final DestroyControllerCommand destroyControllerCommand = new DestroyControllerCommand();
+        destroyControllerCommand.setControllerId("4711");
+        commands.add(destroyControllerCommand);
+
+        final CallActionCommand callActionCommand = new CallActionCommand();
+        callActionCommand.setControllerId("4711");
+        callActionCommand.setActionName("action");
+        callActionCommand.addParam("A", 1);
+        callActionCommand.addParam("B", null);
+        callActionCommand.addParam("C", "Hello");
+        commands.add(callActionCommand);
+
+        final CreateContextCommand listSpliceContextCommand = new CreateContextCommand();
+        listSpliceContextCommand.setListSpliceSupported(true);
+        commands.add(listSpliceContextCommand);
+        commands.add(new ListSpliceCommand("4712", "items", 1, 3, Arrays.asList("A", null, 42, true)));
+        commands.add(new ListSpliceCommand("4712", "items", 0, 2, Collections.emptyList()));
+        return commands;
+    }
+}
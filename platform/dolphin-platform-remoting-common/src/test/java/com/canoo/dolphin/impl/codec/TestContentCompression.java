@@ -0,0 +1,194 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dolphin.impl.codec;
+
+import com.canoo.dp.impl.remoting.codec.ContentCompression;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+public class TestContentCompression {
+
+    @Test
+    public void shouldSelectSupportedEncoding() {
+        Assert.assertEquals(ContentCompression.selectEncoding("gzip, deflate, br"), "gzip");
+        Assert.assertEquals(ContentCompression.selectEncoding("deflate, GZIP"), "gzip");
+        Assert.assertEquals(ContentCompression.selectEncoding("br, deflate"), "deflate");
+        Assert.assertEquals(ContentCompression.selectEncoding("gzip;q=0, deflate;q=0.5"), "deflate");
+        Assert.assertNull(ContentCompression.selectEncoding("identity"));
+        Assert.assertNull(ContentCompression.selectEncoding(null));
+    }
+
+    @Test
+    public void shouldCreateStandardGzipContent() throws IOException {
+        //given:
+        final byte[] data = createData();
+
+        //when:
+        final byte[] compressed = new ContentCompression().compress(data, "gzip");
+
+        //then:
+        Assert.assertTrue(compressed.length < data.length);
+        Assert.assertEquals(readAll(new GZIPInputStream(new ByteArrayInputStream(compressed))), data);
+    }
+
+    @Test
+    public void shouldCreateStandardDeflateContent() throws IOException {
+        //given:
+        final byte[] data = createData();
+
+        //when:
+        final byte[] compressed = new ContentCompression().compress(data, "deflate");
+
+        //then:
+        Assert.assertTrue(compressed.length < data.length);
+        Assert.assertEquals(readAll(new InflaterInputStream(new ByteArrayInputStream(compressed))), data);
+    }
+
+    @Test
+    public void shouldDecompressCompressedContent() throws IOException {
+        //given:
+        final ContentCompression compression = new ContentCompression();
+        final byte[] data = createData();
+
+        //then:
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(ContentCompression.decompress(compression.compress(data, "gzip"), "gzip"), data);
+            Assert.assertEquals(ContentCompression.decompress(compression.compress(data, "deflate"), "deflate"), data);
+        }
+        Assert.assertSame(ContentCompression.decompress(data, null), data);
+        Assert.assertSame(ContentCompression.decompress(data, "identity"), data);
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void shouldFailForUnsupportedEncoding() throws IOException {
+        ContentCompression.decompress(createData(), "br");
+    }
+
+    @Test
+    public void shouldCountRawAndCompressedBytes() {
+        //given:
+        final ContentCompression compression = new ContentCompression(100);
+        final byte[] data = createData();
+
+        //when:
+        final byte[] first = compression.compress(data, "gzip");
+        final byte[] second = compression.compress(data, "deflate");
+
+        //then:
+        Assert.assertFalse(compression.shouldCompress(99));
+        Assert.assertTrue(compression.shouldCompress(100));
+        Assert.assertEquals(compression.getCompressedBodiesCount(), 2);
+        Assert.assertEquals(compression.getRawBytes(), 2L * data.length);
+        Assert.assertEquals(compression.getCompressedBytes(), (long) first.length + second.length);
+    }
+
+    @Test
+    public void shouldStreamBodiesAboveThreshold() throws IOException {
+        //given:
+        final ContentCompression compression = new ContentCompression(100);
+        final byte[] data = createData();
+        final ByteArrayOutputStream target = new ByteArrayOutputStream();
+        final AtomicBoolean compressed = new AtomicBoolean(false);
+        final AtomicInteger uncompressedLength = new AtomicInteger(-1);
+
+        //when:
+        try (final OutputStream outputStream = compression.createOutputStream(target, "gzip", () -> compressed.set(true), uncompressedLength::set)) {
+            outputStream.write(data, 0, 50);
+            Assert.assertEquals(target.size(), 0);
+            for (int i = 50; i < data.length; i++) {
+                outputStream.write(data[i]);
+            }
+            Assert.assertTrue(target.size() > 0);
+        }
+
+        //then:
+        Assert.assertTrue(compressed.get());
+        Assert.assertEquals(uncompressedLength.get(), -1);
+        Assert.assertEquals(readAll(new GZIPInputStream(new ByteArrayInputStream(target.toByteArray()))), data);
+        Assert.assertEquals(compression.getCompressedBodiesCount(), 1);
+        Assert.assertEquals(compression.getRawBytes(), data.length);
+        Assert.assertEquals(compression.getCompressedBytes(), target.size());
+    }
+
+    @Test
+    public void shouldWriteBodiesBelowThresholdUncompressed() throws IOException {
+        //given:
+        final ContentCompression compression = new ContentCompression(100);
+        final byte[] data = "[]".getBytes(StandardCharsets.UTF_8);
+        final ByteArrayOutputStream target = new ByteArrayOutputStream();
+        final AtomicBoolean compressed = new AtomicBoolean(false);
+        final AtomicInteger uncompressedLength = new AtomicInteger(-1);
+
+        //when:
+        try (final OutputStream outputStream = compression.createOutputStream(target, "deflate", () -> compressed.set(true), uncompressedLength::set)) {
+            outputStream.write(data);
+        }
+
+        //then:
+        Assert.assertFalse(compressed.get());
+        Assert.assertEquals(uncompressedLength.get(), data.length);
+        Assert.assertEquals(target.toByteArray(), data);
+        Assert.assertEquals(compression.getCompressedBodiesCount(), 0);
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void shouldLimitDecompressedSize() throws IOException {
+        //given:
+        final byte[] bomb = new ContentCompression().compress(new byte[1024 * 1024], "gzip");
+
+        //when:
+        readAll(ContentCompression.decompress(new ByteArrayInputStream(bomb), "gzip", 64 * 1024));
+    }
+
+    @Test
+    public void shouldDecompressContentWithinLimit() throws IOException {
+        //given:
+        final byte[] data = createData();
+        final byte[] compressed = new ContentCompression().compress(data, "deflate");
+
+        //then:
+        Assert.assertEquals(readAll(ContentCompression.decompress(new ByteArrayInputStream(compressed), "deflate", data.length)), data);
+    }
+
+    private byte[] createData() {
+        final StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < 200; i++) {
+            builder.append("{\"a\":\"").append(i).append("S\",\"v\":\"value-").append(i).append("\",\"id\":\"ValueChanged\"},");
+        }
+        return builder.append("]").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] readAll(final InputStream inputStream) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[1024];
+        int count;
+        while ((count = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, count);
+        }
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dolphin.impl.codec;
+
+import com.canoo.dp.impl.remoting.codec.OptimizedJsonCodec;
+import com.canoo.dp.impl.remoting.codec.StreamingJsonCodec;
+import com.canoo.dp.impl.remoting.commands.CallActionCommand;
+import com.canoo.dp.impl.remoting.commands.CreateContextCommand;
+import com.canoo.dp.impl.remoting.commands.CreateControllerCommand;
+import com.canoo.dp.impl.remoting.commands.DestroyContextCommand;
+import com.canoo.dp.impl.remoting.commands.DestroyControllerCommand;
+import com.canoo.dp.impl.remoting.commands.ListSpliceCommand;
+import com.canoo.dp.impl.remoting.legacy.commands.InterruptLongPollCommand;
+import com.canoo.dp.impl.remoting.legacy.commands.StartLongPollCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.AttributeMetadataChangedCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.ChangeAttributeMetadataCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.Command;
+import com.canoo.dp.impl.remoting.legacy.communication.CreatePresentationModelCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.DeletePresentationModelCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.PresentationModelDeletedCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.ValueChangedCommand;
+import com.canoo.dp.impl.remoting.legacy.core.Attribute;
+import com.google.gson.JsonParseException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TestStreamingJsonCodec {
+
+    @Test
+    public void shouldEncodeEmptyList() {
+        Assert.assertEquals(StreamingJsonCodec.getInstance().encode(Collections.<Command>emptyList()), "[]");
+    }
+
+    @Test
+    public void shouldEncodeIdenticalToOptimizedJsonCodec() {
+        //given:
+        final List<Command> commands = createAllCommands();
+
+        //when:
+        final String expected = OptimizedJsonCodec.getInstance().encode(commands);
+        final String actual = StreamingJsonCodec.getInstance().encode(commands);
+
+        //then:
+        Assert.assertEquals(actual, expected);
+    }
+
+    @Test
+    public void shouldEncodeSpecialCharactersIdenticalToOptimizedJsonCodec() {
+        //given:
+        final List<Command> commands = Arrays.<Command>asList(
+                new ValueChangedCommand("1S", "<script>alert('&=')</script>"),
+                new ValueChangedCommand("2S", "\"quoted\"\n\täöü€ "),
+                new ValueChangedCommand("3S", Double.NaN),
+                new ValueChangedCommand("4S", Long.MAX_VALUE));
+
+        //when:
+        final String expected = OptimizedJsonCodec.getInstance().encode(commands);
+        final String actual = StreamingJsonCodec.getInstance().encode(commands);
+
+        //then:
+        Assert.assertEquals(actual, expected);
+    }
+
+    @Test
+    public void shouldEncodeToWriter() throws Exception {
+        //given:
+        final List<Command> commands = createAllCommands();
+        final StringWriter writer = new StringWriter();
+
+        //when:
+        StreamingJsonCodec.getInstance().encode(commands, writer);
+
+        //then:
+        Assert.assertEquals(writer.toString(), OptimizedJsonCodec.getInstance().encode(commands));
+    }
+
+    @Test
+    public void shouldDecodeIdenticalToOptimizedJsonCodec() throws Exception {
+        //given:
+        final String json = OptimizedJsonCodec.getInstance().encode(createAllCommands());
+
+        //when:
+        final List<Command> expected = OptimizedJsonCodec.getInstance().decode(json);
+        final List<Command> actual = StreamingJsonCodec.getInstance().decode(new StringReader(json));
+
+        //then:
+        Assert.assertEquals(actual.size(), expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertEquals(actual.get(i).getClass(), expected.get(i).getClass());
+        }
+        Assert.assertEquals(OptimizedJsonCodec.getInstance().encode(actual), OptimizedJsonCodec.getInstance().encode(expected));
+    }
+
+    @Test
+    public void shouldDecodeCommandWithIdAtAnyPosition() {
+        //when:
+        final List<Command> commands = StreamingJsonCodec.getInstance().decode("[{\"id\":\"ValueChanged\",\"v\":42,\"a_id\":\"3357S\"},{\"a_id\":\"3358S\",\"id\":\"ValueChanged\",\"v\":\"Hello\"}]");
+
+        //then:
+        Assert.assertEquals(commands.size(), 2);
+        final ValueChangedCommand first = (ValueChangedCommand) commands.get(0);
+        Assert.assertEquals(first.getAttributeId(), "3357S");
+        Assert.assertEquals(((Number) first.getNewValue()).intValue(), 42);
+        final ValueChangedCommand second = (ValueChangedCommand) commands.get(1);
+        Assert.assertEquals(second.getAttributeId(), "3358S");
+        Assert.assertEquals(second.getNewValue(), "Hello");
+    }
+
+    @Test
+    public void shouldDecodeCallActionWithParamsCommand() {
+        //given:
+        final String json = "[{\"c_id\":\"4711\",\"n\":\"action\",\"p\":[{\"n\":\"A\",\"v\":1},{\"n\":\"B\",\"v\":7.6},{\"n\":\"C\",\"v\":true},{\"n\":\"D\",\"v\":null},{\"n\":\"E\",\"v\":\"Hello\"}],\"id\":\"CallAction\"}]";
+
+        //when:
+        final List<Command> commands = StreamingJsonCodec.getInstance().decode(json);
+
+        //then:
+        Assert.assertEquals(commands.size(), 1);
+        final CallActionCommand command = (CallActionCommand) commands.get(0);
+        Assert.assertEquals(command.getControllerId(), "4711");
+        Assert.assertEquals(command.getActionName(), "action");
+        Assert.assertEquals(command.getParams().size(), 5);
+        Assert.assertEquals(((Number) command.getParams().get("A")).intValue(), 1);
+        Assert.assertEquals(((Number) command.getParams().get("B")).doubleValue(), 7.6);
+        Assert.assertEquals(command.getParams().get("C"), true);
+        Assert.assertNull(command.getParams().get("D"));
+        Assert.assertEquals(command.getParams().get("E"), "Hello");
+    }
+
+    @Test(expectedExceptions = JsonParseException.class)
+    public void shouldFailOnUnknownCommand() {
+        StreamingJsonCodec.getInstance().decode("[{\"id\":\"Unknown\"}]");
+    }
+
+    @Test(expectedExceptions = JsonParseException.class)
+    public void shouldFailOnCommandWithoutId() {
+        StreamingJsonCodec.getInstance().decode("[{\"a_id\":\"3357S\",\"v\":42}]");
+    }
+
+    @Test(expectedExceptions = JsonParseException.class)
+    public void shouldFailOnIllegalValue() {
+        StreamingJsonCodec.getInstance().decode("[{\"a_id\":\"3357S\",\"v\":{\"a\":42},\"id\":\"ValueChanged\"}]");
+    }
+
+    private static List<Command> createAllCommands() {
+        final List<Command> commands = new ArrayList<>();
+        commands.add(new CreateContextCommand());
+        commands.add(new DestroyContextCommand());
+        commands.add(new StartLongPollCommand());
+        commands.add(new InterruptLongPollCommand());
+
+        final Map<String, Object> attribute = new HashMap<>();
+        attribute.put(Attribute.PROPERTY_NAME, "name");
+        attribute.put(Attribute.ID, "3204S");
+        attribute.put(Attribute.VALUE_NAME, "server");
+        final Map<String, Object> nullAttribute = new HashMap<>();
+        nullAttribute.put(Attribute.PROPERTY_NAME, "label");
+        nullAttribute.put(Attribute.ID, "3205S");
+        nullAttribute.put(Attribute.VALUE_NAME, null);
+        commands.add(new CreatePresentationModelCommand("05ee43b7-a884-4d42-9fc5-00b083664eed", "com.canoo.Bean", Arrays.asList(attribute, nullAttribute)));
+
+        commands.add(new DeletePresentationModelCommand("05ee43b7-a884-4d42-9fc5-00b083664eed"));
+        commands.add(new PresentationModelDeletedCommand("05ee43b7-a884-4d42-9fc5-00b083664eed"));
+        commands.add(new ValueChangedCommand("3204S", "client"));
+        commands.add(new ValueChangedCommand("3205S", null));
+        commands.add(new ValueChangedCommand("3206S", 42));
+        commands.add(new ValueChangedCommand("3207S", 2.7182));
+        commands.add(new ValueChangedCommand("3208S", false));
+        commands.add(new ChangeAttributeMetadataCommand("3204S", "qualifier", "237fb6b9-32d5-4feb-9679-57f1dd7cc7a2"));
+        commands.add(new AttributeMetadataChangedCommand("3204S", "qualifier", null));
+
+        final CreateControllerCommand createControllerCommand = new CreateControllerCommand();
+        createControllerCommand.setControllerName("MyController");
+        commands.add(createControllerCommand);
+        final CreateControllerCommand createChildControllerCommand = new CreateControllerCommand();
+        createChildControllerCommand.setControllerName("ChildController");
+        createChildControllerCommand.setParentControllerId("4710");
+        commands.add(createChildControllerCommand);
+
+        final DestroyControllerCommand destroyControllerCommand = new DestroyControllerCommand();
+        destroyControllerCommand.setControllerId("4711");
+        commands.add(destroyControllerCommand);
+
+        final CallActionCommand callActionCommand = new CallActionCommand();
+        callActionCommand.setControllerId("4711");
+        callActionCommand.setActionName("action");
+        callActionCommand.addParam("A", 1);
+        callActionCommand.addParam("B", null);
+        callActionCommand.addParam("C", "Hello");
+        commands.add(callActionCommand);
+
+        final CreateContextCommand listSpliceContextCommand = new CreateContextCommand();
+        listSpliceContextCommand.setListSpliceSupported(true);
+        commands.add(listSpliceContextCommand);
+        commands.add(new ListSpliceCommand("4712", "items", 1, 3, Arrays.asList("A", null, 42, true)));
+        commands.add(new ListSpliceCommand("4712", "items", 0, 2, Collections.emptyList()));
+        return commands;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dolphin.impl.converters;
+
+import com.canoo.dp.impl.remoting.converters.DateConverterFactory;
+import com.canoo.dp.impl.remoting.converters.RemotingDateTimeFormat;
+import com.canoo.dp.impl.remoting.converters.ZonedDateTimeConverterFactory;
+import com.canoo.platform.remoting.spi.converter.Converter;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class RemotingDateTimeFormatTest {
+
+    @Test
+    public void testFormat() {
+        Assert.assertEquals(RemotingDateTimeFormat.format(Instant.ofEpochMilli(0)), "1970-01-01T00:00:00.000Z");
+        Assert.assertEquals(RemotingDateTimeFormat.format(Instant.parse("2018-03-25T01:59:59.123456Z")), "2018-03-25T01:59:59.123Z");
+    }
+
+    @Test
+    public void testParse() {
+        Assert.assertEquals(RemotingDateTimeFormat.parse("1970-01-01T00:00:00.000Z"), Instant.ofEpochMilli(0));
+        Assert.assertEquals(RemotingDateTimeFormat.parse("2018-03-25T01:59:59.123Z"), Instant.parse("2018-03-25T01:59:59.123Z"));
+    }
+
+    @Test(expectedExceptions = DateTimeParseException.class)
+    public void testParseInvalidValue() {
+        RemotingDateTimeFormat.parse("2018-03-25");
+    }
+
+    @Test
+    public void testConcurrentConversion() throws Exception {
+        final Converter dateConverter = new DateConverterFactory().getConverterForType(Date.class);
+        final Converter zonedDateTimeConverter = new ZonedDateTimeConverterFactory().getConverterForType(ZonedDateTime.class);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<Boolean>> results = new ArrayList<>();
+            for (int task = 0; task < 8; task++) {
+                final long offset = task * 86_400_000L;
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        final Date date = new Date(offset + i * 1_001L);
+                        if (!date.equals(dateConverter.convertFromDolphin(dateConverter.convertToDolphin(date)))) {
+                            return false;
+                        }
+                        final ZonedDateTime dateTime = date.toInstant().atZone(ZoneId.systemDefault());
+                        if (!dateTime.equals(zonedDateTimeConverter.convertFromDolphin(zonedDateTimeConverter.convertToDolphin(dateTime)))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (final Future<Boolean> result : results) {
+                Assert.assertTrue(result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dolphin.legacy;
+
+import com.canoo.dp.impl.remoting.legacy.core.Attribute;
+import com.canoo.dp.impl.remoting.legacy.core.AttributeValueListener;
+import com.canoo.dp.impl.remoting.legacy.core.BaseAttribute;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BaseAttributeTest {
+
+    @Test
+    public void testValueListener() {
+        //given:
+        final TestAttribute attribute = new TestAttribute("a");
+        final List<Object[]> changes = new ArrayList<>();
+        attribute.addValueListener((source, oldValue, newValue) -> changes.add(new Object[]{source, oldValue, newValue}));
+
+        //when:
+        attribute.setValue("b");
+        attribute.setValue("b");
+        attribute.setValue(null);
+
+        //then:
+        Assert.assertEquals(changes.size(), 2);
+        Assert.assertEquals(changes.get(0), new Object[]{attribute, "a", "b"});
+        Assert.assertEquals(changes.get(1), new Object[]{attribute, "b", null});
+    }
+
+    @Test
+    public void testValueListenersAreCalledAfterPropertyChangeListeners() {
+        //given:
+        final TestAttribute attribute = new TestAttribute("a");
+        final List<String> calls = new ArrayList<>();
+        final AttributeValueListener first = (source, oldValue, newValue) -> calls.add("first");
+        final AttributeValueListener second = (source, oldValue, newValue) -> calls.add("second");
+        attribute.addValueListener(first);
+        attribute.addValueListener(second);
+        attribute.addPropertyChangeListener(Attribute.VALUE_NAME, evt -> calls.add("pcl"));
+
+        //when:
+        attribute.setValue("b");
+        attribute.removeValueListener(first);
+        attribute.setValue("c");
+
+        //then:
+        Assert.assertEquals(calls.size(), 5);
+        Assert.assertEquals(calls.get(0), "pcl");
+        Assert.assertEquals(calls.get(1), "first");
+        Assert.assertEquals(calls.get(2), "second");
+        Assert.assertEquals(calls.get(3), "pcl");
+        Assert.assertEquals(calls.get(4), "second");
+    }
+
+    @Test
+    public void testNoPropertyChangeListeners() {
+        //given:
+        final TestAttribute attribute = new TestAttribute("a");
+
+        //then:
+        Assert.assertEquals(attribute.getPropertyChangeListeners().length, 0);
+        Assert.assertEquals(attribute.getPropertyChangeListeners(Attribute.VALUE_NAME).length, 0);
+        attribute.setValue("b");
+        Assert.assertEquals(attribute.getValue(), "b");
+    }
+
+    private static class TestAttribute extends BaseAttribute {
+
+        private TestAttribute(final Object value) {
+            super("value", value);
+        }
+
+        @Override
+        public String getOrigin() {
+            return "T";
+        }
+    }
+}
@@ -15,6 +15,7 @@
  */
 package com.canoo.dolphin.legacy;
 
+import com.canoo.dp.impl.remoting.legacy.core.BaseAttribute;
 import com.canoo.dp.impl.remoting.legacy.core.BasePresentationModel;
 import com.canoo.dp.impl.remoting.legacy.core.ModelStore;
 import com.canoo.dp.impl.remoting.legacy.core.ModelStoreEvent;
@@ -22,6 +23,9 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 public class ModelStoreTest {
     @Test
@@ -65,4 +69,82 @@ public class ModelStoreTest {
         Assert.assertNull(parentStoreListener.getEvent());
     }
 
+    @Test
+    public void testTypeIndexKeepsInsertionOrderAfterRemoval() {
+        //given:
+        final ModelStore modelStore = new ModelStore();
+        final List<BasePresentationModel> models = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            final BasePresentationModel model = new BasePresentationModel(Integer.toString(i), new ArrayList());
+            model.setPresentationModelType("type");
+            modelStore.add(model);
+            models.add(model);
+        }
+
+        //when:
+        modelStore.remove(models.get(2));
+
+        //then:
+        Assert.assertEquals(modelStore.findAllPresentationModelsByType("type"), Arrays.asList(models.get(0), models.get(1), models.get(3), models.get(4)));
+        Assert.assertFalse(modelStore.containsPresentationModel("2"));
+    }
+
+    @Test
+    public void testRemoveOfUnknownInstanceWithSameId() {
+        //given:
+        final ModelStore modelStore = new ModelStore();
+        final BasePresentationModel model = new BasePresentationModel("0", new ArrayList());
+        model.setPresentationModelType("type");
+        modelStore.add(model);
+        final BasePresentationModel otherModel = new BasePresentationModel("0", new ArrayList());
+        otherModel.setPresentationModelType("type");
+
+        //when:
+        final boolean removed = modelStore.remove(otherModel);
+
+        //then:
+        Assert.assertFalse(removed);
+        Assert.assertEquals(modelStore.findPresentationModelById("0"), model);
+        Assert.assertEquals(modelStore.findAllPresentationModelsByType("type"), Collections.singletonList(model));
+    }
+
+    @Test
+    public void testQualifierIndex() {
+        //given:
+        final ModelStore modelStore = new ModelStore();
+        final TestAttribute attribute1 = new TestAttribute("a", "q");
+        final TestAttribute attribute2 = new TestAttribute("b", "q");
+        modelStore.add(new BasePresentationModel("0", Arrays.asList(attribute1)));
+        final BasePresentationModel model = new BasePresentationModel("1", Arrays.asList(attribute2));
+        modelStore.add(model);
+
+        //then:
+        Assert.assertEquals(modelStore.findAllAttributesByQualifier("q"), Arrays.asList(attribute1, attribute2));
+
+        //when:
+        attribute1.setQualifier("other");
+
+        //then:
+        Assert.assertEquals(modelStore.findAllAttributesByQualifier("q"), Collections.singletonList(attribute2));
+        Assert.assertEquals(modelStore.findAllAttributesByQualifier("other"), Collections.singletonList(attribute1));
+
+        //when:
+        modelStore.remove(model);
+
+        //then:
+        Assert.assertTrue(modelStore.findAllAttributesByQualifier("q").isEmpty());
+        Assert.assertNull(modelStore.findAttributeById(attribute2.getId()));
+    }
+
+    private static class TestAttribute extends BaseAttribute {
+
+        public TestAttribute(final String propertyName, final String qualifier) {
+            super(propertyName, null, qualifier);
+        }
+
+        @Override
+        public String getOrigin() {
+            return "T";
+        }
+    }
 }
@@ -15,9 +15,13 @@
  */
 package com.canoo.dp.impl.server;
 
+import com.canoo.dp.impl.remoting.codec.OptimizedJsonCodec;
+import com.canoo.dp.impl.remoting.codec.StreamingJsonCodec;
+import com.canoo.dp.impl.remoting.legacy.communication.Codec;
 import com.canoo.platform.server.spi.components.ManagedBeanFactory;
 import com.canoo.dp.impl.server.bootstrap.modules.ClientSessionModule;
 import com.canoo.dp.impl.server.client.ClientSessionLifecycleHandler;
+import com.canoo.dp.impl.server.client.ClientSessionManager;
 import com.canoo.dp.impl.server.client.ClientSessionProvider;
 import com.canoo.dp.impl.server.config.RemotingConfiguration;
 import com.canoo.dp.impl.server.context.DefaultDolphinContextFactory;
@@ -27,8 +31,13 @@ import com.canoo.dp.impl.server.context.DolphinContextFactory;
 import com.canoo.dp.impl.server.context.DolphinContextProvider;
 import com.canoo.dp.impl.server.controller.ControllerValidationException;
 import com.canoo.dp.impl.server.event.AbstractEventBus;
+import com.canoo.dp.impl.server.mbean.MBeanDescription;
+import com.canoo.dp.impl.server.mbean.MBeanRegistry;
+import com.canoo.dp.impl.server.mbean.beans.RemotingCompressionInfo;
 import com.canoo.dp.impl.server.servlet.DolphinPlatformServlet;
 import com.canoo.dp.impl.server.servlet.InterruptServlet;
+import com.canoo.dp.impl.server.websocket.RemotingWebSocketConfigurator;
+import com.canoo.platform.core.concurrent.PlatformThreadFactory;
 import com.canoo.platform.remoting.server.event.RemotingEventBus;
 import com.canoo.platform.remoting.server.event.spi.EventBusProvider;
 import com.canoo.platform.server.client.ClientSession;
@@ -43,10 +52,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.servlet.ServletContext;
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
+import javax.servlet.ServletRegistration;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ServiceLoader;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static com.canoo.dp.impl.server.servlet.ServletConstants.DOLPHIN_SERVLET_NAME;
 import static com.canoo.dp.impl.server.servlet.ServletConstants.INTERRUPT_SERVLET_NAME;
@@ -87,7 +101,12 @@ public class RemotingModule implements ServerModule {
             final RemotingConfiguration configuration = new RemotingConfiguration(coreComponents.getConfiguration());
             final ClientSessionProvider sessionProvider = coreComponents.getInstance(ClientSessionProvider.class);
             final DolphinContextFactory dolphinContextFactory = new DefaultDolphinContextFactory(configuration, sessionProvider, beanFactory, classpathScanner);
-            final DolphinContextCommunicationHandler communicationHandler = new DolphinContextCommunicationHandler(sessionProvider, dolphinContextFactory);
+            final Codec codec = configuration.isStreamingCodecActive() ? StreamingJsonCodec.getInstance() : OptimizedJsonCodec.getInstance();
+            LOG.debug("Using codec {} for remoting communication", codec.getClass().getSimpleName());
+            final DolphinContextCommunicationHandler communicationHandler = new DolphinContextCommunicationHandler(sessionProvider, dolphinContextFactory, codec, configuration);
+            if (configuration.isCompressionActive()) {
+                MBeanRegistry.getInstance().register(new RemotingCompressionInfo(communicationHandler.getCompression()), new MBeanDescription("com.canoo.dolphin", "RemotingCompression", "compression"));
+            }
             final DolphinContextProvider contextProvider = new DolphinContextProvider() {
                 @Override
                 public DolphinContext getContext(final ClientSession clientSession) {
@@ -108,7 +127,28 @@ public class RemotingModule implements ServerModule {
 
             final ClientSessionLifecycleHandler lifecycleHandler = coreComponents.getInstance(ClientSessionLifecycleHandler.class);
 
-            servletContext.addServlet(DOLPHIN_SERVLET_NAME, new DolphinPlatformServlet(communicationHandler)).addMapping(configuration.getDolphinPlatformServletMapping());
+            final ServletRegistration.Dynamic servletRegistration = servletContext.addServlet(DOLPHIN_SERVLET_NAME, new DolphinPlatformServlet(communicationHandler));
+            servletRegistration.setAsyncSupported(configuration.isAsyncLongPollActive());
+            servletRegistration.addMapping(configuration.getDolphinPlatformServletMapping());
+
+            if (configuration.isWebSocketActive()) {
+                final ClientSessionManager clientSessionManager = coreComponents.getInstance(ClientSessionManager.class);
+                final ExecutorService pushExecutor = Executors.newCachedThreadPool(coreComponents.getInstance(PlatformThreadFactory.class));
+                final RemotingWebSocketConfigurator webSocketConfigurator = new RemotingWebSocketConfigurator(communicationHandler, clientSessionManager, codec, pushExecutor);
+                if (webSocketConfigurator.register(servletContext, configuration.getWebSocketMapping())) {
+                    LOG.debug("Dolphin Platform WebSocket endpoint defined as " + configuration.getWebSocketMapping());
+                }
+                servletContext.addListener(new ServletContextListener() {
+                    @Override
+                    public void contextInitialized(final ServletContextEvent sce) {
+                    }
+
+                    @Override
+                    public void contextDestroyed(final ServletContextEvent sce) {
+                        pushExecutor.shutdownNow();
+                    }
+                });
+            }
 
             servletContext.addServlet(INTERRUPT_SERVLET_NAME, new InterruptServlet(contextProvider)).addMapping(configuration.getDolphinPlatformInterruptServletMapping());
 
@@ -43,6 +43,32 @@ public class RemotingConfiguration implements Serializable {
 
     public static final String EVENTBUS_TYPE = "eventbusType";
 
+    public static final String STREAMING_CODEC_ACTIVE = "streamingCodecActive";
+
+    public static final String BINARY_CODEC_ACTIVE = "binaryCodecActive";
+
+    public static final String ASYNC_LONG_POLL_ACTIVE = "asyncLongPollActive";
+
+    public static final String WEB_SOCKET_ACTIVE = "webSocketActive";
+
+    public static final String WEB_SOCKET_MAPPING = "webSocketMapping";
+
+    public static final String RESPONSE_COMPACTION_ACTIVE = "responseCompactionActive";
+
+    public static final String INCREMENTAL_GARBAGE_COLLECTION_ACTIVE = "incrementalGarbageCollectionActive";
+
+    public static final String GARBAGE_COLLECTION_MAX_BEANS_PER_RUN = "garbageCollectionMaxBeansPerRun";
+
+    public static final String PIPELINE_MAX_WAIT_TIME = "pipelineMaxWaitTime";
+
+    public static final String COMPACT_IDS_ACTIVE = "compactIdsActive";
+
+    public static final String COMPRESSION_ACTIVE = "compressionActive";
+
+    public static final String COMPRESSION_THRESHOLD = "compressionThreshold";
+
+    public static final String MAX_DECOMPRESSED_REQUEST_SIZE = "maxDecompressedRequestSize";
+
     public static final boolean ACTIVE_DEFAULT_VALUE = true;
 
     public final static String DOLPHIN_PLATFORM_SERVLET_MAPPING_DEFAULT_VALUE = "/dolphin";
@@ -55,6 +81,32 @@ public class RemotingConfiguration implements Serializable {
 
     public final static boolean USE_GC_DEFAULT_VALUE = true;
 
+    public final static boolean STREAMING_CODEC_ACTIVE_DEFAULT_VALUE = false;
+
+    public final static boolean BINARY_CODEC_ACTIVE_DEFAULT_VALUE = true;
+
+    public final static boolean ASYNC_LONG_POLL_ACTIVE_DEFAULT_VALUE = false;
+
+    public final static boolean WEB_SOCKET_ACTIVE_DEFAULT_VALUE = false;
+
+    public final static String WEB_SOCKET_MAPPING_DEFAULT_VALUE = "/dolphin-ws";
+
+    public final static boolean RESPONSE_COMPACTION_ACTIVE_DEFAULT_VALUE = true;
+
+    public final static boolean INCREMENTAL_GARBAGE_COLLECTION_ACTIVE_DEFAULT_VALUE = false;
+
+    public final static int GARBAGE_COLLECTION_MAX_BEANS_PER_RUN_DEFAULT_VALUE = 1000;
+
+    public final static long PIPELINE_MAX_WAIT_TIME_DEFAULT_VALUE = 10000;
+
+    public final static boolean COMPACT_IDS_ACTIVE_DEFAULT_VALUE = false;
+
+    public final static boolean COMPRESSION_ACTIVE_DEFAULT_VALUE = true;
+
+    public final static int COMPRESSION_THRESHOLD_DEFAULT_VALUE = 1024;
+
+    public final static long MAX_DECOMPRESSED_REQUEST_SIZE_DEFAULT_VALUE = 16 * 1024 * 1024;
+
     private final PlatformConfiguration configuration;
 
     public RemotingConfiguration() {
@@ -81,6 +133,58 @@ public class RemotingConfiguration implements Serializable {
         return configuration.getBooleanProperty(GARBAGE_COLLECTION_ACTIVE, USE_GC_DEFAULT_VALUE);
     }
 
+    public boolean isStreamingCodecActive() {
+        return configuration.getBooleanProperty(STREAMING_CODEC_ACTIVE, STREAMING_CODEC_ACTIVE_DEFAULT_VALUE);
+    }
+
+    public boolean isBinaryCodecActive() {
+        return configuration.getBooleanProperty(BINARY_CODEC_ACTIVE, BINARY_CODEC_ACTIVE_DEFAULT_VALUE);
+    }
+
+    public boolean isAsyncLongPollActive() {
+        return configuration.getBooleanProperty(ASYNC_LONG_POLL_ACTIVE, ASYNC_LONG_POLL_ACTIVE_DEFAULT_VALUE);
+    }
+
+    public boolean isWebSocketActive() {
+        return configuration.getBooleanProperty(WEB_SOCKET_ACTIVE, WEB_SOCKET_ACTIVE_DEFAULT_VALUE);
+    }
+
+    public String getWebSocketMapping() {
+        return configuration.getProperty(WEB_SOCKET_MAPPING, WEB_SOCKET_MAPPING_DEFAULT_VALUE);
+    }
+
+    public boolean isResponseCompactionActive() {
+        return configuration.getBooleanProperty(RESPONSE_COMPACTION_ACTIVE, RESPONSE_COMPACTION_ACTIVE_DEFAULT_VALUE);
+    }
+
+    public boolean isIncrementalGarbageCollectionActive() {
+        return configuration.getBooleanProperty(INCREMENTAL_GARBAGE_COLLECTION_ACTIVE, INCREMENTAL_GARBAGE_COLLECTION_ACTIVE_DEFAULT_VALUE);
+    }
+
+    public int getGarbageCollectionMaxBeansPerRun() {
+        return configuration.getIntProperty(GARBAGE_COLLECTION_MAX_BEANS_PER_RUN, GARBAGE_COLLECTION_MAX_BEANS_PER_RUN_DEFAULT_VALUE);
+    }
+
+    public long getPipelineMaxWaitTime() {
+        return configuration.getLongProperty(PIPELINE_MAX_WAIT_TIME, PIPELINE_MAX_WAIT_TIME_DEFAULT_VALUE);
+    }
+
+    public boolean isCompactIdsActive() {
+        return configuration.getBooleanProperty(COMPACT_IDS_ACTIVE, COMPACT_IDS_ACTIVE_DEFAULT_VALUE);
+    }
+
+    public boolean isCompressionActive() {
+        return configuration.getBooleanProperty(COMPRESSION_ACTIVE, COMPRESSION_ACTIVE_DEFAULT_VALUE);
+    }
+
+    public int getCompressionThreshold() {
+        return configuration.getIntProperty(COMPRESSION_THRESHOLD, COMPRESSION_THRESHOLD_DEFAULT_VALUE);
+    }
+
+    public long getMaxDecompressedRequestSize() {
+        return configuration.getLongProperty(MAX_DECOMPRESSED_REQUEST_SIZE, MAX_DECOMPRESSED_REQUEST_SIZE_DEFAULT_VALUE);
+    }
+
     public String getEventbusType() {
         return configuration.getProperty(EVENTBUS_TYPE, EVENTBUS_TYPE_DEFAULT_VALUE);
     }
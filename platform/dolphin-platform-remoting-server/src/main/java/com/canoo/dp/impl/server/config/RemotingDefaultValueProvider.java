@@ -18,7 +18,6 @@ package com.canoo.dp.impl.server.config;
 import com.canoo.platform.server.spi.ConfigurationProviderAdapter;
 import org.apiguardian.api.API;
 
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -34,16 +33,42 @@ public class RemotingDefaultValueProvider extends ConfigurationProviderAdapter {
         ret.put(RemotingConfiguration.DOLPHIN_PLATFORM_SERVLET_MAPPING, RemotingConfiguration.DOLPHIN_PLATFORM_SERVLET_MAPPING_DEFAULT_VALUE);
         ret.put(RemotingConfiguration.DOLPHIN_PLATFORM_INTERRUPT_SERVLET_MAPPING, RemotingConfiguration.DOLPHIN_PLATFORM_INTERRUPT_SERVLET_MAPPING_DEFAULT_VALUE);
         ret.put(RemotingConfiguration.EVENTBUS_TYPE, RemotingConfiguration.EVENTBUS_TYPE_DEFAULT_VALUE);
+        ret.put(RemotingConfiguration.WEB_SOCKET_MAPPING, RemotingConfiguration.WEB_SOCKET_MAPPING_DEFAULT_VALUE);
+        return ret;
+    }
+
+    @Override
+    public Map<String, Integer> getIntegerProperties() {
+        HashMap<String, Integer> ret = new HashMap<>();
+
+        ret.put(RemotingConfiguration.GARBAGE_COLLECTION_MAX_BEANS_PER_RUN, RemotingConfiguration.GARBAGE_COLLECTION_MAX_BEANS_PER_RUN_DEFAULT_VALUE);
+        ret.put(RemotingConfiguration.COMPRESSION_THRESHOLD, RemotingConfiguration.COMPRESSION_THRESHOLD_DEFAULT_VALUE);
         return ret;
     }
 
     @Override
     public Map<String, Long> getLongProperties() {
-        return Collections.singletonMap(RemotingConfiguration.MAX_POLL_TIME, RemotingConfiguration.MAX_POLL_TIME_DEFAULT_VALUE);
+        HashMap<String, Long> ret = new HashMap<>();
+
+        ret.put(RemotingConfiguration.MAX_POLL_TIME, RemotingConfiguration.MAX_POLL_TIME_DEFAULT_VALUE);
+        ret.put(RemotingConfiguration.PIPELINE_MAX_WAIT_TIME, RemotingConfiguration.PIPELINE_MAX_WAIT_TIME_DEFAULT_VALUE);
+        ret.put(RemotingConfiguration.MAX_DECOMPRESSED_REQUEST_SIZE, RemotingConfiguration.MAX_DECOMPRESSED_REQUEST_SIZE_DEFAULT_VALUE);
+        return ret;
     }
 
     @Override
     public Map<String, Boolean> getBooleanProperties() {
-        return Collections.singletonMap(RemotingConfiguration.GARBAGE_COLLECTION_ACTIVE, RemotingConfiguration.USE_GC_DEFAULT_VALUE);
+        HashMap<String, Boolean> ret = new HashMap<>();
+
+        ret.put(RemotingConfiguration.GARBAGE_COLLECTION_ACTIVE, RemotingConfiguration.USE_GC_DEFAULT_VALUE);
+        ret.put(RemotingConfiguration.STREAMING_CODEC_ACTIVE, RemotingConfiguration.STREAMING_CODEC_ACTIVE_DEFAULT_VALUE);
+        ret.put(RemotingConfiguration.BINARY_CODEC_ACTIVE, RemotingConfiguration.BINARY_CODEC_ACTIVE_DEFAULT_VALUE);
+        ret.put(RemotingConfiguration.ASYNC_LONG_POLL_ACTIVE, RemotingConfiguration.ASYNC_LONG_POLL_ACTIVE_DEFAULT_VALUE);
+        ret.put(RemotingConfiguration.WEB_SOCKET_ACTIVE, RemotingConfiguration.WEB_SOCKET_ACTIVE_DEFAULT_VALUE);
+        ret.put(RemotingConfiguration.RESPONSE_COMPACTION_ACTIVE, RemotingConfiguration.RESPONSE_COMPACTION_ACTIVE_DEFAULT_VALUE);
+        ret.put(RemotingConfiguration.INCREMENTAL_GARBAGE_COLLECTION_ACTIVE, RemotingConfiguration.INCREMENTAL_GARBAGE_COLLECTION_ACTIVE_DEFAULT_VALUE);
+        ret.put(RemotingConfiguration.COMPACT_IDS_ACTIVE, RemotingConfiguration.COMPACT_IDS_ACTIVE_DEFAULT_VALUE);
+        ret.put(RemotingConfiguration.COMPRESSION_ACTIVE, RemotingConfiguration.COMPRESSION_ACTIVE_DEFAULT_VALUE);
+        return ret;
     }
 }
@@ -31,15 +31,18 @@ import com.canoo.dp.impl.remoting.commands.CreateContextCommand;
 import com.canoo.dp.impl.remoting.commands.CreateControllerCommand;
 import com.canoo.dp.impl.remoting.commands.DestroyContextCommand;
 import com.canoo.dp.impl.remoting.commands.DestroyControllerCommand;
+import com.canoo.dp.impl.remoting.commands.ListSpliceCommand;
 import com.canoo.dp.impl.remoting.legacy.commands.InterruptLongPollCommand;
 import com.canoo.dp.impl.remoting.legacy.commands.StartLongPollCommand;
 import com.canoo.dp.impl.remoting.legacy.communication.Command;
+import com.canoo.dp.impl.remoting.legacy.core.ModelStoreConfig;
 import com.canoo.dp.impl.server.client.ClientSessionProvider;
 import com.canoo.dp.impl.server.config.RemotingConfiguration;
 import com.canoo.dp.impl.server.controller.ControllerHandler;
 import com.canoo.dp.impl.server.controller.ControllerRepository;
 import com.canoo.dp.impl.server.gc.GarbageCollectionCallback;
 import com.canoo.dp.impl.server.gc.GarbageCollector;
+import com.canoo.dp.impl.server.gc.IncrementalGarbageCollector;
 import com.canoo.dp.impl.server.gc.Instance;
 import com.canoo.dp.impl.server.legacy.ServerConnector;
 import com.canoo.dp.impl.server.legacy.ServerModelStore;
@@ -85,6 +88,8 @@ public class DolphinContext {
 
     private static final Logger LOG = LoggerFactory.getLogger(DolphinContext.class);
 
+    private static final ThreadLocal<NonBlockingLongPoll> nonBlockingLongPoll = new ThreadLocal<>();
+
     private final RemotingConfiguration configuration;
 
     private final ServerModelStore serverModelStore;
@@ -127,7 +132,9 @@ public class DolphinContext {
         this.clientSession = Assert.requireNonNull(clientSession, "clientSession");
 
         //Init Open Dolphin
-        serverModelStore = new ServerModelStore();
+        final ModelStoreConfig modelStoreConfig = new ModelStoreConfig();
+        modelStoreConfig.setCompactIds(configuration.isCompactIdsActive());
+        serverModelStore = new ServerModelStore(modelStoreConfig);
 
         //Init Server Connector
         serverConnector = new ServerConnector();
@@ -136,14 +143,19 @@ public class DolphinContext {
         serverConnector.registerDefaultActions();
 
         //Init Garbage Collection
-        garbageCollector = new GarbageCollector(configuration, new GarbageCollectionCallback() {
+        final GarbageCollectionCallback garbageCollectionCallback = new GarbageCollectionCallback() {
             @Override
             public void onReject(Set<Instance> instances) {
                 for (Instance instance : instances) {
                     beanRepository.onGarbageCollectionRejection(instance.getBean());
                 }
             }
-        });
+        };
+        if (configuration.isIncrementalGarbageCollectionActive()) {
+            garbageCollector = new IncrementalGarbageCollector(configuration, garbageCollectionCallback);
+        } else {
+            garbageCollector = new GarbageCollector(configuration, garbageCollectionCallback);
+        }
 
         CommunicationManager manager = new CommunicationManager() {
             @Override
@@ -160,7 +172,7 @@ public class DolphinContext {
 
         //Init BeanManager
         final PresentationModelBuilderFactory builderFactory = new ServerPresentationModelBuilderFactory(serverModelStore);
-        final ClassRepository classRepository = new ClassRepositoryImpl(serverModelStore, converters, builderFactory);
+        final ClassRepository classRepository = new ClassRepositoryImpl(serverModelStore, converters, builderFactory, controllerRepository.getClassMetadataRegistry());
         final ListMapper listMapper = new ListMapperImpl(serverModelStore, classRepository, beanRepository, builderFactory, dispatcher);
         final ServerBeanBuilder beanBuilder = new ServerBeanBuilderImpl(classRepository, beanRepository, listMapper, builderFactory, dispatcher, garbageCollector);
         beanManager = new BeanManagerImpl(beanRepository, beanBuilder);
@@ -173,7 +185,7 @@ public class DolphinContext {
 
         //Register commands
         registerDolphinPlatformDefaultCommands();
-        mBeanSubscription = mBeanRegistry.registerDolphinContext(clientSession, garbageCollector);
+        mBeanSubscription = mBeanRegistry.registerDolphinContext(clientSession, garbageCollector, serverModelStore);
     }
 
     protected <T extends Command> void registerCommand(final ActionRegistry registry, final Class<T> commandClass, final Consumer<T> handler) {
@@ -193,7 +205,20 @@ public class DolphinContext {
         serverConnector.register(new DolphinServerAction() {
             @Override
             public void registerIn(ActionRegistry registry) {
-                registerCommand(registry, CreateContextCommand.class, (c) -> onInitContext());
+                registry.register(CreateContextCommand.class, new CommandHandler<CreateContextCommand>() {
+                    @Override
+                    public void handleCommand(final CreateContextCommand createContextCommand, final List<Command> response) {
+                        Assert.requireNonNull(createContextCommand, "createContextCommand");
+                        LOG.trace("Handling {} for DolphinContext {}", CreateContextCommand.class.getSimpleName(), getId());
+                        onInitContext(createContextCommand.isListSpliceSupported());
+                        if (createContextCommand.isListSpliceSupported()) {
+                            // the client only sends ListSpliceCommands after the server has confirmed the support
+                            final CreateContextCommand confirmation = new CreateContextCommand();
+                            confirmation.setListSpliceSupported(true);
+                            response.add(confirmation);
+                        }
+                    }
+                });
                 registerCommand(registry, DestroyContextCommand.class, (c) -> onDestroyContext());
                 registerCommand(registry, CreateControllerCommand.class, (createControllerCommand) -> {
                     Assert.requireNonNull(createControllerCommand, "createControllerCommand");
@@ -209,11 +234,13 @@ public class DolphinContext {
                 });
                 registerCommand(registry, StartLongPollCommand.class, (c) -> onLongPoll());
                 registerCommand(registry, InterruptLongPollCommand.class, (c) -> interrupt());
+                registerCommand(registry, ListSpliceCommand.class, serverModelStore::onListSplice);
             }
         });
     }
 
-    private void onInitContext() {
+    private void onInitContext(final boolean listSpliceSupported) {
+        serverModelStore.setListSpliceSupported(listSpliceSupported);
         platformBeanRepository = new ServerPlatformBeanRepository(serverModelStore, beanRepository, dispatcher, converters);
     }
 
@@ -285,18 +312,41 @@ public class DolphinContext {
     }
 
     protected void onLongPoll() {
-        if (configuration.isUseGc()) {
+        final NonBlockingLongPoll longPoll = nonBlockingLongPoll.get();
+        if (configuration.isUseGc() && (longPoll == null || longPoll.isGarbageCollection())) {
             LOG.trace("Handling GarbageCollection for DolphinContext {}", getId());
             onGarbageCollection();
         }
         final Metric metric = ServerTimingFilter.getCurrentTiming().start("TaskExecution", "Execution of Tasks in Long Poll");
         try {
-            taskQueue.executeTasks();
+            if (longPoll != null) {
+                if (taskQueue.executePendingTasks()) {
+                    longPoll.setInterrupted(true);
+                }
+            } else {
+                taskQueue.executeTasks();
+            }
         } finally {
             metric.stop();
         }
     }
 
+    /**
+     * Registers a callback that is called once a long poll that was handled by
+     * {@link #handleWithoutWaiting(List)} should be handled again since new tasks are available or the poll was
+     * interrupted.
+     * @param callback the callback
+     * @return {@code false} if the callback was not registered since the long poll does not need to wait
+     * @see DolphinContextTaskQueue#registerWakeupCallback(Runnable)
+     */
+    public boolean registerLongPollWakeup(final Runnable callback) {
+        return taskQueue.registerWakeupCallback(callback);
+    }
+
+    public void unregisterLongPollWakeup(final Runnable callback) {
+        taskQueue.unregisterWakeupCallback(callback);
+    }
+
     private void onGarbageCollection() {
         final Metric metric = ServerTimingFilter.getCurrentTiming().start("RemotingGc", "Garbage collection for the remoting model");
         try {
@@ -322,6 +372,34 @@ public class DolphinContext {
         return clientSession.getId();
     }
 
+    /**
+     * Handles the given commands like {@link #handle(List)} but a long poll will only execute the tasks that are
+     * already pending instead of waiting for new tasks. This is used for the asynchronous long poll that does not
+     * block a server thread while waiting.
+     * @param commands the commands
+     * @return the response commands
+     */
+    public List<Command> handleWithoutWaiting(final List<Command> commands) {
+        return handleWithoutWaiting(commands, new NonBlockingLongPoll(true));
+    }
+
+    /**
+     * Handles the given commands like {@link #handleWithoutWaiting(List)} and stores the state of a long poll in the
+     * given object. If the long poll consumed an interrupt the response must not wait for new tasks.
+     * @param commands the commands
+     * @param longPoll the state of the long poll
+     * @return the response commands
+     */
+    List<Command> handleWithoutWaiting(final List<Command> commands, final NonBlockingLongPoll longPoll) {
+        Assert.requireNonNull(longPoll, "longPoll");
+        nonBlockingLongPoll.set(longPoll);
+        try {
+            return handle(commands);
+        } finally {
+            nonBlockingLongPoll.remove();
+        }
+    }
+
     public List<Command> handle(final List<Command> commands) {
         active = true;
         try {
@@ -330,6 +408,9 @@ public class DolphinContext {
                 results.addAll(serverConnector.receive(command));
                 hasResponseCommands = !results.isEmpty();
             }
+            if (configuration.isResponseCompactionActive()) {
+                return serverModelStore.compactResponse(results);
+            }
             return results;
         } finally {
             active = false;
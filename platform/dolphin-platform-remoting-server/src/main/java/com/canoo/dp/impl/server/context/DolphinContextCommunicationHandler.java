@@ -16,24 +16,46 @@
 package com.canoo.dp.impl.server.context;
 
 import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.platform.core.http.HttpHeaderConstants;
+import com.canoo.dp.impl.remoting.PlatformRemotingConstants;
+import com.canoo.dp.impl.remoting.codec.BinaryCodec;
+import com.canoo.dp.impl.remoting.codec.ContentCompression;
 import com.canoo.dp.impl.remoting.codec.OptimizedJsonCodec;
+import com.canoo.dp.impl.remoting.codec.StreamingCodec;
 import com.canoo.dp.impl.remoting.commands.CreateContextCommand;
+import com.canoo.dp.impl.remoting.legacy.commands.StartLongPollCommand;
 import com.canoo.dp.impl.remoting.legacy.communication.Codec;
 import com.canoo.dp.impl.remoting.legacy.communication.Command;
 import com.canoo.dp.impl.server.client.ClientSessionProvider;
+import com.canoo.dp.impl.server.config.RemotingConfiguration;
 import com.canoo.platform.server.client.ClientSession;
 import org.apiguardian.api.API;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.DispatcherType;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
 import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
@@ -45,17 +67,52 @@ public class DolphinContextCommunicationHandler {
 
     private final static String DOLPHIN_CONTEXT_ATTRIBUTE_NAME = "DolphinContext";
 
+    private final static String ASYNC_LONG_POLL_ATTRIBUTE_NAME = "DolphinAsyncLongPoll";
+
+    private final static String ASYNC_LONG_POLL_SEQUENCE_ATTRIBUTE_NAME = "DolphinAsyncLongPollSequence";
+
+    private final static String REQUEST_SEQUENCER_ATTRIBUTE_NAME = "DolphinRequestSequencer";
+
+    private final static long NO_SEQUENCE = -1;
+
     private final ClientSessionProvider sessionProvider;
 
-    private final Codec codec = OptimizedJsonCodec.getInstance();
+    private final Codec codec;
+
+    private final boolean binaryCodecActive;
+
+    private final boolean asyncLongPollActive;
+
+    private final long maxPollTime;
+
+    private final long pipelineMaxWaitTime;
+
+    private final boolean compressionActive;
+
+    private final ContentCompression compression;
+
+    private final long maxDecompressedRequestSize;
 
     private final DolphinContextFactory contextFactory;
 
     private static final HashMap<String, WeakReference<DolphinContext>> weakContextMap = new HashMap<>();
 
     public DolphinContextCommunicationHandler(final ClientSessionProvider sessionProvider, DolphinContextFactory contextFactory) {
+        this(sessionProvider, contextFactory, OptimizedJsonCodec.getInstance(), new RemotingConfiguration());
+    }
+
+    public DolphinContextCommunicationHandler(final ClientSessionProvider sessionProvider, final DolphinContextFactory contextFactory, final Codec codec, final RemotingConfiguration configuration) {
         this.sessionProvider = Assert.requireNonNull(sessionProvider, "sessionProvider");
         this.contextFactory = contextFactory;
+        this.codec = Assert.requireNonNull(codec, "codec");
+        Assert.requireNonNull(configuration, "configuration");
+        this.binaryCodecActive = configuration.isBinaryCodecActive();
+        this.asyncLongPollActive = configuration.isAsyncLongPollActive();
+        this.maxPollTime = configuration.getMaxPollTime();
+        this.pipelineMaxWaitTime = configuration.getPipelineMaxWaitTime();
+        this.compressionActive = configuration.isCompressionActive();
+        this.compression = new ContentCompression(configuration.getCompressionThreshold());
+        this.maxDecompressedRequestSize = configuration.getMaxDecompressedRequestSize();
     }
 
     public void handle(final HttpServletRequest request, final HttpServletResponse response) {
@@ -74,9 +131,14 @@ public class DolphinContextCommunicationHandler {
         final String userAgent = request.getHeader("user-agent");
         LOG.trace("receiving RPM request for client session {} in http session {} from client with user-agent {}", clientSession.getId(), httpSession.getId(), userAgent);
 
+        final List<Command> resumedLongPoll = getResumedLongPoll(request);
         final List<Command> commands = new ArrayList<>();
         try {
-            commands.addAll(readCommands(request));
+            if (resumedLongPoll != null) {
+                commands.addAll(resumedLongPoll);
+            } else {
+                commands.addAll(readCommands(request));
+            }
         } catch (final Exception e) {
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
             LOG.error("Can not parse request! (DolphinContext " + clientSession.getId() + ")", e);
@@ -84,12 +146,57 @@ public class DolphinContextCommunicationHandler {
         }
         LOG.trace("Request for DolphinContext {} in http session {} contains {} commands", clientSession.getId(), httpSession.getId(), commands.size());
 
+        final long sequence;
+        try {
+            sequence = resumedLongPoll != null ? getResumedLongPollSequence(request) : getRequestSequence(request);
+        } catch (final NumberFormatException e) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            LOG.error("Invalid request sequence number! (DolphinContext " + clientSession.getId() + ")", e);
+            return;
+        }
+        final RequestSequencer sequencer = sequence != NO_SEQUENCE ? getOrCreateSequencer(clientSession) : null;
+        if (sequencer != null && resumedLongPoll == null) {
+            if (containsInitCommand(commands)) {
+                sequencer.reset(sequence);
+            }
+            try {
+                sequencer.await(sequence, pipelineMaxWaitTime);
+            } catch (final TimeoutException | IllegalStateException e) {
+                response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                LOG.error("Can not handle pipelined request! (DolphinContext " + clientSession.getId() + ")", e);
+                return;
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                LOG.error("Interrupted while waiting for pipelined request! (DolphinContext " + clientSession.getId() + ")", e);
+                return;
+            }
+        }
+
+        boolean sequenceHandedOver = false;
         try {
             DolphinContext context = getOrCreateContext(clientSession, commands);
 
             final List<Command> results = new ArrayList<>();
             try {
-                results.addAll(handle(context, commands));
+                if (resumedLongPoll != null) {
+                    results.addAll(context.handleWithoutWaiting(commands, new NonBlockingLongPoll(false)));
+                } else if (isAsyncLongPollPossible(request, commands)) {
+                    final NonBlockingLongPoll longPoll = new NonBlockingLongPoll(true);
+                    results.addAll(context.handleWithoutWaiting(commands, longPoll));
+                    // an interrupt that was consumed by the first pass would not wake up the asynchronous long poll
+                    if (results.isEmpty() && !longPoll.isInterrupted()) {
+                        if (sequencer != null) {
+                            // following requests must wait until the resumed long poll was handled
+                            request.setAttribute(ASYNC_LONG_POLL_SEQUENCE_ATTRIBUTE_NAME, sequence);
+                        }
+                        startAsyncLongPoll(context, request, commands.get(commands.size() - 1));
+                        sequenceHandedOver = true;
+                        return;
+                    }
+                } else {
+                    results.addAll(handle(context, commands));
+                }
             } catch (final Exception e) {
                 response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
                 LOG.error("Can not withoutResult the the received commands (DolphinContext " + context.getId() + ")", e);
@@ -100,7 +207,7 @@ public class DolphinContextCommunicationHandler {
             LOG.trace("RPM response for client session {} in http session {} contains {} commands", context.getId(), httpSession.getId(), results.size());
 
             try {
-                writeCommands(results, response);
+                writeCommands(results, request, response);
             } catch (final Exception e) {
                 response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
                 LOG.error("Can not writeRequestContent response!", e);
@@ -110,7 +217,61 @@ public class DolphinContextCommunicationHandler {
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
             LOG.error("Can not find or create matching dolphin context in session " + httpSession.getId(), e);
             return;
+        } finally {
+            if (sequencer != null && !sequenceHandedOver) {
+                sequencer.complete(sequence);
+            }
+        }
+    }
+
+    /**
+     * Returns the sequence number of a pipelined request or {@link #NO_SEQUENCE} if the request is not pipelined.
+     * Requests without a sequence number (like the interrupt of the long poll or any request of a client without
+     * pipelining) are handled directly.
+     */
+    private long getRequestSequence(final HttpServletRequest request) {
+        final String sequenceHeader = request.getHeader(PlatformRemotingConstants.REQUEST_SEQUENCE_HEADER);
+        if (sequenceHeader == null || sequenceHeader.isEmpty()) {
+            return NO_SEQUENCE;
+        }
+        final long sequence = Long.parseLong(sequenceHeader);
+        if (sequence <= 0) {
+            throw new NumberFormatException("Sequence number must be > 0 but is " + sequence);
+        }
+        return sequence;
+    }
+
+    private long getResumedLongPollSequence(final HttpServletRequest request) {
+        final Long sequence = (Long) request.getAttribute(ASYNC_LONG_POLL_SEQUENCE_ATTRIBUTE_NAME);
+        request.removeAttribute(ASYNC_LONG_POLL_SEQUENCE_ATTRIBUTE_NAME);
+        return sequence != null ? sequence : NO_SEQUENCE;
+    }
+
+    private RequestSequencer getOrCreateSequencer(final ClientSession clientSession) {
+        synchronized (clientSession) {
+            RequestSequencer sequencer = clientSession.getAttribute(REQUEST_SEQUENCER_ATTRIBUTE_NAME);
+            if (sequencer == null) {
+                sequencer = new RequestSequencer();
+                clientSession.setAttribute(REQUEST_SEQUENCER_ATTRIBUTE_NAME, sequencer);
+            }
+            return sequencer;
+        }
+    }
+
+    /**
+     * Handles the given commands in the client session of the current thread. This is used by transports that are not
+     * based on a single http request like the WebSocket endpoint.
+     * @param commands the commands
+     * @return the response commands
+     */
+    public List<Command> handle(final List<Command> commands) {
+        Assert.requireNonNull(commands, "commands");
+        final ClientSession clientSession = sessionProvider.getCurrentClientSession();
+        if (clientSession == null) {
+            throw new IllegalStateException("No client session defined for current thread");
         }
+        final DolphinContext context = getOrCreateContext(clientSession, commands);
+        return handle(context, commands);
     }
 
     public DolphinContext getContext(final ClientSession clientSession) {
@@ -163,24 +324,143 @@ public class DolphinContextCommunicationHandler {
         return false;
     }
 
+    private boolean isAsyncLongPollPossible(final HttpServletRequest request, final List<Command> commands) {
+        return asyncLongPollActive && request.isAsyncSupported() && !commands.isEmpty() && commands.get(commands.size() - 1) instanceof StartLongPollCommand;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Command> getResumedLongPoll(final HttpServletRequest request) {
+        if (request.getDispatcherType() != DispatcherType.ASYNC) {
+            return null;
+        }
+        final List<Command> commands = (List<Command>) request.getAttribute(ASYNC_LONG_POLL_ATTRIBUTE_NAME);
+        request.removeAttribute(ASYNC_LONG_POLL_ATTRIBUTE_NAME);
+        return commands;
+    }
+
+    /**
+     * Ends the current request without a response and registers a wakeup callback at the context. Once a task is
+     * added, the poll is interrupted or the max poll time is reached the request will be dispatched again by the
+     * container and the pending tasks will be executed. By doing so no server thread is blocked while the client waits.
+     */
+    private void startAsyncLongPoll(final DolphinContext context, final HttpServletRequest request, final Command longPollCommand) {
+        LOG.trace("Starting asynchronous long poll for DolphinContext {}", context.getId());
+        request.setAttribute(ASYNC_LONG_POLL_ATTRIBUTE_NAME, Collections.singletonList(longPollCommand));
+        final AsyncContext asyncContext = request.startAsync();
+        asyncContext.setTimeout(maxPollTime);
+
+        final AtomicBoolean dispatched = new AtomicBoolean(false);
+        final Runnable wakeup = () -> {
+            if (dispatched.compareAndSet(false, true)) {
+                LOG.trace("Resuming asynchronous long poll for DolphinContext {}", context.getId());
+                asyncContext.dispatch();
+            }
+        };
+        asyncContext.addListener(new AsyncListener() {
+            @Override
+            public void onComplete(final AsyncEvent event) throws IOException {
+                context.unregisterLongPollWakeup(wakeup);
+            }
+
+            @Override
+            public void onTimeout(final AsyncEvent event) throws IOException {
+                context.unregisterLongPollWakeup(wakeup);
+                wakeup.run();
+            }
+
+            @Override
+            public void onError(final AsyncEvent event) throws IOException {
+                context.unregisterLongPollWakeup(wakeup);
+                LOG.error("Error in asynchronous long poll for DolphinContext " + context.getId(), event.getThrowable());
+            }
+
+            @Override
+            public void onStartAsync(final AsyncEvent event) throws IOException {
+                //Nothing to do here
+            }
+        });
+
+        if (!context.registerLongPollWakeup(wakeup)) {
+            wakeup.run();
+        }
+    }
+
     private List<Command> readCommands(final HttpServletRequest request) throws IOException {
+        final String contentEncoding = request.getHeader(HttpHeaderConstants.CONTENT_ENCODING_HEADER);
+        if (binaryCodecActive && BinaryCodec.isBinaryMimeType(request.getContentType())) {
+            return BinaryCodec.getInstance().decode(ContentCompression.decompress(request.getInputStream(), contentEncoding, maxDecompressedRequestSize));
+        }
+        final String encoding = request.getCharacterEncoding() != null ? request.getCharacterEncoding() : HttpHeaderConstants.CHARSET;
+        if (codec instanceof StreamingCodec) {
+            final Reader reader = new InputStreamReader(ContentCompression.decompress(request.getInputStream(), contentEncoding, maxDecompressedRequestSize), encoding);
+            return ((StreamingCodec) codec).decode(reader);
+        }
+        final BufferedReader reader;
+        if (contentEncoding != null) {
+            reader = new BufferedReader(new InputStreamReader(ContentCompression.decompress(request.getInputStream(), contentEncoding, maxDecompressedRequestSize), encoding));
+        } else {
+            reader = request.getReader();
+        }
         final List<Command> commands = new ArrayList<>();
         final StringBuilder requestJson = new StringBuilder();
         String line;
-        while ((line = request.getReader().readLine()) != null) {
+        while ((line = reader.readLine()) != null) {
             requestJson.append(line).append("\n");
         }
         commands.addAll(codec.decode(requestJson.toString()));
         return commands;
     }
 
-    private void writeCommands(final List<Command> commands, final HttpServletResponse response) throws IOException {
-        response.setHeader("Content-Type", "application/json");
-        response.setCharacterEncoding("UTF-8");
+    private void writeCommands(final List<Command> commands, final HttpServletRequest request, final HttpServletResponse response) throws IOException {
+        final String contentEncoding = compressionActive ? ContentCompression.selectEncoding(request.getHeader(HttpHeaderConstants.ACCEPT_ENCODING_HEADER)) : null;
+        final boolean binary = binaryCodecActive && BinaryCodec.acceptsBinaryMimeType(request.getHeader(HttpHeaderConstants.ACCEPT_HEADER));
+        if (binary) {
+            response.setHeader(HttpHeaderConstants.CONTENT_TYPE_HEADER, BinaryCodec.BINARY_MIME_TYPE);
+        } else {
+            response.setHeader("Content-Type", "application/json");
+            response.setCharacterEncoding("UTF-8");
+        }
+        if (contentEncoding != null) {
+            // the content of the response depends on the Accept-Encoding header of the request
+            response.setHeader(HttpHeaderConstants.VARY_HEADER, HttpHeaderConstants.ACCEPT_ENCODING_HEADER);
+            try (final OutputStream outputStream = compression.createOutputStream(response.getOutputStream(), contentEncoding,
+                    () -> response.setHeader(HttpHeaderConstants.CONTENT_ENCODING_HEADER, contentEncoding),
+                    response::setContentLength)) {
+                writeCommands(commands, binary, outputStream);
+            }
+            return;
+        }
+        if (binary || codec instanceof StreamingCodec) {
+            writeCommands(commands, binary, response.getOutputStream());
+            return;
+        }
         final String jsonResponse = codec.encode(commands);
         response.getWriter().print(jsonResponse);
     }
 
+    private void writeCommands(final List<Command> commands, final boolean binary, final OutputStream outputStream) throws IOException {
+        if (binary) {
+            BinaryCodec.getInstance().encode(commands, outputStream);
+            return;
+        }
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (codec instanceof StreamingCodec) {
+            ((StreamingCodec) codec).encode(commands, writer);
+        } else {
+            writer.write(codec.encode(commands));
+        }
+        writer.flush();
+    }
+
+    /**
+     * Returns the compression that is used for responses. The compression provides metrics about the raw and the
+     * compressed size of all compressed responses.
+     * @return the compression
+     */
+    public ContentCompression getCompression() {
+        return compression;
+    }
+
     private List<Command> handle(final DolphinContext context, List<Command> commands) {
         final List<Command> results = new ArrayList<>();
         results.addAll(context.handle(commands));
@@ -62,6 +62,8 @@ public class DolphinContextTaskQueue {
 
     private final AtomicBoolean interrupted = new AtomicBoolean(false);
 
+    private Runnable wakeupCallback;
+
     public DolphinContextTaskQueue(final String dolphinSessionId, final ClientSessionProvider sessionProvider, final CommunicationManager communicationManager, final long maxExecutionTime, final TimeUnit maxExecutionTimeUnit) {
         this.dolphinSessionId = Assert.requireNonBlank(dolphinSessionId, "dolphinSessionId");
         this.tasks = new LinkedBlockingQueue<>();
@@ -86,27 +88,107 @@ public class DolphinContextTaskQueue {
             }
         });
         LOG.trace("Tasks added to Dolphin Platform context {}", dolphinSessionId);
+        final Runnable callback;
         taskLock.lock();
         try {
             taskCondition.signal();
+            callback = removeWakeupCallback();
         } finally {
             taskLock.unlock();
         }
+        runWakeupCallback(callback);
         return future;
     }
 
     public void interrupt() {
+        final Runnable callback;
         taskLock.lock();
         try {
             interrupted.set(true);
             LOG.trace("Tasks in Dolphin Platform context {} interrupted", dolphinSessionId);
             taskCondition.signal();
+            callback = removeWakeupCallback();
+        } finally {
+            taskLock.unlock();
+        }
+        runWakeupCallback(callback);
+    }
+
+    /**
+     * Registers a callback that will be called once when a new task is added or the queue is interrupted. This is used
+     * by an asynchronous long poll that does not block a thread while waiting for tasks. A registered callback
+     * replaces a callback that was registered before.
+     * @param callback the callback
+     * @return {@code false} if the callback was not registered since tasks, an interrupt or response commands are
+     * already pending and the long poll should not wait at all
+     */
+    public boolean registerWakeupCallback(final Runnable callback) {
+        Assert.requireNonNull(callback, "callback");
+        taskLock.lock();
+        try {
+            if (!tasks.isEmpty() || interrupted.get() || communicationManager.hasResponseCommands()) {
+                return false;
+            }
+            wakeupCallback = callback;
+            LOG.trace("Wakeup callback registered for Dolphin Platform context {}", dolphinSessionId);
+            return true;
+        } finally {
+            taskLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the given callback if it is still registered (see {@link #registerWakeupCallback(Runnable)}).
+     * @param callback the callback
+     */
+    public void unregisterWakeupCallback(final Runnable callback) {
+        Assert.requireNonNull(callback, "callback");
+        taskLock.lock();
+        try {
+            if (wakeupCallback == callback) {
+                wakeupCallback = null;
+            }
         } finally {
             taskLock.unlock();
         }
     }
 
-    public void executeTasks() {
+    private Runnable removeWakeupCallback() {
+        final Runnable callback = wakeupCallback;
+        wakeupCallback = null;
+        return callback;
+    }
+
+    private void runWakeupCallback(final Runnable callback) {
+        if (callback != null) {
+            try {
+                callback.run();
+            } catch (final Exception e) {
+                LOG.error("Error in wakeup callback of Dolphin Platform session " + dolphinSessionId, e);
+            }
+        }
+    }
+
+    /**
+     * Executes all tasks until response commands are available. If no task is available this method will wait for new
+     * tasks until the max execution time is reached.
+     * @return {@code true} if the execution ended because of an interrupt (see {@link #interrupt()})
+     */
+    public boolean executeTasks() {
+        return executeTasks(maxExecutionTimeUnit.toMillis(maxExecutionTime));
+    }
+
+    /**
+     * Executes all tasks that are currently in the queue until response commands are available. In difference to
+     * {@link #executeTasks()} this method will never wait for new tasks. A pending interrupt is consumed by this
+     * method and the caller must not wait for new tasks in that case.
+     * @return {@code true} if the execution ended because of an interrupt (see {@link #interrupt()})
+     */
+    public boolean executePendingTasks() {
+        return executeTasks(0);
+    }
+
+    private boolean executeTasks(final long maxWaitTimeInMillis) {
         final ClientSession currentSession = sessionProvider.getCurrentClientSession();
         if (currentSession == null || !dolphinSessionId.equals(currentSession.getId())) {
             throw new IllegalStateException("Not in Dolphin Platform session " + dolphinSessionId);
@@ -114,11 +196,12 @@ public class DolphinContextTaskQueue {
 
         LOG.trace("Running {} tasks in Dolphin Platform session {}", tasks.size(), dolphinSessionId);
         final long startTime = System.currentTimeMillis();
-        final long endTime = startTime + maxExecutionTimeUnit.toMillis(maxExecutionTime);
+        final long endTime = startTime + maxWaitTimeInMillis;
 
+        boolean interruptConsumed = false;
         while (!communicationManager.hasResponseCommands()) {
-            if (interrupted.get()) {
-                interrupted.set(false);
+            if (interrupted.compareAndSet(true, false)) {
+                interruptConsumed = true;
                 break;
             }
             final Runnable task = tasks.poll();
@@ -126,16 +209,18 @@ public class DolphinContextTaskQueue {
                 try {
                     taskLock.lock();
                     try {
+                        // the interrupt flag is checked again while holding the lock since an interrupt that happens
+                        // after the check above would not wake up the await call
+                        if (interrupted.compareAndSet(true, false)) {
+                            interruptConsumed = true;
+                            break;
+                        }
                         if (tasks.isEmpty() && !taskCondition.await(endTime - System.currentTimeMillis(), TimeUnit.MILLISECONDS)) {
-                            interrupted.set(false);
                             break;
                         }
                     } finally {
                         taskLock.unlock();
                     }
-                    if (tasks.isEmpty()) {
-                        break;
-                    }
                 } catch (InterruptedException e) {
                     String exceptionMessage =
                         String.format(
@@ -160,5 +245,6 @@ public class DolphinContextTaskQueue {
         }
         final long runTime = System.currentTimeMillis() - startTime;
         LOG.trace("Task executor for Dolphin Platform session {} ended after {} seconds with {} task still open", dolphinSessionId, maxExecutionTimeUnit.toSeconds(runTime), tasks.size());
+        return interruptConsumed;
     }
 }
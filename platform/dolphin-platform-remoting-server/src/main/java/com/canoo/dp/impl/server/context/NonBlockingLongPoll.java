@@ -0,0 +1,51 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.context;
+
+/**
+ * State of one pass of a long poll that is handled by
+ * {@link DolphinContext#handleWithoutWaiting(java.util.List, NonBlockingLongPoll)}. An asynchronous long poll is
+ * handled in two passes: the first pass when the request is received and a second pass once the request is resumed.
+ * The garbage collection is only executed in the first pass, like a blocking long poll executes it once before it
+ * waits for tasks.
+ */
+class NonBlockingLongPoll {
+
+    private final boolean garbageCollection;
+
+    private boolean interrupted = false;
+
+    NonBlockingLongPoll(final boolean garbageCollection) {
+        this.garbageCollection = garbageCollection;
+    }
+
+    boolean isGarbageCollection() {
+        return garbageCollection;
+    }
+
+    /**
+     * Returns {@code true} if the pass consumed an interrupt of the long poll. In that case the response must be sent
+     * directly since the long poll will not be woken up by the interrupt again.
+     * @return {@code true} if the pass consumed an interrupt
+     */
+    boolean isInterrupted() {
+        return interrupted;
+    }
+
+    void setInterrupted(final boolean interrupted) {
+        this.interrupted = interrupted;
+    }
+}
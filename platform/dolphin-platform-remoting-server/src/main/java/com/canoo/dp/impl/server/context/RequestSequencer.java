@@ -0,0 +1,107 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.context;
+
+import org.apiguardian.api.API;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Defines the order in that pipelined requests of one client session are handled. A client that has several requests
+ * in flight adds an ascending sequence number to each request. Since the requests can reach the server in any order a
+ * request waits (see {@link #await(long, long)}) until all requests with a lower sequence number are handled.
+ */
+@API(since = "1.0.0", status = INTERNAL)
+public class RequestSequencer {
+
+    private final Lock lock = new ReentrantLock();
+
+    private final Condition sequenceChanged = lock.newCondition();
+
+    private long nextSequence = 1;
+
+    /**
+     * Blocks until the request with the given sequence number is the next request that should be handled.
+     * {@link #complete(long)} must be called once the request was handled.
+     * @param sequence the sequence number of the request
+     * @param maxWaitMillis the maximum time to wait for the requests with a lower sequence number
+     * @throws TimeoutException if the requests with a lower sequence number were not handled in time
+     * @throws InterruptedException if the current thread was interrupted
+     */
+    public void await(final long sequence, final long maxWaitMillis) throws TimeoutException, InterruptedException {
+        lock.lock();
+        try {
+            if (sequence < nextSequence) {
+                throw new IllegalStateException("Request with sequence number " + sequence + " was already handled");
+            }
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+            while (sequence != nextSequence) {
+                if (remainingNanos <= 0) {
+                    throw new TimeoutException("Request with sequence number " + nextSequence + " was not handled in " + maxWaitMillis + " ms");
+                }
+                remainingNanos = sequenceChanged.awaitNanos(remainingNanos);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Marks the request with the given sequence number as handled. By doing so the request with the next sequence
+     * number can be handled.
+     * @param sequence the sequence number of the request
+     */
+    public void complete(final long sequence) {
+        lock.lock();
+        try {
+            if (sequence == nextSequence) {
+                nextSequence++;
+                sequenceChanged.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Restarts the sequence. This is needed if a client creates a new context in the client session.
+     * @param sequence the sequence number of the next request
+     */
+    public void reset(final long sequence) {
+        lock.lock();
+        try {
+            nextSequence = sequence;
+            sequenceChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getNextSequence() {
+        lock.lock();
+        try {
+            return nextSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
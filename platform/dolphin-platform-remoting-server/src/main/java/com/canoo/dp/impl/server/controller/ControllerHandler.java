@@ -26,19 +26,15 @@ import com.canoo.dp.impl.server.mbean.DolphinContextMBeanRegistry;
 import com.canoo.dp.impl.server.model.ServerBeanBuilder;
 import com.canoo.platform.core.DolphinRuntimeException;
 import com.canoo.platform.core.functional.Subscription;
-import com.canoo.platform.remoting.server.Param;
 import com.canoo.platform.remoting.server.ParentController;
-import com.canoo.platform.remoting.server.PostChildCreated;
-import com.canoo.platform.remoting.server.PreChildDestroyed;
-import com.canoo.platform.remoting.server.RemotingAction;
 import com.canoo.platform.remoting.server.RemotingModel;
+import com.canoo.platform.remoting.spi.converter.Converter;
 import com.canoo.platform.remoting.spi.converter.ValueConverterException;
 import com.canoo.platform.server.spi.components.ManagedBeanFactory;
 import org.apiguardian.api.API;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -69,6 +65,10 @@ public class ControllerHandler {
 
     private final Map<String, Class> controllerClassMapping = new HashMap<>();
 
+    private final Map<String, ControllerMetadata> controllerMetadataMapping = new HashMap<>();
+
+    private final Map<Class<?>, Converter> parameterConverters = new HashMap<>();
+
     private final Map<String, Subscription> mBeanSubscriptions = new HashMap<>();
 
     private final Map<String, Object> models = new HashMap<>();
@@ -125,13 +125,14 @@ public class ControllerHandler {
         });
         controllers.put(id, instance);
         controllerClassMapping.put(id, controllerClass);
+        controllerMetadataMapping.put(id, controllerRepository.getControllerMetadata(controllerClass));
 
         mBeanSubscriptions.put(id, mBeanRegistry.registerController(controllerClass, id, () -> models.get(id)));
 
         if(parentControllerId != null) {
             final Object parentController = controllers.get(parentControllerId);
             Assert.requireNonNull(parentController, "parentController");
-            firePostChildCreated(parentController, instance);
+            firePostChildCreated(controllerMetadataMapping.get(parentControllerId), parentController, instance);
         }
 
         LOG.trace("Created Controller of type %s and id %s for name %s", ControllerUtils.getControllerName(controllerClass), id, name);
@@ -156,9 +157,10 @@ public class ControllerHandler {
         if(parentControllerId != null) {
             final Object parentController = controllers.get(parentControllerId);
             Assert.requireNonNull(parentController, "parentController");
-            firePreChildDestroyed(parentController, controller);
+            firePreChildDestroyed(controllerMetadataMapping.get(parentControllerId), parentController, controller);
         }
 
+        controllerMetadataMapping.remove(id);
         final Class controllerClass = controllerClassMapping.remove(id);
         beanFactory.destroyDependentInstance(controller, controllerClass);
 
@@ -180,29 +182,24 @@ public class ControllerHandler {
         }
     }
 
-    private void firePostChildCreated(final Object parentController, final Object childController) {
+    private void firePostChildCreated(final ControllerMetadata parentMetadata, final Object parentController, final Object childController) {
+        Assert.requireNonNull(parentMetadata, "parentMetadata");
         Assert.requireNonNull(parentController, "parentController");
         Assert.requireNonNull(childController, "childController");
 
-        final List<Method> allMethods = ReflectionHelper.getInheritedDeclaredMethods(parentController.getClass());
-
-        for(final Method method : allMethods) {
-            if(method.isAnnotationPresent(PostChildCreated.class)) {
-                if(method.getParameters()[0].getType().isAssignableFrom(childController.getClass())) {
-                    ReflectionHelper.invokePrivileged(method, parentController, childController);
-                }
+        for(final ControllerMethodInvoker invoker : parentMetadata.getPostChildCreatedMethods()) {
+            if(invoker.getParameterType(0).isAssignableFrom(childController.getClass())) {
+                invoker.invoke(parentController, childController);
             }
         }
     }
 
-    private void firePreChildDestroyed(final Object parentController, final Object childController) {
-        final List<Method> allMethods = ReflectionHelper.getInheritedDeclaredMethods(parentController.getClass());
+    private void firePreChildDestroyed(final ControllerMetadata parentMetadata, final Object parentController, final Object childController) {
+        Assert.requireNonNull(parentMetadata, "parentMetadata");
 
-        for(final Method method : allMethods) {
-            if(method.isAnnotationPresent(PreChildDestroyed.class)) {
-                if(method.getParameters()[0].getType().isAssignableFrom(childController.getClass())) {
-                    ReflectionHelper.invokePrivileged(method, parentController, childController);
-                }
+        for(final ControllerMethodInvoker invoker : parentMetadata.getPreChildDestroyedMethods()) {
+            if(invoker.getParameterType(0).isAssignableFrom(childController.getClass())) {
+                invoker.invoke(parentController, childController);
             }
         }
     }
@@ -271,6 +268,7 @@ public class ControllerHandler {
 
         final Object controller = controllers.get(controllerId);
         final Class controllerClass = controllerClassMapping.get(controllerId);
+        final ControllerMetadata controllerMetadata = controllerMetadataMapping.get(controllerId);
 
         final Subscription controllerContextSubscription = ContextManagerImpl.getInstance()
                 .addThreadContext(CONTROLLER_CONTEXT, Optional.ofNullable(controllerClass).map(c -> c.getSimpleName()).orElse(UNKNOWN_CONTROLLER_CONTEXT));
@@ -284,12 +282,13 @@ public class ControllerHandler {
             if(controllerClass == null) {
                 throw new InvokeActionException("No controllerClass for id " + controllerId + " found");
             }
-            final Method actionMethod = getActionMethod(controllerClass, actionName);
-            if(actionMethod == null) {
+            final ControllerMethodInvoker action = controllerMetadata.getAction(actionName);
+            if(action == null) {
                 throw new InvokeActionException("No actionMethod with name " + actionName + " in controller class " + ControllerUtils.getControllerName(controllerClass) + " found");
             }
-            final List<Object> args = getArgs(actionMethod, params);
-            LOG.debug("Will call {} action for controller {} ({}.{}) with {} params.", actionName, controllerId, controllerClass, ControllerUtils.getActionMethodName(actionMethod), args.size());
+            final Method actionMethod = action.getMethod();
+            final Object[] args = getArgs(action, params);
+            LOG.debug("Will call {} action for controller {} ({}.{}) with {} params.", actionName, controllerId, controllerClass, ControllerUtils.getActionMethodName(actionMethod), args.length);
             if(LOG.isTraceEnabled()) {
                 int index = 1;
                 for(final Object param : args) {
@@ -302,7 +301,7 @@ public class ControllerHandler {
                 }
             }
             try {
-                ReflectionHelper.invokePrivileged(actionMethod, controller, args.toArray());
+                action.invoke(controller, args);
             } catch (final DolphinRuntimeException e) {
                 if(e.getCause() instanceof InvocationTargetException) {
                     final InvocationTargetException invocationTargetException = (InvocationTargetException) e.getCause();
@@ -321,62 +320,37 @@ public class ControllerHandler {
         }
     }
 
-    private List<Object> getArgs(final Method method, final Map<String, Object> params) throws ValueConverterException {
-        Assert.requireNonNull(method, "method");
+    private Object[] getArgs(final ControllerMethodInvoker action, final Map<String, Object> params) throws ValueConverterException {
+        Assert.requireNonNull(action, "action");
         Assert.requireNonNull(params, "params");
 
-        final int n = method.getParameterTypes().length;
-        final List<Object> args = new ArrayList<>(n);
+        final int n = action.getParameterCount();
+        final Object[] args = new Object[n];
 
         for (int i = 0; i < n; i++) {
-            String paramName = Integer.toString(i);
-            for (final Annotation annotation : method.getParameterAnnotations()[i]) {
-                if (annotation.annotationType().equals(Param.class)) {
-                    final Param param = (Param) annotation;
-                    if (param.value() != null && !param.value().isEmpty()) {
-                        paramName = param.value();
-                    }
-                }
-            }
+            final String paramName = action.getParameterName(i);
             if(!params.containsKey(paramName)) {
                 throw new IllegalArgumentException("No value for param " + paramName + " specified!");
             }
             final Object value = params.get(paramName);
-            final Class<?> type = method.getParameters()[i].getType();
+            final Class<?> type = action.getParameterType(i);
             if(value != null) {
                 LOG.trace("Param check of value {} with type {} for param with type {}", value, value.getClass(), type);
-                args.add(converters.getConverter(type).convertFromDolphin(value));
+                args[i] = getParameterConverter(type).convertFromDolphin(value);
             } else {
                 if(type.isPrimitive()) {
                     throw new IllegalArgumentException("Can not use 'null' for primitive type of parameter '" + paramName + "'");
                 }
-                args.add(null);
             }
         }
         return args;
     }
 
-    public Set<String> getAllControllerIds() {
-        return Collections.unmodifiableSet(controllers.keySet());
+    private Converter getParameterConverter(final Class<?> type) {
+        return parameterConverters.computeIfAbsent(type, converters::getConverter);
     }
 
-    private <T> Method getActionMethod(Class<T> controllerClass, String actionName) {
-        Assert.requireNonNull(controllerClass, "controllerClass");
-        Assert.requireNonNull(actionName, "actionName");
-
-        final List<Method> allMethods = ReflectionHelper.getInheritedDeclaredMethods(controllerClass);
-        Method foundMethod = null;
-        for (final Method method : allMethods) {
-            if (method.isAnnotationPresent(RemotingAction.class)) {
-                final String currentActionName = ControllerUtils.getActionMethodName(method);
-                if (currentActionName.equals(actionName)) {
-                    if (foundMethod != null) {
-                        throw new RuntimeException("More than one method for action " + actionName + " found in " + controllerClass);
-                    }
-                    foundMethod = method;
-                }
-            }
-        }
-        return foundMethod;
+    public Set<String> getAllControllerIds() {
+        return Collections.unmodifiableSet(controllers.keySet());
     }
 }
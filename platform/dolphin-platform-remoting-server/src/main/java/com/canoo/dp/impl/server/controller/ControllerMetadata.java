@@ -0,0 +1,96 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.controller;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.platform.core.ReflectionHelper;
+import com.canoo.platform.remoting.server.PostChildCreated;
+import com.canoo.platform.remoting.server.PreChildDestroyed;
+import com.canoo.platform.remoting.server.RemotingAction;
+import org.apiguardian.api.API;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Contains the actions and the {@link PostChildCreated} / {@link PreChildDestroyed} methods of a controller class.
+ * The methods are resolved once for each controller class so that an action call is only a map lookup.
+ */
+@API(since = "1.0.0", status = INTERNAL)
+public class ControllerMetadata {
+
+    private final Class<?> controllerClass;
+
+    private final Map<String, ControllerMethodInvoker> actions = new HashMap<>();
+
+    private final Set<String> ambiguousActions = new HashSet<>();
+
+    private final List<ControllerMethodInvoker> postChildCreatedMethods = new ArrayList<>();
+
+    private final List<ControllerMethodInvoker> preChildDestroyedMethods = new ArrayList<>();
+
+    public ControllerMetadata(final Class<?> controllerClass) {
+        this.controllerClass = Assert.requireNonNull(controllerClass, "controllerClass");
+
+        for (final Method method : ReflectionHelper.getInheritedDeclaredMethods(controllerClass)) {
+            if (method.isAnnotationPresent(RemotingAction.class)) {
+                final String actionName = ControllerUtils.getActionMethodName(method);
+                if (actions.put(actionName, new ControllerMethodInvoker(method)) != null) {
+                    ambiguousActions.add(actionName);
+                }
+            }
+            if (method.isAnnotationPresent(PostChildCreated.class)) {
+                postChildCreatedMethods.add(new ControllerMethodInvoker(method));
+            }
+            if (method.isAnnotationPresent(PreChildDestroyed.class)) {
+                preChildDestroyedMethods.add(new ControllerMethodInvoker(method));
+            }
+        }
+    }
+
+    public Class<?> getControllerClass() {
+        return controllerClass;
+    }
+
+    /**
+     * Returns the invoker for the action with the given name
+     * @param actionName the name of the action
+     * @return the invoker or {@code null} if the controller class has no action with the given name
+     */
+    public ControllerMethodInvoker getAction(final String actionName) {
+        Assert.requireNonNull(actionName, "actionName");
+        if (ambiguousActions.contains(actionName)) {
+            throw new RuntimeException("More than one method for action " + actionName + " found in " + controllerClass);
+        }
+        return actions.get(actionName);
+    }
+
+    public List<ControllerMethodInvoker> getPostChildCreatedMethods() {
+        return Collections.unmodifiableList(postChildCreatedMethods);
+    }
+
+    public List<ControllerMethodInvoker> getPreChildDestroyedMethods() {
+        return Collections.unmodifiableList(preChildDestroyedMethods);
+    }
+}
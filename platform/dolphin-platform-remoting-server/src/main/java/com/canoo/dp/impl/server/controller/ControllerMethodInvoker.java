@@ -0,0 +1,120 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.controller;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.platform.core.DolphinRuntimeException;
+import com.canoo.platform.remoting.server.Param;
+import org.apiguardian.api.API;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * A pre-resolved invoker for a method of a controller class. The {@link MethodHandle} and the parameter metadata of
+ * the method are created only once when the controller class is analyzed by the {@link ControllerRepository}.
+ */
+@API(since = "1.0.0", status = INTERNAL)
+public class ControllerMethodInvoker {
+
+    private final Method method;
+
+    private final MethodHandle handle;
+
+    private final String[] parameterNames;
+
+    private final Class<?>[] parameterTypes;
+
+    public ControllerMethodInvoker(final Method method) {
+        this.method = Assert.requireNonNull(method, "method");
+        this.parameterTypes = method.getParameterTypes();
+        this.parameterNames = new String[parameterTypes.length];
+        final Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            parameterNames[i] = Integer.toString(i);
+            for (final Annotation annotation : parameterAnnotations[i]) {
+                if (annotation.annotationType().equals(Param.class)) {
+                    final Param param = (Param) annotation;
+                    if (param.value() != null && !param.value().isEmpty()) {
+                        parameterNames[i] = param.value();
+                    }
+                }
+            }
+        }
+        this.handle = createHandle(method);
+    }
+
+    private static MethodHandle createHandle(final Method method) {
+        return AccessController.doPrivileged((PrivilegedAction<MethodHandle>) () -> {
+            final boolean wasAccessible = method.isAccessible();
+            try {
+                method.setAccessible(true);
+                MethodHandle methodHandle = MethodHandles.lookup().unreflect(method);
+                if (Modifier.isStatic(method.getModifiers())) {
+                    methodHandle = MethodHandles.dropArguments(methodHandle, 0, Object.class);
+                }
+                return methodHandle.asType(methodHandle.type().generic())
+                        .asSpreader(Object[].class, method.getParameterCount());
+            } catch (final IllegalAccessException e) {
+                throw new DolphinRuntimeException("Cannot access method '" + method.getName() + "'. Method details: " + method.toGenericString(), e);
+            } finally {
+                method.setAccessible(wasAccessible);
+            }
+        });
+    }
+
+    /**
+     * Invokes the method on the given instance. Like {@link com.canoo.dp.impl.platform.core.ReflectionHelper#invokePrivileged(Method, Object, Object...)}
+     * an exception that is thrown by the method is wrapped in a {@link DolphinRuntimeException} with an
+     * {@link InvocationTargetException} as cause.
+     * @param instance the instance
+     * @param args the arguments
+     * @return the result of the call or {@code null} for a void method
+     */
+    public Object invoke(final Object instance, final Object... args) {
+        Assert.requireNonNull(instance, "instance");
+        try {
+            return (Object) handle.invokeExact(instance, args);
+        } catch (final Throwable e) {
+            throw new DolphinRuntimeException("Error while calling method '"
+                    + method.getName() + "' on instance of type '" + instance.getClass() + "'. Method details: " + method.toGenericString(), new InvocationTargetException(e));
+        }
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    public int getParameterCount() {
+        return parameterTypes.length;
+    }
+
+    public String getParameterName(final int index) {
+        return parameterNames[index];
+    }
+
+    public Class<?> getParameterType(final int index) {
+        return parameterTypes[index];
+    }
+}
@@ -16,24 +16,33 @@
 package com.canoo.dp.impl.server.controller;
 
 import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.platform.core.ReflectionHelper;
+import com.canoo.dp.impl.remoting.ClassMetadataRegistry;
+import com.canoo.dp.impl.remoting.DolphinUtils;
 import com.canoo.platform.remoting.server.RemotingController;
+import com.canoo.platform.remoting.server.RemotingModel;
 import com.canoo.platform.server.spi.components.ClasspathScanner;
 import org.apiguardian.api.API;
 
+import java.lang.reflect.Field;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 /**
  * This repository manages all Dolphin Platform controller classes (see {@link RemotingController}).
- * Internally the class uses the {@link ClasspathScanner} to find all controller classes.
+ * Internally the class uses the {@link ClasspathScanner} to find all controller classes. The metadata of all model
+ * classes of the found controllers is registered in a {@link ClassMetadataRegistry} that is shared by all sessions.
  */
 @API(since = "0.x", status = INTERNAL)
 public class ControllerRepository {
 
     private Map<String, Class> controllersClasses;
+    private final Map<Class<?>, ControllerMetadata> controllerMetadata = new ConcurrentHashMap<>();
+    private final ClassMetadataRegistry classMetadataRegistry = new ClassMetadataRegistry();
     private ControllerValidator controllerValidator;
 
     /**
@@ -52,6 +61,16 @@ public class ControllerRepository {
                 name = controllerClass.getAnnotation(RemotingController.class).value();
             }
             controllersClasses.put(name, controllerClass);
+            controllerMetadata.put(controllerClass, new ControllerMetadata(controllerClass));
+            registerModelMetadata(controllerClass);
+        }
+    }
+
+    private void registerModelMetadata(final Class<?> controllerClass) {
+        for (final Field field : ReflectionHelper.getInheritedDeclaredFields(controllerClass)) {
+            if (field.isAnnotationPresent(RemotingModel.class) && DolphinUtils.isDolphinBean(field.getType())) {
+                classMetadataRegistry.warmUp(field.getType());
+            }
         }
     }
 
@@ -69,4 +88,23 @@ public class ControllerRepository {
         }
         return foundClass;
     }
+
+    /**
+     * Returns the {@link ControllerMetadata} that contains the pre-resolved actions of the given controller class.
+     * @param controllerClass the controller class
+     * @return the metadata
+     */
+    public ControllerMetadata getControllerMetadata(final Class<?> controllerClass) {
+        Assert.requireNonNull(controllerClass, "controllerClass");
+        return controllerMetadata.computeIfAbsent(controllerClass, ControllerMetadata::new);
+    }
+
+    /**
+     * Returns the {@link ClassMetadataRegistry} that contains the metadata of all model classes of the controllers
+     * and that should be shared by all sessions.
+     * @return the registry
+     */
+    public ClassMetadataRegistry getClassMetadataRegistry() {
+        return classMetadataRegistry;
+    }
 }
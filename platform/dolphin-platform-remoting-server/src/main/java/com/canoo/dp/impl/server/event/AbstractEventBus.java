@@ -20,7 +20,6 @@ import com.canoo.dp.impl.server.client.ClientSessionLifecycleHandler;
 import com.canoo.dp.impl.server.context.DolphinContext;
 import com.canoo.dp.impl.server.context.DolphinContextProvider;
 import com.canoo.platform.core.functional.Subscription;
-import com.canoo.platform.remoting.server.event.ClientSessionEventFilter;
 import com.canoo.platform.remoting.server.event.MessageEventContext;
 import com.canoo.platform.remoting.server.event.MessageListener;
 import com.canoo.platform.remoting.server.event.RemotingEventBus;
@@ -32,7 +31,6 @@ import org.slf4j.LoggerFactory;
 
 import javax.servlet.http.HttpSession;
 import java.io.Serializable;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -50,9 +48,10 @@ public abstract class AbstractEventBus implements RemotingEventBus {
 
     private DolphinContextProvider contextProvider;
 
-    private final Map<Topic<?>, List<ListenerWithFilter<?>>> topicToListenerMap = new ConcurrentHashMap<>();
-
-    private final Map<MessageListener<?>, String> listenerToSessionMap = new ConcurrentHashMap<>();
+    /**
+     * All listeners indexed by topic and by the id of the Dolphin Platform context that subscribed the listener
+     */
+    private final Map<Topic<?>, Map<String, List<ListenerWithFilter<?>>>> topicToSessionListenerMap = new ConcurrentHashMap<>();
 
     private final Map<String, List<Subscription>> sessionStore = new ConcurrentHashMap<>();
 
@@ -85,10 +84,10 @@ public abstract class AbstractEventBus implements RemotingEventBus {
         }
         //Handle listener in same session
         if (currentContext != null) {
-            final List<ListenerWithFilter<T>> listenersInCurrentSession = getListenersForSessionAndTopic(currentContext.getId(), topic);
-            for (ListenerWithFilter<T> listenerAndFilter : listenersInCurrentSession) {
-                final Predicate<MessageEventContext<T>> filter = listenerAndFilter.getFilter();
-                final MessageListener<T> listener = listenerAndFilter.getListener();
+            final List<ListenerWithFilter<?>> listenersInCurrentSession = getListenersForSessionAndTopic(currentContext.getId(), topic);
+            for (ListenerWithFilter<?> listenerAndFilter : listenersInCurrentSession) {
+                final Predicate<MessageEventContext<T>> filter = ((ListenerWithFilter<T>) listenerAndFilter).getFilter();
+                final MessageListener<T> listener = ((ListenerWithFilter<T>) listenerAndFilter).getListener();
                 if (filter == null || filter.test(event.getMessageEventContext())) {
                     listener.onMessage(event);
                 }
@@ -109,23 +108,24 @@ public abstract class AbstractEventBus implements RemotingEventBus {
         }
         final String subscriptionSessionId = subscriptionContext.getId();
         LOG.trace("Adding subscription for topic {} in Dolphin Platform context {}", topic.getName(), subscriptionSessionId);
-        List<ListenerWithFilter<?>> listeners = topicToListenerMap.get(topic);
-        if (listeners == null) {
-            listeners = new CopyOnWriteArrayList<>();
-            topicToListenerMap.put(topic, listeners);
-        }
         final ListenerWithFilter listenerWithFilter = new ListenerWithFilter(listener, filter);
-        listeners.add(listenerWithFilter);
-        listenerToSessionMap.put(listener, subscriptionSessionId);
+        topicToSessionListenerMap.computeIfAbsent(topic, t -> new ConcurrentHashMap<>())
+                .compute(subscriptionSessionId, (id, listeners) -> {
+                    final List<ListenerWithFilter<?>> sessionListeners = listeners != null ? listeners : new CopyOnWriteArrayList<>();
+                    sessionListeners.add(listenerWithFilter);
+                    return sessionListeners;
+                });
         final Subscription subscription = new Subscription() {
             @Override
             public void unsubscribe() {
                 LOG.trace("Removing subscription for topic {} in Dolphin Platform context {}", topic.getName(), subscriptionSessionId);
-                final List<ListenerWithFilter<?>> listeners = topicToListenerMap.get(topic);
-                if (listeners != null) {
-                    listeners.remove(listenerWithFilter);
+                final Map<String, List<ListenerWithFilter<?>>> sessionListenerMap = topicToSessionListenerMap.get(topic);
+                if (sessionListenerMap != null) {
+                    sessionListenerMap.computeIfPresent(subscriptionSessionId, (id, listeners) -> {
+                        listeners.remove(listenerWithFilter);
+                        return listeners.isEmpty() ? null : listeners;
+                    });
                 }
-                listenerToSessionMap.remove(listener);
                 removeSubscriptionForSession(this, subscriptionSessionId);
             }
         };
@@ -142,26 +142,32 @@ public abstract class AbstractEventBus implements RemotingEventBus {
 
         final Topic<T> topic = event.getMessageEventContext().getTopic();
         LOG.trace("Handling data for topic {}", topic.getName());
-        final List<ListenerWithFilter<?>> listeners = topicToListenerMap.get(topic);
-        if (listeners != null) {
-            for (final ListenerWithFilter<?> listenerAndFilter : listeners) {
-                final String sessionId = listenerToSessionMap.get(listenerAndFilter.getListener());
-                if (sessionId == null) {
-                    throw new RuntimeException("Internal Error! No session id defined for event bus listener!");
-                }
-                if (sendInSameClientSession(event, (MessageListener<T>) listenerAndFilter.getListener())) {
-                    // This listener was already called at the publish call
+        final Map<String, List<ListenerWithFilter<?>>> sessionListenerMap = topicToSessionListenerMap.get(topic);
+        if (sessionListenerMap != null) {
+            final String publisherSessionId = getPublisherSessionId(event);
+            for (final Map.Entry<String, List<ListenerWithFilter<?>>> entry : sessionListenerMap.entrySet()) {
+                final String sessionId = entry.getKey();
+                final List<ListenerWithFilter<?>> listeners = entry.getValue();
+                if (sessionId.equals(publisherSessionId)) {
+                    // The listeners were already called at the publish call
                     // since the event was called from the same session
-                    LOG.trace("Event listener for topic {} was already called in Dolphin Platform context {}", topic.getName(), sessionId);
-                } else {
-                    LOG.trace("Event listener for topic {} must be called later in Dolphin Platform context {}", topic.getName(), sessionId);
-                    contextProvider.getContextById(sessionId).runLater(new Runnable() {
-
-                        @Override
-                        public void run() {
-                            LOG.trace("Calling event listener for topic {} in Dolphin Platform context {}", topic.getName(), sessionId);
+                    LOG.trace("Event listeners for topic {} were already called in Dolphin Platform context {}", topic.getName(), sessionId);
+                    continue;
+                }
+                final DolphinContext context = contextProvider.getContextById(sessionId);
+                if (context == null) {
+                    LOG.trace("Dolphin Platform context {} with event listeners for topic {} does not exist anymore", sessionId, topic.getName());
+                    continue;
+                }
+                LOG.trace("Event listeners for topic {} must be called later in Dolphin Platform context {}", topic.getName(), sessionId);
+                context.runLater(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        LOG.trace("Calling {} event listeners for topic {} in Dolphin Platform context {}", listeners.size(), topic.getName(), sessionId);
+                        for (final ListenerWithFilter<?> listenerAndFilter : listeners) {
                             final Predicate<MessageEventContext<T>> sessionFilter = ((ListenerWithFilter<T>) listenerAndFilter).getFilter();
-                            final MessageListener<T> listener = (MessageListener<T>) listenerAndFilter.getListener();
+                            final MessageListener<T> listener = ((ListenerWithFilter<T>) listenerAndFilter).getListener();
                             try {
                                 if (sessionFilter == null || sessionFilter.test(event.getMessageEventContext())) {
                                     listener.onMessage(event);
@@ -170,20 +176,29 @@ public abstract class AbstractEventBus implements RemotingEventBus {
                                 LOG.error("Error in calling event listener for topic '" + topic.getName() + "' in Dolphin Platform context " + sessionId, e);
                             }
                         }
-                    });
-                }
+                    }
+                });
             }
         }
     }
 
-    private <T extends Serializable> boolean sendInSameClientSession(final DolphinEvent<T> event, final MessageListener<T> listener) {
-        Assert.requireNonNull(event, "event");
-        final String listenerSessionId = listenerToSessionMap.get(listener);
+    /**
+     * Returns the id of the client session in that the given event was published or {@code null} if the event was not
+     * published in a client session of this platform.
+     * @param event the event
+     * @return the session id or {@code null}
+     */
+    private <T extends Serializable> String getPublisherSessionId(final DolphinEvent<T> event) {
         final MessageEventContext<T> eventContext = event.getMessageEventContext();
-        if (eventContext != null) {
-            return new ClientSessionEventFilter(listenerSessionId).test(eventContext);
+        if (eventContext == null) {
+            return null;
+        }
+        final Map<String, Serializable> metadata = eventContext.getMetadata();
+        if (metadata == null || !EventConstants.TYPE_PLATFORM.equals(metadata.get(EventConstants.TYPE_PARAM))) {
+            return null;
         }
-        return false;
+        final Serializable sessionId = metadata.get(EventConstants.CLIENT_SESSION_PARAM);
+        return sessionId != null ? sessionId.toString() : null;
     }
 
     protected abstract <T extends Serializable> void publishForOtherSessions(final DolphinEvent<T> event);
@@ -194,22 +209,19 @@ public abstract class AbstractEventBus implements RemotingEventBus {
         }
     }
 
-    private <T extends Serializable> List<ListenerWithFilter<T>> getListenersForSessionAndTopic(final String sessionId, final Topic<T> topic) {
+    private List<ListenerWithFilter<?>> getListenersForSessionAndTopic(final String sessionId, final Topic<?> topic) {
         Assert.requireNonBlank(sessionId, "sessionId");
         Assert.requireNonNull(topic, "topic");
 
-        final List<ListenerWithFilter<?>> handlers = topicToListenerMap.get(topic);
-        if (handlers == null) {
+        final Map<String, List<ListenerWithFilter<?>>> sessionListenerMap = topicToSessionListenerMap.get(topic);
+        if (sessionListenerMap == null) {
             return Collections.emptyList();
         }
-
-        final List<ListenerWithFilter<T>> ret = new ArrayList<>();
-        for (ListenerWithFilter<?> listener : handlers) {
-            if (sessionId.equals(listenerToSessionMap.get(listener.getListener()))) {
-                ret.add((ListenerWithFilter<T>) listener);
-            }
+        final List<ListenerWithFilter<?>> listeners = sessionListenerMap.get(sessionId);
+        if (listeners == null) {
+            return Collections.emptyList();
         }
-        return ret;
+        return listeners;
     }
 
     private void addSubscriptionForSession(final Subscription subscription, final String dolphinSessionId) {
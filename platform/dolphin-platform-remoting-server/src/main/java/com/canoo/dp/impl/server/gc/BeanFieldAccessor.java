@@ -0,0 +1,120 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.gc;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.platform.core.IdentitySet;
+import com.canoo.dp.impl.platform.core.ReflectionHelper;
+import com.canoo.platform.core.DolphinRuntimeException;
+import com.canoo.platform.remoting.ObservableList;
+import com.canoo.platform.remoting.Property;
+import org.apiguardian.api.API;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Provides fast access to the {@link Property} and {@link ObservableList} fields of a dolphin bean class. The fields of
+ * a class are only analyzed once and the accessors are shared by all garbage collectors.
+ */
+@API(since = "1.0.0", status = INTERNAL)
+public final class BeanFieldAccessor {
+
+    private static final ClassValue<BeanFieldAccessor> ACCESSORS = new ClassValue<BeanFieldAccessor>() {
+        @Override
+        protected BeanFieldAccessor computeValue(final Class<?> type) {
+            return new BeanFieldAccessor(type);
+        }
+    };
+
+    private final MethodHandle[] propertyGetters;
+
+    private final MethodHandle[] listGetters;
+
+    private BeanFieldAccessor(final Class<?> beanClass) {
+        final List<MethodHandle> properties = new ArrayList<>();
+        final List<MethodHandle> lists = new ArrayList<>();
+        for (final Field field : ReflectionHelper.getInheritedDeclaredFields(beanClass)) {
+            if (Property.class.isAssignableFrom(field.getType())) {
+                properties.add(createGetter(field));
+            } else if (ObservableList.class.isAssignableFrom(field.getType())) {
+                lists.add(createGetter(field));
+            }
+        }
+        this.propertyGetters = properties.toArray(new MethodHandle[properties.size()]);
+        this.listGetters = lists.toArray(new MethodHandle[lists.size()]);
+    }
+
+    /**
+     * Returns the accessor for the given bean class
+     * @param beanClass the class of the dolphin bean
+     * @return the accessor
+     */
+    public static BeanFieldAccessor of(final Class<?> beanClass) {
+        Assert.requireNonNull(beanClass, "beanClass");
+        return ACCESSORS.get(beanClass);
+    }
+
+    public IdentitySet<Property> getProperties(final Object bean) {
+        final IdentitySet<Property> ret = new IdentitySet<>();
+        for (final MethodHandle getter : propertyGetters) {
+            ret.add((Property) get(getter, bean));
+        }
+        return ret;
+    }
+
+    public IdentitySet<ObservableList> getLists(final Object bean) {
+        final IdentitySet<ObservableList> ret = new IdentitySet<>();
+        for (final MethodHandle getter : listGetters) {
+            ret.add((ObservableList) get(getter, bean));
+        }
+        return ret;
+    }
+
+    private static Object get(final MethodHandle getter, final Object bean) {
+        try {
+            return getter.invokeExact(bean);
+        } catch (final Throwable e) {
+            throw new DolphinRuntimeException("Cannot read field of bean of type '" + bean.getClass() + "'", e);
+        }
+    }
+
+    private static MethodHandle createGetter(final Field field) {
+        return AccessController.doPrivileged((PrivilegedAction<MethodHandle>) () -> {
+            final boolean wasAccessible = field.isAccessible();
+            try {
+                field.setAccessible(true);
+                MethodHandle getter = MethodHandles.lookup().unreflectGetter(field);
+                if (Modifier.isStatic(field.getModifiers())) {
+                    getter = MethodHandles.dropArguments(getter, 0, Object.class);
+                }
+                return getter.asType(getter.type().generic());
+            } catch (final IllegalAccessException e) {
+                throw new DolphinRuntimeException("Cannot access field '" + field.getName() + "' of type '" + field.getDeclaringClass() + "'", e);
+            } finally {
+                field.setAccessible(wasAccessible);
+            }
+        });
+    }
+}
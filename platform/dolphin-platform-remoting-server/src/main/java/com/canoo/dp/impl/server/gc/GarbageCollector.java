@@ -21,7 +21,6 @@ import com.canoo.platform.remoting.RemotingBean;
 import com.canoo.platform.remoting.Property;
 import com.canoo.dp.impl.platform.core.Assert;
 import com.canoo.dp.impl.platform.core.IdentitySet;
-import com.canoo.dp.impl.platform.core.ReflectionHelper;
 import com.canoo.dp.impl.server.config.RemotingConfiguration;
 import com.canoo.platform.remoting.BeanManager;
 import com.canoo.platform.remoting.server.RemotingModel;
@@ -29,11 +28,8 @@ import org.apiguardian.api.API;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Field;
-import java.util.ArrayList;
 import java.util.IdentityHashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.Set;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
@@ -56,16 +52,18 @@ public class GarbageCollector {
 
     private final IdentityHashMap<ObservableList, Instance> listToParent = new IdentityHashMap<>();
 
-    private final IdentityHashMap<Class, List<Field>> propertyFieldCache = new IdentityHashMap<>();
-
-    private final IdentityHashMap<Class, List<Field>> listFieldCache = new IdentityHashMap<>();
-
     private final GarbageCollectionCallback onRemoveCallback;
 
     private long gcCalls = 0;
 
     private long removedBeansCount = 0;
 
+    private long lastGcPauseNanos = 0;
+
+    private long maxGcPauseNanos = 0;
+
+    private long totalGcPauseNanos = 0;
+
     private final RemotingConfiguration configuration;
 
     /**
@@ -94,8 +92,9 @@ public class GarbageCollector {
             throw new IllegalArgumentException("Bean instance is already managed!");
         }
 
-        IdentitySet<Property> properties = getAllProperties(bean);
-        IdentitySet<ObservableList> lists = getAllLists(bean);
+        final BeanFieldAccessor accessor = BeanFieldAccessor.of(bean.getClass());
+        IdentitySet<Property> properties = accessor.getProperties(bean);
+        IdentitySet<ObservableList> lists = accessor.getLists(bean);
         Instance instance = new Instance(bean, rootBean, properties, lists);
         allInstances.put(bean, instance);
         for (Property property : properties) {
@@ -107,7 +106,7 @@ public class GarbageCollector {
 
         if (!rootBean) {
             //Until the bean isn't referenced in another bean it will be removed at gc
-            addToGC(instance, bean);
+            onUnreferenced(instance);
         }
     }
 
@@ -121,17 +120,14 @@ public class GarbageCollector {
         }
 
         Instance instance = allInstances.remove(bean);
-        removeOnGC.remove(instance);
-
-        IdentitySet<Property> properties = getAllProperties(bean);
-        IdentitySet<ObservableList> lists = getAllLists(bean);
+        onInstanceRemoved(instance);
 
-        for (Property property : properties) {
+        for (Property property : instance.getProperties()) {
             propertyToParent.remove(property);
             removeReferenceAndCheckForGC(property, property.get());
         }
 
-        for (ObservableList list : lists) {
+        for (ObservableList list : instance.getLists()) {
             listToParent.remove(list);
             for (Object item : list) {
                 removeReferenceAndCheckForGC(list, item);
@@ -154,12 +150,7 @@ public class GarbageCollector {
 
         if (newValue != null && DolphinUtils.isDolphinBean(newValue.getClass())) {
             Instance instance = getInstance(newValue);
-            Reference reference = new PropertyReference(propertyToParent.get(property), property, instance);
-            if (reference.hasCircularReference()) {
-                throw new CircularDependencyException("Circular dependency detected!");
-            }
-            instance.getReferences().add(reference);
-            removeFromGC(instance);
+            addReference(new PropertyReference(propertyToParent.get(property), property, instance));
         }
     }
 
@@ -175,12 +166,7 @@ public class GarbageCollector {
         }
         if (value != null && DolphinUtils.isDolphinBean(value.getClass())) {
             Instance instance = getInstance(value);
-            Reference reference = new ListReference(listToParent.get(list), list, instance);
-            if (reference.hasCircularReference()) {
-                throw new CircularDependencyException("Circular dependency detected!");
-            }
-            instance.getReferences().add(reference);
-            removeFromGC(instance);
+            addReference(new ListReference(listToParent.get(list), list, instance));
         }
     }
 
@@ -208,32 +194,113 @@ public class GarbageCollector {
             return;
         }
 
+        final long startTime = System.nanoTime();
+        final int removedCount = collect();
+        final long pauseTime = System.nanoTime() - startTime;
+
+        removedBeansCount = removedBeansCount + removedCount;
+        gcCalls = gcCalls + 1;
+        lastGcPauseNanos = pauseTime;
+        maxGcPauseNanos = Math.max(maxGcPauseNanos, pauseTime);
+        totalGcPauseNanos = totalGcPauseNanos + pauseTime;
+
+        LOG.trace("Garbage collection done in {} ns! GC currently manages {} referenced beans!", pauseTime, allInstances.size());
+    }
+
+    /**
+     * Removes all beans that are marked for removal
+     * @return the number of removed beans
+     */
+    protected int collect() {
         LOG.trace("Garbage collection started! GC will remove {} beans!", removeOnGC.size());
 
-        onRemoveCallback.onReject(removeOnGC.keySet());
+        final int removedCount = removeOnGC.size();
+        reject(removeOnGC.keySet());
+        removeOnGC.clear();
+        return removedCount;
+    }
+
+    /**
+     * Calls the {@link GarbageCollectionCallback} for the given instances and removes them from the GC.
+     * @param instances the instances that are removed
+     */
+    protected void reject(Set<Instance> instances) {
+        onRemoveCallback.onReject(instances);
 
-        for (Map.Entry<Instance, Object> entry : removeOnGC.entrySet()) {
-            Instance removedInstance = entry.getKey();
+        for (Instance removedInstance : instances) {
             for (Property property : removedInstance.getProperties()) {
                 propertyToParent.remove(property);
             }
             for (ObservableList list : removedInstance.getLists()) {
                 listToParent.remove(list);
             }
-            allInstances.remove(entry.getValue());
+            allInstances.remove(removedInstance.getBean());
         }
+    }
 
-        removedBeansCount = removedBeansCount + removeOnGC.size();
-        removeOnGC.clear();
-        gcCalls = gcCalls + 1;
+    /**
+     * Called when a bean is not referenced anymore
+     * @param instance the instance of the bean
+     */
+    protected void onUnreferenced(Instance instance) {
+        addToGC(instance, instance.getBean());
+    }
+
+    /**
+     * Called after a reference to a bean was added
+     * @param reference the reference
+     */
+    protected void onReferenceAdded(Reference reference) {
+        removeFromGC(reference.getChild());
+    }
+
+    /**
+     * Called after a reference to a bean was removed
+     * @param reference the reference
+     */
+    protected void onReferenceRemoved(Reference reference) {
+        if (reference.getChild().getReferences().isEmpty()) {
+            onUnreferenced(reference.getChild());
+        }
+    }
+
+    /**
+     * Called after a bean was removed by {@link #onBeanRemoved(Object)}
+     * @param instance the instance of the bean
+     */
+    protected void onInstanceRemoved(Instance instance) {
+        removeOnGC.remove(instance);
+    }
 
-        LOG.trace("Garbage collection done! GC currently manages {} referenced beans!", allInstances.size());
+    /**
+     * Checks if the given reference that will be added would create a circular reference
+     * @param reference the reference
+     * @return true if the reference would create a circular reference
+     */
+    protected boolean isCircularReference(Reference reference) {
+        return reference.hasCircularReference();
     }
 
     public synchronized int getManagedInstancesCount() {
         return allInstances.size();
     }
 
+    /**
+     * Returns the number of beans that will be removed by the next GC runs
+     * @return the number of beans that will be removed
+     */
+    public synchronized int getPendingInstancesCount() {
+        return removeOnGC.size();
+    }
+
+    private void addReference(Reference reference) {
+        if (isCircularReference(reference)) {
+            throw new CircularDependencyException("Circular dependency detected!");
+        }
+        reference.getChild().getReferences().add(reference);
+        onReferenceAdded(reference);
+    }
+
     private void removeReferenceAndCheckForGC(ObservableList list, Object value) {
         Assert.requireNonNull(list, "list");
         if (value != null && DolphinUtils.isDolphinBean(value.getClass())) {
@@ -249,9 +316,7 @@ public class GarbageCollector {
                 throw new RuntimeException("REFERENCE NOT FOUND! ERROR IN GC!!");
             } else {
                 instance.getReferences().remove(toRemove);
-                if (instance.getReferences().isEmpty()) {
-                    addToGC(instance, value);
-                }
+                onReferenceRemoved(toRemove);
             }
         }
     }
@@ -271,9 +336,7 @@ public class GarbageCollector {
                 throw new RuntimeException("REFERENCE NOT FOUND! ERROR IN GC!!");
             } else {
                 instance.getReferences().remove(toRemove);
-                if (instance.getReferences().isEmpty()) {
-                    addToGC(instance, value);
-                }
+                onReferenceRemoved(toRemove);
             }
         }
     }
@@ -335,42 +398,13 @@ public class GarbageCollector {
         }
     }
 
-    private IdentitySet<Property> getAllProperties(Object bean) {
-        IdentitySet<Property> ret = new IdentitySet<>();
-
-        List<Field> fields = propertyFieldCache.get(bean.getClass());
-        if (fields == null) {
-            fields = new ArrayList<>();
-            for (Field field : ReflectionHelper.getInheritedDeclaredFields(bean.getClass())) {
-                if (Property.class.isAssignableFrom(field.getType())) {
-                    fields.add(field);
-                }
-            }
-            propertyFieldCache.put(bean.getClass(), fields);
-        }
-        for (Field field : fields) {
-            ret.add((Property) ReflectionHelper.getPrivileged(field, bean));
-        }
-        return ret;
-    }
-
-    private IdentitySet<ObservableList> getAllLists(Object bean) {
-        IdentitySet<ObservableList> ret = new IdentitySet<>();
-
-        List<Field> fields = listFieldCache.get(bean.getClass());
-        if (fields == null) {
-            fields = new ArrayList<>();
-            for (Field field : ReflectionHelper.getInheritedDeclaredFields(bean.getClass())) {
-                if (ObservableList.class.isAssignableFrom(field.getType())) {
-                    fields.add(field);
-                }
-            }
-            listFieldCache.put(bean.getClass(), fields);
-        }
-        for (Field field : fields) {
-            ret.add((ObservableList) ReflectionHelper.getPrivileged(field, bean));
-        }
-        return ret;
+    /**
+     * Returns the instance of the given bean
+     * @param bean the bean
+     * @return the instance or {@code null} if the bean is not managed by the GC
+     */
+    protected Instance findInstance(Object bean) {
+        return allInstances.get(bean);
     }
 
     private Instance getInstance(Object bean) {
@@ -388,4 +422,16 @@ public class GarbageCollector {
     public long getRemovedBeansCount() {
         return removedBeansCount;
     }
+
+    public long getLastGcPauseNanos() {
+        return lastGcPauseNanos;
+    }
+
+    public long getMaxGcPauseNanos() {
+        return maxGcPauseNanos;
+    }
+
+    public long getTotalGcPauseNanos() {
+        return totalGcPauseNanos;
+    }
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.gc;
+
+import com.canoo.dp.impl.platform.core.IdentitySet;
+import com.canoo.dp.impl.remoting.DolphinUtils;
+import com.canoo.dp.impl.server.config.RemotingConfiguration;
+import com.canoo.platform.remoting.ObservableList;
+import com.canoo.platform.remoting.Property;
+import org.apiguardian.api.API;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * A {@link GarbageCollector} that is based on reference counting. Changing a reference never walks the bean hierarchy:
+ * a bean whose reference count drops to 0 is only added to a queue of candidates. A {@link #gc()} run removes the
+ * candidates and releases the references of the removed beans to their children. The number of beans that are removed
+ * by one run is limited by {@link RemotingConfiguration#getGarbageCollectionMaxBeansPerRun()}, all other candidates
+ * are removed by the next runs.
+ *
+ * The check for circular references is only done if the referenced bean contains references to other beans, since
+ * a bean without children can not be part of a cycle.
+ */
+@API(since = "1.0.0", status = INTERNAL)
+public class IncrementalGarbageCollector extends GarbageCollector {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IncrementalGarbageCollector.class);
+
+    private final Set<Instance> candidates = new LinkedHashSet<>();
+
+    private final int maxBeansPerRun;
+
+    public IncrementalGarbageCollector(final RemotingConfiguration configuration, final GarbageCollectionCallback onRemoveCallback) {
+        super(configuration, onRemoveCallback);
+        this.maxBeansPerRun = configuration.getGarbageCollectionMaxBeansPerRun();
+    }
+
+    @Override
+    protected int collect() {
+        LOG.trace("Incremental garbage collection started! {} beans are candidates for removal!", candidates.size());
+
+        final IdentitySet<Instance> removed = new IdentitySet<>();
+        while (!candidates.isEmpty() && (maxBeansPerRun <= 0 || removed.size() < maxBeansPerRun)) {
+            final Iterator<Instance> iterator = candidates.iterator();
+            final Instance instance = iterator.next();
+            iterator.remove();
+            if (instance.isRootBean() || !instance.getReferences().isEmpty()) {
+                continue;
+            }
+            removed.add(instance);
+            releaseChildren(instance);
+        }
+        if (removed.isEmpty()) {
+            return 0;
+        }
+        reject(removed);
+        return removed.size();
+    }
+
+    @Override
+    protected void onUnreferenced(final Instance instance) {
+        if (!instance.isRootBean()) {
+            candidates.add(instance);
+        }
+    }
+
+    @Override
+    protected void onReferenceAdded(final Reference reference) {
+        reference.getParent().incrementChildReferenceCount();
+        candidates.remove(reference.getChild());
+    }
+
+    @Override
+    protected void onReferenceRemoved(final Reference reference) {
+        reference.getParent().decrementChildReferenceCount();
+        super.onReferenceRemoved(reference);
+    }
+
+    @Override
+    protected void onInstanceRemoved(final Instance instance) {
+        candidates.remove(instance);
+    }
+
+    @Override
+    protected boolean isCircularReference(final Reference reference) {
+        if (reference.getParent() == reference.getChild()) {
+            return true;
+        }
+        if (reference.getChild().getChildReferenceCount() == 0) {
+            return false;
+        }
+        return super.isCircularReference(reference);
+    }
+
+    @Override
+    public synchronized int getPendingInstancesCount() {
+        return candidates.size();
+    }
+
+    private void releaseChildren(final Instance parent) {
+        for (final Property property : parent.getProperties()) {
+            final Object value = property.get();
+            final Instance child = findChildInstance(value);
+            if (child != null) {
+                releaseReference(parent, child, property);
+            }
+        }
+        for (final ObservableList list : parent.getLists()) {
+            for (final Object item : list) {
+                final Instance child = findChildInstance(item);
+                if (child != null) {
+                    releaseReference(parent, child, list);
+                }
+            }
+        }
+    }
+
+    private Instance findChildInstance(final Object value) {
+        if (value != null && DolphinUtils.isDolphinBean(value.getClass())) {
+            return findInstance(value);
+        }
+        return null;
+    }
+
+    private void releaseReference(final Instance parent, final Instance child, final Object source) {
+        final Iterator<Reference> iterator = child.getReferences().iterator();
+        while (iterator.hasNext()) {
+            final Reference reference = iterator.next();
+            if (reference.getParent() == parent && getSource(reference) == source) {
+                iterator.remove();
+                parent.decrementChildReferenceCount();
+                if (child.getReferences().isEmpty()) {
+                    onUnreferenced(child);
+                }
+                return;
+            }
+        }
+    }
+
+    private Object getSource(final Reference reference) {
+        if (reference instanceof PropertyReference) {
+            return ((PropertyReference) reference).getProperty();
+        }
+        return ((ListReference) reference).getList();
+    }
+}
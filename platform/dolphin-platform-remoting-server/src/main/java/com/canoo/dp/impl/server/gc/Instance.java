@@ -43,6 +43,8 @@ public class Instance {
 
     private List<Reference> references;
 
+    private int childReferenceCount;
+
     /**
      * Constructor
      * @param bean the dolphin bean
@@ -114,4 +116,21 @@ public class Instance {
         }
         return false;
     }
+
+    /**
+     * Returns the number of references from this dolphin bean instance to other dolphin beans. This value is only
+     * maintained by the {@link IncrementalGarbageCollector}.
+     * @return the number of references to child beans
+     */
+    public int getChildReferenceCount() {
+        return childReferenceCount;
+    }
+
+    void incrementChildReferenceCount() {
+        childReferenceCount++;
+    }
+
+    void decrementChildReferenceCount() {
+        childReferenceCount--;
+    }
 }
@@ -50,6 +50,14 @@ public abstract class Reference {
         return parent;
     }
 
+    /**
+     * Returns the child dolphin bean
+     * @return the child dolphin bean
+     */
+    public Instance getChild() {
+        return child;
+    }
+
     /**
      * Returns true if this reference is part of a circular reference.
      * @return true if this reference is part of a circular reference.
@@ -133,4 +133,19 @@ public class ServerAttribute extends BaseAttribute {
         });
     }
 
+    /**
+     * Value listeners are called verbosely for the same reason as the PCLs (see
+     * {@link #firePropertyChange(String, Object, Object)}).
+     */
+    @Override
+    protected void fireValueChanged(final Object oldValue, final Object newValue) {
+        final boolean temp = notifyClient;
+        notifyClient = true;
+        try {
+            super.fireValueChanged(oldValue, newValue);
+        } finally {
+            notifyClient = temp;
+        }
+    }
+
 }
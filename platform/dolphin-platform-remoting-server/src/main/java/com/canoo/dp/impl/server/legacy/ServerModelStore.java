@@ -16,10 +16,13 @@
 package com.canoo.dp.impl.server.legacy;
 
 import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.remoting.commands.ListSpliceCommand;
+import com.canoo.dp.impl.remoting.legacy.RemotingConstants;
 import com.canoo.dp.impl.remoting.legacy.communication.Command;
 import com.canoo.dp.impl.remoting.legacy.communication.CreatePresentationModelCommand;
 import com.canoo.dp.impl.remoting.legacy.communication.DeletePresentationModelCommand;
 import com.canoo.dp.impl.remoting.legacy.communication.ValueChangedCommand;
+import com.canoo.dp.impl.remoting.legacy.core.Attribute;
 import com.canoo.dp.impl.remoting.legacy.core.ModelStore;
 import com.canoo.dp.impl.remoting.legacy.core.ModelStoreConfig;
 import org.apiguardian.api.API;
@@ -27,10 +30,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
@@ -62,6 +70,12 @@ public class ServerModelStore extends ModelStore<ServerAttribute, ServerPresenta
      */
     protected long pmInstanceCount = 0L;
 
+    private boolean listSpliceSupported = false;
+
+    private final AtomicLong removedRedundantValueChanges = new AtomicLong(0);
+
+    private final AtomicLong removedValueChangesOfDeletedModels = new AtomicLong(0);
+
     public ServerModelStore() {
     }
 
@@ -101,6 +115,27 @@ public class ServerModelStore extends ModelStore<ServerAttribute, ServerPresenta
         return true;
     }
 
+    @Override
+    public boolean isListSpliceSupported() {
+        return listSpliceSupported;
+    }
+
+    /**
+     * Defines if the client can handle {@link ListSpliceCommand}s
+     */
+    public void setListSpliceSupported(final boolean listSpliceSupported) {
+        this.listSpliceSupported = listSpliceSupported;
+    }
+
+    @Override
+    public void spliceList(final ListSpliceCommand command) {
+        Assert.requireNonNull(command, "command");
+        if (!listSpliceSupported) {
+            throw new UnsupportedOperationException("The client does not support list splice commands");
+        }
+        getCurrentResponse().add(command);
+    }
+
     public boolean checkClientAdded(final ServerPresentationModel model) {
         boolean added = super.add(model);
         //FIXME: Currently the client has the same event for a add answer and a add trigger
@@ -116,6 +151,93 @@ public class ServerModelStore extends ModelStore<ServerAttribute, ServerPresenta
         return id;
     }
 
+    /**
+     * Removes all {@link ValueChangedCommand}s from the given response that have no effect on the final state of the
+     * client: only the last value change for an attribute is kept and value changes for presentation models that are
+     * created and deleted in the same response are removed. The order of all other commands is not changed.
+     * @param response the response
+     * @return the compacted response
+     */
+    public List<Command> compactResponse(final List<Command> response) {
+        Assert.requireNonNull(response, "response");
+
+        final Map<String, Integer> attributeCreationIndex = new HashMap<>();
+        final Map<String, Integer> attributeDeletionIndex = new HashMap<>();
+        final Map<String, List<String>> createdModelAttributes = new HashMap<>();
+        boolean containsValueChanges = false;
+        int index = 0;
+        for (final Command command : response) {
+            if (command instanceof ValueChangedCommand) {
+                containsValueChanges = true;
+            } else if (command instanceof CreatePresentationModelCommand) {
+                final List<String> attributeIds = new ArrayList<>();
+                final List<Map<String, Object>> attributes = ((CreatePresentationModelCommand) command).getAttributes();
+                if (attributes != null) {
+                    for (final Map<String, Object> attribute : attributes) {
+                        final Object attributeId = attribute.get(Attribute.ID);
+                        if (attributeId != null) {
+                            attributeIds.add(attributeId.toString());
+                            attributeCreationIndex.put(attributeId.toString(), index);
+                        }
+                    }
+                }
+                createdModelAttributes.put(((CreatePresentationModelCommand) command).getPmId(), attributeIds);
+            } else if (command instanceof DeletePresentationModelCommand) {
+                final List<String> attributeIds = createdModelAttributes.remove(((DeletePresentationModelCommand) command).getPmId());
+                if (attributeIds != null) {
+                    for (final String attributeId : attributeIds) {
+                        attributeDeletionIndex.put(attributeId, index);
+                    }
+                }
+            }
+            index++;
+        }
+        if (!containsValueChanges) {
+            return response;
+        }
+
+        final List<Command> compacted = new ArrayList<>(response.size());
+        final Set<String> changedAttributes = new HashSet<>();
+        final ListIterator<Command> iterator = response.listIterator(response.size());
+        while (iterator.hasPrevious()) {
+            final int commandIndex = iterator.previousIndex();
+            final Command command = iterator.previous();
+            if (command instanceof ValueChangedCommand) {
+                final String attributeId = ((ValueChangedCommand) command).getAttributeId();
+                final Integer deletionIndex = attributeDeletionIndex.get(attributeId);
+                if (deletionIndex != null && commandIndex < deletionIndex && commandIndex > attributeCreationIndex.get(attributeId)) {
+                    removedValueChangesOfDeletedModels.incrementAndGet();
+                    continue;
+                }
+                if (!changedAttributes.add(attributeId)) {
+                    removedRedundantValueChanges.incrementAndGet();
+                    continue;
+                }
+            }
+            compacted.add(command);
+        }
+        Collections.reverse(compacted);
+        return compacted;
+    }
+
+    /**
+     * Returns the number of {@link ValueChangedCommand}s that were removed by {@link #compactResponse(List)} since a
+     * later value change for the same attribute was part of the response.
+     * @return the number of removed commands
+     */
+    public long getRemovedRedundantValueChangesCount() {
+        return removedRedundantValueChanges.get();
+    }
+
+    /**
+     * Returns the number of {@link ValueChangedCommand}s that were removed by {@link #compactResponse(List)} since the
+     * presentation model of the attribute was created and deleted in the same response.
+     * @return the number of removed commands
+     */
+    public long getRemovedValueChangesOfDeletedModelsCount() {
+        return removedValueChangesOfDeletedModels.get();
+    }
+
     /**
      * Convenience method to let Dolphin removePresentationModel a presentation model directly on the server and notify the client.
      */
@@ -206,6 +328,9 @@ public class ServerModelStore extends ModelStore<ServerAttribute, ServerPresenta
         List<ServerAttribute> attributes = new ArrayList<ServerAttribute>();
         for (final Slot slot : dto.getSlots()) {
             final ServerAttribute result = new ServerAttribute(slot.getPropertyName(), slot.getValue(), slot.getQualifier());
+            if (isCompactIds()) {
+                result.setId(createId(RemotingConstants.SERVER_ORIGIN));
+            }
             result.silently(new Runnable() {
                 @Override
                 public void run() {
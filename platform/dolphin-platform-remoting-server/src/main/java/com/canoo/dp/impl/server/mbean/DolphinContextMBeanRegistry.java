@@ -17,6 +17,7 @@ package com.canoo.dp.impl.server.mbean;
 
 import com.canoo.dp.impl.platform.core.Assert;
 import com.canoo.dp.impl.server.gc.GarbageCollector;
+import com.canoo.dp.impl.server.legacy.ServerModelStore;
 import com.canoo.dp.impl.server.mbean.beans.*;
 import com.canoo.platform.core.functional.Subscription;
 import com.canoo.platform.server.client.ClientSession;
@@ -43,12 +44,15 @@ public class DolphinContextMBeanRegistry {
     /**
      * Register a new dolphin session as a MBean
      * @param session the session
+     * @param garbageCollector the garbage collector of the session
+     * @param serverModelStore the model store of the session
      * @return the subscription for deregistration
      */
-    public Subscription registerDolphinContext(ClientSession session, GarbageCollector garbageCollector) {
+    public Subscription registerDolphinContext(ClientSession session, GarbageCollector garbageCollector, ServerModelStore serverModelStore) {
         Assert.requireNonNull(session, "session");
         Assert.requireNonNull(garbageCollector, "garbageCollector");
-        DolphinSessionInfoMBean mBean = new DolphinSessionInfo(session, garbageCollector);
+        Assert.requireNonNull(serverModelStore, "serverModelStore");
+        DolphinSessionInfoMBean mBean = new DolphinSessionInfo(session, garbageCollector, serverModelStore);
         return MBeanRegistry.getInstance().register(mBean, new MBeanDescription("com.canoo.dolphin", "DolphinSession", "session"));
     }
 
@@ -17,6 +17,7 @@ package com.canoo.dp.impl.server.mbean.beans;
 
 import com.canoo.dp.impl.platform.core.Assert;
 import com.canoo.dp.impl.server.gc.GarbageCollector;
+import com.canoo.dp.impl.server.legacy.ServerModelStore;
 import com.canoo.platform.server.client.ClientSession;
 import org.apiguardian.api.API;
 
@@ -35,9 +36,12 @@ public class DolphinSessionInfo implements DolphinSessionInfoMBean {
 
     private final WeakReference<GarbageCollector> garbageCollectionRef;
 
-    public DolphinSessionInfo(ClientSession dolphinSession, GarbageCollector garbageCollector) {
+    private final WeakReference<ServerModelStore> serverModelStoreRef;
+
+    public DolphinSessionInfo(ClientSession dolphinSession, GarbageCollector garbageCollector, ServerModelStore serverModelStore) {
         this.dolphinSessionRef = new WeakReference<>(dolphinSession);
         this.garbageCollectionRef = new WeakReference<>(garbageCollector);
+        this.serverModelStoreRef = new WeakReference<>(serverModelStore);
     }
 
     private ClientSession getSession() {
@@ -52,6 +56,12 @@ public class DolphinSessionInfo implements DolphinSessionInfoMBean {
         return garbageCollector;
     }
 
+    private ServerModelStore getServerModelStore() {
+        ServerModelStore serverModelStore = serverModelStoreRef.get();
+        Assert.requireNonNull(serverModelStore, "serverModelStore");
+        return serverModelStore;
+    }
+
     @Override
     public String getDolphinSessionId() {
         return getSession().getId();
@@ -81,4 +91,34 @@ public class DolphinSessionInfo implements DolphinSessionInfoMBean {
     public int getGarbageCollectionCurrentManagedBeansCount() {
         return getGarbageCollection().getManagedInstancesCount();
     }
+
+    @Override
+    public int getGarbageCollectionPendingBeansCount() {
+        return getGarbageCollection().getPendingInstancesCount();
+    }
+
+    @Override
+    public long getGarbageCollectionLastPauseNanos() {
+        return getGarbageCollection().getLastGcPauseNanos();
+    }
+
+    @Override
+    public long getGarbageCollectionMaxPauseNanos() {
+        return getGarbageCollection().getMaxGcPauseNanos();
+    }
+
+    @Override
+    public long getGarbageCollectionTotalPauseNanos() {
+        return getGarbageCollection().getTotalGcPauseNanos();
+    }
+
+    @Override
+    public long getRemovedRedundantValueChangesCount() {
+        return getServerModelStore().getRemovedRedundantValueChangesCount();
+    }
+
+    @Override
+    public long getRemovedValueChangesOfDeletedModelsCount() {
+        return getServerModelStore().getRemovedValueChangesOfDeletedModelsCount();
+    }
 }
@@ -38,4 +38,16 @@ public interface DolphinSessionInfoMBean {
     long getGarbageCollectionRemovedBeansTotal();
 
     int getGarbageCollectionCurrentManagedBeansCount();
+
+    int getGarbageCollectionPendingBeansCount();
+
+    long getGarbageCollectionLastPauseNanos();
+
+    long getGarbageCollectionMaxPauseNanos();
+
+    long getGarbageCollectionTotalPauseNanos();
+
+    long getRemovedRedundantValueChangesCount();
+
+    long getRemovedValueChangesOfDeletedModelsCount();
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.mbean.beans;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.remoting.codec.ContentCompression;
+import org.apiguardian.api.API;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * MBean implementation for the {@link RemotingCompressionInfoMBean} MBean interface
+ */
+@API(since = "1.0.0", status = INTERNAL)
+public class RemotingCompressionInfo implements RemotingCompressionInfoMBean {
+
+    private final ContentCompression compression;
+
+    public RemotingCompressionInfo(final ContentCompression compression) {
+        this.compression = Assert.requireNonNull(compression, "compression");
+    }
+
+    @Override
+    public int getThreshold() {
+        return compression.getThreshold();
+    }
+
+    @Override
+    public long getCompressedResponsesCount() {
+        return compression.getCompressedBodiesCount();
+    }
+
+    @Override
+    public long getRawBytes() {
+        return compression.getRawBytes();
+    }
+
+    @Override
+    public long getCompressedBytes() {
+        return compression.getCompressedBytes();
+    }
+
+    @Override
+    public double getCompressionRatio() {
+        final long rawBytes = compression.getRawBytes();
+        if (rawBytes == 0) {
+            return 1.0;
+        }
+        return (double) compression.getCompressedBytes() / rawBytes;
+    }
+}
@@ -41,6 +41,14 @@ public class ServerPresentationModelBuilder extends AbstractPresentationModelBui
         this.slots.add(new Slot(RemotingConstants.SOURCE_SYSTEM, RemotingConstants.SOURCE_SYSTEM_SERVER));
     }
 
+    @Override
+    protected String createId() {
+        if (serverModelStore.isCompactIds()) {
+            return serverModelStore.createId(RemotingConstants.SERVER_ORIGIN);
+        }
+        return super.createId();
+    }
+
     @Override
     public ServerPresentationModelBuilder withAttribute(String name) {
         slots.add(new Slot(name, null));
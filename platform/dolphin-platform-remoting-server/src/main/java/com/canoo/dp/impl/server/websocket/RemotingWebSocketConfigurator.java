@@ -0,0 +1,108 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.websocket;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.platform.core.PlatformConstants;
+import com.canoo.dp.impl.remoting.legacy.communication.Codec;
+import com.canoo.dp.impl.server.client.ClientSessionManager;
+import com.canoo.dp.impl.server.context.DolphinContextCommunicationHandler;
+import org.apiguardian.api.API;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.servlet.ServletContext;
+import javax.websocket.DeploymentException;
+import javax.websocket.HandshakeResponse;
+import javax.websocket.server.HandshakeRequest;
+import javax.websocket.server.ServerContainer;
+import javax.websocket.server.ServerEndpointConfig;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Configurator for the {@link RemotingWebSocketEndpoint}. The configurator creates a new endpoint for each connection
+ * and stores the http session and the client id of the handshake request in the user properties of the connection.
+ */
+@API(since = "1.0.0", status = INTERNAL)
+public class RemotingWebSocketConfigurator extends ServerEndpointConfig.Configurator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RemotingWebSocketConfigurator.class);
+
+    private final DolphinContextCommunicationHandler communicationHandler;
+
+    private final ClientSessionManager clientSessionManager;
+
+    private final Codec codec;
+
+    private final Executor pushExecutor;
+
+    public RemotingWebSocketConfigurator(final DolphinContextCommunicationHandler communicationHandler, final ClientSessionManager clientSessionManager, final Codec codec, final Executor pushExecutor) {
+        this.communicationHandler = Assert.requireNonNull(communicationHandler, "communicationHandler");
+        this.clientSessionManager = Assert.requireNonNull(clientSessionManager, "clientSessionManager");
+        this.codec = Assert.requireNonNull(codec, "codec");
+        this.pushExecutor = Assert.requireNonNull(pushExecutor, "pushExecutor");
+    }
+
+    @Override
+    public void modifyHandshake(final ServerEndpointConfig config, final HandshakeRequest request, final HandshakeResponse response) {
+        if (request.getHttpSession() != null) {
+            config.getUserProperties().put(RemotingWebSocketEndpoint.HTTP_SESSION_PROPERTY, request.getHttpSession());
+        }
+        for (final Map.Entry<String, List<String>> header : request.getHeaders().entrySet()) {
+            if (PlatformConstants.CLIENT_ID_HTTP_HEADER_NAME.equalsIgnoreCase(header.getKey()) && header.getValue() != null && !header.getValue().isEmpty()) {
+                config.getUserProperties().put(RemotingWebSocketEndpoint.CLIENT_ID_PROPERTY, header.getValue().get(0));
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getEndpointInstance(final Class<T> endpointClass) throws InstantiationException {
+        if (!RemotingWebSocketEndpoint.class.equals(endpointClass)) {
+            throw new InstantiationException("Unsupported endpoint " + endpointClass);
+        }
+        return (T) new RemotingWebSocketEndpoint(communicationHandler, clientSessionManager, codec, pushExecutor);
+    }
+
+    /**
+     * Registers the {@link RemotingWebSocketEndpoint} at the WebSocket container of the given servlet context.
+     * @param servletContext the servlet context
+     * @param mapping the mapping of the endpoint
+     * @return {@code false} if the container does not support WebSockets
+     */
+    public boolean register(final ServletContext servletContext, final String mapping) {
+        Assert.requireNonNull(servletContext, "servletContext");
+        Assert.requireNonBlank(mapping, "mapping");
+        final Object container = servletContext.getAttribute(ServerContainer.class.getName());
+        if (!(container instanceof ServerContainer)) {
+            LOG.warn("The servlet container does not support WebSockets. The remoting will only use http.");
+            return false;
+        }
+        try {
+            ((ServerContainer) container).addEndpoint(ServerEndpointConfig.Builder.create(RemotingWebSocketEndpoint.class, mapping)
+                    .configurator(this)
+                    .build());
+            return true;
+        } catch (final DeploymentException e) {
+            LOG.error("Can not register WebSocket endpoint for the remoting. The remoting will only use http.", e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.websocket;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.remoting.PlatformRemotingConstants;
+import com.canoo.dp.impl.remoting.legacy.commands.StartLongPollCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.Codec;
+import com.canoo.dp.impl.remoting.legacy.communication.Command;
+import com.canoo.dp.impl.server.client.ClientSessionManager;
+import com.canoo.dp.impl.server.context.DolphinContext;
+import com.canoo.dp.impl.server.context.DolphinContextCommunicationHandler;
+import org.apiguardian.api.API;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.servlet.http.HttpSession;
+import javax.websocket.CloseReason;
+import javax.websocket.Endpoint;
+import javax.websocket.EndpointConfig;
+import javax.websocket.MessageHandler;
+import javax.websocket.Session;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * WebSocket endpoint for the remoting. One instance is created for each connection. Commands that are send by the
+ * client are handled like commands of a http request and the response is send back as a message. In addition all
+ * commands that are created by tasks (see {@link DolphinContext#runLater(Runnable)}) or the event bus are pushed to
+ * the client once they are available. By doing so no long poll and no interrupt request is needed.
+ *
+ * Commands of the client and pushes are handled by different threads (the thread of the WebSocket container and a
+ * thread of the push executor). Since the {@link DolphinContext} of a session is not thread safe, all calls to the
+ * context are synchronized on a lock of the endpoint. The response or push is send while the lock is held and
+ * therefore the client receives all messages in the order in which they were created.
+ *
+ * All messages that are send to the client start with {@link PlatformRemotingConstants#WEB_SOCKET_RESPONSE_PREFIX}
+ * or {@link PlatformRemotingConstants#WEB_SOCKET_PUSH_PREFIX} followed by the encoded commands.
+ */
+@API(since = "1.0.0", status = INTERNAL)
+public class RemotingWebSocketEndpoint extends Endpoint {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RemotingWebSocketEndpoint.class);
+
+    public static final String HTTP_SESSION_PROPERTY = "DolphinHttpSession";
+
+    public static final String CLIENT_ID_PROPERTY = "DolphinClientId";
+
+    private final DolphinContextCommunicationHandler communicationHandler;
+
+    private final ClientSessionManager clientSessionManager;
+
+    private final Codec codec;
+
+    private final Executor pushExecutor;
+
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    private final Object contextLock = new Object();
+
+    private final Runnable wakeup = () -> schedulePush();
+
+    private Session session;
+
+    private HttpSession httpSession;
+
+    private String clientId;
+
+    public RemotingWebSocketEndpoint(final DolphinContextCommunicationHandler communicationHandler, final ClientSessionManager clientSessionManager, final Codec codec, final Executor pushExecutor) {
+        this.communicationHandler = Assert.requireNonNull(communicationHandler, "communicationHandler");
+        this.clientSessionManager = Assert.requireNonNull(clientSessionManager, "clientSessionManager");
+        this.codec = Assert.requireNonNull(codec, "codec");
+        this.pushExecutor = Assert.requireNonNull(pushExecutor, "pushExecutor");
+    }
+
+    @Override
+    public void onOpen(final Session session, final EndpointConfig config) {
+        this.session = Assert.requireNonNull(session, "session");
+        this.httpSession = (HttpSession) config.getUserProperties().get(HTTP_SESSION_PROPERTY);
+        this.clientId = (String) config.getUserProperties().get(CLIENT_ID_PROPERTY);
+
+        if (httpSession == null || clientId == null || !clientSessionManager.checkValidClientSession(httpSession, clientId)) {
+            LOG.warn("WebSocket connection without valid client session will be closed");
+            closed.set(true);
+            close(new CloseReason(CloseReason.CloseCodes.VIOLATED_POLICY, "No valid client session"));
+            return;
+        }
+        LOG.debug("WebSocket connection opened for client session {}", clientId);
+        session.addMessageHandler(new MessageHandler.Whole<String>() {
+            @Override
+            public void onMessage(final String message) {
+                handleMessage(message);
+            }
+        });
+        schedulePush();
+    }
+
+    @Override
+    public void onClose(final Session session, final CloseReason closeReason) {
+        LOG.debug("WebSocket connection closed for client session {}: {}", clientId, closeReason);
+        closed.set(true);
+        if (httpSession == null || clientId == null) {
+            return;
+        }
+        runInClientSession(() -> {
+            synchronized (contextLock) {
+                final DolphinContext context = communicationHandler.getCurrentDolphinContext();
+                if (context != null) {
+                    context.unregisterLongPollWakeup(wakeup);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void onError(final Session session, final Throwable throwable) {
+        LOG.error("Error in WebSocket connection for client session " + clientId, throwable);
+    }
+
+    private void handleMessage(final String message) {
+        runInClientSession(() -> {
+            synchronized (contextLock) {
+                final List<Command> results;
+                try {
+                    results = communicationHandler.handle(codec.decode(message));
+                } catch (final Exception e) {
+                    LOG.error("Can not handle WebSocket message for client session " + clientId, e);
+                    close(new CloseReason(CloseReason.CloseCodes.UNEXPECTED_CONDITION, "Can not handle commands"));
+                    return;
+                }
+                send(PlatformRemotingConstants.WEB_SOCKET_RESPONSE_PREFIX, results);
+                registerWakeup();
+            }
+        });
+    }
+
+    private void schedulePush() {
+        if (!closed.get()) {
+            try {
+                pushExecutor.execute(() -> runInClientSession(() -> push()));
+            } catch (final RejectedExecutionException e) {
+                LOG.debug("Push executor is shut down, no push for client session {}", clientId);
+            }
+        }
+    }
+
+    private void push() {
+        synchronized (contextLock) {
+            final DolphinContext context = communicationHandler.getCurrentDolphinContext();
+            if (context == null || closed.get()) {
+                return;
+            }
+            final List<Command> results;
+            try {
+                results = context.handleWithoutWaiting(Collections.singletonList(new StartLongPollCommand()));
+            } catch (final Exception e) {
+                LOG.error("Can not execute tasks for client session " + clientId, e);
+                close(new CloseReason(CloseReason.CloseCodes.UNEXPECTED_CONDITION, "Can not execute tasks"));
+                return;
+            }
+            if (!results.isEmpty()) {
+                send(PlatformRemotingConstants.WEB_SOCKET_PUSH_PREFIX, results);
+            }
+            registerWakeup();
+        }
+    }
+
+    private void registerWakeup() {
+        final DolphinContext context = communicationHandler.getCurrentDolphinContext();
+        if (context != null && !closed.get() && !context.registerLongPollWakeup(wakeup)) {
+            schedulePush();
+        }
+    }
+
+    private void send(final String prefix, final List<Command> commands) {
+        final String message = prefix + codec.encode(commands);
+        synchronized (session) {
+            try {
+                session.getBasicRemote().sendText(message);
+            } catch (final IOException e) {
+                LOG.error("Can not send WebSocket message to client session " + clientId, e);
+                close(new CloseReason(CloseReason.CloseCodes.UNEXPECTED_CONDITION, "Can not send message"));
+            }
+        }
+    }
+
+    private void runInClientSession(final Runnable runnable) {
+        clientSessionManager.setClientSessionForThread(httpSession, clientId);
+        try {
+            runnable.run();
+        } finally {
+            clientSessionManager.resetClientSessionForThread();
+        }
+    }
+
+    private void close(final CloseReason closeReason) {
+        closed.set(true);
+        try {
+            session.close(closeReason);
+        } catch (final IOException e) {
+            LOG.warn("Can not close WebSocket connection for client session " + clientId, e);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.context;
+
+import com.canoo.dp.impl.server.client.ClientSessionProvider;
+import com.canoo.dp.impl.server.client.HttpClientSessionImpl;
+import com.canoo.impl.server.util.HttpSessionMock;
+import com.canoo.platform.server.client.ClientSession;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class DolphinContextTaskQueueTest {
+
+    @Test
+    public void testWakeupOnNewTask() {
+        //given:
+        final DolphinContextTaskQueue taskQueue = createQueue(10_000);
+        final AtomicInteger wakeupCounter = new AtomicInteger(0);
+
+        //when:
+        final boolean registered = taskQueue.registerWakeupCallback(() -> wakeupCounter.incrementAndGet());
+        taskQueue.addTask(() -> null);
+        taskQueue.addTask(() -> null);
+
+        //then:
+        assertTrue(registered);
+        assertEquals(wakeupCounter.get(), 1);
+    }
+
+    @Test
+    public void testWakeupOnInterrupt() {
+        //given:
+        final DolphinContextTaskQueue taskQueue = createQueue(10_000);
+        final AtomicInteger wakeupCounter = new AtomicInteger(0);
+
+        //when:
+        taskQueue.registerWakeupCallback(() -> wakeupCounter.incrementAndGet());
+        taskQueue.interrupt();
+
+        //then:
+        assertEquals(wakeupCounter.get(), 1);
+    }
+
+    @Test
+    public void testNoRegistrationIfTasksArePending() {
+        //given:
+        final DolphinContextTaskQueue taskQueue = createQueue(10_000);
+        taskQueue.addTask(() -> null);
+
+        //then:
+        assertFalse(taskQueue.registerWakeupCallback(() -> {}));
+    }
+
+    @Test
+    public void testUnregisteredCallbackIsNotCalled() {
+        //given:
+        final DolphinContextTaskQueue taskQueue = createQueue(10_000);
+        final AtomicInteger wakeupCounter = new AtomicInteger(0);
+        final Runnable callback = () -> wakeupCounter.incrementAndGet();
+
+        //when:
+        taskQueue.registerWakeupCallback(callback);
+        taskQueue.unregisterWakeupCallback(callback);
+        taskQueue.addTask(() -> null);
+
+        //then:
+        assertEquals(wakeupCounter.get(), 0);
+    }
+
+    @Test
+    public void testExecutePendingTasksDoesNotWait() throws Exception {
+        //given:
+        final DolphinContextTaskQueue taskQueue = createQueue(10_000);
+        final Future<String> future = taskQueue.addTask(() -> "done");
+
+        //when:
+        final long start = System.currentTimeMillis();
+        taskQueue.executePendingTasks();
+        taskQueue.executePendingTasks();
+
+        //then:
+        assertEquals(future.get(1, TimeUnit.SECONDS), "done");
+        assertTrue(System.currentTimeMillis() - start < 5_000);
+    }
+
+    @Test
+    public void testExecutePendingTasksConsumesInterrupt() {
+        //given:
+        final DolphinContextTaskQueue taskQueue = createQueue(10_000);
+
+        //when:
+        taskQueue.interrupt();
+        final boolean interrupted = taskQueue.executePendingTasks();
+
+        //then:
+        assertTrue(interrupted);
+        assertFalse(taskQueue.executePendingTasks());
+        assertTrue(taskQueue.registerWakeupCallback(() -> {}));
+    }
+
+    @Test
+    public void testInterruptBeforeExecutionEndsExecutionDirectly() {
+        //given:
+        final DolphinContextTaskQueue taskQueue = createQueue(10_000);
+
+        //when:
+        taskQueue.interrupt();
+        final long start = System.currentTimeMillis();
+        final boolean interrupted = taskQueue.executeTasks();
+
+        //then:
+        assertTrue(interrupted);
+        assertTrue(System.currentTimeMillis() - start < 5_000);
+    }
+
+    @Test
+    public void testInterruptWhileWaiting() throws Exception {
+        //given:
+        final DolphinContextTaskQueue taskQueue = createQueue(10_000);
+        final Thread interrupter = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            taskQueue.interrupt();
+        });
+
+        //when:
+        final long start = System.currentTimeMillis();
+        interrupter.start();
+        final boolean interrupted = taskQueue.executeTasks();
+        interrupter.join();
+
+        //then:
+        assertTrue(interrupted);
+        assertTrue(System.currentTimeMillis() - start < 5_000);
+        assertFalse(taskQueue.executePendingTasks());
+    }
+
+    private DolphinContextTaskQueue createQueue(final long maxExecutionTime) {
+        final ClientSession session = new HttpClientSessionImpl(new HttpSessionMock());
+        final ClientSessionProvider sessionProvider = () -> session;
+        return new DolphinContextTaskQueue(session.getId(), sessionProvider, () -> false, maxExecutionTime, TimeUnit.MILLISECONDS);
+    }
+}
@@ -38,6 +38,7 @@ import org.testng.annotations.Test;
 
 import javax.servlet.ServletContext;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -151,6 +152,74 @@ public class DolphinContextTest {
         assertNotNull(dolphinActions.containsKey(InterruptLongPollCommand.class));
     }
 
+    @Test
+    public void testInterruptBeforeNonBlockingLongPoll() throws ControllerValidationException {
+        //given:
+        final DolphinContext dolphinContext = createContext();
+        final NonBlockingLongPoll longPoll = new NonBlockingLongPoll(true);
+
+        //when:
+        dolphinContext.interrupt();
+        final List<Command> results = dolphinContext.handleWithoutWaiting(Collections.singletonList(new StartLongPollCommand()), longPoll);
+
+        //then:
+        assertTrue(results.isEmpty());
+        assertTrue(longPoll.isInterrupted());
+    }
+
+    @Test
+    public void testNonBlockingLongPollWithoutInterrupt() throws ControllerValidationException {
+        //given:
+        final DolphinContext dolphinContext = createContext();
+        final NonBlockingLongPoll longPoll = new NonBlockingLongPoll(true);
+
+        //when:
+        final List<Command> results = dolphinContext.handleWithoutWaiting(Collections.singletonList(new StartLongPollCommand()), longPoll);
+
+        //then:
+        assertTrue(results.isEmpty());
+        assertFalse(longPoll.isInterrupted());
+        assertTrue(dolphinContext.registerLongPollWakeup(() -> {}));
+    }
+
+    @Test
+    public void testListSpliceSupportIsConfirmed() throws ControllerValidationException {
+        //given:
+        final DolphinContext dolphinContext = createContext();
+        final CreateContextCommand createContextCommand = new CreateContextCommand();
+        createContextCommand.setListSpliceSupported(true);
+
+        //when:
+        final List<Command> results = dolphinContext.handle(Collections.singletonList(createContextCommand));
+
+        //then:
+        final List<Command> confirmations = filterCreateContextCommands(results);
+        assertEquals(confirmations.size(), 1);
+        assertTrue(((CreateContextCommand) confirmations.get(0)).isListSpliceSupported());
+    }
+
+    @Test
+    public void testNoListSpliceConfirmationForOldClients() throws ControllerValidationException {
+        //given:
+        final DolphinContext dolphinContext = createContext();
+
+        //when:
+        final List<Command> results = dolphinContext.handle(Collections.singletonList(new CreateContextCommand()));
+
+        //then:
+        assertTrue(filterCreateContextCommands(results).isEmpty());
+    }
+
+    private List<Command> filterCreateContextCommands(final List<Command> commands) {
+        final List<Command> result = new ArrayList<>();
+        for (final Command command : commands) {
+            if (command instanceof CreateContextCommand) {
+                result.add(command);
+            }
+        }
+        return result;
+    }
+
     private final DefaultClasspathScanner classpathScanner = new DefaultClasspathScanner("com.canoo.dolphin");
 
     private DolphinContext createContext() throws ControllerValidationException {
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.context;
+
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class RequestSequencerTest {
+
+    @Test
+    public void testRequestsAreHandledInOrder() throws Exception {
+        //given:
+        final RequestSequencer sequencer = new RequestSequencer();
+        final List<Long> handledRequests = new CopyOnWriteArrayList<>();
+        final CountDownLatch latch = new CountDownLatch(5);
+        final ExecutorService executor = Executors.newFixedThreadPool(5);
+
+        //when:
+        try {
+            for (long sequence = 5; sequence > 0; sequence--) {
+                final long requestSequence = sequence;
+                executor.execute(() -> {
+                    try {
+                        sequencer.await(requestSequence, 10_000);
+                        handledRequests.add(requestSequence);
+                        sequencer.complete(requestSequence);
+                    } catch (final Exception e) {
+                        throw new RuntimeException(e);
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        //then:
+        assertEquals(handledRequests.size(), 5);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(handledRequests.get(i).longValue(), i + 1);
+        }
+        assertEquals(sequencer.getNextSequence(), 6);
+    }
+
+    @Test(expectedExceptions = TimeoutException.class)
+    public void testTimeoutForMissingRequest() throws Exception {
+        //given:
+        final RequestSequencer sequencer = new RequestSequencer();
+
+        //when:
+        sequencer.await(2, 50);
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testRequestHandledTwice() throws Exception {
+        //given:
+        final RequestSequencer sequencer = new RequestSequencer();
+        sequencer.await(1, 50);
+        sequencer.complete(1);
+
+        //when:
+        sequencer.await(1, 50);
+    }
+
+    @Test
+    public void testReset() throws Exception {
+        //given:
+        final RequestSequencer sequencer = new RequestSequencer();
+        sequencer.await(1, 50);
+        sequencer.complete(1);
+
+        //when:
+        sequencer.reset(1);
+
+        //then:
+        sequencer.await(1, 50);
+        assertEquals(sequencer.getNextSequence(), 1);
+    }
+}
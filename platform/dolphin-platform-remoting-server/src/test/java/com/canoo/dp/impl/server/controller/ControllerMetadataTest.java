@@ -0,0 +1,153 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.controller;
+
+import com.canoo.platform.core.DolphinRuntimeException;
+import com.canoo.platform.remoting.server.Param;
+import com.canoo.platform.remoting.server.PostChildCreated;
+import com.canoo.platform.remoting.server.PreChildDestroyed;
+import com.canoo.platform.remoting.server.RemotingAction;
+import com.canoo.platform.remoting.server.RemotingController;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class ControllerMetadataTest {
+
+    @Test
+    public void testActionLookup() {
+        //given:
+        final ControllerMetadata metadata = new ControllerMetadata(MetadataTestController.class);
+
+        //then:
+        final ControllerMethodInvoker action = metadata.getAction("renamedAction");
+        assertEquals(action.getParameterCount(), 2);
+        assertEquals(action.getParameterName(0), "value");
+        assertEquals(action.getParameterName(1), "1");
+        assertEquals(action.getParameterType(0), String.class);
+        assertEquals(action.getParameterType(1), int.class);
+        assertNull(metadata.getAction("privateMethod"));
+        assertNull(metadata.getAction("unknown"));
+    }
+
+    @Test
+    public void testActionInvocation() {
+        //given:
+        final ControllerMetadata metadata = new ControllerMetadata(MetadataTestController.class);
+        final MetadataTestController controller = new MetadataTestController();
+
+        //when:
+        metadata.getAction("renamedAction").invoke(controller, "Hello", 3);
+        metadata.getAction("privateAction").invoke(controller);
+
+        //then:
+        assertEquals(controller.calls.size(), 2);
+        assertEquals(controller.calls.get(0), "Hello3");
+        assertEquals(controller.calls.get(1), "private");
+    }
+
+    @Test
+    public void testActionExceptionIsWrapped() {
+        //given:
+        final ControllerMetadata metadata = new ControllerMetadata(MetadataTestController.class);
+
+        //when:
+        try {
+            metadata.getAction("failingAction").invoke(new MetadataTestController());
+            fail("Exception expected");
+        } catch (final DolphinRuntimeException e) {
+            //then:
+            assertTrue(e.getCause() instanceof InvocationTargetException);
+            assertTrue(e.getCause().getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test(expectedExceptions = RuntimeException.class)
+    public void testAmbiguousAction() {
+        new ControllerMetadata(AmbiguousTestController.class).getAction("action");
+    }
+
+    @Test
+    public void testChildMethods() {
+        //given:
+        final ControllerMetadata metadata = new ControllerMetadata(MetadataTestController.class);
+        final MetadataTestController controller = new MetadataTestController();
+
+        //when:
+        metadata.getPostChildCreatedMethods().forEach(m -> m.invoke(controller, "child"));
+        metadata.getPreChildDestroyedMethods().forEach(m -> m.invoke(controller, "child"));
+
+        //then:
+        assertEquals(metadata.getPostChildCreatedMethods().size(), 1);
+        assertEquals(metadata.getPreChildDestroyedMethods().size(), 1);
+        assertEquals(controller.calls.size(), 2);
+        assertEquals(controller.calls.get(0), "created child");
+        assertEquals(controller.calls.get(1), "destroyed child");
+    }
+
+    @RemotingController
+    public static class MetadataTestController {
+
+        private final List<String> calls = new ArrayList<>();
+
+        @RemotingAction("renamedAction")
+        public void action(@Param("value") final String value, @Param final int count) {
+            calls.add(value + count);
+        }
+
+        @RemotingAction
+        private void privateAction() {
+            calls.add("private");
+        }
+
+        @RemotingAction
+        public void failingAction() {
+            throw new IllegalStateException("Error in action");
+        }
+
+        private void privateMethod() {
+        }
+
+        @PostChildCreated
+        public void onChildCreated(final Object child) {
+            calls.add("created " + child);
+        }
+
+        @PreChildDestroyed
+        public void onChildDestroyed(final Object child) {
+            calls.add("destroyed " + child);
+        }
+    }
+
+    @RemotingController
+    public static class AmbiguousTestController {
+
+        @RemotingAction("action")
+        public void action1() {
+        }
+
+        @RemotingAction("action")
+        public void action2() {
+        }
+    }
+}
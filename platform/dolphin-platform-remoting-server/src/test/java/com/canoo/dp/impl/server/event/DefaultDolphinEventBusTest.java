@@ -36,7 +36,13 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import javax.servlet.ServletContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class DefaultDolphinEventBusTest {
 
@@ -105,6 +111,52 @@ public class DefaultDolphinEventBusTest {
         Assert.assertFalse(calledCheck.get());
     }
 
+    @Test
+    public void TestListenersOfOtherSessionAreCalledInOneTask() throws Exception {
+        //given
+        final RunLaterContext publisherContext = new RunLaterContext();
+        final RunLaterContext subscriberContext = new RunLaterContext();
+        final AtomicReference<DolphinContext> currentContext = new AtomicReference<>(subscriberContext);
+        final DefaultDolphinEventBus eventBus = new DefaultDolphinEventBus();
+        eventBus.init(new DolphinContextProvider() {
+            @Override
+            public DolphinContext getContext(ClientSession clientSession) {
+                return getContextById(clientSession.getId());
+            }
+
+            @Override
+            public DolphinContext getContextById(String clientSessionId) {
+                if (publisherContext.getId().equals(clientSessionId)) {
+                    return publisherContext;
+                }
+                if (subscriberContext.getId().equals(clientSessionId)) {
+                    return subscriberContext;
+                }
+                return null;
+            }
+
+            @Override
+            public DolphinContext getCurrentDolphinContext() {
+                return currentContext.get();
+            }
+        }, new ClientSessionLifecycleHandlerImpl());
+        final AtomicInteger callCount = new AtomicInteger();
+        eventBus.subscribe(TEST_TOPIC, message -> callCount.incrementAndGet());
+        eventBus.subscribe(TEST_TOPIC, message -> callCount.incrementAndGet());
+        eventBus.subscribe(TEST_TOPIC, message -> callCount.incrementAndGet(), message -> false);
+
+        //when
+        currentContext.set(publisherContext);
+        eventBus.publish(TEST_TOPIC, "huhu");
+
+        //then
+        Assert.assertEquals(publisherContext.tasks.size(), 0);
+        Assert.assertEquals(subscriberContext.tasks.size(), 1);
+        Assert.assertEquals(callCount.get(), 0);
+        subscriberContext.tasks.get(0).run();
+        Assert.assertEquals(callCount.get(), 2);
+    }
+
     private DefaultDolphinEventBus create(final DolphinContext context) {
         DefaultDolphinEventBus eventBus = new DefaultDolphinEventBus();
         eventBus.init(new DolphinContextProvider() {
@@ -144,6 +196,30 @@ public class DefaultDolphinEventBusTest {
             throw new RuntimeException("FAIL", e);
         }
     }
+    private class RunLaterContext extends DolphinContext {
+
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        private RunLaterContext() throws Exception {
+            this(new HttpClientSessionImpl(new HttpSessionMock()));
+        }
+
+        private RunLaterContext(final ClientSession session) throws Exception {
+            super(new RemotingConfiguration(), session, new ClientSessionProvider() {
+                @Override
+                public ClientSession getCurrentClientSession() {
+                    return session;
+                }
+            }, new ManagedBeanFactoryMock(), new ControllerRepository(classpathScanner), v -> {});
+        }
+
+        @Override
+        public Future<Void> runLater(final Runnable runnable) {
+            tasks.add(runnable);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
     private class ManagedBeanFactoryMock implements ManagedBeanFactory {
 
         @Override
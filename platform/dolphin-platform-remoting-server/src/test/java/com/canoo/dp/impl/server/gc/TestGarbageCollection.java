@@ -844,7 +844,7 @@ public class TestGarbageCollection {
         return addedCount;
     }
 
-    private GarbageCollector createGarbageCollection(final GarbageCollectionCallback gcConsumer) {
+    protected GarbageCollector createGarbageCollection(final GarbageCollectionCallback gcConsumer) {
         Assert.requireNonNull(gcConsumer, "gcConsumer");
 
         final RemotingConfiguration configuration = new RemotingConfiguration();
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.gc;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import com.canoo.dp.impl.server.config.RemotingConfiguration;
+import com.canoo.dp.impl.server.config.ServerConfiguration;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Runs all tests of {@link TestGarbageCollection} with the {@link IncrementalGarbageCollector}. For these tests the
+ * number of beans that are removed by one GC run is not limited.
+ */
+public class TestIncrementalGarbageCollection extends TestGarbageCollection {
+
+    @Override
+    protected GarbageCollector createGarbageCollection(final GarbageCollectionCallback gcConsumer) {
+        Assert.requireNonNull(gcConsumer, "gcConsumer");
+
+        final Properties properties = new Properties();
+        properties.setProperty(RemotingConfiguration.GARBAGE_COLLECTION_MAX_BEANS_PER_RUN, "0");
+        final RemotingConfiguration configuration = new RemotingConfiguration(new ServerConfiguration(properties));
+        return new IncrementalGarbageCollector(configuration, gcConsumer);
+    }
+
+    @Test
+    public void testMaxBeansPerRun() {
+        final List<Object> removedObjects = new ArrayList<>();
+        final Properties properties = new Properties();
+        properties.setProperty(RemotingConfiguration.GARBAGE_COLLECTION_MAX_BEANS_PER_RUN, "10");
+        final RemotingConfiguration configuration = new RemotingConfiguration(new ServerConfiguration(properties));
+        final GarbageCollector garbageCollector = new IncrementalGarbageCollector(configuration, instances -> {
+            for (Instance instance : instances) {
+                removedObjects.add(instance.getBean());
+            }
+        });
+
+        final BeanWithLists parentBean = new BeanWithLists(garbageCollector);
+        garbageCollector.onBeanCreated(parentBean, true);
+
+        final BeanWithLists wrapperBean = new BeanWithLists(garbageCollector);
+        garbageCollector.onBeanCreated(wrapperBean, false);
+        parentBean.getBeansList().add(wrapperBean);
+
+        for (int i = 0; i < 24; i++) {
+            final BeanWithLists childBean = new BeanWithLists(garbageCollector);
+            garbageCollector.onBeanCreated(childBean, false);
+            wrapperBean.getBeansList().add(childBean);
+        }
+
+        garbageCollector.gc();
+        assertThat(removedObjects, hasSize(0));
+        assertEquals(garbageCollector.getPendingInstancesCount(), 0);
+
+        parentBean.getBeansList().clear();
+        assertEquals(garbageCollector.getPendingInstancesCount(), 1);
+
+        garbageCollector.gc();
+        assertThat(removedObjects, hasSize(10));
+        assertTrue(removedObjects.contains(wrapperBean));
+        assertEquals(garbageCollector.getPendingInstancesCount(), 15);
+
+        garbageCollector.gc();
+        assertThat(removedObjects, hasSize(20));
+        assertEquals(garbageCollector.getPendingInstancesCount(), 5);
+
+        garbageCollector.gc();
+        assertThat(removedObjects, hasSize(25));
+        assertEquals(garbageCollector.getPendingInstancesCount(), 0);
+        assertEquals(garbageCollector.getManagedInstancesCount(), 1);
+        assertEquals(garbageCollector.getRemovedBeansCount(), 25);
+    }
+
+    @Test
+    public void testReferencedCandidateIsNotRemoved() {
+        final List<Object> removedObjects = new ArrayList<>();
+        final GarbageCollector garbageCollector = createGarbageCollection(instances -> {
+            for (Instance instance : instances) {
+                removedObjects.add(instance.getBean());
+            }
+        });
+
+        final BeanWithProperties parentBean = new BeanWithProperties(garbageCollector);
+        garbageCollector.onBeanCreated(parentBean, true);
+
+        final BeanWithProperties childBean = new BeanWithProperties(garbageCollector);
+        garbageCollector.onBeanCreated(childBean, false);
+        assertEquals(garbageCollector.getPendingInstancesCount(), 1);
+
+        parentBean.beanProperty().set(childBean);
+        assertEquals(garbageCollector.getPendingInstancesCount(), 0);
+
+        garbageCollector.gc();
+        assertThat(removedObjects, hasSize(0));
+        assertEquals(garbageCollector.getGcCalls(), 1);
+        assertTrue(garbageCollector.getTotalGcPauseNanos() >= garbageCollector.getLastGcPauseNanos());
+        assertTrue(garbageCollector.getMaxGcPauseNanos() >= garbageCollector.getLastGcPauseNanos());
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.legacy;
+
+import com.canoo.dp.impl.remoting.legacy.core.ModelStoreConfig;
+import com.canoo.dp.impl.server.model.ServerPresentationModelBuilder;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+public class ServerModelStoreCompactIdsTest {
+
+    @Test
+    public void testCompactIds() {
+        //given:
+        final ModelStoreConfig config = new ModelStoreConfig();
+        config.setCompactIds(true);
+        final ServerModelStore modelStore = new ServerModelStore(config);
+        modelStore.setCurrentResponse(new ArrayList<>());
+
+        //when:
+        final ServerPresentationModel model1 = new ServerPresentationModelBuilder(modelStore).withAttribute("a").withAttribute("b").create();
+        final ServerPresentationModel model2 = new ServerPresentationModelBuilder(modelStore).withAttribute("a").create();
+
+        //then:
+        final Set<String> ids = new HashSet<>();
+        for (final ServerPresentationModel model : new ServerPresentationModel[]{model1, model2}) {
+            Assert.assertTrue(model.getId().endsWith("S"));
+            Assert.assertTrue(model.getId().length() <= 3);
+            Assert.assertTrue(ids.add(model.getId()));
+            for (final ServerAttribute attribute : model.getAttributes()) {
+                Assert.assertTrue(attribute.getId().endsWith("S"));
+                Assert.assertTrue(attribute.getId().length() <= 3);
+                Assert.assertTrue(ids.add(attribute.getId()));
+                Assert.assertSame(modelStore.findAttributeById(attribute.getId()), attribute);
+            }
+            Assert.assertSame(modelStore.findPresentationModelById(model.getId()), model);
+        }
+    }
+
+    @Test
+    public void testDefaultIds() {
+        //given:
+        final ServerModelStore modelStore = new ServerModelStore();
+        modelStore.setCurrentResponse(new ArrayList<>());
+
+        //when:
+        final ServerPresentationModel model = new ServerPresentationModelBuilder(modelStore).withAttribute("a").create();
+
+        //then:
+        Assert.assertFalse(modelStore.isCompactIds());
+        Assert.assertEquals(UUID.fromString(model.getId()).toString(), model.getId());
+    }
+
+    @Test
+    public void testExplicitIdIsKept() {
+        //given:
+        final ModelStoreConfig config = new ModelStoreConfig();
+        config.setCompactIds(true);
+        final ServerModelStore modelStore = new ServerModelStore(config);
+        modelStore.setCurrentResponse(new ArrayList<>());
+
+        //when:
+        final ServerPresentationModel model = new ServerPresentationModelBuilder(modelStore).withId("myId").create();
+
+        //then:
+        Assert.assertEquals(model.getId(), "myId");
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.legacy;
+
+import com.canoo.dp.impl.remoting.legacy.communication.Command;
+import com.canoo.dp.impl.remoting.legacy.communication.CreatePresentationModelCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.DeletePresentationModelCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.ValueChangedCommand;
+import com.canoo.dp.impl.remoting.legacy.core.Attribute;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ServerModelStoreResponseCompactionTest {
+
+    @Test
+    public void testOnlyLastValueChangeIsKept() {
+        //given:
+        final ServerModelStore modelStore = new ServerModelStore();
+        final List<Command> response = new ArrayList<>();
+        response.add(new ValueChangedCommand("a1", "1"));
+        response.add(new ValueChangedCommand("a2", "1"));
+        response.add(new ValueChangedCommand("a1", "2"));
+        response.add(new ValueChangedCommand("a1", "3"));
+
+        //when:
+        final List<Command> compacted = modelStore.compactResponse(response);
+
+        //then:
+        Assert.assertEquals(compacted.size(), 2);
+        Assert.assertEquals(((ValueChangedCommand) compacted.get(0)).getAttributeId(), "a2");
+        Assert.assertEquals(((ValueChangedCommand) compacted.get(1)).getAttributeId(), "a1");
+        Assert.assertEquals(((ValueChangedCommand) compacted.get(1)).getNewValue(), "3");
+        Assert.assertEquals(modelStore.getRemovedRedundantValueChangesCount(), 2);
+        Assert.assertEquals(modelStore.getRemovedValueChangesOfDeletedModelsCount(), 0);
+    }
+
+    @Test
+    public void testValueChangesOfDeletedModelAreRemoved() {
+        //given:
+        final ServerModelStore modelStore = new ServerModelStore();
+        final CreatePresentationModelCommand createCommand = createCommand("pm1", "a1");
+        final DeletePresentationModelCommand deleteCommand = new DeletePresentationModelCommand("pm1");
+        final List<Command> response = new ArrayList<>();
+        response.add(createCommand);
+        response.add(new ValueChangedCommand("a1", "1"));
+        response.add(new ValueChangedCommand("a2", "1"));
+        response.add(deleteCommand);
+
+        //when:
+        final List<Command> compacted = modelStore.compactResponse(response);
+
+        //then:
+        Assert.assertEquals(compacted.size(), 3);
+        Assert.assertSame(compacted.get(0), createCommand);
+        Assert.assertEquals(((ValueChangedCommand) compacted.get(1)).getAttributeId(), "a2");
+        Assert.assertSame(compacted.get(2), deleteCommand);
+        Assert.assertEquals(modelStore.getRemovedRedundantValueChangesCount(), 0);
+        Assert.assertEquals(modelStore.getRemovedValueChangesOfDeletedModelsCount(), 1);
+    }
+
+    @Test
+    public void testValueChangesOfExistingModelAreKept() {
+        //given:
+        final ServerModelStore modelStore = new ServerModelStore();
+        final List<Command> response = new ArrayList<>();
+        response.add(new ValueChangedCommand("a1", "1"));
+        response.add(new DeletePresentationModelCommand("pm1"));
+        response.add(createCommand("pm2", "a2"));
+        response.add(new ValueChangedCommand("a2", "1"));
+
+        //when:
+        final List<Command> compacted = modelStore.compactResponse(response);
+
+        //then:
+        Assert.assertEquals(compacted, response);
+        Assert.assertEquals(modelStore.getRemovedRedundantValueChangesCount(), 0);
+        Assert.assertEquals(modelStore.getRemovedValueChangesOfDeletedModelsCount(), 0);
+    }
+
+    private CreatePresentationModelCommand createCommand(final String pmId, final String attributeId) {
+        final Map<String, Object> attribute = new HashMap<>();
+        attribute.put(Attribute.PROPERTY_NAME, "value");
+        attribute.put(Attribute.ID, attributeId);
+        attribute.put(Attribute.VALUE_NAME, null);
+        final List<Map<String, Object>> attributes = Collections.singletonList(attribute);
+        return new CreatePresentationModelCommand(pmId, "type", attributes);
+    }
+}
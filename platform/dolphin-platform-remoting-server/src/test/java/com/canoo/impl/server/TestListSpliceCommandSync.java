@@ -0,0 +1,132 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.impl.server;
+
+import com.canoo.dp.impl.remoting.PlatformRemotingConstants;
+import com.canoo.dp.impl.remoting.commands.ListSpliceCommand;
+import com.canoo.dp.impl.remoting.legacy.communication.Command;
+import com.canoo.dp.impl.remoting.legacy.core.PresentationModel;
+import com.canoo.dp.impl.server.legacy.ServerModelStore;
+import com.canoo.impl.server.util.AbstractDolphinBasedTest;
+import com.canoo.impl.server.util.ListReferenceModel;
+import com.canoo.platform.remoting.BeanManager;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+
+public class TestListSpliceCommandSync extends AbstractDolphinBasedTest {
+
+    @Test
+    public void addingPrimitiveElementsAsUser_shouldSendListSpliceCommand() {
+        // given :
+        final ServerModelStore serverModelStore = createServerModelStore();
+        serverModelStore.setListSpliceSupported(true);
+        final BeanManager manager = createBeanManager(serverModelStore);
+
+        final ListReferenceModel model = manager.create(ListReferenceModel.class);
+        final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
+        final List<Command> response = new ArrayList<>();
+        serverModelStore.setCurrentResponse(response);
+
+        // when :
+        model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
+
+        // then :
+        assertThat(serverModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE), empty());
+        assertThat(response, hasSize(1));
+        assertThat(response.get(0), instanceOf(ListSpliceCommand.class));
+
+        final ListSpliceCommand command = (ListSpliceCommand) response.get(0);
+        assertThat(command.getSourceId(), is(sourceModel.getId()));
+        assertThat(command.getAttributeName(), is("primitiveList"));
+        assertThat(command.getFrom(), is(0));
+        assertThat(command.getTo(), is(0));
+        assertThat(command.getValues(), contains((Object) "1", "2", "3"));
+    }
+
+    @Test
+    public void removingPrimitiveElementAsUser_shouldSendListSpliceCommand() {
+        // given :
+        final ServerModelStore serverModelStore = createServerModelStore();
+        serverModelStore.setListSpliceSupported(true);
+        final BeanManager manager = createBeanManager(serverModelStore);
+
+        final ListReferenceModel model = manager.create(ListReferenceModel.class);
+        model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
+        final List<Command> response = new ArrayList<>();
+        serverModelStore.setCurrentResponse(response);
+
+        // when :
+        model.getPrimitiveList().remove(1);
+
+        // then :
+        assertThat(response, hasSize(1));
+        final ListSpliceCommand command = (ListSpliceCommand) response.get(0);
+        assertThat(command.getFrom(), is(1));
+        assertThat(command.getTo(), is(2));
+        assertThat(command.getValues(), empty());
+    }
+
+    @Test
+    public void receivingListSpliceCommand_shouldChangeList() {
+        // given :
+        final ServerModelStore serverModelStore = createServerModelStore();
+        final BeanManager manager = createBeanManager(serverModelStore);
+
+        final ListReferenceModel model = manager.create(ListReferenceModel.class);
+        final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
+        model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
+        final List<Command> response = new ArrayList<>();
+        serverModelStore.setCurrentResponse(response);
+
+        // when :
+        serverModelStore.onListSplice(new ListSpliceCommand(sourceModel.getId(), "primitiveList", 1, 2, Arrays.asList("4", "5")));
+
+        // then :
+        assertThat(model.getPrimitiveList(), contains("1", "4", "5", "3"));
+        assertThat(response, empty());
+    }
+
+    @Test
+    public void addingElementsWithoutListSpliceSupport_shouldCreatePresentationModel() {
+        // given :
+        final ServerModelStore serverModelStore = createServerModelStore();
+        final BeanManager manager = createBeanManager(serverModelStore);
+
+        final ListReferenceModel model = manager.create(ListReferenceModel.class);
+        final List<Command> response = new ArrayList<>();
+        serverModelStore.setCurrentResponse(response);
+
+        // when :
+        model.getPrimitiveList().addAll(Collections.singletonList("1"));
+
+        // then :
+        assertThat(serverModelStore.findAllPresentationModelsByType(PlatformRemotingConstants.LIST_SPLICE), hasSize(1));
+        for (final Command command : response) {
+            assertThat(command instanceof ListSpliceCommand, is(false));
+        }
+    }
+}
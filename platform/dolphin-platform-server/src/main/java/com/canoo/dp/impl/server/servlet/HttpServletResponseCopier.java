@@ -1,80 +0,0 @@
-/*
- * Copyright 2015-2018 Canoo Engineering AG.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- *     http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package com.canoo.dp.impl.server.servlet;
-
-import javax.servlet.ServletOutputStream;
-import javax.servlet.http.HttpServletResponse;
-import javax.servlet.http.HttpServletResponseWrapper;
-import java.io.IOException;
-import java.io.OutputStreamWriter;
-import java.io.PrintWriter;
-
-public class HttpServletResponseCopier extends HttpServletResponseWrapper {
-
-    private ServletOutputStream outputStream;
-    private PrintWriter writer;
-    private ServletOutputStreamCopier copier;
-
-    public HttpServletResponseCopier(final HttpServletResponse response) throws IOException {
-        super(response);
-    }
-
-    @Override
-    public ServletOutputStream getOutputStream() throws IOException {
-        if (writer != null) {
-            throw new IllegalStateException("getWriter() has already been called on this response.");
-        }
-
-        if (outputStream == null) {
-            outputStream = getResponse().getOutputStream();
-            copier = new ServletOutputStreamCopier(outputStream);
-        }
-
-        return copier;
-    }
-
-    @Override
-    public PrintWriter getWriter() throws IOException {
-        if (outputStream != null) {
-            throw new IllegalStateException("getOutputStream() has already been called on this response.");
-        }
-
-        if (writer == null) {
-            copier = new ServletOutputStreamCopier(getResponse().getOutputStream());
-            writer = new PrintWriter(new OutputStreamWriter(copier, getResponse().getCharacterEncoding()), true);
-        }
-
-        return writer;
-    }
-
-    @Override
-    public void flushBuffer() throws IOException {
-        if (writer != null) {
-            writer.flush();
-        } else if (outputStream != null) {
-            copier.flush();
-        }
-    }
-
-    public byte[] getCopy() {
-        if (copier != null) {
-            return copier.getCopy();
-        } else {
-            return new byte[0];
-        }
-    }
-
-}
\ No newline at end of file
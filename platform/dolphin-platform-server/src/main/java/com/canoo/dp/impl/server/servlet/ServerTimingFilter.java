@@ -50,22 +50,22 @@ public class ServerTimingFilter implements Filter {
 
     @Override
     public void doFilter(final ServletRequest request, final ServletResponse response, final FilterChain chain) throws IOException, ServletException {
-        final HttpServletResponseCopier responseWrapper = new HttpServletResponseCopier((HttpServletResponse) response);
+        if (!addServerTiming) {
+            chain.doFilter(request, response);
+            return;
+        }
 
         final ServerTimingImpl timing = new ServerTimingImpl();
+        final ServerTimingResponseWrapper responseWrapper = new ServerTimingResponseWrapper((HttpServletResponse) response, () -> timing.dump((HttpServletResponse) response));
         timingLocal.set(timing);
         try {
             final Metric totalMetric = timing.start("total", "total duration of the request");
             chain.doFilter(request, responseWrapper);
             totalMetric.stop();
         } finally {
-            if(addServerTiming) {
-                timing.dump((HttpServletResponse) response);
-            } else {
-                timing.clear();
-            }
             timingLocal.set(null);
-            responseWrapper.flushBuffer();
+            responseWrapper.finish();
+            timing.clear();
         }
     }
 
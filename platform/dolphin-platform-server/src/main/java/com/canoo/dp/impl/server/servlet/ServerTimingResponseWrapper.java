@@ -0,0 +1,203 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.dp.impl.server.servlet;
+
+import com.canoo.dp.impl.platform.core.Assert;
+import org.apiguardian.api.API;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Response wrapper that calls a callback right before the response might be committed. Headers can not be added to
+ * a committed response and therefore the callback is called before the response is flushed, an error or redirect
+ * is sent or a write could fill the buffer of the response or reach the defined content length. Written bytes are
+ * passed directly to the wrapped response and are not copied.
+ */
+@API(since = "1.0.0", status = INTERNAL)
+public class ServerTimingResponseWrapper extends HttpServletResponseWrapper {
+
+    private final Runnable beforeCommit;
+
+    private boolean beforeCommitCalled = false;
+
+    private long contentLength = -1;
+
+    private CommitAwareOutputStream outputStream;
+
+    private PrintWriter writer;
+
+    public ServerTimingResponseWrapper(final HttpServletResponse response, final Runnable beforeCommit) {
+        super(response);
+        this.beforeCommit = Assert.requireNonNull(beforeCommit, "beforeCommit");
+    }
+
+    /**
+     * Calls the callback if it was not called before and the response is not committed.
+     */
+    public void beforeCommit() {
+        if (!beforeCommitCalled) {
+            beforeCommitCalled = true;
+            if (!getResponse().isCommitted()) {
+                beforeCommit.run();
+            }
+        }
+    }
+
+    /**
+     * Calls the callback if the response is not committed yet and flushes all characters that are buffered by the
+     * writer of this wrapper.
+     * @throws IOException if the writer can not be flushed
+     */
+    public void finish() throws IOException {
+        beforeCommit();
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    /**
+     * Returns true if the callback was called or skipped since the response was already committed.
+     * @return true if the callback was called
+     */
+    public boolean isBeforeCommitCalled() {
+        return beforeCommitCalled;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called on this response.");
+        }
+        if (outputStream == null) {
+            outputStream = new CommitAwareOutputStream(getResponse().getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (outputStream != null && writer == null) {
+            throw new IllegalStateException("getOutputStream() has already been called on this response.");
+        }
+        if (writer == null) {
+            outputStream = new CommitAwareOutputStream(getResponse().getOutputStream());
+            writer = new PrintWriter(new OutputStreamWriter(outputStream, getResponse().getCharacterEncoding()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void setContentLength(final int len) {
+        contentLength = len;
+        super.setContentLength(len);
+    }
+
+    @Override
+    public void setContentLengthLong(final long len) {
+        contentLength = len;
+        super.setContentLengthLong(len);
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        beforeCommit();
+        if (writer != null) {
+            writer.flush();
+        }
+        super.flushBuffer();
+    }
+
+    @Override
+    public void sendError(final int sc, final String msg) throws IOException {
+        beforeCommit();
+        super.sendError(sc, msg);
+    }
+
+    @Override
+    public void sendError(final int sc) throws IOException {
+        beforeCommit();
+        super.sendError(sc);
+    }
+
+    @Override
+    public void sendRedirect(final String location) throws IOException {
+        beforeCommit();
+        super.sendRedirect(location);
+    }
+
+    private class CommitAwareOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream outputStream;
+
+        private long writtenBytes = 0;
+
+        private CommitAwareOutputStream(final ServletOutputStream outputStream) {
+            this.outputStream = Assert.requireNonNull(outputStream, "outputStream");
+        }
+
+        private void beforeWrite(final int len) {
+            if (beforeCommitCalled) {
+                return;
+            }
+            writtenBytes += len;
+            if (writtenBytes >= getBufferSize() || (contentLength >= 0 && writtenBytes >= contentLength)) {
+                beforeCommit();
+            }
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            beforeWrite(1);
+            outputStream.write(b);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            beforeWrite(len);
+            outputStream.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            beforeCommit();
+            outputStream.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            beforeCommit();
+            outputStream.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return outputStream.isReady();
+        }
+
+        @Override
+        public void setWriteListener(final WriteListener writeListener) {
+            outputStream.setWriteListener(writeListener);
+        }
+    }
+}
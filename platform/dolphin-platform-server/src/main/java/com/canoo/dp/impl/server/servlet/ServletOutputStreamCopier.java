@@ -1,55 +0,0 @@
-/*
- * Copyright 2015-2018 Canoo Engineering AG.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- *     http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package com.canoo.dp.impl.server.servlet;
-
-import com.canoo.dp.impl.platform.core.Assert;
-
-import javax.servlet.ServletOutputStream;
-import javax.servlet.WriteListener;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.OutputStream;
-
-public class ServletOutputStreamCopier extends ServletOutputStream {
-
-    private final OutputStream outputStream;
-    private final ByteArrayOutputStream copy;
-
-    public ServletOutputStreamCopier(final OutputStream outputStream) {
-        this.outputStream = Assert.requireNonNull(outputStream, "outputStream");
-        this.copy = new ByteArrayOutputStream(1024);
-    }
-
-    @Override
-    public void write(int b) throws IOException {
-        outputStream.write(b);
-        copy.write(b);
-    }
-
-    public byte[] getCopy() {
-        return copy.toByteArray();
-    }
-
-    @Override
-    public boolean isReady() {
-        return true;
-    }
-
-    @Override
-    public void setWriteListener(final WriteListener writeListener) {
-
-    }
-}
@@ -21,6 +21,7 @@ import com.canoo.platform.server.timing.ServerTiming;
 
 import javax.servlet.http.HttpServletResponse;
 import java.time.Duration;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -53,7 +54,8 @@ public class ServerTimingImpl implements ServerTiming {
 
     private String convert(final Metric metric) {
         Assert.requireNonNull(metric, "metric");
-        final Duration duration = metric.getDuration();
+        final Duration duration = Optional.ofNullable(metric.getDuration())
+                .orElseGet(() -> getElapsedTime(metric));
         final String description = metric.getDescription();
 
         final String durPart = Optional.ofNullable(duration)
@@ -66,6 +68,17 @@ public class ServerTimingImpl implements ServerTiming {
         return metric.getName() + durPart + descPart;
     }
 
+    /**
+     * The header must be added before the response is committed. Metrics that are still running at that point are
+     * dumped with the time that has elapsed since they were started.
+     */
+    private Duration getElapsedTime(final Metric metric) {
+        if (metric instanceof MetricImpl) {
+            return Duration.between(((MetricImpl) metric).getStartTime(), ZonedDateTime.now());
+        }
+        return null;
+    }
+
     @Override
     public Metric start(final String name, final String description) {
         final Metric metric = new MetricImpl(name, description);
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.canoo.impl.server;
+
+import com.canoo.dp.impl.server.servlet.ServerTimingFilter;
+import com.canoo.platform.server.timing.Metric;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.ServletResponse;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.canoo.dp.impl.platform.core.http.HttpHeaderConstants.SERVER_TIMING_HEADER;
+
+public class ServerTimingFilterTest {
+
+    @Test
+    public void shouldAddHeaderAfterRequest() throws Exception {
+        //given:
+        final ResponseStub stub = new ResponseStub(1024);
+
+        //when:
+        new ServerTimingFilter(true).doFilter(null, stub.getResponse(), (req, resp) -> {
+            ServerTimingFilter.getCurrentTiming().start("test", "test metric").stop();
+            resp.getOutputStream().write("hello".getBytes());
+        });
+
+        //then:
+        final String header = stub.headers.get(SERVER_TIMING_HEADER);
+        Assert.assertNotNull(header);
+        Assert.assertTrue(header.startsWith("total;dur="));
+        Assert.assertTrue(header.contains("test;dur="));
+        Assert.assertEquals(stub.content.toString(), "hello");
+    }
+
+    @Test
+    public void shouldAddHeaderBeforeBufferIsFilled() throws Exception {
+        //given:
+        final ResponseStub stub = new ResponseStub(16);
+        final byte[] data = new byte[100];
+
+        //when:
+        new ServerTimingFilter(true).doFilter(null, stub.getResponse(), (req, resp) -> {
+            final Metric metric = ServerTimingFilter.getCurrentTiming().start("write", "write metric");
+            resp.getOutputStream().write(data);
+            metric.stop();
+        });
+
+        //then:
+        final String header = stub.headers.get(SERVER_TIMING_HEADER);
+        Assert.assertNotNull(header);
+        Assert.assertTrue(header.contains("write;dur="));
+        Assert.assertEquals(stub.content.toByteArray(), data);
+    }
+
+    @Test
+    public void shouldAddHeaderBeforeFlush() throws Exception {
+        //given:
+        final ResponseStub stub = new ResponseStub(1024);
+
+        //when:
+        new ServerTimingFilter(true).doFilter(null, stub.getResponse(), (req, resp) -> {
+            resp.getWriter().print("hello");
+            resp.flushBuffer();
+            ServerTimingFilter.getCurrentTiming().start("late", "metric after commit").stop();
+        });
+
+        //then:
+        final String header = stub.headers.get(SERVER_TIMING_HEADER);
+        Assert.assertNotNull(header);
+        Assert.assertTrue(header.startsWith("total;dur="));
+        Assert.assertFalse(header.contains("late"));
+        Assert.assertEquals(stub.content.toString(), "hello");
+    }
+
+    @Test
+    public void shouldNotWrapResponseIfTimingIsNotAdded() throws Exception {
+        //given:
+        final ResponseStub stub = new ResponseStub(1024);
+        final AtomicReference<ServletResponse> usedResponse = new AtomicReference<>();
+
+        //when:
+        new ServerTimingFilter(false).doFilter(null, stub.getResponse(), (req, resp) -> usedResponse.set(resp));
+
+        //then:
+        Assert.assertSame(usedResponse.get(), stub.getResponse());
+        Assert.assertTrue(stub.headers.isEmpty());
+    }
+
+    private static class ResponseStub implements InvocationHandler {
+
+        private final Map<String, String> headers = new HashMap<>();
+
+        private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+        private final int bufferSize;
+
+        private final HttpServletResponse response;
+
+        private boolean committed = false;
+
+        private ResponseStub(final int bufferSize) {
+            this.bufferSize = bufferSize;
+            this.response = (HttpServletResponse) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{HttpServletResponse.class}, this);
+        }
+
+        private HttpServletResponse getResponse() {
+            return response;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "addHeader":
+                case "setHeader":
+                    if (!committed) {
+                        headers.put((String) args[0], (String) args[1]);
+                    }
+                    return null;
+                case "isCommitted":
+                    return committed;
+                case "getBufferSize":
+                    return bufferSize;
+                case "getCharacterEncoding":
+                    return "UTF-8";
+                case "flushBuffer":
+                    committed = true;
+                    return null;
+                case "getOutputStream":
+                    return new ServletOutputStream() {
+                        @Override
+                        public void write(final int b) {
+                            content.write(b);
+                            committed = committed || content.size() >= bufferSize;
+                        }
+
+                        @Override
+                        public void flush() {
+                            committed = true;
+                        }
+
+                        @Override
+                        public boolean isReady() {
+                            return true;
+                        }
+
+                        @Override
+                        public void setWriteListener(final WriteListener writeListener) {
+                        }
+                    };
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                default:
+                    if (method.getReturnType() == boolean.class) {
+                        return false;
+                    }
+                    if (method.getReturnType() == int.class) {
+                        return 0;
+                    }
+                    return null;
+            }
+        }
+    }
+}